@@ -16,9 +16,6 @@ import static org.openhab.binding.airquality.internal.AirQualityBindingConstants
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
 import java.time.ZonedDateTime;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -26,8 +23,8 @@ import java.util.concurrent.TimeUnit;
 import javax.measure.quantity.Pressure;
 import javax.measure.quantity.Temperature;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.PointType;
@@ -45,6 +42,8 @@ import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.airquality.internal.AirQualityConfiguration;
 import org.openhab.binding.airquality.internal.json.AirQualityJsonResponse;
+import org.openhab.io.httpfetcher.HttpFetchResult;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,16 +65,21 @@ public class AirQualityHandler extends BaseThingHandler {
 
     private static final int DEFAULT_REFRESH_PERIOD = 30;
 
+    private static final int REQUEST_TIMEOUT_MS = 30000;
+
     private ScheduledFuture<?> refreshJob;
 
     private AirQualityJsonResponse aqiResponse;
 
     private Gson gson;
 
+    private HttpFetcher httpFetcher;
+
     private int retryCounter = 0;
 
-    public AirQualityHandler(Thing thing) {
+    public AirQualityHandler(Thing thing, HttpFetcher httpFetcher) {
         super(thing);
+        this.httpFetcher = httpFetcher;
         gson = new Gson();
     }
 
@@ -118,7 +122,13 @@ public class AirQualityHandler extends BaseThingHandler {
                 try {
                     // Request new air quality data to the aqicn.org service
                     retryCounter = 0;
+                    AirQualityJsonResponse previousResponse = aqiResponse;
                     aqiResponse = getAirQualityData();
+                    if (aqiResponse != null && aqiResponse == previousResponse) {
+                        // an unchanged response is mapped only once, the channels are up to date
+                        logger.debug("Air Quality data has not changed.");
+                        return;
+                    }
 
                     // Update all channels from the updated AQI data
                     for (Channel channel : getThing().getChannels()) {
@@ -143,6 +153,7 @@ public class AirQualityHandler extends BaseThingHandler {
             refreshJob.cancel(true);
             refreshJob = null;
         }
+        aqiResponse = null;
     }
 
     @Override
@@ -154,6 +165,15 @@ public class AirQualityHandler extends BaseThingHandler {
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // unchanged data does not update the channels, so a newly linked channel is updated from the latest data
+        AirQualityJsonResponse response = aqiResponse;
+        if (response != null) {
+            updateChannel(channelUID.getId(), response);
+        }
+    }
+
     /**
      * Update the channel from the last Air Quality data retrieved
      *
@@ -239,19 +259,16 @@ public class AirQualityHandler extends BaseThingHandler {
 
         try {
             // Run the HTTP request and get the JSON response from aqicn.org
-            URL url = new URL(urlStr);
-            URLConnection connection = url.openConnection();
-
-            try {
-                String response = IOUtils.toString(connection.getInputStream());
-                logger.debug("aqiResponse = {}", response);
-
-                // Map the JSON response to an object
-                result = gson.fromJson(response, AirQualityJsonResponse.class);
-            } finally {
-                IOUtils.closeQuietly(connection.getInputStream());
+            HttpFetchResult response = httpFetcher.fetch(urlStr, REQUEST_TIMEOUT_MS);
+            logger.debug("aqiResponse = {}", response.getContent());
+            if (response.getStatus() != HttpStatus.OK_200) {
+                throw new IOException("Server returned HTTP response code: " + response.getStatus());
             }
 
+            // Map the JSON response to an object, an unchanged response is mapped only once
+            result = response.getContentAs(AirQualityJsonResponse.class,
+                    content -> gson.fromJson(content, AirQualityJsonResponse.class));
+
             if (result.getData() != null && result.getStatus() != "error") {
                 String attributions = result.getData().getAttributions();
                 updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, attributions);
@@ -266,7 +283,7 @@ public class AirQualityHandler extends BaseThingHandler {
                 logger.warn("Error in aqicn.org (Air Quality) response: {}", errorMsg);
             }
 
-        } catch (MalformedURLException e) {
+        } catch (IllegalArgumentException e) {
             errorMsg = e.getMessage();
             logger.warn("Constructed url is not valid: {}", errorMsg);
         } catch (JsonSyntaxException e) {
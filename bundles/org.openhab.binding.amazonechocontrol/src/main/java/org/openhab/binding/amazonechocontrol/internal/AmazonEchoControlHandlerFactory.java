@@ -21,6 +21,7 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.storage.Storage;
 import org.eclipse.smarthome.core.storage.StorageService;
 import org.eclipse.smarthome.core.thing.Bridge;
@@ -34,6 +35,7 @@ import org.openhab.binding.amazonechocontrol.internal.discovery.AmazonEchoDiscov
 import org.openhab.binding.amazonechocontrol.internal.handler.AccountHandler;
 import org.openhab.binding.amazonechocontrol.internal.handler.EchoHandler;
 import org.openhab.binding.amazonechocontrol.internal.handler.FlashBriefingProfileHandler;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
@@ -55,6 +57,8 @@ import com.google.gson.Gson;
 public class AmazonEchoControlHandlerFactory extends BaseThingHandlerFactory {
 
     private final Map<ThingUID, @Nullable ServiceRegistration<?>> discoveryServiceRegistrations = new HashMap<>();
+    private final RefreshScheduler refreshScheduler = new RefreshScheduler("amazonechocontrol",
+            ThreadPoolManager.getScheduledPool("thingHandler"), 2);
 
     @Nullable
     HttpService httpService;
@@ -86,6 +90,7 @@ public class AmazonEchoControlHandlerFactory extends BaseThingHandlerFactory {
         if (bindingServlet != null) {
             bindingServlet.dispose();
         }
+        refreshScheduler.dispose();
         super.deactivate(componentContext);
     }
 
@@ -111,7 +116,8 @@ public class AmazonEchoControlHandlerFactory extends BaseThingHandlerFactory {
         if (thingTypeUID.equals(THING_TYPE_ACCOUNT)) {
             Storage<String> storage = storageService.getStorage(thing.getUID().toString(),
                     String.class.getClassLoader());
-            AccountHandler bridgeHandler = new AccountHandler((Bridge) thing, httpService, storage, gson);
+            AccountHandler bridgeHandler = new AccountHandler((Bridge) thing, httpService, storage, gson,
+                    refreshScheduler);
             registerDiscoveryService(bridgeHandler);
             BindingServlet bindingServlet = this.bindingServlet;
             if (bindingServlet != null) {
@@ -29,6 +29,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -36,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
@@ -120,6 +122,7 @@ public class Connection {
     protected final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THING_THREADPOOL_NAME);
 
     private static final long expiresIn = 432000; // five days
+    private static final int MAX_CACHED_RESPONSES = 200;
     private static final Pattern charsetPattern = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]*)");
 
     private final Logger logger = LoggerFactory.getLogger(Connection.class);
@@ -143,6 +146,37 @@ public class Connection {
     private final Gson gson;
     private final Gson gsonWithNullSerialization;
 
+    /**
+     * Responses of GET requests which carried a validator, used for conditional requests
+     */
+    private final Map<String, CachedResponse> responseCache = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStatistics> endpointStatistics = new ConcurrentHashMap<>();
+
+    private static class CachedResponse {
+        private final @Nullable String eTag;
+        private final @Nullable String lastModified;
+        private final String body;
+
+        private CachedResponse(@Nullable String eTag, @Nullable String lastModified, String body) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+
+        private Map<String, String> getValidationHeaders() {
+            Map<String, String> headers = new HashMap<>();
+            String eTag = this.eTag;
+            if (eTag != null) {
+                headers.put("If-None-Match", eTag);
+            }
+            String lastModified = this.lastModified;
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return headers;
+        }
+    }
+
     public Connection(@Nullable Connection oldConnection, Gson gson) {
         this.gson = gson;
         String frc = null;
@@ -497,12 +531,50 @@ public class Connection {
 
     public String makeRequestAndReturnString(String verb, String url, @Nullable String postData, boolean json,
             @Nullable Map<String, String> customHeaders) throws IOException, URISyntaxException {
-        HttpsURLConnection connection = makeRequest(verb, url, postData, json, true, customHeaders, 0);
+        // plain GET requests are revalidated, if the server sent a validator with the last response
+        boolean cacheable = "GET".equals(verb) && postData == null && customHeaders == null;
+        CachedResponse cachedResponse = cacheable ? responseCache.get(url) : null;
+        Map<String, String> headers = cachedResponse != null ? cachedResponse.getValidationHeaders() : customHeaders;
+
+        HttpsURLConnection connection = makeRequest(verb, url, postData, json, true, headers, 0);
+        if (cachedResponse != null && connection.getResponseCode() == 304) {
+            connection.getInputStream().close();
+            this.logger.debug("Result of {} {} not modified", verb, url);
+            return cachedResponse.body;
+        }
         String result = convertStream(connection);
         this.logger.debug("Result of {} {}:{}", verb, url, result);
+        if (cacheable) {
+            String eTag = connection.getHeaderField("ETag");
+            String lastModified = connection.getHeaderField("Last-Modified");
+            if (eTag != null || lastModified != null) {
+                if (responseCache.size() >= MAX_CACHED_RESPONSES) {
+                    responseCache.clear();
+                }
+                responseCache.put(url, new CachedResponse(eTag, lastModified, result));
+            } else if (cachedResponse != null) {
+                responseCache.remove(url);
+            }
+        }
         return result;
     }
 
+    /**
+     * Returns the request statistics of all endpoints called so far, keyed by the path of the endpoint.
+     *
+     * @return the statistics
+     */
+    public Map<String, EndpointStatistics> getEndpointStatistics() {
+        return Collections.unmodifiableMap(endpointStatistics);
+    }
+
+    private void recordRequest(URI uri, long startTime, int code) {
+        String path = uri.getPath();
+        String endpoint = uri.getHost() + (path != null ? path : "");
+        endpointStatistics.computeIfAbsent(endpoint, key -> new EndpointStatistics())
+                .record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), code);
+    }
+
     public HttpsURLConnection makeRequest(String verb, String url, @Nullable String postData, boolean json,
             boolean autoredirect, @Nullable Map<String, String> customHeaders, int badRequestRepeats)
             throws IOException, URISyntaxException {
@@ -514,6 +586,7 @@ public class Connection {
         {
             int code;
             HttpsURLConnection connection = null;
+            long startTime = System.nanoTime();
             try {
                 logger.debug("Make request to {}", url);
                 connection = (HttpsURLConnection) new URL(currentUrl).openConnection();
@@ -583,7 +656,13 @@ public class Connection {
                     outputStream.close();
                 }
                 // handle result
-                code = connection.getResponseCode();
+                try {
+                    code = connection.getResponseCode();
+                } catch (IOException e) {
+                    recordRequest(uri, startTime, -1);
+                    throw e;
+                }
+                recordRequest(uri, startTime, code);
                 String location = null;
 
                 // handle response headers
@@ -633,6 +712,11 @@ public class Connection {
                     logger.debug("Call to {} succeeded", url);
                     return connection;
                 }
+                if (code == 304 && customHeaders != null && (customHeaders.containsKey("If-None-Match")
+                        || customHeaders.containsKey("If-Modified-Since"))) {
+                    logger.debug("Call to {} not modified", url);
+                    return connection;
+                }
                 if (code == 302 && location != null) {
                     logger.debug("Redirected to {}", location);
                     redirectCounter++;
@@ -875,6 +959,7 @@ public class Connection {
 
     public void logout() {
         cookieManager.getCookieStore().removeAll();
+        responseCache.clear();
         // reset all members
         refreshToken = null;
         loginTime = null;
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.amazonechocontrol.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EndpointStatistics} collects the request latency of a single endpoint of the amazon server
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EndpointStatistics {
+
+    private long requests;
+    private long notModified;
+    private long failures;
+    private long totalMillis;
+    private long maxMillis;
+
+    synchronized void record(long millis, int code) {
+        requests++;
+        totalMillis += millis;
+        if (millis > maxMillis) {
+            maxMillis = millis;
+        }
+        if (code == 304) {
+            notModified++;
+        } else if (code < 200 || code >= 400) {
+            failures++;
+        }
+    }
+
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    public synchronized long getNotModified() {
+        return notModified;
+    }
+
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    public synchronized long getAverageMillis() {
+        return requests > 0 ? totalMillis / requests : 0;
+    }
+
+    public synchronized long getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "requests=" + requests + ", notModified=" + notModified + ", failures=" + failures + ", avg="
+                + getAverageMillis() + "ms, max=" + maxMillis + "ms";
+    }
+}
@@ -23,12 +23,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.storage.Storage;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -69,6 +73,8 @@ import org.openhab.binding.amazonechocontrol.internal.jsons.JsonNotificationSoun
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonPlaylists;
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonPushCommand;
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonWakeWords.WakeWord;
+import org.openhab.io.refreshscheduler.RefreshJob;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.osgi.service.http.HttpService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,7 +90,13 @@ import com.google.gson.JsonSyntaxException;
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler implements IWebSocketCommandHandler, IAmazonThingHandler {
 
+    /**
+     * Pool for the requests of a refresh cycle, its size limits the number of concurrent requests per account
+     */
+    private static final String REQUEST_THREADPOOL_NAME = "amazonechocontrol";
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
+    private final ExecutorService requestExecutor = ThreadPoolManager.getPool(REQUEST_THREADPOOL_NAME);
     private Storage<String> stateStorage;
     private @Nullable Connection connection;
     private @Nullable WebSocketConnection webSocketConnection;
@@ -92,8 +104,9 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
     private final Set<FlashBriefingProfileHandler> flashBriefingProfileHandlers = new HashSet<>();
     private final Object synchronizeConnection = new Object();
     private Map<String, Device> jsonSerialNumberDeviceMapping = new HashMap<>();
-    private @Nullable ScheduledFuture<?> checkDataJob;
-    private @Nullable ScheduledFuture<?> checkLoginJob;
+    private final RefreshScheduler refreshScheduler;
+    private @Nullable RefreshJob checkDataJob;
+    private @Nullable RefreshJob checkLoginJob;
     private @Nullable ScheduledFuture<?> refreshAfterCommandJob;
     private @Nullable ScheduledFuture<?> foceCheckDataJob;
     private String currentFlashBriefingJson = "";
@@ -103,8 +116,10 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
     int checkDataCounter;
     private List<ChannelHandler> channelHandlers = new ArrayList<>();
 
-    public AccountHandler(Bridge bridge, HttpService httpService, Storage<String> stateStorage, Gson gson) {
+    public AccountHandler(Bridge bridge, HttpService httpService, Storage<String> stateStorage, Gson gson,
+            RefreshScheduler refreshScheduler) {
         super(bridge);
+        this.refreshScheduler = refreshScheduler;
         this.gson = gson;
         this.httpService = httpService;
         this.stateStorage = stateStorage;
@@ -127,8 +142,8 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
 
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_PENDING, "Wait for login");
 
-        checkLoginJob = scheduler.scheduleWithFixedDelay(this::checkLogin, 0, 60, TimeUnit.SECONDS);
-        checkDataJob = scheduler.scheduleWithFixedDelay(this::checkData, 4, 60, TimeUnit.SECONDS);
+        checkLoginJob = refreshScheduler.schedule(this::checkLogin, 0, 60, TimeUnit.SECONDS);
+        checkDataJob = refreshScheduler.schedule(this::checkData, 4, 60, TimeUnit.SECONDS);
 
         logger.debug("amazon account bridge handler started.");
     }
@@ -267,15 +282,15 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
     private void cleanup() {
         logger.debug("cleanup {}", getThing().getUID().getAsString());
         @Nullable
-        ScheduledFuture<?> refreshJob = this.checkDataJob;
+        RefreshJob refreshJob = this.checkDataJob;
         if (refreshJob != null) {
-            refreshJob.cancel(true);
+            refreshJob.cancel();
             this.checkDataJob = null;
         }
         @Nullable
-        ScheduledFuture<?> refreshLogin = this.checkLoginJob;
+        RefreshJob refreshLogin = this.checkLoginJob;
         if (refreshLogin != null) {
-            refreshLogin.cancel(true);
+            refreshLogin.cancel();
             this.checkLoginJob = null;
         }
         @Nullable
@@ -446,8 +461,7 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 logger.debug("refreshing data {}", getThing().getUID().getAsString());
 
                 // check if logged in
-                Connection currentConnection = null;
-                currentConnection = connection;
+                Connection currentConnection = connection;
                 if (currentConnection != null) {
                     if (!currentConnection.getIsLoggedIn()) {
                         return;
@@ -466,44 +480,59 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 JsonBluetoothStates states = null;
                 List<JsonMusicProvider> musicProviders = null;
                 if (currentConnection.getIsLoggedIn()) {
+                    // request the account wide states concurrently
+                    CompletableFuture<DeviceNotificationState[]> deviceNotificationStatesRequest = CompletableFuture
+                            .supplyAsync(currentConnection::getDeviceNotificationStates, requestExecutor);
+                    CompletableFuture<AscendingAlarmModel[]> ascendingAlarmRequest = CompletableFuture
+                            .supplyAsync(currentConnection::getAscendingAlarm, requestExecutor);
+                    CompletableFuture<JsonBluetoothStates> bluetoothStatesRequest = CompletableFuture
+                            .supplyAsync(currentConnection::getBluetoothConnectionStates, requestExecutor);
+                    CompletableFuture<List<JsonMusicProvider>> musicProvidersRequest = CompletableFuture
+                            .supplyAsync(() -> getMusicProviders(currentConnection), requestExecutor);
+
                     // update notification states
-                    deviceNotificationStates = currentConnection.getDeviceNotificationStates();
+                    deviceNotificationStates = join(deviceNotificationStatesRequest);
 
                     // update ascending alarm
-                    ascendingAlarmModels = currentConnection.getAscendingAlarm();
+                    ascendingAlarmModels = join(ascendingAlarmRequest);
 
                     // update bluetooth states
-                    states = currentConnection.getBluetoothConnectionStates();
+                    states = join(bluetoothStatesRequest);
 
                     // update music providers
-                    if (currentConnection.getIsLoggedIn()) {
-                        try {
-                            musicProviders = currentConnection.getMusicProviders();
-                        } catch (HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update music provider failed", e);
-                        }
+                    musicProviders = join(musicProvidersRequest);
+                }
+
+                // request the device specific data concurrently, the pool size limits the fan-out
+                List<EchoHandler> children = new ArrayList<>(echoHandlers);
+                Map<EchoHandler, CompletableFuture<JsonNotificationSound[]>> soundsRequests = new HashMap<>();
+                Map<EchoHandler, CompletableFuture<JsonPlaylists>> playlistsRequests = new HashMap<>();
+                for (EchoHandler child : children) {
+                    Device device = findDeviceJson(child);
+                    if (device != null && currentConnection.getIsLoggedIn()) {
+                        soundsRequests.put(child, CompletableFuture
+                                .supplyAsync(() -> getNotificationSounds(currentConnection, device), requestExecutor));
+                        playlistsRequests.put(child, CompletableFuture
+                                .supplyAsync(() -> getPlaylists(currentConnection, device), requestExecutor));
                     }
                 }
+
                 // forward device information to echo handler
-                for (EchoHandler child : echoHandlers) {
+                for (EchoHandler child : children) {
                     Device device = findDeviceJson(child);
 
                     @Nullable
                     JsonNotificationSound[] notificationSounds = null;
                     JsonPlaylists playlists = null;
-                    if (device != null && currentConnection.getIsLoggedIn()) {
+                    CompletableFuture<JsonNotificationSound[]> soundsRequest = soundsRequests.get(child);
+                    if (soundsRequest != null) {
                         // update notification sounds
-                        try {
-                            notificationSounds = currentConnection.getNotificationSounds(device);
-                        } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update notification sounds failed", e);
-                        }
+                        notificationSounds = join(soundsRequest);
+                    }
+                    CompletableFuture<JsonPlaylists> playlistsRequest = playlistsRequests.get(child);
+                    if (playlistsRequest != null) {
                         // update playlists
-                        try {
-                            playlists = currentConnection.getPlaylists(device);
-                        } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update playlist failed", e);
-                        }
+                        playlists = join(playlistsRequest);
                     }
 
                     BluetoothState state = null;
@@ -542,6 +571,10 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 updateStatus(ThingStatus.ONLINE);
 
                 logger.debug("refresh data {} finished", getThing().getUID().getAsString());
+                if (logger.isTraceEnabled()) {
+                    currentConnection.getEndpointStatistics()
+                            .forEach((endpoint, statistics) -> logger.trace("{}: {}", endpoint, statistics));
+                }
             } catch (HttpException | JsonSyntaxException | ConnectionException e) {
                 logger.debug("refresh data fails", e);
             } catch (Exception e) { // this handler can be removed later, if we know that nothing else can fail.
@@ -550,6 +583,49 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
         }
     }
 
+    private @Nullable List<JsonMusicProvider> getMusicProviders(Connection currentConnection) {
+        try {
+            return currentConnection.getMusicProviders();
+        } catch (HttpException | JsonSyntaxException | ConnectionException e) {
+            logger.debug("Update music provider failed", e);
+            return null;
+        }
+    }
+
+    private JsonNotificationSound @Nullable [] getNotificationSounds(Connection currentConnection, Device device) {
+        try {
+            return currentConnection.getNotificationSounds(device);
+        } catch (IOException | URISyntaxException | HttpException | JsonSyntaxException | ConnectionException e) {
+            logger.debug("Update notification sounds failed", e);
+            return null;
+        }
+    }
+
+    private @Nullable JsonPlaylists getPlaylists(Connection currentConnection, Device device) {
+        try {
+            return currentConnection.getPlaylists(device);
+        } catch (IOException | URISyntaxException | HttpException | JsonSyntaxException | ConnectionException e) {
+            logger.debug("Update playlist failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Waits for a request of the refresh cycle and rethrows its failure unwrapped, to be handled like a failure of a
+     * synchronous request.
+     */
+    private static <T> T join(CompletableFuture<T> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
     public @Nullable Device findDeviceJson(EchoHandler echoHandler) {
         String serialNumber = echoHandler.findSerialNumber();
         return findDeviceJson(serialNumber);
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.bluegiga.internal;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Slices BGAPI packets out of the bytes received from the BlueGiga dongle. The bytes can be passed in chunks of any
+ * size, a packet which is not complete at the end of a chunk is continued with the next one.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class BlueGigaFrameSlicer {
+
+    // header plus the maximum payload length which passes the framing check
+    private static final int BLE_MAX_LENGTH = 4 + 0x3F;
+
+    private static final int[] FRAMECHECK_PARAMS = new int[] { 0x00, 0x7F, 0xC0, 0xF8, 0xE0 };
+
+    private final Logger logger = LoggerFactory.getLogger(BlueGigaFrameSlicer.class);
+
+    private final int[] inputBuffer = new int[BLE_MAX_LENGTH];
+    private int inputCount = 0;
+    private int inputLength = 0;
+
+    /**
+     * Processes received bytes and passes every complete packet to the given consumer.
+     *
+     * @param data the received bytes
+     * @param offset the offset of the first received byte
+     * @param length the number of received bytes
+     * @param packetConsumer receives the packets, each in an array of its own
+     */
+    void write(byte[] data, int offset, int length, Consumer<int[]> packetConsumer) {
+        for (int i = offset; i < offset + length; i++) {
+            int val = data[i] & 0xFF;
+            inputBuffer[inputCount++] = val;
+
+            if (inputCount < 4) {
+                // The BGAPI protocol has no packet framing, and no error detection, so we do a few
+                // sanity checks on the header to try and allow resyncronisation should there be an
+                // error.
+                // Byte 0: Check technology type is bluetooth and high length is 0
+                // Byte 1: Check length is less than 64 bytes
+                // Byte 2: Check class ID is less than 8
+                if ((val & FRAMECHECK_PARAMS[inputCount]) != 0) {
+                    logger.debug("BlueGiga framing error byte {} = {}", inputCount, val);
+                    inputCount = 0;
+                    continue;
+                }
+            } else if (inputCount == 4) {
+                // Process the header to get the length
+                inputLength = inputBuffer[1] + 4;
+            }
+            if (inputCount == inputLength) {
+                // End of packet reached
+                packetConsumer.accept(Arrays.copyOf(inputBuffer, inputLength));
+                inputCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Discards a partially received packet.
+     */
+    void reset() {
+        inputCount = 0;
+    }
+}
@@ -12,11 +12,9 @@
  */
 package org.openhab.binding.bluetooth.bluegiga.internal;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.function.Function;
 
 import org.openhab.binding.bluetooth.bluegiga.internal.command.attributeclient.BlueGigaAttributeValueEvent;
 import org.openhab.binding.bluetooth.bluegiga.internal.command.attributeclient.BlueGigaAttributeWriteResponse;
@@ -100,79 +98,79 @@ class BlueGigaResponsePackets {
 
     private static Logger logger = LoggerFactory.getLogger(BlueGigaResponsePackets.class);
 
-    final private static Map<Integer, Class<?>> packetMap = new HashMap<Integer, Class<?>>();
+    final private static Map<Integer, Function<int[], BlueGigaResponse>> packetMap = new HashMap<>();
 
     static {
-        packetMap.put(Objects.hash(0x00, 0x06, true), BlueGigaProtocolErrorEvent.class);
-        packetMap.put(Objects.hash(0x00, 0x02, true), BlueGigaEndpointWatermarkRxEvent.class);
-        packetMap.put(Objects.hash(0x00, 0x03, true), BlueGigaEndpointWatermarkTxEvent.class);
-        packetMap.put(Objects.hash(0x00, 0x05, true), BlueGigaNoLicenseKeyEvent.class);
-        packetMap.put(Objects.hash(0x04, 0x05, false), BlueGigaAttributeWriteResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x0A, false), BlueGigaExecuteWriteResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x00, false), BlueGigaFindByTypeValueResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x03, false), BlueGigaFindInformationResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x07, false), BlueGigaIndicateConfirmResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x09, false), BlueGigaPrepareWriteResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x01, false), BlueGigaReadByGroupTypeResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x04, false), BlueGigaReadByHandleResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x02, false), BlueGigaReadByTypeResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x08, false), BlueGigaReadLongResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x0B, false), BlueGigaReadMultipleResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x06, false), BlueGigaWriteCommandResponse.class);
-        packetMap.put(Objects.hash(0x04, 0x01, true), BlueGigaProcedureCompletedEvent.class);
-        packetMap.put(Objects.hash(0x04, 0x05, true), BlueGigaAttributeValueEvent.class);
-        packetMap.put(Objects.hash(0x04, 0x04, true), BlueGigaFindInformationFoundEvent.class);
-        packetMap.put(Objects.hash(0x04, 0x02, true), BlueGigaGroupFoundEvent.class);
-        packetMap.put(Objects.hash(0x04, 0x00, true), BlueGigaIndicatedEvent.class);
-        packetMap.put(Objects.hash(0x04, 0x00, true), BlueGigaReadMultipleResponseEvent.class);
-        packetMap.put(Objects.hash(0x02, 0x01, false), BlueGigaReadResponse.class);
-        packetMap.put(Objects.hash(0x02, 0x02, false), BlueGigaReadTypeResponse.class);
-        packetMap.put(Objects.hash(0x02, 0x02, false), BlueGigaSendAttributesResponse.class);
-        packetMap.put(Objects.hash(0x02, 0x03, false), BlueGigaUserReadResponseResponse.class);
-        packetMap.put(Objects.hash(0x02, 0x04, false), BlueGigaUserWriteResponseResponse.class);
-        packetMap.put(Objects.hash(0x02, 0x00, false), BlueGigaWriteResponse.class);
-        packetMap.put(Objects.hash(0x02, 0x02, true), BlueGigaAttributeStatusEvent.class);
-        packetMap.put(Objects.hash(0x02, 0x01, true), BlueGigaUserReadRequestEvent.class);
-        packetMap.put(Objects.hash(0x02, 0x00, true), BlueGigaValueEvent.class);
-        packetMap.put(Objects.hash(0x03, 0x04, false), BlueGigaChannelMapGetResponse.class);
-        packetMap.put(Objects.hash(0x03, 0x00, false), BlueGigaDisconnectResponse.class);
-        packetMap.put(Objects.hash(0x03, 0x01, false), BlueGigaGetRssiResponse.class);
-        packetMap.put(Objects.hash(0x03, 0x07, false), BlueGigaGetStatusResponse.class);
-        packetMap.put(Objects.hash(0x03, 0x02, false), BlueGigaUpdateResponse.class);
-        packetMap.put(Objects.hash(0x03, 0x04, true), BlueGigaDisconnectedEvent.class);
-        packetMap.put(Objects.hash(0x03, 0x02, true), BlueGigaFeatureIndEvent.class);
-        packetMap.put(Objects.hash(0x03, 0x00, true), BlueGigaConnectionStatusEvent.class);
-        packetMap.put(Objects.hash(0x03, 0x01, true), BlueGigaVersionIndEvent.class);
-        packetMap.put(Objects.hash(0x06, 0x07, false), BlueGigaSetScanParametersResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x03, false), BlueGigaConnectDirectResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x05, false), BlueGigaConnectSelectiveResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x02, false), BlueGigaDiscoverResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x08, false), BlueGigaSetAdvParametersResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x09, false), BlueGigaSetAdvDataResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x04, false), BlueGigaEndProcedureResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x01, false), BlueGigaSetModeResponse.class);
-        packetMap.put(Objects.hash(0x06, 0x00, true), BlueGigaScanResponseEvent.class);
-        packetMap.put(Objects.hash(0x05, 0x02, false), BlueGigaDeleteBondingResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x00, false), BlueGigaEncryptStartResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x05, false), BlueGigaGetBondsResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x04, false), BlueGigaPassKeyResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x01, false), BlueGigaSetBondableModeResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x03, false), BlueGigaSetParametersResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x07, false), BlueGigaWhitelistBondsResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x0A, false), BlueGigaWhitelistAppendResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x0B, false), BlueGigaWhitelistRemoveResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x0C, false), BlueGigaWhitelistClearResponse.class);
-        packetMap.put(Objects.hash(0x05, 0x01, true), BlueGigaBondingFailEvent.class);
-        packetMap.put(Objects.hash(0x05, 0x04, true), BlueGigaBondStatusEvent.class);
-        packetMap.put(Objects.hash(0x05, 0x02, true), BlueGigaPasskeyDisplayEvent.class);
-        packetMap.put(Objects.hash(0x05, 0x03, true), BlueGigaPasskeyRequestEvent.class);
-        packetMap.put(Objects.hash(0x00, 0x02, false), BlueGigaAddressGetResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x01, false), BlueGigaHelloResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x00, false), BlueGigaResetResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x06, false), BlueGigaGetConnectionsResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x05, false), BlueGigaGetCountersResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x08, false), BlueGigaGetInfoResponse.class);
-        packetMap.put(Objects.hash(0x00, 0x00, true), BlueGigaBootEvent.class);
+        packetMap.put(getKey(0x00, 0x06, true), BlueGigaProtocolErrorEvent::new);
+        packetMap.put(getKey(0x00, 0x02, true), BlueGigaEndpointWatermarkRxEvent::new);
+        packetMap.put(getKey(0x00, 0x03, true), BlueGigaEndpointWatermarkTxEvent::new);
+        packetMap.put(getKey(0x00, 0x05, true), BlueGigaNoLicenseKeyEvent::new);
+        packetMap.put(getKey(0x04, 0x05, false), BlueGigaAttributeWriteResponse::new);
+        packetMap.put(getKey(0x04, 0x0A, false), BlueGigaExecuteWriteResponse::new);
+        packetMap.put(getKey(0x04, 0x00, false), BlueGigaFindByTypeValueResponse::new);
+        packetMap.put(getKey(0x04, 0x03, false), BlueGigaFindInformationResponse::new);
+        packetMap.put(getKey(0x04, 0x07, false), BlueGigaIndicateConfirmResponse::new);
+        packetMap.put(getKey(0x04, 0x09, false), BlueGigaPrepareWriteResponse::new);
+        packetMap.put(getKey(0x04, 0x01, false), BlueGigaReadByGroupTypeResponse::new);
+        packetMap.put(getKey(0x04, 0x04, false), BlueGigaReadByHandleResponse::new);
+        packetMap.put(getKey(0x04, 0x02, false), BlueGigaReadByTypeResponse::new);
+        packetMap.put(getKey(0x04, 0x08, false), BlueGigaReadLongResponse::new);
+        packetMap.put(getKey(0x04, 0x0B, false), BlueGigaReadMultipleResponse::new);
+        packetMap.put(getKey(0x04, 0x06, false), BlueGigaWriteCommandResponse::new);
+        packetMap.put(getKey(0x04, 0x01, true), BlueGigaProcedureCompletedEvent::new);
+        packetMap.put(getKey(0x04, 0x05, true), BlueGigaAttributeValueEvent::new);
+        packetMap.put(getKey(0x04, 0x04, true), BlueGigaFindInformationFoundEvent::new);
+        packetMap.put(getKey(0x04, 0x02, true), BlueGigaGroupFoundEvent::new);
+        packetMap.put(getKey(0x04, 0x00, true), BlueGigaIndicatedEvent::new);
+        packetMap.put(getKey(0x04, 0x00, true), BlueGigaReadMultipleResponseEvent::new);
+        packetMap.put(getKey(0x02, 0x01, false), BlueGigaReadResponse::new);
+        packetMap.put(getKey(0x02, 0x02, false), BlueGigaReadTypeResponse::new);
+        packetMap.put(getKey(0x02, 0x02, false), BlueGigaSendAttributesResponse::new);
+        packetMap.put(getKey(0x02, 0x03, false), BlueGigaUserReadResponseResponse::new);
+        packetMap.put(getKey(0x02, 0x04, false), BlueGigaUserWriteResponseResponse::new);
+        packetMap.put(getKey(0x02, 0x00, false), BlueGigaWriteResponse::new);
+        packetMap.put(getKey(0x02, 0x02, true), BlueGigaAttributeStatusEvent::new);
+        packetMap.put(getKey(0x02, 0x01, true), BlueGigaUserReadRequestEvent::new);
+        packetMap.put(getKey(0x02, 0x00, true), BlueGigaValueEvent::new);
+        packetMap.put(getKey(0x03, 0x04, false), BlueGigaChannelMapGetResponse::new);
+        packetMap.put(getKey(0x03, 0x00, false), BlueGigaDisconnectResponse::new);
+        packetMap.put(getKey(0x03, 0x01, false), BlueGigaGetRssiResponse::new);
+        packetMap.put(getKey(0x03, 0x07, false), BlueGigaGetStatusResponse::new);
+        packetMap.put(getKey(0x03, 0x02, false), BlueGigaUpdateResponse::new);
+        packetMap.put(getKey(0x03, 0x04, true), BlueGigaDisconnectedEvent::new);
+        packetMap.put(getKey(0x03, 0x02, true), BlueGigaFeatureIndEvent::new);
+        packetMap.put(getKey(0x03, 0x00, true), BlueGigaConnectionStatusEvent::new);
+        packetMap.put(getKey(0x03, 0x01, true), BlueGigaVersionIndEvent::new);
+        packetMap.put(getKey(0x06, 0x07, false), BlueGigaSetScanParametersResponse::new);
+        packetMap.put(getKey(0x06, 0x03, false), BlueGigaConnectDirectResponse::new);
+        packetMap.put(getKey(0x06, 0x05, false), BlueGigaConnectSelectiveResponse::new);
+        packetMap.put(getKey(0x06, 0x02, false), BlueGigaDiscoverResponse::new);
+        packetMap.put(getKey(0x06, 0x08, false), BlueGigaSetAdvParametersResponse::new);
+        packetMap.put(getKey(0x06, 0x09, false), BlueGigaSetAdvDataResponse::new);
+        packetMap.put(getKey(0x06, 0x04, false), BlueGigaEndProcedureResponse::new);
+        packetMap.put(getKey(0x06, 0x01, false), BlueGigaSetModeResponse::new);
+        packetMap.put(getKey(0x06, 0x00, true), BlueGigaScanResponseEvent::new);
+        packetMap.put(getKey(0x05, 0x02, false), BlueGigaDeleteBondingResponse::new);
+        packetMap.put(getKey(0x05, 0x00, false), BlueGigaEncryptStartResponse::new);
+        packetMap.put(getKey(0x05, 0x05, false), BlueGigaGetBondsResponse::new);
+        packetMap.put(getKey(0x05, 0x04, false), BlueGigaPassKeyResponse::new);
+        packetMap.put(getKey(0x05, 0x01, false), BlueGigaSetBondableModeResponse::new);
+        packetMap.put(getKey(0x05, 0x03, false), BlueGigaSetParametersResponse::new);
+        packetMap.put(getKey(0x05, 0x07, false), BlueGigaWhitelistBondsResponse::new);
+        packetMap.put(getKey(0x00, 0x0A, false), BlueGigaWhitelistAppendResponse::new);
+        packetMap.put(getKey(0x00, 0x0B, false), BlueGigaWhitelistRemoveResponse::new);
+        packetMap.put(getKey(0x00, 0x0C, false), BlueGigaWhitelistClearResponse::new);
+        packetMap.put(getKey(0x05, 0x01, true), BlueGigaBondingFailEvent::new);
+        packetMap.put(getKey(0x05, 0x04, true), BlueGigaBondStatusEvent::new);
+        packetMap.put(getKey(0x05, 0x02, true), BlueGigaPasskeyDisplayEvent::new);
+        packetMap.put(getKey(0x05, 0x03, true), BlueGigaPasskeyRequestEvent::new);
+        packetMap.put(getKey(0x00, 0x02, false), BlueGigaAddressGetResponse::new);
+        packetMap.put(getKey(0x00, 0x01, false), BlueGigaHelloResponse::new);
+        packetMap.put(getKey(0x00, 0x00, false), BlueGigaResetResponse::new);
+        packetMap.put(getKey(0x00, 0x06, false), BlueGigaGetConnectionsResponse::new);
+        packetMap.put(getKey(0x00, 0x05, false), BlueGigaGetCountersResponse::new);
+        packetMap.put(getKey(0x00, 0x08, false), BlueGigaGetInfoResponse::new);
+        packetMap.put(getKey(0x00, 0x00, true), BlueGigaBootEvent::new);
     }
 
     public static BlueGigaResponse getPacket(int[] data) {
@@ -180,23 +178,22 @@ class BlueGigaResponsePackets {
         int cmdMethod = data[3];
         boolean isEvent = (data[0] & 0x80) != 0;
 
-        Class<?> bleClass = packetMap.get(Objects.hash(cmdClass, cmdMethod, isEvent));
+        Function<int[], BlueGigaResponse> constructor = packetMap.get(getKey(cmdClass, cmdMethod, isEvent));
 
-        if (bleClass == null) {
+        if (constructor == null) {
             return null;
         }
 
-        Constructor<?> ctor;
-
         try {
-            ctor = bleClass.getConstructor(int[].class);
-            BlueGigaResponse bleFrame = (BlueGigaResponse) ctor.newInstance(data);
-            return bleFrame;
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
+            return constructor.apply(data);
+        } catch (RuntimeException e) {
             logger.error("Error instantiating BLE class", e);
         }
 
         return null;
     }
+
+    private static int getKey(int cmdClass, int cmdMethod, boolean isEvent) {
+        return (isEvent ? 0x10000 : 0) | (cmdClass << 8) | cmdMethod;
+    }
 }
@@ -15,20 +15,26 @@ package org.openhab.binding.bluetooth.bluegiga.internal;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
@@ -38,13 +44,24 @@ import org.slf4j.LoggerFactory;
  * The main handler class for interacting with the BlueGiga serial API. This class provides transaction management and
  * queuing of of data, and conversion of packets from the serial stream into command and response classes.
  *
+ * Commands are pipelined: up to {@link #MAX_PENDING_TRANSACTIONS} commands can await their response at the same time,
+ * as long as they address different connections. Commands which are not bound to a connection are sent one after the
+ * other. As the dongle answers the commands in the order they were received, a response completes the oldest pending
+ * transaction with the same command class and method.
+ *
  * @author Chris Jackson - Initial contribution and API
  *
  */
 public class BlueGigaSerialHandler {
 
-    private static final int BLE_MAX_LENGTH = 64;
-    private static final int TRANSACTION_TIMEOUT_PERIOD = 50;
+    private static final int RX_BUFFER_SIZE = 1024;
+    private static final int MAX_PENDING_TRANSACTIONS = 4;
+    private static final int TRANSACTION_TIMEOUT_PERIOD = 10000;
+
+    // channel of the commands which are not bound to a connection
+    private static final int ADAPTER_CHANNEL = -1;
+    private static final int CLASS_CONNECTION = 0x03;
+    private static final int CLASS_ATTRIBUTE_CLIENT = 0x04;
 
     private final Logger logger = LoggerFactory.getLogger(BlueGigaSerialHandler.class);
 
@@ -52,16 +69,23 @@ public class BlueGigaSerialHandler {
      * The portName portName output stream.
      */
     private final OutputStream outputStream;
-    private final Queue<BlueGigaCommand> sendQueue = new LinkedList<BlueGigaCommand>();
-    private final Timer timer = new Timer();
-    private TimerTask timerTask = null;
+    private final Timer timer = new Timer("BlueGigaTransactionTimer", true);
     private Thread parserThread = null;
     private final ExecutorService executor = ThreadPoolManager.getPool("bluegiga");
 
     /**
-     * Transaction listeners are used internally to correlate the commands and responses
+     * Transactions which have not been sent yet. The queue, {@link #busyChannels} and {@link #pendingCount} are
+     * guarded by the queue.
+     */
+    private final Queue<BlueGigaTransaction<?>> sendQueue = new ArrayDeque<>();
+    private final Set<Integer> busyChannels = new HashSet<>();
+    private int pendingCount = 0;
+
+    /**
+     * Transactions awaiting their response, by command class and method. They are completed by the parser thread
+     * without locking.
      */
-    private final List<BluetoothListener<? extends BlueGigaResponse>> transactionListeners = new CopyOnWriteArrayList<>();
+    private final Map<Integer, Queue<BlueGigaTransaction<?>>> pendingTransactions = new ConcurrentHashMap<>();
 
     /**
      * The event listeners will be notified of any asynchronous events
@@ -77,68 +101,27 @@ public class BlueGigaSerialHandler {
      * Flag reflecting that parser has been closed and parser parserThread
      * should exit.
      */
-    private boolean close = false;
+    private volatile boolean close = false;
 
     public BlueGigaSerialHandler(final InputStream inputStream, final OutputStream outputStream) {
         this.outputStream = outputStream;
 
-        final int framecheckParams[] = new int[] { 0x00, 0x7F, 0xC0, 0xF8, 0xE0 };
-
         parserThread = new Thread("BlueGigaBLEHandler") {
             @Override
             public void run() {
                 int exceptionCnt = 0;
                 logger.trace("BlueGiga BLE thread started");
-                int[] inputBuffer = new int[BLE_MAX_LENGTH];
-                int inputCount = 0;
-                int inputLength = 0;
+                byte[] readBuffer = new byte[RX_BUFFER_SIZE];
+                BlueGigaFrameSlicer frameSlicer = new BlueGigaFrameSlicer();
 
                 while (!close) {
                     try {
-                        int val = inputStream.read();
-                        if (val == -1) {
+                        int count = inputStream.read(readBuffer);
+                        if (count <= 0) {
                             continue;
                         }
 
-                        inputBuffer[inputCount++] = val;
-
-                        if (inputCount < 4) {
-                            // The BGAPI protocol has no packet framing, and no error detection, so we do a few
-                            // sanity checks on the header to try and allow resyncronisation should there be an
-                            // error.
-                            // Byte 0: Check technology type is bluetooth and high length is 0
-                            // Byte 1: Check length is less than 64 bytes
-                            // Byte 2: Check class ID is less than 8
-                            // Byte 3: Check command ID is less than 16
-                            if ((val & framecheckParams[inputCount]) != 0) {
-                                logger.debug("BlueGiga framing error byte {} = {}", inputCount, val);
-                                inputCount = 0;
-                                continue;
-                            }
-                        } else if (inputCount == 4) {
-                            // Process the header to get the length
-                            inputLength = inputBuffer[1] + (inputBuffer[0] & 0x02 << 8) + 4;
-                            if (inputLength > 64) {
-                                logger.error("BLE length larger than 64 bytes ({})", inputLength);
-                            }
-                        }
-                        if (inputCount == inputLength) {
-                            // End of packet reached - process
-                            BlueGigaResponse responsePacket = BlueGigaResponsePackets.getPacket(inputBuffer);
-
-                            logger.trace("BLE RX: {}", printHex(inputBuffer, inputLength));
-                            logger.trace("BLE RX: {}", responsePacket);
-                            if (responsePacket != null) {
-                                if (responsePacket.isEvent()) {
-                                    notifyEventListeners(responsePacket);
-                                } else {
-                                    notifyTransactionComplete(responsePacket);
-                                }
-                            }
-
-                            inputCount = 0;
-                        }
-
+                        frameSlicer.write(readBuffer, 0, count, packet -> processPacket(packet));
                     } catch (final IOException e) {
                         logger.error("BlueGiga BLE IOException: ", e);
 
@@ -184,10 +167,6 @@ public class BlueGigaSerialHandler {
     public void close(long timeout) {
         close = true;
         executor.shutdownNow();
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
-        }
         timer.cancel();
         try {
             parserThread.interrupt();
@@ -195,6 +174,19 @@ public class BlueGigaSerialHandler {
         } catch (InterruptedException e) {
             logger.warn("Interrupted in packet parser thread shutdown join.");
         }
+
+        // nobody will answer the outstanding transactions anymore
+        List<BlueGigaTransaction<?>> transactions = new ArrayList<>();
+        synchronized (sendQueue) {
+            transactions.addAll(sendQueue);
+            sendQueue.clear();
+        }
+        for (Queue<BlueGigaTransaction<?>> pending : pendingTransactions.values()) {
+            transactions.addAll(pending);
+        }
+        for (BlueGigaTransaction<?> transaction : transactions) {
+            transaction.future.completeExceptionally(new BlueGigaException("BlueGiga handler closed"));
+        }
     }
 
     /**
@@ -206,33 +198,65 @@ public class BlueGigaSerialHandler {
         return parserThread != null && parserThread.isAlive() && !close;
     }
 
-    // Synchronize this method to ensure a packet gets sent as a block
-    private synchronized void sendFrame(BlueGigaCommand bleFrame) {
+    private void sendFrame(BlueGigaTransaction<?> transaction) {
         // Send the data
         try {
-            int[] payload = bleFrame.serialize();
-            logger.trace("TX BLE frame: {}", printHex(payload, payload.length));
-            for (int b : payload) {
-                outputStream.write(b);
+            int[] payload = transaction.payload;
+            if (logger.isTraceEnabled()) {
+                logger.trace("TX BLE frame: {}", printHex(payload, payload.length));
             }
+            byte[] frame = new byte[payload.length];
+            for (int i = 0; i < payload.length; i++) {
+                frame[i] = (byte) payload[i];
+            }
+            outputStream.write(frame);
+            outputStream.flush();
         } catch (IOException e) {
             throw new BlueGigaException("Error sending BLE frame", e);
         }
 
-        logger.trace("--> TX BLE frame: {}", bleFrame);
+        logger.trace("--> TX BLE frame: {}", transaction.command);
     }
 
-    // Synchronize this method so we can do the window check without interruption.
-    // Otherwise this method could be called twice from different threads that could end up with
-    // more than the TX_WINDOW number of frames sent.
-    private synchronized void sendNextFrame() {
-        BlueGigaCommand nextFrame = sendQueue.poll();
-        if (nextFrame == null) {
-            // Nothing to send
-            return;
+    /**
+     * Sends the queued transactions as long as the pipeline is not full. A transaction is held back while another
+     * transaction on the same connection awaits its response, so the commands of a connection keep their order.
+     */
+    private void sendNextFrames() {
+        List<BlueGigaTransaction<?>> failed = null;
+        synchronized (sendQueue) {
+            Iterator<BlueGigaTransaction<?>> iterator = sendQueue.iterator();
+            while (pendingCount < MAX_PENDING_TRANSACTIONS && iterator.hasNext()) {
+                BlueGigaTransaction<?> transaction = iterator.next();
+                if (busyChannels.contains(transaction.channel)) {
+                    continue;
+                }
+                iterator.remove();
+
+                // register the transaction before sending, the response may arrive immediately
+                busyChannels.add(transaction.channel);
+                pendingCount++;
+                transaction.sent = true;
+                pendingTransactions.computeIfAbsent(transaction.key, key -> new ConcurrentLinkedQueue<>())
+                        .add(transaction);
+                try {
+                    sendFrame(transaction);
+                } catch (BlueGigaException e) {
+                    if (failed == null) {
+                        failed = new ArrayList<>();
+                    }
+                    failed.add(transaction);
+                    transaction.failure = e;
+                }
+            }
+            logger.trace("TX BLE queue: {}, pending: {}", sendQueue.size(), pendingCount);
+        }
+        if (failed != null) {
+            // completed outside of the lock, as completing sends the next frames
+            for (BlueGigaTransaction<?> transaction : failed) {
+                transaction.future.completeExceptionally(transaction.failure);
+            }
         }
-
-        sendFrame(nextFrame);
     }
 
     /**
@@ -244,48 +268,58 @@ public class BlueGigaSerialHandler {
      *            {@link BlueGigaCommand}
      */
     public void queueFrame(BlueGigaCommand request) {
-        logger.trace("TX BLE frame: {}", request);
-        checkIfAlive();
-        sendQueue.add(request);
-        logger.trace("TX BLE queue: {}", sendQueue.size());
-        sendNextFrame();
+        // the response still has to be consumed by a transaction, even if nobody waits for it
+        sendBleRequestAsync(request, BlueGigaResponse.class);
     }
 
-    /**
-     * Notify any transaction listeners when we receive a response.
-     *
-     * @param response
-     *            the response data received
-     * @return true if the response was processed
-     */
-    private boolean notifyTransactionComplete(final BlueGigaResponse response) {
-        boolean processed = false;
+    private void processPacket(int[] packet) {
+        BlueGigaResponse responsePacket = BlueGigaResponsePackets.getPacket(packet);
 
-        synchronized (transactionListeners) {
-            for (BluetoothListener<? extends BlueGigaResponse> listener : transactionListeners) {
-                if (listener.transactionEvent(response)) {
-                    processed = true;
-                }
+        if (logger.isTraceEnabled()) {
+            logger.trace("BLE RX: {}", printHex(packet, packet.length));
+            logger.trace("BLE RX: {}", responsePacket);
+        }
+        if ((packet[0] & 0x80) != 0) {
+            if (responsePacket != null) {
+                notifyEventListeners(responsePacket);
             }
+        } else {
+            notifyTransactionComplete(getKey(packet[2], packet[3]), responsePacket);
         }
+    }
 
-        return processed;
+    /**
+     * Notify the oldest pending transaction of the command when we receive a response.
+     *
+     * @param key the command class and method of the response
+     * @param response the response data received, or null if the response is unknown
+     */
+    private void notifyTransactionComplete(int key, BlueGigaResponse response) {
+        Queue<BlueGigaTransaction<?>> pending = pendingTransactions.get(key);
+        BlueGigaTransaction<?> transaction = pending != null ? pending.poll() : null;
+        if (transaction == null) {
+            logger.debug("Ignoring {} response which has not been requested.",
+                    response != null ? response.getClass().getSimpleName() : Integer.toHexString(key));
+            return;
+        }
+        transaction.complete(response);
     }
 
-    private void addTransactionListener(BluetoothListener<? extends BlueGigaResponse> listener) {
-        synchronized (transactionListeners) {
-            if (transactionListeners.contains(listener)) {
+    private void transactionFinished(BlueGigaTransaction<?> transaction) {
+        synchronized (sendQueue) {
+            if (!transaction.sent) {
+                sendQueue.remove(transaction);
                 return;
             }
-
-            transactionListeners.add(listener);
+            busyChannels.remove(transaction.channel);
+            pendingCount--;
         }
-    }
-
-    private void removeTransactionListener(BluetoothListener<?> listener) {
-        synchronized (transactionListeners) {
-            transactionListeners.remove(listener);
+        Queue<BlueGigaTransaction<?>> pending = pendingTransactions.get(transaction.key);
+        if (pending != null) {
+            // only required if the transaction timed out or was cancelled
+            pending.remove(transaction);
         }
+        sendNextFrames();
     }
 
     /**
@@ -297,62 +331,21 @@ public class BlueGigaSerialHandler {
     public <T extends BlueGigaResponse> Future<T> sendBleRequestAsync(final BlueGigaCommand bleCommand,
             final Class<T> expected) {
         checkIfAlive();
-        class TransactionWaiter implements Callable<T>, BluetoothListener<T> {
-            private boolean complete;
-            private BlueGigaResponse response;
-
-            @SuppressWarnings("unchecked")
-            @Override
-            public T call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Send the transaction
-                queueFrame(bleCommand);
-
-                // Wait for the transaction to complete
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            complete = true;
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return (T) response;
+        logger.trace("TX BLE frame: {}", bleCommand);
+        BlueGigaTransaction<T> transaction = new BlueGigaTransaction<>(bleCommand, expected);
+        transaction.future.whenComplete((response, error) -> {
+            if (transaction.finished.compareAndSet(false, true)) {
+                transaction.timeoutTask.cancel();
+                transactionFinished(transaction);
             }
+        });
+        timer.schedule(transaction.timeoutTask, TRANSACTION_TIMEOUT_PERIOD);
 
-            @Override
-            public boolean transactionEvent(BlueGigaResponse bleResponse) {
-                // Check if this response completes our transaction
-                if (bleCommand.hashCode() == bleResponse.hashCode()) {
-                    return false;
-                }
-
-                if (!expected.isInstance(bleResponse)) {
-                    // ignoring response if it was not requested
-                    logger.warn("Ignoring {} response which has not been requested.",
-                            bleResponse.getClass().getSimpleName());
-                    return false;
-                }
-
-                response = bleResponse;
-                complete = true;
-                synchronized (this) {
-                    notify();
-                }
-
-                return true;
-            }
+        synchronized (sendQueue) {
+            sendQueue.add(transaction);
         }
-
-        Callable<T> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        sendNextFrames();
+        return transaction.future;
     }
 
     /**
@@ -391,53 +384,34 @@ public class BlueGigaSerialHandler {
         } catch (InterruptedException | ExecutionException e) {
             futureResponse.cancel(true);
             throw new BlueGigaException("Error sending BLE transaction to listeners: ", e);
-        }
-    }
-
-    @SuppressWarnings("unused")
-    private synchronized void startTransactionTimer() {
-        // Stop any existing timer
-        resetTransactionTimer();
-
-        // Create the timer task
-        timerTask = new TransactionTimer();
-        timer.schedule(timerTask, TRANSACTION_TIMEOUT_PERIOD);
-    }
-
-    private synchronized void resetTransactionTimer() {
-        // Stop any existing timer
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
-        }
-    }
-
-    private class TransactionTimer extends TimerTask {
-        @Override
-        public void run() {
+        } catch (TimeoutException e) {
+            // frees the connection for the next command
+            futureResponse.cancel(true);
+            throw e;
         }
     }
 
     /**
-     * Notify any transaction listeners when we receive a response.
+     * Notify any event listeners when we receive an event.
      * This uses a separate thread to separate the processing of the event.
      *
      * @param response the response data received
-     * @return true if the response was processed
      */
     private void notifyEventListeners(final BlueGigaResponse response) {
-        synchronized (this) {
-            // Notify the listeners
+        // A single task per event, scanning produces many events and every device is a listener
+        executor.submit(() -> {
             for (final BlueGigaEventListener listener : eventListeners) {
-                executor.submit(() -> listener.bluegigaEventReceived(response));
+                try {
+                    listener.bluegigaEventReceived(response);
+                } catch (RuntimeException e) {
+                    logger.warn("Execution error of a BlueGigaEventListener listener.", e);
+                }
             }
-        }
+        });
     }
 
     public void addEventListener(BlueGigaEventListener listener) {
-        synchronized (eventListeners) {
-            eventListeners.add(listener);
-        }
+        eventListeners.add(listener);
     }
 
     /**
@@ -492,8 +466,56 @@ public class BlueGigaSerialHandler {
         }
     }
 
-    interface BluetoothListener<T extends BlueGigaResponse> {
-        boolean transactionEvent(BlueGigaResponse response);
+    private static int getKey(int cmdClass, int cmdMethod) {
+        return (cmdClass << 8) | cmdMethod;
     }
 
+    /**
+     * A command and the future of its response.
+     */
+    private class BlueGigaTransaction<T extends BlueGigaResponse> {
+        private final BlueGigaCommand command;
+        private final Class<T> expected;
+        private final int[] payload;
+        private final int key;
+        private final int channel;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final TimerTask timeoutTask = new TimerTask() {
+            @Override
+            public void run() {
+                future.completeExceptionally(new TimeoutException("No response to " + command));
+            }
+        };
+
+        // guarded by the send queue
+        private boolean sent;
+        private BlueGigaException failure;
+
+        private BlueGigaTransaction(BlueGigaCommand command, Class<T> expected) {
+            this.command = command;
+            this.expected = expected;
+            this.payload = command.serialize();
+            this.key = getKey(payload[2], payload[3]);
+            if ((payload[2] == CLASS_CONNECTION || payload[2] == CLASS_ATTRIBUTE_CLIENT) && payload.length > 4) {
+                // the connection handle is the first parameter of these commands
+                this.channel = payload[4];
+            } else {
+                this.channel = ADAPTER_CHANNEL;
+            }
+        }
+
+        private void complete(BlueGigaResponse response) {
+            if (response == null) {
+                future.completeExceptionally(new BlueGigaException("Unknown response to " + command));
+            } else if (!expected.isInstance(response)) {
+                logger.warn("Ignoring {} response which has not been requested.",
+                        response.getClass().getSimpleName());
+                future.completeExceptionally(
+                        new BlueGigaException("Unexpected response " + response.getClass().getSimpleName()));
+            } else {
+                future.complete(expected.cast(response));
+            }
+        }
+    }
 }
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.bluegiga.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.binding.bluetooth.bluegiga.internal.command.attributeclient.BlueGigaAttributeValueEvent;
+import org.openhab.binding.bluetooth.bluegiga.internal.command.connection.BlueGigaConnectionStatusEvent;
+import org.openhab.binding.bluetooth.bluegiga.internal.command.gap.BlueGigaDiscoverResponse;
+import org.openhab.binding.bluetooth.bluegiga.internal.command.gap.BlueGigaScanResponseEvent;
+import org.openhab.binding.bluetooth.bluegiga.internal.command.gap.BlueGigaSetScanParametersResponse;
+import org.openhab.binding.bluetooth.bluegiga.internal.command.system.BlueGigaHelloResponse;
+import org.openhab.binding.bluetooth.bluegiga.internal.enumeration.AttributeValueType;
+import org.openhab.binding.bluetooth.bluegiga.internal.enumeration.BgApiResponse;
+import org.openhab.binding.bluetooth.bluegiga.internal.enumeration.BluetoothAddressType;
+import org.openhab.binding.bluetooth.bluegiga.internal.enumeration.ConnectionStatusFlag;
+import org.openhab.binding.bluetooth.bluegiga.internal.enumeration.ScanResponseType;
+
+/**
+ * Tests {@link BlueGigaFrameSlicer} by replaying a BGAPI byte stream as captured from a scanning dongle.
+ *
+ * @author agent - Initial contribution
+ */
+public class BlueGigaFrameSlicerTest {
+
+    // gap scan_response event: rssi -60, connectable advertisement, flags record
+    private static final int[] SCAN_RESPONSE = { 0x80, 0x0E, 0x06, 0x00, 0xC4, 0x00, 0x11, 0x22, 0x33, 0x44, 0x55,
+            0x66, 0x00, 0xFF, 0x03, 0x02, 0x01, 0x06 };
+    // gap scan_response event: rssi -75, scan response, random address, complete local name "Sensor"
+    private static final int[] NAME_SCAN_RESPONSE = { 0x80, 0x13, 0x06, 0x00, 0xB5, 0x04, 0xFF, 0xEE, 0xDD, 0xCC,
+            0xBB, 0xAA, 0x01, 0xFF, 0x08, 0x07, 0x09, 0x53, 0x65, 0x6E, 0x73, 0x6F, 0x72 };
+    // gap scan_response event: rssi -88, connectable advertisement, flags and manufacturer data of 31 bytes in total
+    private static final int[] BEACON_SCAN_RESPONSE = { 0x80, 0x2A, 0x06, 0x00, 0xA8, 0x00, 0x06, 0x05, 0x04, 0x03,
+            0x02, 0x01, 0x00, 0xFF, 0x1F, 0x02, 0x01, 0x06, 0x1B, 0xFF, 0x4C, 0x00, 0x02, 0x15, 0xE2, 0xC5, 0x6D,
+            0xB5, 0xDF, 0xFB, 0x48, 0xD2, 0xB0, 0x60, 0xD0, 0xF5, 0xA7, 0x10, 0x96, 0xE0, 0x00, 0x01, 0x00, 0x02,
+            0xC5, 0x00 };
+    // system hello response
+    private static final int[] HELLO_RESPONSE = { 0x00, 0x00, 0x00, 0x01 };
+    // gap set_scan_parameters and gap discover responses: success
+    private static final int[] SET_SCAN_PARAMETERS_RESPONSE = { 0x00, 0x02, 0x06, 0x07, 0x00, 0x00 };
+    private static final int[] DISCOVER_RESPONSE = { 0x00, 0x02, 0x06, 0x02, 0x00, 0x00 };
+    // connection status event: connection 0 to 66:55:44:33:22:11 connected and completed, interval 39, timeout 200
+    private static final int[] CONNECTION_STATUS = { 0x80, 0x10, 0x03, 0x00, 0x00, 0x05, 0x11, 0x22, 0x33, 0x44,
+            0x55, 0x66, 0x00, 0x27, 0x00, 0xC8, 0x00, 0x00, 0x00, 0xFF };
+    // attclient attribute_value event: notification of handle 0x25 with 3 bytes
+    private static final int[] ATTRIBUTE_VALUE = { 0x80, 0x08, 0x04, 0x05, 0x00, 0x25, 0x00, 0x01, 0x03, 0x14, 0x00,
+            0x32 };
+
+    private static final int SCAN_RESPONSES = 100;
+    private static final int SCAN_ROUNDS = 50;
+
+    @Test
+    public void testSliceChunks() {
+        byte[] stream = createStream();
+        for (int chunkSize : new int[] { 1, 3, 17, 64, stream.length }) {
+            List<int[]> packets = replay(new BlueGigaFrameSlicer(), stream, chunkSize);
+
+            assertEquals(SCAN_RESPONSES + 1, packets.size());
+            assertArrayEquals(HELLO_RESPONSE, packets.get(0));
+            for (int i = 1; i < packets.size(); i++) {
+                assertArrayEquals(SCAN_RESPONSE, packets.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testResyncAfterGarbage() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        // the tail of a packet received before the handler was started
+        write(stream, new int[] { 0x44, 0xFF, 0x55 });
+        write(stream, SCAN_RESPONSE);
+
+        List<int[]> packets = replay(new BlueGigaFrameSlicer(), stream.toByteArray(), 2);
+        assertEquals(1, packets.size());
+        assertArrayEquals(SCAN_RESPONSE, packets.get(0));
+    }
+
+    @Test
+    public void testReset() {
+        BlueGigaFrameSlicer slicer = new BlueGigaFrameSlicer();
+        byte[] packet = toBytes(SCAN_RESPONSE);
+        List<int[]> packets = new ArrayList<>();
+        slicer.write(packet, 0, 6, packets::add);
+        slicer.reset();
+        slicer.write(packet, 0, packet.length, packets::add);
+
+        assertEquals(1, packets.size());
+        assertArrayEquals(SCAN_RESPONSE, packets.get(0));
+    }
+
+    @Test
+    public void testParsePackets() {
+        List<int[]> packets = replay(new BlueGigaFrameSlicer(), createStream(), 64);
+
+        assertTrue(BlueGigaResponsePackets.getPacket(packets.get(0)) instanceof BlueGigaHelloResponse);
+        BlueGigaResponse response = BlueGigaResponsePackets.getPacket(packets.get(1));
+        assertTrue(response instanceof BlueGigaScanResponseEvent);
+        BlueGigaScanResponseEvent event = (BlueGigaScanResponseEvent) response;
+        assertEquals(-60, event.getRssi());
+        assertArrayEquals(new int[] { 0x02, 0x01, 0x06 }, event.getData());
+    }
+
+    @Test
+    public void testReplaySession() {
+        List<int[]> session = createSession();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        session.forEach(packet -> write(stream, packet));
+
+        for (int chunkSize : new int[] { 1, 5, 20, 64, 256 }) {
+            List<int[]> packets = replay(new BlueGigaFrameSlicer(), stream.toByteArray(), chunkSize);
+
+            assertEquals(3 + 3 * SCAN_ROUNDS + 2, packets.size());
+            for (int i = 0; i < session.size(); i++) {
+                assertArrayEquals(session.get(i), packets.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testParseSession() {
+        List<int[]> packets = replay(new BlueGigaFrameSlicer(), toBytes(createSession()), 64);
+        List<BlueGigaResponse> responses = new ArrayList<>();
+        packets.forEach(packet -> responses.add(BlueGigaResponsePackets.getPacket(packet)));
+
+        assertTrue(responses.get(0) instanceof BlueGigaHelloResponse);
+        assertEquals(BgApiResponse.SUCCESS, ((BlueGigaSetScanParametersResponse) responses.get(1)).getResult());
+        assertEquals(BgApiResponse.SUCCESS, ((BlueGigaDiscoverResponse) responses.get(2)).getResult());
+
+        List<BlueGigaScanResponseEvent> scanResponses = new ArrayList<>();
+        for (BlueGigaResponse response : responses.subList(3, 3 + 3 * SCAN_ROUNDS)) {
+            scanResponses.add((BlueGigaScanResponseEvent) response);
+        }
+        assertEquals(3 * SCAN_ROUNDS, scanResponses.size());
+        for (int i = 0; i < scanResponses.size(); i += 3) {
+            BlueGigaScanResponseEvent advertisement = scanResponses.get(i);
+            assertEquals("66:55:44:33:22:11", advertisement.getSender());
+            assertEquals(-60, advertisement.getRssi());
+            assertEquals(ScanResponseType.CONNECTABLE_ADVERTISEMENT, advertisement.getPacketType());
+
+            BlueGigaScanResponseEvent name = scanResponses.get(i + 1);
+            assertEquals("AA:BB:CC:DD:EE:FF", name.getSender());
+            assertEquals(-75, name.getRssi());
+            assertEquals(ScanResponseType.SCAN_RESPONSE, name.getPacketType());
+            assertEquals(BluetoothAddressType.GAP_ADDRESS_TYPE_RANDOM, name.getAddressType());
+            assertArrayEquals(new int[] { 0x07, 0x09, 0x53, 0x65, 0x6E, 0x73, 0x6F, 0x72 }, name.getData());
+
+            BlueGigaScanResponseEvent beacon = scanResponses.get(i + 2);
+            assertEquals("01:02:03:04:05:06", beacon.getSender());
+            assertEquals(-88, beacon.getRssi());
+            assertEquals(31, beacon.getData().length);
+        }
+
+        BlueGigaConnectionStatusEvent connection = (BlueGigaConnectionStatusEvent) responses.get(responses.size() - 2);
+        assertEquals("66:55:44:33:22:11", connection.getAddress());
+        assertEquals(EnumSet.of(ConnectionStatusFlag.CONNECTION_CONNECTED, ConnectionStatusFlag.CONNECTION_COMPLETED),
+                connection.getFlags());
+        assertEquals(39, connection.getConnInterval());
+        assertEquals(200, connection.getTimeout());
+
+        BlueGigaAttributeValueEvent value = (BlueGigaAttributeValueEvent) responses.get(responses.size() - 1);
+        assertEquals(0x25, value.getAttHandle());
+        assertEquals(AttributeValueType.ATTCLIENT_ATTRIBUTE_VALUE_TYPE_NOTIFY, value.getType());
+        assertArrayEquals(new int[] { 0x14, 0x00, 0x32 }, value.getValue());
+    }
+
+    private static List<int[]> replay(BlueGigaFrameSlicer slicer, byte[] stream, int chunkSize) {
+        List<int[]> packets = new ArrayList<>();
+        for (int offset = 0; offset < stream.length; offset += chunkSize) {
+            slicer.write(stream, offset, Math.min(chunkSize, stream.length - offset), packets::add);
+        }
+        return packets;
+    }
+
+    private static byte[] createStream() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        write(stream, HELLO_RESPONSE);
+        for (int i = 0; i < SCAN_RESPONSES; i++) {
+            write(stream, SCAN_RESPONSE);
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Creates the packets received while starting a scan, seeing three devices several times and connecting to one
+     * of them.
+     */
+    private static List<int[]> createSession() {
+        List<int[]> session = new ArrayList<>();
+        session.add(HELLO_RESPONSE);
+        session.add(SET_SCAN_PARAMETERS_RESPONSE);
+        session.add(DISCOVER_RESPONSE);
+        for (int i = 0; i < SCAN_ROUNDS; i++) {
+            session.addAll(Arrays.asList(SCAN_RESPONSE, NAME_SCAN_RESPONSE, BEACON_SCAN_RESPONSE));
+        }
+        session.add(CONNECTION_STATUS);
+        session.add(ATTRIBUTE_VALUE);
+        return session;
+    }
+
+    private static void write(ByteArrayOutputStream stream, int[] values) {
+        byte[] bytes = toBytes(values);
+        stream.write(bytes, 0, bytes.length);
+    }
+
+    private static byte[] toBytes(List<int[]> packets) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        packets.forEach(packet -> write(stream, packet));
+        return stream.toByteArray();
+    }
+
+    private static byte[] toBytes(int[] values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
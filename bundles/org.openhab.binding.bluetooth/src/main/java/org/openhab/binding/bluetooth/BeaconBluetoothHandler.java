@@ -15,6 +15,7 @@ package org.openhab.binding.bluetooth;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -28,6 +29,8 @@ import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
 import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is a handler for generic Bluetooth devices in beacon-mode (i.e. not connected), which at the same time can be
@@ -38,6 +41,8 @@ import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 @NonNullByDefault
 public class BeaconBluetoothHandler extends BaseThingHandler implements BluetoothDeviceListener {
 
+    private final Logger logger = LoggerFactory.getLogger(BeaconBluetoothHandler.class);
+
     @NonNullByDefault({} /* non-null if initialized */)
     protected BluetoothAdapter adapter;
 
@@ -81,6 +86,7 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         try {
             deviceLock.lock();
             device = adapter.getDevice(address);
+            configureAdvertisementFilter(device.getAdvertisementFilter());
             device.addListener(this);
         } finally {
             deviceLock.unlock();
@@ -94,6 +100,9 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         try {
             deviceLock.lock();
             if (device != null) {
+                BluetoothAdvertisementFilter filter = device.getAdvertisementFilter();
+                logger.debug("Passed {} and suppressed {} advertisements of {}", filter.getForwardedCount(),
+                        filter.getSuppressedCount(), address);
                 device.removeListener(this);
                 device.disconnect();
                 device = null;
@@ -103,6 +112,30 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         }
     }
 
+    private void configureAdvertisementFilter(BluetoothAdvertisementFilter filter) {
+        Configuration config = getConfig();
+        try {
+            filter.configure(
+                    getIntParameter(config, BluetoothBindingConstants.CONFIGURATION_RSSI_WINDOW,
+                            BluetoothAdvertisementFilter.DEFAULT_RSSI_WINDOW),
+                    getIntParameter(config, BluetoothBindingConstants.CONFIGURATION_RSSI_THRESHOLD,
+                            BluetoothAdvertisementFilter.DEFAULT_RSSI_THRESHOLD),
+                    getIntParameter(config, BluetoothBindingConstants.CONFIGURATION_MANUFACTURER_DATA_THRESHOLD,
+                            BluetoothAdvertisementFilter.DEFAULT_MANUFACTURER_DATA_THRESHOLD),
+                    getIntParameter(config, BluetoothBindingConstants.CONFIGURATION_MIN_UPDATE_INTERVAL,
+                            (int) BluetoothAdvertisementFilter.DEFAULT_MIN_UPDATE_INTERVAL),
+                    getIntParameter(config, BluetoothBindingConstants.CONFIGURATION_MAX_UPDATE_INTERVAL,
+                            (int) BluetoothAdvertisementFilter.DEFAULT_MAX_UPDATE_INTERVAL));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid advertisement filter configuration of {}: {}", address, e.getMessage());
+        }
+    }
+
+    private static int getIntParameter(Configuration config, String name, int defaultValue) {
+        Object value = config.get(name);
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command == RefreshType.REFRESH && channelUID.getId().equals(BluetoothBindingConstants.CHANNEL_TYPE_RSSI)) {
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link BluetoothAdvertisementFilter} aggregates the advertisements received from a single device and decides
+ * which of them are passed on to the device listeners.
+ * <p>
+ * The RSSI is smoothed by averaging the last received values, which are kept in a ring buffer. An advertisement is
+ * passed on if the smoothed RSSI or the manufacturer data changed significantly since the last passed advertisement,
+ * but not more often than the minimum update interval allows. Advertisements without significant changes are still
+ * passed on once the maximum update interval has elapsed, so listeners can tell that the device is in reach.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilter {
+
+    public static final int DEFAULT_RSSI_WINDOW = 5;
+    public static final int DEFAULT_RSSI_THRESHOLD = 3;
+    public static final int DEFAULT_MANUFACTURER_DATA_THRESHOLD = 1;
+    public static final long DEFAULT_MIN_UPDATE_INTERVAL = 1000;
+    public static final long DEFAULT_MAX_UPDATE_INTERVAL = 30000;
+
+    private int rssiThreshold = DEFAULT_RSSI_THRESHOLD;
+    private int manufacturerDataThreshold = DEFAULT_MANUFACTURER_DATA_THRESHOLD;
+    private long minUpdateInterval = DEFAULT_MIN_UPDATE_INTERVAL;
+    private long maxUpdateInterval = DEFAULT_MAX_UPDATE_INTERVAL;
+
+    private int[] rssiSamples = new int[DEFAULT_RSSI_WINDOW];
+    private int rssiIndex;
+    private int rssiCount;
+    private int rssiSum;
+
+    private int lastRssi = Integer.MIN_VALUE;
+    private byte @Nullable [] lastManufacturerData;
+    private long lastUpdate;
+    private boolean updated;
+
+    private long forwardedCount;
+    private long suppressedCount;
+
+    /**
+     * Configures the filter. A value of 0 for one of the thresholds passes on every change, a minimum update interval
+     * of 0 disables the rate limit.
+     *
+     * @param rssiWindow the number of RSSI values averaged, 1 disables the smoothing
+     * @param rssiThreshold the change of the smoothed RSSI in dBm which is considered significant
+     * @param manufacturerDataThreshold the number of bytes of the manufacturer data which have to change to be
+     *            considered significant
+     * @param minUpdateInterval the minimum time between two passed advertisements in milliseconds
+     * @param maxUpdateInterval the time after which an advertisement is passed on even without significant changes in
+     *            milliseconds
+     */
+    public synchronized void configure(int rssiWindow, int rssiThreshold, int manufacturerDataThreshold,
+            long minUpdateInterval, long maxUpdateInterval) {
+        if (rssiWindow < 1) {
+            throw new IllegalArgumentException("The RSSI window must contain at least one value");
+        }
+        if (rssiWindow != rssiSamples.length) {
+            rssiSamples = new int[rssiWindow];
+            rssiIndex = 0;
+            rssiCount = 0;
+            rssiSum = 0;
+        }
+        this.rssiThreshold = rssiThreshold;
+        this.manufacturerDataThreshold = manufacturerDataThreshold;
+        this.minUpdateInterval = minUpdateInterval;
+        this.maxUpdateInterval = maxUpdateInterval;
+    }
+
+    /**
+     * Adds a received advertisement and checks whether it should be passed on. The RSSI of the advertisement is
+     * replaced by the smoothed value.
+     *
+     * @param notification the received advertisement
+     * @param now the receive time in milliseconds
+     * @return true if the advertisement should be passed on to the listeners
+     */
+    public synchronized boolean accept(BluetoothScanNotification notification, long now) {
+        boolean significant = !updated || now - lastUpdate >= maxUpdateInterval;
+
+        int rssi = notification.getRssi();
+        if (rssi != Integer.MIN_VALUE) {
+            rssi = addRssi(rssi);
+            notification.setRssi(rssi);
+            significant |= lastRssi == Integer.MIN_VALUE || Math.abs(rssi - lastRssi) >= rssiThreshold;
+        }
+
+        byte[] manufacturerData = notification.getManufacturerData();
+        if (manufacturerData != null) {
+            significant |= countChangedBytes(lastManufacturerData, manufacturerData) >= manufacturerDataThreshold;
+        }
+
+        if (!significant || (updated && now - lastUpdate < minUpdateInterval)) {
+            suppressedCount++;
+            return false;
+        }
+
+        if (rssi != Integer.MIN_VALUE) {
+            lastRssi = rssi;
+        }
+        if (manufacturerData != null) {
+            lastManufacturerData = manufacturerData;
+        }
+        lastUpdate = now;
+        updated = true;
+        forwardedCount++;
+        return true;
+    }
+
+    /**
+     * Returns the smoothed RSSI
+     *
+     * @return the average of the last received RSSI values or null if no RSSI has been received
+     */
+    public synchronized @Nullable Integer getRssi() {
+        return rssiCount == 0 ? null : averageRssi();
+    }
+
+    /**
+     * Returns the number of advertisements which have been passed on
+     */
+    public synchronized long getForwardedCount() {
+        return forwardedCount;
+    }
+
+    /**
+     * Returns the number of advertisements which have been suppressed
+     */
+    public synchronized long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    private int addRssi(int rssi) {
+        if (rssiCount == rssiSamples.length) {
+            rssiSum -= rssiSamples[rssiIndex];
+        } else {
+            rssiCount++;
+        }
+        rssiSamples[rssiIndex] = rssi;
+        rssiSum += rssi;
+        rssiIndex = (rssiIndex + 1) % rssiSamples.length;
+        return averageRssi();
+    }
+
+    private int averageRssi() {
+        return Math.round((float) rssiSum / rssiCount);
+    }
+
+    private static int countChangedBytes(byte @Nullable [] previous, byte[] current) {
+        if (previous == null || previous.length != current.length) {
+            return Integer.MAX_VALUE;
+        }
+        int changed = 0;
+        for (int i = 0; i < current.length; i++) {
+            if (previous[i] != current[i]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
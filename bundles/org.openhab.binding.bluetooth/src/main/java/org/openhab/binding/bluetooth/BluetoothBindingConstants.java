@@ -38,6 +38,11 @@ public class BluetoothBindingConstants {
     public static final String PROPERTY_MAXCONNECTIONS = "maxconnections";
 
     public static final String CONFIGURATION_ADDRESS = "address";
+    public static final String CONFIGURATION_RSSI_WINDOW = "rssiWindow";
+    public static final String CONFIGURATION_RSSI_THRESHOLD = "rssiThreshold";
+    public static final String CONFIGURATION_MANUFACTURER_DATA_THRESHOLD = "manufacturerDataThreshold";
+    public static final String CONFIGURATION_MIN_UPDATE_INTERVAL = "minUpdateInterval";
+    public static final String CONFIGURATION_MAX_UPDATE_INTERVAL = "maxUpdateInterval";
 
     public static final long BLUETOOTH_BASE_UUID = 0x800000805f9b34fbL;
 
@@ -122,6 +122,11 @@ public abstract class BluetoothDevice {
      */
     private final List<BluetoothDeviceListener> eventListeners = new CopyOnWriteArrayList<BluetoothDeviceListener>();
 
+    /**
+     * Decides which of the received advertisements are passed on to the listeners
+     */
+    private final BluetoothAdvertisementFilter advertisementFilter = new BluetoothAdvertisementFilter();
+
     /**
      * Construct a Bluetooth device taking the Bluetooth address
      *
@@ -490,12 +495,29 @@ public abstract class BluetoothDevice {
     }
 
     /**
-     * Notify the listeners of an event
+     * Returns the filter for the advertisements of this device, which can be configured by the handler of the device
+     *
+     * @return the {@link BluetoothAdvertisementFilter} of this device
+     */
+    public BluetoothAdvertisementFilter getAdvertisementFilter() {
+        return advertisementFilter;
+    }
+
+    /**
+     * Notify the listeners of an event. Scan records are only passed on if the {@link BluetoothAdvertisementFilter}
+     * considers them significant.
      *
      * @param event the {@link BluetoothEventType} of this event
      * @param args an array of arguments to pass to the callback
      */
     protected void notifyListeners(BluetoothEventType event, Object... args) {
+        if (event == BluetoothEventType.SCAN_RECORD
+                && !advertisementFilter.accept((BluetoothScanNotification) args[0], System.currentTimeMillis())) {
+            logger.trace("Suppressed scan record of {}, {} of {} suppressed", address,
+                    advertisementFilter.getSuppressedCount(),
+                    advertisementFilter.getSuppressedCount() + advertisementFilter.getForwardedCount());
+            return;
+        }
         for (BluetoothDeviceListener listener : eventListeners) {
             try {
                 switch (event) {
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link BluetoothAdvertisementFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+public class BluetoothAdvertisementFilterTest {
+
+    @Test
+    public void testRssiSmoothing() {
+        BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter();
+        filter.configure(4, 3, 1, 0, 30000);
+
+        assertTrue(filter.accept(rssi(-60), 0));
+        // the noise of single values is averaged out
+        assertFalse(filter.accept(rssi(-62), 10));
+        assertFalse(filter.accept(rssi(-58), 20));
+        assertFalse(filter.accept(rssi(-60), 30));
+        assertEquals(Integer.valueOf(-60), filter.getRssi());
+
+        // the oldest value is replaced
+        BluetoothScanNotification notification = rssi(-80);
+        assertTrue(filter.accept(notification, 40));
+        assertEquals(-65, notification.getRssi());
+        assertEquals(2, filter.getForwardedCount());
+        assertEquals(3, filter.getSuppressedCount());
+    }
+
+    @Test
+    public void testManufacturerDataThreshold() {
+        BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter();
+        filter.configure(1, 3, 2, 0, 30000);
+
+        assertTrue(filter.accept(manufacturerData(0x99, 0x04, 0x10, 0x20, 0x00), 0));
+        assertFalse(filter.accept(manufacturerData(0x99, 0x04, 0x10, 0x20, 0x00), 10));
+        // a sequence counter alone is not significant
+        assertFalse(filter.accept(manufacturerData(0x99, 0x04, 0x10, 0x20, 0x01), 20));
+        assertTrue(filter.accept(manufacturerData(0x99, 0x04, 0x11, 0x21, 0x02), 30));
+        // a different format is always significant
+        assertTrue(filter.accept(manufacturerData(0x99, 0x04, 0x11, 0x21), 40));
+    }
+
+    @Test
+    public void testUpdateIntervals() {
+        BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter();
+        filter.configure(1, 3, 1, 1000, 5000);
+
+        assertTrue(filter.accept(manufacturerData(0x99, 0x04, 0x01), 0));
+        // significant, but rate limited
+        assertFalse(filter.accept(manufacturerData(0x99, 0x04, 0x02), 500));
+        assertTrue(filter.accept(manufacturerData(0x99, 0x04, 0x02), 1000));
+        assertFalse(filter.accept(manufacturerData(0x99, 0x04, 0x02), 5999));
+        // passed on without changes to signal that the device is in reach
+        assertTrue(filter.accept(manufacturerData(0x99, 0x04, 0x02), 6000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRssiWindow() {
+        new BluetoothAdvertisementFilter().configure(0, 3, 1, 1000, 5000);
+    }
+
+    private static BluetoothScanNotification rssi(int rssi) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        return notification;
+    }
+
+    private static BluetoothScanNotification manufacturerData(int... data) {
+        byte[] bytes = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            bytes[i] = (byte) data[i];
+        }
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setManufacturerData(bytes);
+        return notification;
+    }
+}
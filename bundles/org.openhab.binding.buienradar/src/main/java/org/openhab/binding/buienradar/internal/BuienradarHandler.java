@@ -43,6 +43,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.buienradar.internal.buienradarapi.BuienradarPredictionAPI;
 import org.openhab.binding.buienradar.internal.buienradarapi.Prediction;
 import org.openhab.binding.buienradar.internal.buienradarapi.PredictionAPI;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,7 +58,7 @@ public class BuienradarHandler extends BaseThingHandler {
 
     private final Logger logger = LoggerFactory.getLogger(BuienradarHandler.class);
 
-    private final PredictionAPI client = new BuienradarPredictionAPI();
+    private final PredictionAPI client;
 
     private @NonNullByDefault({}) ScheduledFuture<?> listenableFuture;
 
@@ -70,8 +71,9 @@ public class BuienradarHandler extends BaseThingHandler {
 
     private @NonNullByDefault({}) BuienradarConfiguration config;
 
-    public BuienradarHandler(Thing thing) {
+    public BuienradarHandler(Thing thing, HttpFetcher httpFetcher) {
         super(thing);
+        this.client = new BuienradarPredictionAPI(httpFetcher);
     }
 
     @Override
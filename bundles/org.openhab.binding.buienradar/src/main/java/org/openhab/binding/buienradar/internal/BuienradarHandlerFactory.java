@@ -24,7 +24,11 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
+import org.eclipse.smarthome.io.net.http.HttpClientFactory;
+import org.openhab.io.httpfetcher.HttpFetcher;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * The {@link BuienradarHandlerFactory} is responsible for creating things and thing
@@ -38,6 +42,13 @@ public class BuienradarHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_RAIN_FORECAST);
 
+    private final HttpFetcher httpFetcher;
+
+    @Activate
+    public BuienradarHandlerFactory(final @Reference HttpClientFactory httpClientFactory) {
+        this.httpFetcher = new HttpFetcher(httpClientFactory.getCommonHttpClient());
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -48,7 +59,7 @@ public class BuienradarHandlerFactory extends BaseThingHandlerFactory {
         final ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (THING_TYPE_RAIN_FORECAST.equals(thingTypeUID)) {
-            return new BuienradarHandler(thing);
+            return new BuienradarHandler(thing, httpFetcher);
         }
 
         return null;
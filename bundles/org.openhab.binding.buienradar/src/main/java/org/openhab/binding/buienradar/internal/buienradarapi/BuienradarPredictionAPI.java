@@ -28,7 +28,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.library.types.PointType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +48,12 @@ public class BuienradarPredictionAPI implements PredictionAPI {
 
     private final Logger logger = LoggerFactory.getLogger(BuienradarPredictionAPI.class);
 
+    private final HttpFetcher httpFetcher;
+
+    public BuienradarPredictionAPI(HttpFetcher httpFetcher) {
+        this.httpFetcher = httpFetcher;
+    }
+
     /**
      * Parses a raw intensity string, such as <code>000</code>, into the right intensity in mm / hour.
      *
@@ -141,7 +147,7 @@ public class BuienradarPredictionAPI implements PredictionAPI {
 
         final String result;
         try {
-            result = HttpUtil.executeUrl("GET", address, TIMEOUT_MS);
+            result = httpFetcher.fetch(address, TIMEOUT_MS).getContent();
         } catch (IOException e) {
             logger.warn("IO Exception when trying to retrieve Buienradar results", e);
             return Optional.empty();
@@ -13,26 +13,21 @@
 package org.openhab.binding.darksky.internal.connection;
 
 import static java.util.stream.Collectors.joining;
-import static org.eclipse.jetty.http.HttpMethod.GET;
 import static org.eclipse.jetty.http.HttpStatus.*;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpResponseException;
-import org.eclipse.jetty.client.api.ContentResponse;
-import org.eclipse.smarthome.core.cache.ExpiringCacheMap;
 import org.eclipse.smarthome.core.library.types.PointType;
 import org.eclipse.smarthome.core.library.types.RawType;
 import org.eclipse.smarthome.io.net.http.HttpUtil;
@@ -40,6 +35,8 @@ import org.openhab.binding.darksky.internal.config.DarkSkyAPIConfiguration;
 import org.openhab.binding.darksky.internal.handler.DarkSkyAPIHandler;
 import org.openhab.binding.darksky.internal.model.DarkSkyJsonWeatherData;
 import org.openhab.binding.darksky.internal.utils.ByteArrayFileCache;
+import org.openhab.io.httpfetcher.HttpFetchResult;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,19 +65,15 @@ public class DarkSkyConnection {
     private static final String ICON_URL = "https://darksky.net/images/weather-icons/%s.png";
 
     private final DarkSkyAPIHandler handler;
-    private final HttpClient httpClient;
+    private final HttpFetcher httpFetcher;
 
     private static final ByteArrayFileCache IMAGE_CACHE = new ByteArrayFileCache("org.openhab.binding.darksky");
-    private final ExpiringCacheMap<String, String> cache;
 
     private final Gson gson = new Gson();
 
-    public DarkSkyConnection(DarkSkyAPIHandler handler, HttpClient httpClient) {
+    public DarkSkyConnection(DarkSkyAPIHandler handler, HttpFetcher httpFetcher) {
         this.handler = handler;
-        this.httpClient = httpClient;
-
-        DarkSkyAPIConfiguration config = handler.getDarkSkyAPIConfig();
-        cache = new ExpiringCacheMap<>(TimeUnit.MINUTES.toMillis(config.refreshInterval));
+        this.httpFetcher = httpFetcher;
     }
 
     /**
@@ -103,8 +96,7 @@ public class DarkSkyConnection {
         String url = String.format(Locale.ROOT, WEATHER_URL, StringUtils.trimToEmpty(config.apikey),
                 location.getLatitude().doubleValue(), location.getLongitude().doubleValue());
 
-        return gson.fromJson(getResponseFromCache(buildURL(url, getRequestParams(config))),
-                DarkSkyJsonWeatherData.class);
+        return getData(buildURL(url, getRequestParams(config)), DarkSkyJsonWeatherData.class);
     }
 
     /**
@@ -167,23 +159,28 @@ public class DarkSkyConnection {
         }
     }
 
-    private @Nullable String getResponseFromCache(String url) {
-        return cache.putIfAbsentAndGet(url, () -> getResponse(url));
+    /**
+     * Returns the data of the given URL. As long as the response does not change, the data parsed before is returned.
+     */
+    private <T> @Nullable T getData(String url, Class<T> type) {
+        return getResponse(url).getContentAs(type, content -> gson.fromJson(content, type));
     }
 
-    private String getResponse(String url) {
+    private HttpFetchResult getResponse(String url) {
         try {
             if (logger.isTraceEnabled()) {
                 logger.trace("Dark Sky request: URL = '{}'", uglifyApikey(url));
             }
-            ContentResponse contentResponse = httpClient.newRequest(url).method(GET).timeout(10, TimeUnit.SECONDS)
-                    .send();
-            int httpStatus = contentResponse.getStatus();
-            String content = contentResponse.getContentAsString();
-            logger.trace("Dark Sky response: status = {}, content = '{}'", httpStatus, content);
+            // the Things are polled one after the other, so they share one response per refresh interval
+            long minFreshness = TimeUnit.MINUTES.toMillis(handler.getDarkSkyAPIConfig().refreshInterval) / 2;
+            HttpFetchResult result = httpFetcher.fetch(url, (int) TimeUnit.SECONDS.toMillis(10), minFreshness);
+            int httpStatus = result.getStatus();
+            String content = result.getContent();
+            logger.trace("Dark Sky response: status = {}, cached = {}, content = '{}'", httpStatus, result.isCached(),
+                    content);
             switch (httpStatus) {
                 case OK_200:
-                    return content;
+                    return result;
                 case BAD_REQUEST_400:
                 case UNAUTHORIZED_401:
                 case NOT_FOUND_404:
@@ -193,7 +190,7 @@ public class DarkSkyConnection {
                     logger.debug("Dark Sky server responded with status code {}: {}", httpStatus, content);
                     throw new DarkSkyCommunicationException(content);
             }
-        } catch (ExecutionException e) {
+        } catch (IOException e) {
             String errorMessage = e.getLocalizedMessage();
             logger.trace("Exception occurred during execution: {}", errorMessage, e);
             if (e.getCause() instanceof HttpResponseException) {
@@ -202,10 +199,6 @@ public class DarkSkyConnection {
             } else {
                 throw new DarkSkyCommunicationException(errorMessage, e.getCause());
             }
-        } catch (InterruptedException | TimeoutException e) {
-            logger.debug("Exception occurred during execution: {}", e.getLocalizedMessage(), e);
-            throw new DarkSkyCommunicationException(e.getLocalizedMessage(), e.getCause());
-        }
     }
 
     private String uglifyApikey(String url) {
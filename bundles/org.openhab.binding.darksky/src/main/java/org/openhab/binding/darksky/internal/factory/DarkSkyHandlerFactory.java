@@ -24,7 +24,6 @@ import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
 import org.eclipse.smarthome.core.i18n.LocaleProvider;
 import org.eclipse.smarthome.core.i18n.LocationProvider;
@@ -40,6 +39,7 @@ import org.eclipse.smarthome.io.net.http.HttpClientFactory;
 import org.openhab.binding.darksky.internal.discovery.DarkSkyDiscoveryService;
 import org.openhab.binding.darksky.internal.handler.DarkSkyAPIHandler;
 import org.openhab.binding.darksky.internal.handler.DarkSkyWeatherAndForecastHandler;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -61,7 +61,7 @@ public class DarkSkyHandlerFactory extends BaseThingHandlerFactory {
                     .collect(Collectors.toSet()));
 
     private final Map<ThingUID, ServiceRegistration<?>> discoveryServiceRegs = new HashMap<>();
-    private final HttpClient httpClient;
+    private final HttpFetcher httpFetcher;
     private final LocaleProvider localeProvider;
     private final LocationProvider locationProvider;
     private final TranslationProvider i18nProvider;
@@ -70,7 +70,7 @@ public class DarkSkyHandlerFactory extends BaseThingHandlerFactory {
     public DarkSkyHandlerFactory(final @Reference HttpClientFactory httpClientFactory,
             final @Reference LocaleProvider localeProvider, final @Reference LocationProvider locationProvider,
             final @Reference TranslationProvider i18nProvider) {
-        this.httpClient = httpClientFactory.getCommonHttpClient();
+        this.httpFetcher = new HttpFetcher(httpClientFactory.getCommonHttpClient());
         this.localeProvider = localeProvider;
         this.locationProvider = locationProvider;
         this.i18nProvider = i18nProvider;
@@ -86,7 +86,7 @@ public class DarkSkyHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (THING_TYPE_WEATHER_API.equals(thingTypeUID)) {
-            DarkSkyAPIHandler handler = new DarkSkyAPIHandler((Bridge) thing, httpClient, localeProvider);
+            DarkSkyAPIHandler handler = new DarkSkyAPIHandler((Bridge) thing, httpFetcher, localeProvider);
             // register discovery service
             DarkSkyDiscoveryService discoveryService = new DarkSkyDiscoveryService(handler, locationProvider,
                     localeProvider, i18nProvider);
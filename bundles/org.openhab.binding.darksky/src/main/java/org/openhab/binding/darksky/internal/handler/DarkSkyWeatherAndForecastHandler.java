@@ -117,6 +117,8 @@ public class DarkSkyWeatherAndForecastHandler extends BaseThingHandler {
     private @Nullable DarkSkyChannelConfiguration sunriseTriggerChannelConfig;
     private @Nullable DarkSkyChannelConfiguration sunsetTriggerChannelConfig;
     private @Nullable DarkSkyJsonWeatherData weatherData;
+    // keeps track of the data the channels have been updated with
+    private @Nullable DarkSkyJsonWeatherData updatedWeatherData;
 
     public DarkSkyWeatherAndForecastHandler(Thing thing) {
         super(thing);
@@ -126,6 +128,7 @@ public class DarkSkyWeatherAndForecastHandler extends BaseThingHandler {
     public void initialize() {
         logger.debug("Initialize DarkSkyWeatherAndForecastHandler handler '{}'.", getThing().getUID());
         DarkSkyWeatherAndForecastConfiguration config = getConfigAs(DarkSkyWeatherAndForecastConfiguration.class);
+        updatedWeatherData = null;
 
         boolean configValid = true;
         if (StringUtils.trimToNull(config.location) == null) {
@@ -258,6 +261,16 @@ public class DarkSkyWeatherAndForecastHandler extends BaseThingHandler {
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // unchanged data does not update the channels, so a newly linked channel is updated from the latest data
+        Channel channel = getThing().getChannel(channelUID.getId());
+        if (channel != null && ChannelKind.STATE.equals(channel.getKind()) && channelUID.isInGroup()
+                && channelUID.getGroupId() != null) {
+            updateChannel(channelUID);
+        }
+    }
+
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         if (ThingStatus.ONLINE.equals(bridgeStatusInfo.getStatus())
@@ -315,7 +328,14 @@ public class DarkSkyWeatherAndForecastHandler extends BaseThingHandler {
     public void updateData(DarkSkyConnection connection) {
         try {
             if (requestData(connection)) {
-                updateChannels();
+                // unchanged responses are parsed only once, so the same data object means nothing has changed
+                DarkSkyJsonWeatherData localWeatherData = weatherData;
+                if (localWeatherData != null && localWeatherData == updatedWeatherData) {
+                    logger.debug("Dark Sky data of thing '{}' has not changed.", getThing().getUID());
+                } else {
+                    updateChannels();
+                    updatedWeatherData = localWeatherData;
+                }
                 updateStatus(ThingStatus.ONLINE);
             }
         } catch (DarkSkyCommunicationException e) {
@@ -59,6 +59,7 @@ import org.eclipse.smarthome.core.thing.type.ChannelTypeUID;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.binding.deconz.internal.dto.SensorConfig;
 import org.openhab.binding.deconz.internal.dto.SensorMessage;
 import org.openhab.binding.deconz.internal.dto.SensorState;
 import org.openhab.binding.deconz.internal.netutils.AsyncHttpClient;
@@ -234,11 +235,7 @@ public class SensorThingHandler extends BaseThingHandler implements WebSocketVal
             // Some sensors support optional channels
             // (see https://github.com/dresden-elektronik/deconz-rest-plugin/wiki/Supported-Devices#sensors)
             // any battery-powered sensor
-            Integer batteryLevel = newState.config.battery;
-            if (batteryLevel != null) {
-                createAndUpdateChannelIfExists(CHANNEL_BATTERY_LEVEL, new DecimalType(batteryLevel.longValue()));
-                createAndUpdateChannelIfExists(CHANNEL_BATTERY_LOW, batteryLevel <= 10 ? OnOffType.ON : OnOffType.OFF);
-            }
+            updateBatteryChannels(newState.config);
 
             // some Xiaomi sensors
             Float temperature = newState.config.temperature;
@@ -280,6 +277,14 @@ public class SensorThingHandler extends BaseThingHandler implements WebSocketVal
         });
     }
 
+    private void updateBatteryChannels(SensorConfig config) {
+        Integer batteryLevel = config.battery;
+        if (batteryLevel != null) {
+            createAndUpdateChannelIfExists(CHANNEL_BATTERY_LEVEL, new DecimalType(batteryLevel.longValue()));
+            createAndUpdateChannelIfExists(CHANNEL_BATTERY_LOW, batteryLevel <= 10 ? OnOffType.ON : OnOffType.OFF);
+        }
+    }
+
     private void createAndUpdateChannelIfExists(String channelId, State state) {
         Channel channel = thing.getChannel(channelId);
         if (channel == null) {
@@ -477,4 +482,9 @@ public class SensorThingHandler extends BaseThingHandler implements WebSocketVal
             valueUpdated(channel.getUID(), newState, false);
         }
     }
+
+    @Override
+    public void websocketConfigUpdate(String sensorID, SensorConfig newConfig) {
+        updateBatteryChannels(newConfig);
+    }
 }
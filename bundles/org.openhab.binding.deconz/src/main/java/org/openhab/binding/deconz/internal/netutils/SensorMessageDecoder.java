@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz.internal.netutils;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.deconz.internal.dto.SensorConfig;
+import org.openhab.binding.deconz.internal.dto.SensorState;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Decodes deCONZ websocket events with a streaming {@link JsonReader}.
+ *
+ * Only the resource type ("r"), the resource id ("id") and the "state" and "config" objects are
+ * extracted, all other fields are skipped without building an intermediate tree. The type adapters
+ * for the nested objects are resolved once per decoder.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SensorMessageDecoder {
+    /**
+     * A decoded websocket event. State and config are only set if they were part of the event.
+     */
+    public static class SensorEvent {
+        public final String r;
+        public final String id;
+        public final @Nullable SensorState state;
+        public final @Nullable SensorConfig config;
+
+        SensorEvent(String r, String id, @Nullable SensorState state, @Nullable SensorConfig config) {
+            this.r = r;
+            this.id = id;
+            this.state = state;
+            this.config = config;
+        }
+    }
+
+    private final TypeAdapter<SensorState> stateAdapter;
+    private final TypeAdapter<SensorConfig> configAdapter;
+
+    public SensorMessageDecoder(Gson gson) {
+        this.stateAdapter = gson.getAdapter(SensorState.class);
+        this.configAdapter = gson.getAdapter(SensorConfig.class);
+    }
+
+    /**
+     * Decodes a single websocket event.
+     *
+     * @param message The raw JSON text of the event
+     * @return The decoded event or null if the event has no id.
+     * @throws JsonParseException If the message is not a valid JSON object
+     */
+    public @Nullable SensorEvent decode(String message) throws JsonParseException {
+        String r = "";
+        String id = "";
+        SensorState state = null;
+        SensorConfig config = null;
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "r":
+                        r = reader.nextString();
+                        break;
+                    case "id":
+                        id = reader.nextString();
+                        break;
+                    case "state":
+                        state = stateAdapter.read(reader);
+                        break;
+                    case "config":
+                        config = configAdapter.read(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new JsonParseException("Invalid websocket event: " + message, e);
+        }
+        if (id.isEmpty()) {
+            return null;
+        }
+        return new SensorEvent(r, id, state, config);
+    }
+}
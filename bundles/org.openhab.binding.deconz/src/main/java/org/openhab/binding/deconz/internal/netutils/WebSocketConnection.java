@@ -13,10 +13,14 @@
 package org.openhab.binding.deconz.internal.netutils;
 
 import java.net.URI;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
@@ -24,35 +28,46 @@ import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
-import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.dto.SensorConfig;
+import org.openhab.binding.deconz.internal.dto.SensorState;
+import org.openhab.binding.deconz.internal.netutils.SensorMessageDecoder.SensorEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
  *
  * The connection is closed by deCONZ now and then and needs to be re-established.
  *
+ * Events are decoded on the websocket thread and handed over to a shared thread pool for dispatching.
+ * Events for the same sensor are dispatched in the order they were received.
+ *
  * @author David Graeff - Initial contribution
  */
 @WebSocket
 @NonNullByDefault
 public class WebSocketConnection {
+    private static final String RESOURCE_SENSORS = "sensors";
+
     private final Logger logger = LoggerFactory.getLogger(WebSocketConnection.class);
 
     private final WebSocketClient client;
     private final WebSocketConnectionListener connectionListener;
-    private final Map<String, WebSocketValueUpdateListener> valueListener = new HashMap<>();
-    private final Gson gson;
+
+    private final ExecutorService executor = ThreadPoolManager.getPool("deconz");
+    private final Map<String, WebSocketValueUpdateListener> valueListener = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<@Nullable Void>> pendingDispatch = new ConcurrentHashMap<>();
+    private final SensorMessageDecoder decoder;
     private boolean connected = false;
 
     public WebSocketConnection(WebSocketConnectionListener listener, WebSocketClient client, Gson gson) {
         this.connectionListener = listener;
         this.client = client;
         this.client.setMaxIdleTimeout(0);
-        this.gson = gson;
+        this.decoder = new SensorMessageDecoder(gson);
     }
 
     public void start(String ip) {
@@ -74,6 +89,7 @@ public class WebSocketConnection {
     public void close() {
         try {
             connected = false;
+            pendingDispatch.clear();
             client.stop();
         } catch (Exception e) {
             logger.debug("Error while closing connection", e);
@@ -96,13 +112,44 @@ public class WebSocketConnection {
         connectionListener.connectionEstablished();
     }
 
-    @SuppressWarnings("null")
     @OnWebSocketMessage
     public void onMessage(String message) {
-        SensorMessage changedMessage = gson.fromJson(message, SensorMessage.class);
-        WebSocketValueUpdateListener listener = valueListener.get(changedMessage.id);
-        if (listener != null) {
-            listener.websocketUpdate(changedMessage.id, changedMessage.state);
+        SensorEvent event;
+        try {
+            event = decoder.decode(message);
+        } catch (JsonParseException e) {
+            logger.debug("Ignoring invalid websocket message: {}", message, e);
+            return;
+        }
+        if (event == null || !(event.r.isEmpty() || RESOURCE_SENSORS.equals(event.r))
+                || !valueListener.containsKey(event.id)) {
+            return;
+        }
+        // Chain onto the previous dispatch of the same sensor to keep the event order per sensor
+        pendingDispatch.compute(event.id, (id, previous) -> {
+            CompletableFuture<@Nullable Void> tail = previous == null || previous.isDone()
+                    ? CompletableFuture.completedFuture(null)
+                    : previous;
+            return tail.thenRunAsync(() -> dispatch(event), executor);
+        });
+    }
+
+    private void dispatch(SensorEvent event) {
+        WebSocketValueUpdateListener listener = valueListener.get(event.id);
+        if (listener == null) {
+            return;
+        }
+        try {
+            SensorState state = event.state;
+            if (state != null) {
+                listener.websocketUpdate(event.id, state);
+            }
+            SensorConfig config = event.config;
+            if (config != null) {
+                listener.websocketConfigUpdate(event.id, config);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Listener for sensor {} failed to process websocket event", event.id, e);
         }
     }
 
@@ -13,6 +13,7 @@
 package org.openhab.binding.deconz.internal.netutils;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.deconz.internal.dto.SensorConfig;
 import org.openhab.binding.deconz.internal.dto.SensorState;
 
 /**
@@ -29,4 +30,13 @@ public interface WebSocketValueUpdateListener {
      * @param newState The new state
      */
     void websocketUpdate(String sensorID, SensorState newState);
+
+    /**
+     * A sensor configuration was updated.
+     *
+     * @param sensorID The sensor ID (API endpoint)
+     * @param newConfig The new configuration
+     */
+    default void websocketConfigUpdate(String sensorID, SensorConfig newConfig) {
+    }
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz.internal.netutils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.deconz.internal.dto.SensorConfig;
+import org.openhab.binding.deconz.internal.dto.SensorState;
+import org.openhab.binding.deconz.internal.netutils.SensorMessageDecoder.SensorEvent;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Tests the {@link SensorMessageDecoder} with websocket events as sent by deCONZ.
+ *
+ * @author agent - Initial contribution
+ */
+public class SensorMessageDecoderTest {
+    private final SensorMessageDecoder decoder = new SensorMessageDecoder(new Gson());
+
+    @Test
+    public void decodeStateEvent() {
+        SensorEvent event = decoder.decode("{\"e\":\"changed\",\"id\":\"5\",\"r\":\"sensors\",\"t\":\"event\","
+                + "\"uniqueid\":\"00:15:8d:00:01:02:03:04-01-0006\","
+                + "\"state\":{\"buttonevent\":1002,\"lastupdated\":\"2020-01-01T12:00:00\"}}");
+
+        assertNotNull(event);
+        assertEquals("sensors", event.r);
+        assertEquals("5", event.id);
+        SensorState state = event.state;
+        assertNotNull(state);
+        assertEquals(Integer.valueOf(1002), state.buttonevent);
+        assertEquals("2020-01-01T12:00:00", state.lastupdated);
+        assertNull(event.config);
+    }
+
+    @Test
+    public void decodeConfigEvent() {
+        SensorEvent event = decoder
+                .decode("{\"e\":\"changed\",\"id\":\"7\",\"r\":\"sensors\",\"t\":\"event\","
+                        + "\"config\":{\"battery\":85,\"on\":true,\"reachable\":false,\"temperature\":2150}}");
+
+        assertNotNull(event);
+        assertEquals("7", event.id);
+        SensorConfig config = event.config;
+        assertNotNull(config);
+        assertEquals(Integer.valueOf(85), config.battery);
+        assertFalse(config.reachable);
+        assertNull(event.state);
+    }
+
+    @Test
+    public void unknownFieldsAreSkipped() {
+        SensorEvent event = decoder.decode("{\"attr\":{\"name\":\"Switch\",\"groups\":[\"1\",{\"id\":\"2\"}]},"
+                + "\"e\":\"changed\",\"name\":null,\"state\":{\"presence\":true,\"unknown\":[1,2]},\"config\":null,"
+                + "\"uniqueid\":\"x\",\"id\":12,\"r\":\"sensors\",\"extra\":{\"state\":{\"presence\":false}}}");
+
+        assertNotNull(event);
+        assertEquals("sensors", event.r);
+        // deCONZ sends ids as strings, but numbers are accepted as well
+        assertEquals("12", event.id);
+        SensorState state = event.state;
+        assertNotNull(state);
+        assertEquals(Boolean.TRUE, state.presence);
+        assertNull(event.config);
+    }
+
+    @Test
+    public void eventWithoutIdIsIgnored() {
+        assertNull(decoder.decode("{\"e\":\"scene-called\",\"gid\":\"1\",\"r\":\"scenes\",\"scid\":\"2\"}"));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void invalidEventIsRejected() {
+        decoder.decode("{\"e\":\"changed\",\"id\":");
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz.internal.netutils;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests the dispatching of websocket events by the {@link WebSocketConnection}.
+ *
+ * @author agent - Initial contribution
+ */
+public class WebSocketConnectionTest {
+    private static final int SENSORS = 4;
+    private static final int EVENTS = 50;
+
+    private WebSocketConnection connection;
+
+    @Before
+    public void setUp() {
+        connection = new WebSocketConnection(mock(WebSocketConnectionListener.class), mock(WebSocketClient.class),
+                new Gson());
+    }
+
+    @Test
+    public void eventsOfASensorAreDispatchedInOrder() throws InterruptedException {
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch dispatched = new CountDownLatch(SENSORS * EVENTS);
+        for (int sensor = 0; sensor < SENSORS; sensor++) {
+            String sensorID = Integer.toString(sensor);
+            received.put(sensorID, Collections.synchronizedList(new ArrayList<>()));
+            connection.registerValueListener(sensorID, (id, state) -> {
+                List<Integer> events = received.get(id);
+                if (events.isEmpty()) {
+                    // let the following events of this sensor queue up
+                    sleep(50);
+                }
+                events.add(state.buttonevent);
+                dispatched.countDown();
+            });
+        }
+
+        for (int event = 0; event < EVENTS; event++) {
+            for (int sensor = 0; sensor < SENSORS; sensor++) {
+                connection.onMessage(stateEvent("sensors", Integer.toString(sensor), event));
+            }
+        }
+        assertTrue(dispatched.await(10, TimeUnit.SECONDS));
+
+        List<Integer> expected = IntStream.range(0, EVENTS).boxed().collect(Collectors.toList());
+        for (int sensor = 0; sensor < SENSORS; sensor++) {
+            assertEquals(expected, received.get(Integer.toString(sensor)));
+        }
+    }
+
+    @Test
+    public void onlyEventsOfRegisteredSensorsAreDispatched() throws InterruptedException {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch dispatched = new CountDownLatch(1);
+        connection.registerValueListener("1", (id, state) -> {
+            received.add(id + ":" + state.buttonevent);
+            dispatched.countDown();
+        });
+
+        connection.onMessage(stateEvent("lights", "1", 1));
+        connection.onMessage(stateEvent("sensors", "2", 2));
+        connection.onMessage("{\"e\":\"changed\",\"id\":");
+        connection.onMessage(stateEvent("sensors", "1", 3));
+        assertTrue(dispatched.await(10, TimeUnit.SECONDS));
+
+        connection.unregisterValueListener("1");
+        connection.onMessage(stateEvent("sensors", "1", 4));
+        Thread.sleep(100);
+        assertEquals(Collections.singletonList("1:3"), received);
+    }
+
+    private static String stateEvent(String resource, String id, int buttonEvent) {
+        return "{\"e\":\"changed\",\"id\":\"" + id + "\",\"r\":\"" + resource + "\",\"t\":\"event\","
+                + "\"state\":{\"buttonevent\":" + buttonEvent + "}}";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -94,6 +94,14 @@ public class Config {
     public static final int DEFAULT_POLLING_FREQUENCY = 1000; // in milliseconds
     private int pollingFrequency = DEFAULT_POLLING_FREQUENCY; // in milliseconds
 
+    /**
+     * Default interval in milliseconds to read the whole device structure, while the {@link EventListener} is
+     * subscribed. State changes are received through the events, so the structure only has to be read to detect new,
+     * removed or reconfigured devices.
+     */
+    public static final int DEFAULT_STRUCTURE_REFRESH_INTERVAL = 60000; // in milliseconds
+    private int structureRefreshInterval = DEFAULT_STRUCTURE_REFRESH_INTERVAL; // in milliseconds
+
     /* Sensordata */
     // Sensodata read config
 
@@ -424,6 +432,26 @@ public class Config {
         this.pollingFrequency = pollingFrequency;
     }
 
+    /**
+     * Returns the interval in milliseconds to read the whole device structure, while the {@link EventListener} is
+     * subscribed. Without a subscription the structure is read at the polling frequency.
+     *
+     * @return the structure refresh interval in milliseconds
+     */
+    public int getStructureRefreshInterval() {
+        return structureRefreshInterval;
+    }
+
+    /**
+     * Sets the interval in milliseconds to read the whole device structure, while the {@link EventListener} is
+     * subscribed.
+     *
+     * @param structureRefreshInterval to set
+     */
+    public void setStructureRefreshInterval(int structureRefreshInterval) {
+        this.structureRefreshInterval = structureRefreshInterval;
+    }
+
     /**
      * Returns the interval in milliseconds to refresh the sensor data.
      *
@@ -596,6 +624,7 @@ public class Config {
         setTrashDeviceDeleteTime(config.getTrashDeviceDeleteTime());
         setBinCheckTime(config.getBinCheckTime());
         setPollingFrequency(config.getPollingFrequency());
+        setStructureRefreshInterval(config.getStructureRefreshInterval());
         setSensordataRefreshInterval(config.getSensordataRefreshInterval());
         setTotalPowerUpdateInterval(config.getTotalPowerUpdateInterval());
         setSensorReadingWaitTime(config.getSensorReadingWaitTime());
@@ -613,7 +642,8 @@ public class Config {
                 + ", readTimeout=" + readTimeout + ", sensordataConnectionTimeout=" + sensordataConnectionTimeout
                 + ", sensordataReadTimeout=" + sensordataReadTimeout + ", trustCertPath=" + trustCertPath
                 + ", trashDeviceDeleteTime=" + trashDeviceDeleteTime + ", binCheckTime=" + binCheckTime
-                + ", pollingFrequency=" + pollingFrequency + ", sensordataRefreshInterval=" + sensordataRefreshInterval
+                + ", pollingFrequency=" + pollingFrequency + ", structureRefreshInterval=" + structureRefreshInterval
+                + ", sensordataRefreshInterval=" + sensordataRefreshInterval
                 + ", totalPowerUpdateInterval=" + totalPowerUpdateInterval + ", sensorReadingWaitTime="
                 + sensorReadingWaitTime + ", mediumPriorityFactor=" + mediumPriorityFactor + ", lowPriorityFactor="
                 + lowPriorityFactor + ", eventListenerRefreshinterval=" + eventListenerRefreshinterval
@@ -66,7 +66,7 @@ public class EventListener {
     private int subscriptionID = 15;
     private final int timeout = 500;
     private final List<String> subscribedEvents = Collections.synchronizedList(new LinkedList<String>());
-    private boolean subscribed = false;
+    private volatile boolean subscribed = false;
 
     // error message
     public static final String INVALID_SESSION = "Invalid session!";
@@ -76,7 +76,7 @@ public class EventListener {
     private final ConnectionManager connManager;
     private final List<EventHandler> eventHandlers = Collections.synchronizedList(new LinkedList<EventHandler>());
     private final Config config;
-    private boolean isStarted = false;
+    private volatile boolean isStarted = false;
 
     /**
      * Creates a new {@link EventListener} to listen to the supported event-types of the given eventHandler and notify
@@ -137,6 +137,16 @@ public class EventListener {
         return isStarted;
     }
 
+    /**
+     * Returns true, if the {@link EventListener} is started and the events are subscribed, so state changes are
+     * received through the events.
+     *
+     * @return true, if the events are subscribed
+     */
+    public boolean isSubscribed() {
+        return isStarted && subscribed;
+    }
+
     private void internalStop() {
         if (subscriptionScheduler != null && !subscriptionScheduler.isCancelled()) {
             subscriptionScheduler.cancel(true);
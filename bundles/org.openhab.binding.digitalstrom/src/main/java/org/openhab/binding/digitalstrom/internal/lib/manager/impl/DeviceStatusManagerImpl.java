@@ -226,6 +226,10 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
 
     /**
      * Check and updates the {@link Device} structure, configurations and status.
+     * <p>
+     * While the {@link EventListener} is subscribed, the state changes are received through the events, so the whole
+     * {@link Device} structure is only read at the structure refresh interval of the {@link Config} and the outstanding
+     * commands are sent to the known {@link Device}'s in between.
      *
      * @author Michael Ochel - initial contributer
      * @author Matthias Siegele - initial contributer
@@ -233,6 +237,7 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
     private class PollingRunnable implements Runnable {
         private boolean devicesLoaded = false;
         private long nextSensorUpdate = 0;
+        private long nextStructureUpdate = 0;
 
         @Override
         public void run() {
@@ -251,8 +256,6 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                 tempDeviceMap = new HashMap<DSID, Device>();
             }
 
-            List<Device> currentDeviceList = getDetailedDevices();
-
             // update the current total power consumption
             if (nextSensorUpdate <= System.currentTimeMillis()) {
                 // check circuits
@@ -273,6 +276,19 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                 nextSensorUpdate = System.currentTimeMillis() + config.getTotalPowerUpdateInterval();
             }
 
+            if (devicesLoaded && eventListener != null && eventListener.isSubscribed()
+                    && nextStructureUpdate > System.currentTimeMillis()) {
+                for (Device eshDevice : tempDeviceMap.values()) {
+                    if (eshDevice.isPresent()) {
+                        sendDeviceStateUpdates(eshDevice);
+                    }
+                }
+                return;
+            }
+
+            List<Device> currentDeviceList = getDetailedDevices();
+            nextStructureUpdate = System.currentTimeMillis() + config.getStructureRefreshInterval();
+
             while (!currentDeviceList.isEmpty()) {
                 Device currentDevice = currentDeviceList.remove(0);
                 DSID currentDeviceDSID = currentDevice.getDSID();
@@ -282,32 +298,7 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                     checkDeviceConfig(currentDevice, eshDevice);
 
                     if (eshDevice.isPresent()) {
-                        // check device state updates
-                        while (!eshDevice.isDeviceUpToDate()) {
-                            DeviceStateUpdate deviceStateUpdate = eshDevice.getNextDeviceUpdateState();
-                            if (deviceStateUpdate != null) {
-                                switch (deviceStateUpdate.getType()) {
-                                    case DeviceStateUpdate.OUTPUT:
-                                    case DeviceStateUpdate.SLAT_ANGLE_INCREASE:
-                                    case DeviceStateUpdate.SLAT_ANGLE_DECREASE:
-                                        filterCommand(deviceStateUpdate, eshDevice);
-                                        break;
-                                    case DeviceStateUpdate.UPDATE_SCENE_CONFIG:
-                                    case DeviceStateUpdate.UPDATE_SCENE_OUTPUT:
-                                        updateSceneData(eshDevice, deviceStateUpdate);
-                                        break;
-                                    case DeviceStateUpdate.UPDATE_OUTPUT_VALUE:
-                                        if (deviceStateUpdate.getValueAsInteger() > -1) {
-                                            readOutputValue(eshDevice);
-                                        } else {
-                                            removeSensorJob(eshDevice, deviceStateUpdate);
-                                        }
-                                        break;
-                                    default:
-                                        sendComandsToDSS(eshDevice, deviceStateUpdate);
-                                }
-                            }
-                        }
+                        sendDeviceStateUpdates(eshDevice);
                     }
 
                 } else {
@@ -402,6 +393,34 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
             }
         }
 
+        private void sendDeviceStateUpdates(Device eshDevice) {
+            while (!eshDevice.isDeviceUpToDate()) {
+                DeviceStateUpdate deviceStateUpdate = eshDevice.getNextDeviceUpdateState();
+                if (deviceStateUpdate != null) {
+                    switch (deviceStateUpdate.getType()) {
+                        case DeviceStateUpdate.OUTPUT:
+                        case DeviceStateUpdate.SLAT_ANGLE_INCREASE:
+                        case DeviceStateUpdate.SLAT_ANGLE_DECREASE:
+                            filterCommand(deviceStateUpdate, eshDevice);
+                            break;
+                        case DeviceStateUpdate.UPDATE_SCENE_CONFIG:
+                        case DeviceStateUpdate.UPDATE_SCENE_OUTPUT:
+                            updateSceneData(eshDevice, deviceStateUpdate);
+                            break;
+                        case DeviceStateUpdate.UPDATE_OUTPUT_VALUE:
+                            if (deviceStateUpdate.getValueAsInteger() > -1) {
+                                readOutputValue(eshDevice);
+                            } else {
+                                removeSensorJob(eshDevice, deviceStateUpdate);
+                            }
+                            break;
+                        default:
+                            sendComandsToDSS(eshDevice, deviceStateUpdate);
+                    }
+                }
+            }
+        }
+
         private List<Device> getDetailedDevices() {
             List<Device> deviceList = new LinkedList<Device>();
             JsonObject result = connMan.getDigitalSTROMAPI().query2(connMan.getSessionToken(), GET_DETAILD_DEVICES);
@@ -659,51 +678,67 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         strucMan.updateDevice(newDevice);
     }
 
-    private long lastSceneCall = 0;
-    private long sleepTime = 0;
+    /**
+     * Minimum time in milliseconds between two scene calls.
+     */
+    private static final long SCENE_CALL_INTERVAL = 1000;
+    private long nextSceneCall = 0;
 
     @Override
-    public synchronized void sendSceneComandsToDSS(InternalScene scene, boolean call_undo) {
+    public void sendSceneComandsToDSS(final InternalScene scene, final boolean call_undo) {
         if (scene != null) {
-            if (lastSceneCall + 1000 > System.currentTimeMillis()) {
-                sleepTime = System.currentTimeMillis() - lastSceneCall;
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    logger.debug("An InterruptedException occurred", e);
-                }
+            // reserve the next free time slot, so the calling thread doesn't have to wait for it
+            long delay;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                delay = nextSceneCall - now;
+                nextSceneCall = Math.max(nextSceneCall, now) + SCENE_CALL_INTERVAL;
             }
-            lastSceneCall = System.currentTimeMillis();
-            boolean requestSuccessful = false;
-            if (scene.getZoneID() == 0) {
-                if (call_undo) {
-                    logger.debug("{} {} {}", scene.getGroupID(), scene.getSceneID(),
-                            ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
-                    requestSuccessful = this.digitalSTROMClient.callApartmentScene(connMan.getSessionToken(),
-                            scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()), false);
-                } else {
-                    requestSuccessful = this.digitalSTROMClient.undoApartmentScene(connMan.getSessionToken(),
-                            scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
-                }
+            if (delay > 0) {
+                logger.debug("Delay call of scene {} for {} ms", scene.getID(), delay);
+                scheduler.schedule(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        callScene(scene, call_undo);
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
             } else {
-                if (call_undo) {
-                    requestSuccessful = this.digitalSTROMClient.callZoneScene(connMan.getSessionToken(),
-                            scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()),
-                            false);
-                } else {
-                    requestSuccessful = this.digitalSTROMClient.undoZoneScene(connMan.getSessionToken(),
-                            scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()));
-                }
+                callScene(scene, call_undo);
             }
+        }
+    }
 
-            logger.debug("Was the scene call succsessful?: {}", requestSuccessful);
-            if (requestSuccessful) {
-                this.sceneMan.addEcho(scene.getID());
-                if (call_undo) {
-                    scene.activateScene();
-                } else {
-                    scene.deactivateScene();
-                }
+    private void callScene(InternalScene scene, boolean call_undo) {
+        boolean requestSuccessful = false;
+        if (scene.getZoneID() == 0) {
+            if (call_undo) {
+                logger.debug("{} {} {}", scene.getGroupID(), scene.getSceneID(),
+                        ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
+                requestSuccessful = this.digitalSTROMClient.callApartmentScene(connMan.getSessionToken(),
+                        scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()), false);
+            } else {
+                requestSuccessful = this.digitalSTROMClient.undoApartmentScene(connMan.getSessionToken(),
+                        scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
+            }
+        } else {
+            if (call_undo) {
+                requestSuccessful = this.digitalSTROMClient.callZoneScene(connMan.getSessionToken(),
+                        scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()),
+                        false);
+            } else {
+                requestSuccessful = this.digitalSTROMClient.undoZoneScene(connMan.getSessionToken(),
+                        scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()));
+            }
+        }
+
+        logger.debug("Was the scene call succsessful?: {}", requestSuccessful);
+        if (requestSuccessful) {
+            this.sceneMan.addEcho(scene.getID());
+            if (call_undo) {
+                scene.activateScene();
+            } else {
+                scene.deactivateScene();
             }
         }
     }
@@ -13,9 +13,8 @@
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -57,7 +56,7 @@ public abstract class AbstractSensorJobExecutor {
     protected Config config;
     private final ConnectionManager connectionManager;
 
-    private final List<CircuitScheduler> circuitSchedulerList = new LinkedList<CircuitScheduler>();
+    private final Map<DSID, CircuitScheduler> circuitSchedulers = new ConcurrentHashMap<DSID, CircuitScheduler>();
 
     private class ExecutorRunnable implements Runnable {
         private final CircuitScheduler circuit;
@@ -111,10 +110,8 @@ public abstract class AbstractSensorJobExecutor {
         if (pollingSchedulers == null) {
             pollingSchedulers = new HashMap<DSID, ScheduledFuture<?>>();
         }
-        if (circuitSchedulerList != null && !circuitSchedulerList.isEmpty()) {
-            for (CircuitScheduler circuit : circuitSchedulerList) {
-                startSchedduler(circuit);
-            }
+        for (CircuitScheduler circuit : circuitSchedulers.values()) {
+            startSchedduler(circuit);
         }
     }
 
@@ -181,25 +178,20 @@ public abstract class AbstractSensorJobExecutor {
      * @param sensorJob to add
      */
     protected void addSensorJobToCircuitScheduler(SensorJob sensorJob) {
-        synchronized (this.circuitSchedulerList) {
+        synchronized (this.circuitSchedulers) {
             CircuitScheduler circuit = getCircuitScheduler(sensorJob.getMeterDSID());
             if (circuit != null) {
                 circuit.addSensorJob(sensorJob);
             } else {
                 circuit = new CircuitScheduler(sensorJob, config);
-                this.circuitSchedulerList.add(circuit);
+                this.circuitSchedulers.put(circuit.getMeterDSID(), circuit);
             }
             startSchedduler(circuit);
         }
     }
 
     private CircuitScheduler getCircuitScheduler(DSID dsid) {
-        for (CircuitScheduler circuit : this.circuitSchedulerList) {
-            if (circuit.getMeterDSID().equals(dsid)) {
-                return circuit;
-            }
-        }
-        return null;
+        return dsid != null ? this.circuitSchedulers.get(dsid) : null;
     }
 
     /**
@@ -70,6 +70,10 @@ import org.slf4j.LoggerFactory;
  * about
  * connection state changes through the {@link #execute(String, int, int)} method.
  * </p>
+ * <p>
+ * The responses are always read completely and the connections are not disconnected after a successful request, so
+ * the persistent connections to the digitalSTROM-Server are kept alive and reused by the following requests.
+ * </p>
  *
  * @author Michael Ochel - Initial contribution
  * @author Matthias Siegele - Initial contribution
@@ -248,17 +252,20 @@ public class HttpTransportImpl implements HttpTransport {
         // max 1 second.
         String response = null;
         HttpsURLConnection connection = null;
+        boolean responseRead = false;
         try {
             String correctedRequest = checkSessionToken(request);
             connection = getConnection(correctedRequest, connectTimeout, readTimeout);
             if (connection != null) {
                 connection.connect();
                 final int responseCode = connection.getResponseCode();
-                if (responseCode != HttpURLConnection.HTTP_FORBIDDEN) {
+                if (responseCode == HttpURLConnection.HTTP_FORBIDDEN) {
+                    readResponse(connection.getErrorStream());
+                } else {
                     if (responseCode == HttpURLConnection.HTTP_INTERNAL_ERROR) {
-                        response = IOUtils.toString(connection.getErrorStream());
+                        response = readResponse(connection.getErrorStream());
                     } else {
-                        response = IOUtils.toString(connection.getInputStream());
+                        response = readResponse(connection.getInputStream());
                     }
                     if (response != null) {
                         if (!response.contains("Authentication failed")) {
@@ -273,7 +280,7 @@ public class HttpTransportImpl implements HttpTransport {
                     }
 
                 }
-                connection.disconnect();
+                responseRead = true;
                 if (response == null && connectionManager != null
                         && loginCounter <= MAY_A_NEW_SESSION_TOKEN_IS_NEEDED) {
                     if (responseCode == HttpURLConnection.HTTP_FORBIDDEN) {
@@ -302,13 +309,32 @@ public class HttpTransportImpl implements HttpTransport {
                 informConnectionManager(ConnectionManager.GENERAL_EXCEPTION);
             }
         } finally {
-            if (connection != null) {
+            // a completely read connection is kept open to be reused by the next request
+            if (connection != null && !responseRead) {
                 connection.disconnect();
             }
         }
         return null;
     }
 
+    /**
+     * Reads the whole response and closes the stream, so the underlying connection can be reused.
+     *
+     * @param stream response stream, can be null
+     * @return the response or null, if there is no response stream
+     * @throws IOException if the response can't be read
+     */
+    private String readResponse(InputStream stream) throws IOException {
+        if (stream == null) {
+            return null;
+        }
+        try {
+            return IOUtils.toString(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
     private boolean informConnectionManager(int code) {
         if (connectionManager != null && loginCounter < MAY_A_NEW_SESSION_TOKEN_IS_NEEDED) {
             connectionManager.checkConnection(code);
@@ -378,13 +404,15 @@ public class HttpTransportImpl implements HttpTransport {
             HttpsURLConnection connection = getConnection(testRequest, connectTimeout, readTimeout);
             if (connection != null) {
                 connection.connect();
-                if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-                    if (IOUtils.toString(connection.getInputStream()).contains("Authentication failed")) {
+                int responseCode = connection.getResponseCode();
+                if (responseCode == HttpURLConnection.HTTP_OK) {
+                    if (readResponse(connection.getInputStream()).contains("Authentication failed")) {
                         return ConnectionManager.AUTHENTIFICATION_PROBLEM;
                     }
+                } else {
+                    readResponse(connection.getErrorStream());
                 }
-                connection.disconnect();
-                return connection.getResponseCode();
+                return responseCode;
             } else {
                 return ConnectionManager.GENERAL_EXCEPTION;
             }
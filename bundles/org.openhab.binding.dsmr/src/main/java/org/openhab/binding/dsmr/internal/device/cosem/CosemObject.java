@@ -16,8 +16,6 @@ import java.text.ParseException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.types.State;
@@ -32,11 +30,6 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class CosemObject {
 
-    /**
-     * Regular expression for finding CosemValues
-     */
-    private static final Pattern COSEM_VALUES_PATTERN = Pattern.compile("(\\(([^\\(\\)]*)\\))");
-
     private final Logger logger = LoggerFactory.getLogger(CosemObject.class);
 
     /**
@@ -115,16 +108,26 @@ public class CosemObject {
     public void parseCosemValues(String cosemValueString) throws ParseException {
         logger.trace("Parsing CosemValue string {}", cosemValueString);
 
-        Matcher cosemValueMatcher = COSEM_VALUES_PATTERN.matcher(cosemValueString);
-        int nrOfCosemValues = countCosemValues(cosemValueMatcher);
+        int nrOfCosemValues = countCosemValues(cosemValueString);
 
         if (type.supportsNrOfValues(nrOfCosemValues)) {
             logger.trace("Received items: {} is supported", nrOfCosemValues);
 
             int cosemValueItr = 0;
-            while (cosemValueMatcher.find()) {
+            int start = -1;
+            for (int i = 0; i < cosemValueString.length(); i++) {
+                char c = cosemValueString.charAt(i);
+                if (c == '(') {
+                    start = i + 1;
+                    continue;
+                } else if (c != ')' || start < 0) {
+                    continue;
+                }
+                String value = cosemValueString.substring(start, i);
+                start = -1;
+
                 Entry<String, CosemValueDescriptor<?>> valueDescriptorEntry = type.getDescriptor(cosemValueItr);
-                State cosemValue = valueDescriptorEntry.getValue().getStateValue(cosemValueMatcher.group(2));
+                State cosemValue = valueDescriptorEntry.getValue().getStateValue(value);
 
                 if (cosemValue != null) {
                     if (!cosemValues.containsKey(valueDescriptorEntry.getKey())) {
@@ -141,14 +144,22 @@ public class CosemObject {
         }
     }
 
-    private int countCosemValues(Matcher cosemValueMatcher) {
+    /**
+     * Counts the values, i.e. the parts between '(' and ')' not containing any parentheses
+     */
+    private int countCosemValues(String cosemValueString) {
         int nrOfCosemValues = 0;
-
-        while (cosemValueMatcher.find()) {
-            nrOfCosemValues++;
+        boolean inValue = false;
+
+        for (int i = 0; i < cosemValueString.length(); i++) {
+            char c = cosemValueString.charAt(i);
+            if (c == '(') {
+                inValue = true;
+            } else if (c == ')' && inValue) {
+                nrOfCosemValues++;
+                inValue = false;
+            }
         }
-        // We need the matcher again, reset to initial state
-        cosemValueMatcher.reset();
         return nrOfCosemValues;
     }
 }
@@ -14,7 +14,9 @@ package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,14 +35,23 @@ public class CosemObjectFactory {
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
     /**
-     * Lookup cache for fixed OBIS Identifiers
+     * Lookup table for fixed OBIS Identifiers, sorted packed reduced OBIS Identifiers and their types
      */
-    private final Map<OBISIdentifier, CosemObjectType> obisLookupTableFixed;
+    private final long[] obisLookupTableFixedKeys;
+    private final CosemObjectType[] obisLookupTableFixedTypes;
 
     /**
-     * Lookup cache for dynamic OBIS Identifiers
+     * Lookup cache for dynamic OBIS Identifiers, sorted packed reduced OBIS Identifiers and their types
      */
-    private final HashMap<OBISIdentifier, CosemObjectType> obisLookupTableDynamic;
+    private long[] obisLookupTableDynamicKeys = new long[0];
+    private CosemObjectType[] obisLookupTableDynamicTypes = new CosemObjectType[0];
+
+    /**
+     * Lookup table for wild card Cosem Object types, sorted packed reduced OBIS Identifiers (with group B as wild card)
+     * and their types. Types with the same OBIS Identifier keep the order of {@link CosemObjectType}.
+     */
+    private final long[] obisWildcardKeys;
+    private final CosemObjectType[] obisWildcardTypes;
 
     /**
      * Lookup cache for wild card Cosem Object types
@@ -65,18 +76,48 @@ public class CosemObjectFactory {
          *
          * To facilitate autodiscovery the list has all supported CosemObjectTypes. To improve performance once the
          * correct OBISIdentifier is discovered for a certain OBISMsgType this is added to the obisLookupTableDynamic.
+         *
+         * All tables are keyed by the packed OBISIdentifier (see OBISIdentifier.parse) and searched binary, so no
+         * objects are created for a lookup.
          */
-        obisLookupTableFixed = new HashMap<>();
-        obisLookupTableDynamic = new HashMap<>();
+        Map<Long, CosemObjectType> obisLookupTableFixed = new LinkedHashMap<>();
         obisWildcardCosemTypeList = new ArrayList<>();
 
         for (CosemObjectType msgType : CosemObjectType.values()) {
+            long packedObisId = msgType.obisId.toPacked();
+
+            if (packedObisId == OBISIdentifier.INVALID) {
+                // can never be received
+                continue;
+            }
             if (msgType.obisId.reducedOBISIdentifierIsWildCard()) {
                 obisWildcardCosemTypeList.add(msgType);
             } else {
-                obisLookupTableFixed.put(msgType.obisId, msgType);
+                obisLookupTableFixed.put(OBISIdentifier.reduce(packedObisId), msgType);
             }
         }
+
+        Long[] fixedKeys = obisLookupTableFixed.keySet().toArray(new Long[0]);
+        Arrays.sort(fixedKeys);
+        obisLookupTableFixedKeys = new long[fixedKeys.length];
+        obisLookupTableFixedTypes = new CosemObjectType[fixedKeys.length];
+        for (int i = 0; i < fixedKeys.length; i++) {
+            obisLookupTableFixedKeys[i] = fixedKeys[i];
+            obisLookupTableFixedTypes[i] = obisLookupTableFixed.get(fixedKeys[i]);
+        }
+
+        // stable sort, so types with the same OBIS Identifier stay in the order of the enum
+        List<CosemObjectType> wildcardTypes = new ArrayList<>(obisWildcardCosemTypeList);
+        wildcardTypes.sort((type1, type2) -> Long.compare(wildcardKey(type1), wildcardKey(type2)));
+        obisWildcardKeys = new long[wildcardTypes.size()];
+        obisWildcardTypes = wildcardTypes.toArray(new CosemObjectType[0]);
+        for (int i = 0; i < obisWildcardTypes.length; i++) {
+            obisWildcardKeys[i] = wildcardKey(obisWildcardTypes[i]);
+        }
+    }
+
+    private static long wildcardKey(CosemObjectType type) {
+        return OBISIdentifier.wildcardGroupB(OBISIdentifier.reduce(type.obisId.toPacked()));
     }
 
     /**
@@ -89,36 +130,50 @@ public class CosemObjectFactory {
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
         OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
 
         try {
             obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
         } catch (ParseException pe) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
         }
+        return getCosemObject(obisId.toPacked(), cosemStringValues);
+    }
 
-        logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
+    /**
+     * Return Cosem Object for the specified packed OBIS Identifier or null if the values couldn't be
+     * parsed correctly or no corresponding Cosem Object was found
+     *
+     * @param packedObisId the packed OBIS Identifier as returned by {@link OBISIdentifier#parse(byte[], int)}
+     * @param cosemStringValues String containing Cosem values
+     * @return CosemObject or null if parsing failed
+     */
+    public @Nullable CosemObject getCosemObject(long packedObisId, String cosemStringValues) {
+        if (packedObisId == OBISIdentifier.INVALID) {
+            return null;
+        }
+        long reducedObisId = OBISIdentifier.reduce(packedObisId);
+        OBISIdentifier obisId = new OBISIdentifier(packedObisId);
+
+        logger.trace("Received obisId: {}, values: {}", obisId, cosemStringValues);
 
         CosemObject cosemObject = null;
 
-        if (obisLookupTableFixed.containsKey(reducedObisId)) {
-            cosemObject = getCosemObjectInternal(obisLookupTableFixed.get(reducedObisId), obisId, cosemStringValues);
-            logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-        } else if (obisLookupTableDynamic.containsKey(reducedObisId)) {
-            logger.trace("Found obisId {} in the dynamic lookup table", reducedObisId);
-            cosemObject = getCosemObjectInternal(obisLookupTableDynamic.get(reducedObisId), obisId, cosemStringValues);
+        int index = Arrays.binarySearch(obisLookupTableFixedKeys, reducedObisId);
+        if (index >= 0) {
+            cosemObject = getCosemObjectInternal(obisLookupTableFixedTypes[index], obisId, cosemStringValues);
+            logger.trace("Found obisId {} in the fixed lookup table", obisId);
+        } else if ((index = Arrays.binarySearch(obisLookupTableDynamicKeys, reducedObisId)) >= 0) {
+            logger.trace("Found obisId {} in the dynamic lookup table", obisId);
+            cosemObject = getCosemObjectInternal(obisLookupTableDynamicTypes[index], obisId, cosemStringValues);
         } else {
-            for (CosemObjectType obisMsgType : obisWildcardCosemTypeList) {
-                if (obisMsgType.obisId.equalsWildCard(reducedObisId)) {
-                    cosemObject = getCosemObjectInternal(obisMsgType, obisId, cosemStringValues);
-                    if (cosemObject != null) {
-                        logger.trace("Searched reducedObisId {} in the wild card type list, result: {}", reducedObisId,
-                                cosemObject);
-                        obisLookupTableDynamic.put(reducedObisId, obisMsgType);
-                        break;
-                    }
+            for (CosemObjectType obisMsgType : getWildcardCandidates(reducedObisId)) {
+                cosemObject = getCosemObjectInternal(obisMsgType, obisId, cosemStringValues);
+                if (cosemObject != null) {
+                    logger.trace("Searched reducedObisId {} in the wild card type list, result: {}",
+                            obisId.getReducedOBISIdentifier(), cosemObject);
+                    addDynamicLookup(reducedObisId, obisMsgType);
+                    break;
                 }
             }
         }
@@ -130,6 +185,53 @@ public class CosemObjectFactory {
         return cosemObject;
     }
 
+    /**
+     * Returns the wild card types matching the given reduced OBIS Identifier in the order of {@link CosemObjectType}.
+     */
+    private List<CosemObjectType> getWildcardCandidates(long reducedObisId) {
+        if (!OBISIdentifier.hasGroupE(reducedObisId)) {
+            // group E is a wild card too, which can't be looked up by key
+            OBISIdentifier reduced = new OBISIdentifier(reducedObisId);
+            List<CosemObjectType> candidates = new ArrayList<>();
+            for (CosemObjectType obisMsgType : obisWildcardCosemTypeList) {
+                if (obisMsgType.obisId.equalsWildCard(reduced)) {
+                    candidates.add(obisMsgType);
+                }
+            }
+            return candidates;
+        }
+        long key = OBISIdentifier.wildcardGroupB(reducedObisId);
+        int index = Arrays.binarySearch(obisWildcardKeys, key);
+        if (index < 0) {
+            return Collections.emptyList();
+        }
+        int first = index;
+        while (first > 0 && obisWildcardKeys[first - 1] == key) {
+            first--;
+        }
+        int last = index + 1;
+        while (last < obisWildcardKeys.length && obisWildcardKeys[last] == key) {
+            last++;
+        }
+        return Arrays.asList(obisWildcardTypes).subList(first, last);
+    }
+
+    private void addDynamicLookup(long reducedObisId, CosemObjectType obisMsgType) {
+        int index = -Arrays.binarySearch(obisLookupTableDynamicKeys, reducedObisId) - 1;
+        int size = obisLookupTableDynamicKeys.length;
+        long[] keys = new long[size + 1];
+        CosemObjectType[] types = new CosemObjectType[size + 1];
+
+        System.arraycopy(obisLookupTableDynamicKeys, 0, keys, 0, index);
+        System.arraycopy(obisLookupTableDynamicTypes, 0, types, 0, index);
+        keys[index] = reducedObisId;
+        types[index] = obisMsgType;
+        System.arraycopy(obisLookupTableDynamicKeys, index, keys, index + 1, size - index);
+        System.arraycopy(obisLookupTableDynamicTypes, index, types, index + 1, size - index);
+        obisLookupTableDynamicKeys = keys;
+        obisLookupTableDynamicTypes = types;
+    }
+
     /**
      * Constructs a CosemObject from the given type, OBISIdentifier and the values
      *
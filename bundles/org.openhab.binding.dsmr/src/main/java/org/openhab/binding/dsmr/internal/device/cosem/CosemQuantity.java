@@ -13,8 +13,6 @@
 package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -51,20 +49,6 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     public static final CosemQuantity<Power> KILO_VAR = new CosemQuantity<>(SmartHomeUnits.KILOVAR);
     public static final CosemQuantity<Energy> KILO_VAR_HOUR = new CosemQuantity<>(SmartHomeUnits.KILOVAR_HOUR);
 
-    /**
-     * Pattern to convert a cosem value to a value that can be parsed by {@link QuantityType}.
-     * The specification states that the delimiter between the value and the unit is a '*'-character.
-     * We have seen on the Kaifa 0025 meter that both '*' and the '_' character are used.
-     *
-     * On the Kampstrup 162JxC in some CosemValues the separator is missing
-     *
-     * The above quirks are supported
-     *
-     * We also support unit that do not follow the exact case.
-     */
-    private static final Pattern COSEM_VALUE_WITH_UNIT_PATTERN = Pattern.compile("^([\\d\\.]+)[\\*_]?(.+)$",
-            Pattern.CASE_INSENSITIVE);
-
     /**
      * Unit of this CosemValue
      */
@@ -123,8 +107,29 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
      * We also support unit that do not follow the exact case.
      */
     private String prepare(String cosemValue) {
-        Matcher matcher = COSEM_VALUE_WITH_UNIT_PATTERN.matcher(cosemValue.replace("m3", "m³"));
+        String value = cosemValue.replace("m3", "m³");
+        int length = value.length();
+        int numberEnd = 0;
+
+        while (numberEnd < length && isNumberCharacter(value.charAt(numberEnd))) {
+            numberEnd++;
+        }
+        if (numberEnd == 0 || length < 2) {
+            return cosemValue;
+        }
+        if (numberEnd == length) {
+            // the unit needs at least 1 character
+            numberEnd--;
+        }
+        int unitStart = numberEnd;
+        char separator = value.charAt(unitStart);
+        if ((separator == '*' || separator == '_') && unitStart + 1 < length) {
+            unitStart++;
+        }
+        return value.substring(0, numberEnd) + ' ' + value.substring(unitStart);
+    }
 
-        return matcher.find() ? matcher.group(1) + ' ' + matcher.group(2) : cosemValue;
+    private static boolean isNumberCharacter(char c) {
+        return (c >= '0' && c <= '9') || c == '.';
     }
 }
@@ -12,10 +12,9 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,14 +28,20 @@ import org.eclipse.jdt.annotation.Nullable;
 @NonNullByDefault
 public class OBISIdentifier {
     /**
-     * String representing a-b:c.d.e.f OBIS ID
+     * Value returned by {@link #parse(byte[], int)} if the data is not a valid OBIS Identifier
      */
-    private static final String OBISID_REGEX = "((\\d+)\\-)?((\\d+):)?((\\d+)\\.)(\\d+)(\\.(\\d+))?(.(\\d+))?";
+    public static final long INVALID = -1;
 
-    /**
-     * OBIS ID pattern
+    /*
+     * Packed representation: 10 bits per group (A-B:C.D.E*F, A in the highest bits), a group of all ones is absent.
      */
-    private static final Pattern OBIS_ID_PATTERN = Pattern.compile(OBISID_REGEX);
+    private static final int GROUP_BITS = 10;
+    private static final int ABSENT = (1 << GROUP_BITS) - 1;
+    private static final int SHIFT_A = 5 * GROUP_BITS;
+    private static final int SHIFT_B = 4 * GROUP_BITS;
+    private static final int SHIFT_C = 3 * GROUP_BITS;
+    private static final int SHIFT_D = 2 * GROUP_BITS;
+    private static final int SHIFT_E = GROUP_BITS;
 
     /* the six individual group values of the OBIS ID */
     private int groupA;
@@ -73,35 +78,166 @@ public class OBISIdentifier {
      * @throws ParseException if obisIDString is not a valid OBIS Identifier
      */
     public OBISIdentifier(String obisIDString) throws ParseException {
-        Matcher m = OBIS_ID_PATTERN.matcher(obisIDString);
+        this(parseString(obisIDString));
+    }
 
-        if (m.matches()) {
-            // Optional value A
-            if (m.group(2) != null) {
-                this.groupA = Integer.parseInt(m.group(2));
-            }
+    /**
+     * Creates a new {@link OBISIdentifier} of the packed representation returned by {@link #parse(byte[], int)}
+     *
+     * @param packedObisId the packed OBIS Identifier
+     */
+    public OBISIdentifier(long packedObisId) {
+        this(group(packedObisId, SHIFT_A), nullableGroup(packedObisId, SHIFT_B), group(packedObisId, SHIFT_C),
+                group(packedObisId, SHIFT_D), nullableGroup(packedObisId, SHIFT_E), nullableGroup(packedObisId, 0));
+    }
 
-            // Optional value B
-            if (m.group(4) != null) {
-                this.groupB = Integer.valueOf(m.group(4));
-            }
+    private static long parseString(String obisIDString) throws ParseException {
+        byte[] data = obisIDString.getBytes(StandardCharsets.ISO_8859_1);
+        long packedObisId = parse(data, data.length);
+
+        if (packedObisId == INVALID) {
+            throw new ParseException("Invalid OBIS identifier:" + obisIDString, 0);
+        }
+        return packedObisId;
+    }
 
-            // Required value C & D
-            this.groupC = Integer.parseInt(m.group(6));
-            this.groupD = Integer.parseInt(m.group(7));
+    /**
+     * Parses the OBIS Identifier (A-B:C.D.E*F, where A, B, E and F are optional and F may be separated by any
+     * character) in the given data into its packed representation.
+     *
+     * @param data the characters of the OBIS Identifier
+     * @param length the number of characters
+     * @return the packed OBIS Identifier or {@link #INVALID} if the data is no valid OBIS Identifier
+     */
+    public static long parse(byte[] data, int length) {
+        int a = 0;
+        int b = ABSENT;
+        int c = ABSENT;
+        int d = ABSENT;
+        int e = ABSENT;
+        int f = ABSENT;
+        // 0: A, B or C expected, 1: B or C, 2: C, 3: D, 4: E, 5: F
+        int group = 0;
+        int position = 0;
 
-            // Optional value E
-            if (m.group(9) != null) {
-                this.groupE = Integer.valueOf(m.group(9));
+        while (position < length) {
+            int start = position;
+            int value = 0;
+            while (position < length && data[position] >= '0' && data[position] <= '9') {
+                value = value * 10 + data[position++] - '0';
+                if (value >= ABSENT) {
+                    return INVALID;
+                }
+            }
+            if (position == start) {
+                return INVALID;
+            }
+            boolean last = position == length;
+            int separator = last ? -1 : data[position++];
+            if (!last && position == length) {
+                // a separator must be followed by a value
+                return INVALID;
             }
 
-            // Optional value F
-            if (m.group(11) != null) {
-                this.groupF = Integer.valueOf(m.group(11));
+            if (group <= 2) {
+                if (separator == '-' && group == 0) {
+                    a = value;
+                    group = 1;
+                } else if (separator == ':' && group <= 1) {
+                    b = value;
+                    group = 2;
+                } else if (separator == '.') {
+                    c = value;
+                    group = 3;
+                } else {
+                    return INVALID;
+                }
+            } else if (group == 3) {
+                d = value;
+                group = separator == '.' ? 4 : 5;
+            } else if (group == 4) {
+                e = value;
+                group = 5;
+            } else if (group == 5 && last) {
+                f = value;
+            } else {
+                return INVALID;
             }
-        } else {
-            throw new ParseException("Invalid OBIS identifier:" + obisIDString, 0);
+            if (separator == '\r' || separator == '\n') {
+                return INVALID;
+            }
+        }
+        if (d == ABSENT) {
+            return INVALID;
+        }
+        return pack(a, b, c, d, e, f);
+    }
+
+    /**
+     * Returns the packed representation of the given groups, {@link #ABSENT} marks an absent group.
+     */
+    private static long pack(int a, int b, int c, int d, int e, int f) {
+        return ((long) a << SHIFT_A) | ((long) b << SHIFT_B) | ((long) c << SHIFT_C) | ((long) d << SHIFT_D)
+                | ((long) e << SHIFT_E) | f;
+    }
+
+    private static int group(long packedObisId, int shift) {
+        return (int) (packedObisId >>> shift) & ABSENT;
+    }
+
+    private static @Nullable Integer nullableGroup(long packedObisId, int shift) {
+        int value = group(packedObisId, shift);
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Returns the packed representation of the reduced OBIS Identifier (see {@link #getReducedOBISIdentifier()}).
+     *
+     * @param packedObisId the packed OBIS Identifier
+     * @return the packed reduced OBIS Identifier
+     */
+    public static long reduce(long packedObisId) {
+        return packedObisId | ABSENT;
+    }
+
+    /**
+     * Returns the packed representation of the given OBIS Identifier with group B as wildcard.
+     *
+     * @param packedObisId the packed OBIS Identifier
+     * @return the packed OBIS Identifier with wildcard group B
+     */
+    public static long wildcardGroupB(long packedObisId) {
+        return packedObisId | ((long) ABSENT << SHIFT_B);
+    }
+
+    /**
+     * Returns whether group E is present in the packed OBIS Identifier.
+     *
+     * @param packedObisId the packed OBIS Identifier
+     * @return true if group E is present
+     */
+    public static boolean hasGroupE(long packedObisId) {
+        return group(packedObisId, SHIFT_E) != ABSENT;
+    }
+
+    /**
+     * Returns the packed representation of this OBIS Identifier.
+     *
+     * @return the packed OBIS Identifier or {@link #INVALID} if a group can't be represented
+     */
+    public long toPacked() {
+        Integer b = groupB;
+        Integer e = groupE;
+        Integer f = groupF;
+        if (!fitsGroup(groupA) || (b != null && !fitsGroup(b)) || !fitsGroup(groupC) || !fitsGroup(groupD)
+                || (e != null && !fitsGroup(e)) || (f != null && !fitsGroup(f))) {
+            return INVALID;
         }
+        return pack(groupA, b == null ? ABSENT : b, groupC, groupD, e == null ? ABSENT : e, f == null ? ABSENT : f);
+    }
+
+    private static boolean fitsGroup(int value) {
+        return value >= 0 && value < ABSENT;
     }
 
     /**
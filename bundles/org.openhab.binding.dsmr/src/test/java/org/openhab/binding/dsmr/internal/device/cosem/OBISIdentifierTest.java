@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.cosem;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Test class for {@link OBISIdentifier}.
+ *
+ * @author agent - Initial contribution
+ */
+public class OBISIdentifierTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(new OBISIdentifier(1, 0, 1, 8, 1, null), parse("1-0:1.8.1"));
+        assertEquals(new OBISIdentifier(0, 0, 96, 1, 0, 255), parse("0-0:96.1.0*255"));
+        assertEquals(new OBISIdentifier(0, null, 1, 8, 1, null), parse("1.8.1"));
+        assertEquals(new OBISIdentifier(0, 1, 24, 2, 1, null), parse("1:24.2.1"));
+        assertEquals(new OBISIdentifier(7, 0, 23, 1, null, null), parse("7-0:23.1"));
+        assertEquals(new OBISIdentifier(7, 0, 23, 1, null, 255), parse("7-0:23.1*255"));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        assertInvalid("");
+        assertInvalid("1-0:1");
+        assertInvalid("1-0:1.");
+        assertInvalid("1-0:1.8.1*");
+        assertInvalid("1-0:1.8.1.2.3");
+        assertInvalid("1-0:1.8..1");
+        assertInvalid("1-0-1.8.1");
+        assertInvalid("a-0:1.8.1");
+        assertInvalid("1-0:1.8.1024");
+    }
+
+    @Test
+    public void testPackedLookupKeys() {
+        OBISIdentifier obisId = new OBISIdentifier(1, 0, 1, 8, 1, 255);
+        long packed = obisId.toPacked();
+
+        assertEquals(obisId.getReducedOBISIdentifier(), new OBISIdentifier(OBISIdentifier.reduce(packed)));
+        assertEquals(new OBISIdentifier(1, null, 1, 8, 1, null),
+                new OBISIdentifier(OBISIdentifier.wildcardGroupB(OBISIdentifier.reduce(packed))));
+        assertTrue(OBISIdentifier.hasGroupE(packed));
+        assertEquals(OBISIdentifier.INVALID, new OBISIdentifier(-1, 0, 1, 8, 1, null).toPacked());
+    }
+
+    private static OBISIdentifier parse(String obisId) {
+        byte[] data = obisId.getBytes(StandardCharsets.US_ASCII);
+        long packed = OBISIdentifier.parse(data, data.length);
+
+        assertNotEquals("Should be valid: " + obisId, OBISIdentifier.INVALID, packed);
+        return new OBISIdentifier(packed);
+    }
+
+    private static void assertInvalid(String obisId) {
+        byte[] data = obisId.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals("Should be invalid: " + obisId, OBISIdentifier.INVALID, OBISIdentifier.parse(data, data.length));
+    }
+}
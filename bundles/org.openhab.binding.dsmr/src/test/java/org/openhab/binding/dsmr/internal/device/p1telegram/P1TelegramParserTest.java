@@ -12,10 +12,11 @@
  */
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +34,8 @@ import org.openhab.binding.dsmr.internal.device.p1telegram.P1Telegram.TelegramSt
 @RunWith(value = Parameterized.class)
 public class P1TelegramParserTest {
 
+    private static final int CHUNK_SIZE = 7;
+
     // @formatter:off
     @Parameters(name = "{0}")
     public static final List<Object[]> data() {
@@ -63,4 +66,26 @@ public class P1TelegramParserTest {
         assertEquals("Expected number of objects", numberOfCosemObjects,
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum());
     }
+
+    @Test
+    public void testParsingInChunks() {
+        byte[] telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        AtomicReference<P1Telegram> p1Telegram = new AtomicReference<>(null);
+        P1TelegramParser parser = new P1TelegramParser(p1Telegram::set);
+        parser.setLenientMode(true);
+
+        // replay the telegram twice to check the parser state is properly reset after each telegram
+        for (int run = 0; run < 2; run++) {
+            p1Telegram.set(null);
+            for (int offset = 0; offset < telegram.length; offset += CHUNK_SIZE) {
+                byte[] chunk = Arrays.copyOfRange(telegram, offset, Math.min(offset + CHUNK_SIZE, telegram.length));
+                parser.parse(chunk, chunk.length);
+            }
+            P1Telegram result = p1Telegram.get();
+            assertNotNull("Telegram state should have been set", result);
+            assertEquals("Expected TelegramState should be as expected", TelegramState.OK, result.getTelegramState());
+            assertEquals("Expected number of objects", numberOfCosemObjects,
+                    result.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum());
+        }
+    }
 }
@@ -14,10 +14,9 @@ package org.openhab.binding.enocean.internal.eep.Generic;
 
 import static org.openhab.binding.enocean.internal.EnOceanBindingConstants.PARAMETER_EEPID;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.eclipse.smarthome.config.core.Configuration;
@@ -49,26 +48,25 @@ import org.openhab.binding.enocean.internal.messages.ERP1Message;
  */
 public class GenericEEP extends EEP {
 
-    final List<Class<? extends State>> supportedStates = Collections
-            .unmodifiableList(new LinkedList<Class<? extends State>>() {
-
-                private static final long serialVersionUID = 1L;
-
-                {
-                    add(DateTimeType.class);
-                    add(DecimalType.class);
-                    add(HSBType.class);
-                    add(OnOffType.class);
-                    add(OpenClosedType.class);
-                    add(PercentType.class);
-                    add(PlayPauseType.class);
-                    add(PointType.class);
-                    add(RewindFastforwardType.class);
-                    add(StringListType.class);
-                    add(StringType.class);
-                    add(UpDownType.class);
-                }
-            });
+    // states a transformation may return, with the factory to parse their value (null for enum states)
+    static final Map<Class<? extends State>, Function<String, State>> SUPPORTED_STATES;
+
+    static {
+        Map<Class<? extends State>, Function<String, State>> states = new LinkedHashMap<>();
+        states.put(DateTimeType.class, DateTimeType::valueOf);
+        states.put(DecimalType.class, DecimalType::valueOf);
+        states.put(HSBType.class, HSBType::valueOf);
+        states.put(OnOffType.class, null);
+        states.put(OpenClosedType.class, null);
+        states.put(PercentType.class, PercentType::valueOf);
+        states.put(PlayPauseType.class, null);
+        states.put(PointType.class, PointType::valueOf);
+        states.put(RewindFastforwardType.class, null);
+        states.put(StringListType.class, StringListType::valueOf);
+        states.put(StringType.class, StringType::valueOf);
+        states.put(UpDownType.class, null);
+        SUPPORTED_STATES = Collections.unmodifiableMap(states);
+    }
 
     public GenericEEP() {
         super();
@@ -114,8 +112,8 @@ public class GenericEEP extends EEP {
                 String[] parts = output.split("\\|");
 
                 if (parts.length == 2) {
-                    Class<? extends State> state = supportedStates.stream().filter(s -> s.getName().contains(parts[0]))
-                            .findFirst().orElse(null);
+                    Class<? extends State> state = SUPPORTED_STATES.keySet().stream()
+                            .filter(s -> s.getName().contains(parts[0])).findFirst().orElse(null);
 
                     if (state != null) {
                         if (state.isEnum()) {
@@ -127,10 +125,12 @@ public class GenericEEP extends EEP {
                             }
                             logger.debug("Could not find value '{}' for state '{}'", parts[1], parts[0]);
                         } else {
+                            Function<String, State> factory = SUPPORTED_STATES.get(state);
                             try {
-                                return state.getConstructor(String.class).newInstance(parts[1]);
-                            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-                                    | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+                                if (factory != null) {
+                                    return factory.apply(parts[1]);
+                                }
+                            } catch (IllegalArgumentException e) {
                                 logger.debug("Could not create state '{}' with value '{}'", parts[0], parts[1]);
                             }
                         }
@@ -96,7 +96,7 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
             case CHANNEL_REPEATERMODE:
                 if (command instanceof RefreshType) {
                     sendMessage(ESP3PacketFactory.CO_RD_REPEATER,
-                            new ResponseListenerIgnoringTimeouts<RDRepeaterResponse>() {
+                            new ResponseListenerIgnoringTimeouts<RDRepeaterResponse>(RDRepeaterResponse::new) {
 
                                 @Override
                                 public void responseReceived(RDRepeaterResponse response) {
@@ -109,7 +109,7 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
                             });
                 } else if (command instanceof StringType) {
                     sendMessage(ESP3PacketFactory.CO_WR_REPEATER((StringType) command),
-                            new ResponseListenerIgnoringTimeouts<BaseResponse>() {
+                            new ResponseListenerIgnoringTimeouts<BaseResponse>(BaseResponse::new) {
 
                                 @Override
                                 public void responseReceived(BaseResponse response) {
@@ -129,7 +129,7 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
                         byte[] id = HexUtils.hexToBytes(((StringType) command).toFullString());
 
                         sendMessage(ESP3PacketFactory.CO_WR_IDBASE(id),
-                                new ResponseListenerIgnoringTimeouts<BaseResponse>() {
+                                new ResponseListenerIgnoringTimeouts<BaseResponse>(BaseResponse::new) {
 
                                     @Override
                                     public void responseReceived(BaseResponse response) {
@@ -214,7 +214,7 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
                         "trying to get bridge base id...");
                 logger.debug("request base id");
                 transceiver.sendESP3Packet(ESP3PacketFactory.CO_RD_IDBASE,
-                        new ResponseListenerIgnoringTimeouts<RDBaseIdResponse>() {
+                        new ResponseListenerIgnoringTimeouts<RDBaseIdResponse>(RDBaseIdResponse::new) {
 
                             @Override
                             public void responseReceived(RDBaseIdResponse response) {
@@ -238,7 +238,7 @@ public class EnOceanBridgeHandler extends ConfigStatusBridgeHandler implements T
             }
 
             transceiver.sendESP3Packet(ESP3PacketFactory.CO_RD_VERSION,
-                    new ResponseListenerIgnoringTimeouts<RDVersionResponse>() {
+                    new ResponseListenerIgnoringTimeouts<RDVersionResponse>(RDVersionResponse::new) {
 
                         @Override
                         public void responseReceived(RDVersionResponse response) {
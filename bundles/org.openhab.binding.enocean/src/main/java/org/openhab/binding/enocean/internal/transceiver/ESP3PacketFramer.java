@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.enocean.internal.transceiver;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.openhab.binding.enocean.internal.messages.ESP3Packet;
+import org.openhab.binding.enocean.internal.messages.ESP3PacketFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ESP3PacketFramer} slices ESP3 packets out of a received byte stream.
+ *
+ * Received chunks are appended to a single buffer and complete frames are validated in place: the header and data
+ * CRC8 are calculated over slices of the buffer, so no byte is copied before a frame is known to be valid. If a CRC
+ * does not match, scanning restarts right after the sync byte of the rejected frame. The same happens for headers
+ * announcing more data than any gateway sends, so a corrupted header does not stall the receiving until the announced
+ * length has arrived.
+ *
+ * @author agent - Initial contribution
+ */
+class ESP3PacketFramer {
+
+    // sync byte + header + header crc
+    private static final int FRAME_HEADER_LENGTH = 1 + Helper.ENOCEAN_HEADER_LENGTH + 1;
+
+    // maximum data + optional data length accepted, the packets of gateways are far smaller
+    static final int MAX_PACKET_DATA_LENGTH = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(ESP3PacketFramer.class);
+
+    // heap buffer, frames are validated directly on its backing array
+    private final ByteBuffer buffer;
+    private final byte[] frameData = new byte[MAX_PACKET_DATA_LENGTH];
+
+    ESP3PacketFramer(int maxChunkSize) {
+        buffer = ByteBuffer.allocate(FRAME_HEADER_LENGTH + MAX_PACKET_DATA_LENGTH + 1 + maxChunkSize);
+    }
+
+    /**
+     * Appends received bytes and passes every complete, valid packet to the given consumer.
+     */
+    void write(byte[] data, int offset, int length, Consumer<ESP3Packet> packetConsumer) {
+        if (buffer.remaining() < length) {
+            // cannot happen for chunks up to maxChunkSize, as a pending frame never exceeds the maximum frame size
+            logger.debug("Receive buffer overflow, discarding {} bytes", buffer.position());
+            buffer.clear();
+        }
+        buffer.put(data, offset, length);
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            int start = indexOfSyncByte();
+            if (start < 0) {
+                buffer.position(buffer.limit());
+                break;
+            }
+            buffer.position(start);
+
+            if (buffer.remaining() < FRAME_HEADER_LENGTH) {
+                break;
+            }
+
+            byte[] array = buffer.array();
+            int header = start + 1;
+            if (Helper.calcCRC8(array, header, Helper.ENOCEAN_HEADER_LENGTH) != array[header
+                    + Helper.ENOCEAN_HEADER_LENGTH]) {
+                logger.trace("CrC8 header check not successful");
+                buffer.position(start + 1);
+                continue;
+            }
+
+            int dataLength = ((array[header] & 0xFF) << 8) | (array[header + 1] & 0xFF);
+            int optionalLength = array[header + 2] & 0xFF;
+            byte packetType = array[header + 3];
+            if (dataLength + optionalLength == 0 || dataLength + optionalLength > MAX_PACKET_DATA_LENGTH) {
+                logger.trace("Invalid data length {} optional length {}, resynchronizing", dataLength,
+                        optionalLength);
+                buffer.position(start + 1);
+                continue;
+            }
+
+            int frameLength = FRAME_HEADER_LENGTH + dataLength + optionalLength + 1;
+            if (buffer.remaining() < frameLength) {
+                // wait for the rest of the frame
+                break;
+            }
+
+            int payload = header + Helper.ENOCEAN_HEADER_LENGTH + 1;
+            if (Helper.calcCRC8(array, payload, dataLength + optionalLength) != array[payload + dataLength
+                    + optionalLength]) {
+                logger.trace("esp packet malformed");
+                buffer.position(start + 1);
+                continue;
+            }
+
+            buffer.position(start + frameLength);
+            logger.trace(">> Received header, data length {} optional length {} packet type {}", dataLength,
+                    optionalLength, packetType);
+
+            System.arraycopy(array, payload, frameData, 0, dataLength + optionalLength);
+            try {
+                ESP3Packet packet = ESP3PacketFactory.BuildPacket(dataLength, optionalLength, packetType, frameData);
+                if (packet != null) {
+                    packetConsumer.accept(packet);
+                } else if (logger.isTraceEnabled()) {
+                    logger.trace("Unknown ESP3Packet {}",
+                            HexUtils.bytesToHex(Arrays.copyOf(frameData, dataLength + optionalLength)));
+                }
+            } catch (RuntimeException e) {
+                // keep the framer consistent, a broken packet must not stop the receiving of further packets
+                logger.debug("Could not process ESP3 packet: {}", e.getMessage());
+            }
+        }
+
+        buffer.compact();
+    }
+
+    void reset() {
+        buffer.clear();
+    }
+
+    private int indexOfSyncByte() {
+        byte[] array = buffer.array();
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (array[i] == Helper.ENOCEAN_SYNC_BYTE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -116,11 +116,7 @@ public class EnOceanSerialTransceiver extends EnOceanTransceiver implements Seri
     }
 
     @Override
-    protected int read(byte[] buffer, int length) {
-        try {
-            return this.inputStream.read(buffer, 0, length);
-        } catch (IOException e) {
-            return 0;
-        }
+    protected int read(byte[] buffer, int length) throws IOException {
+        return this.inputStream.read(buffer, 0, length);
     }
 }
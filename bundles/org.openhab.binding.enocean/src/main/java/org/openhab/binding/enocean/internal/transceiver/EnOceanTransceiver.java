@@ -15,13 +15,14 @@ package org.openhab.binding.enocean.internal.transceiver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.TooManyListenersException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -32,7 +33,6 @@ import org.openhab.binding.enocean.internal.EnOceanException;
 import org.openhab.binding.enocean.internal.messages.ERP1Message;
 import org.openhab.binding.enocean.internal.messages.ERP1Message.RORG;
 import org.openhab.binding.enocean.internal.messages.ESP3Packet;
-import org.openhab.binding.enocean.internal.messages.ESP3PacketFactory;
 import org.openhab.binding.enocean.internal.messages.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +43,12 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class EnOceanTransceiver {
 
+    // size of a single read from the gateway, received chunks are sliced into packets by the framer
+    private static final int READ_CHUNK_SIZE = 1024;
+
+    // the gateway answers every request, if it does not within this time the next request is sent anyway
+    private static final long RESPONSE_TIMEOUT_MS = 500;
+
     // Thread management
     private Future<?> readingTask = null;
     private Future<?> timeOut = null;
@@ -56,77 +62,147 @@ public abstract class EnOceanTransceiver {
         ResponseListener<? extends Response> ResponseListener;
     }
 
+    /**
+     * Sends requests one after another. ESP3 responses carry no request id, but the gateway answers requests in
+     * order, so a response always belongs to the single outstanding request. The next request is sent as soon as the
+     * response arrives (or the response timed out) instead of after a fixed delay, and nobody blocks while waiting.
+     */
     private class RequestQueue {
-        private Queue<Request> queue = new LinkedBlockingQueue<>();
-        private ScheduledExecutorService scheduler;
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final ScheduledExecutorService scheduler;
 
         public RequestQueue(ScheduledExecutorService scheduler) {
             this.scheduler = scheduler;
         }
 
-        public synchronized void enqueRequest(Request request) throws IOException {
-            boolean wasEmpty = queue.isEmpty();
+        public void enqueRequest(Request request) throws IOException {
+            if (!queue.offer(request)) {
+                logger.error("Transmit queue overflow. Lost message: {}", request);
+                return;
+            }
 
-            if (queue.offer(request)) {
-                if (wasEmpty) {
-                    send();
+            synchronized (this) {
+                if (currentRequest == null) {
+                    sendNext();
                 }
+            }
+        }
+
+        /**
+         * Correlates a received response with the outstanding request and triggers sending of the next request.
+         */
+        public void responseReceived(Response response) {
+            Request request;
+            synchronized (this) {
+                request = currentRequest;
+                if (request == null) {
+                    logger.trace("Response without request");
+                    return;
+                }
+                completeCurrentRequest();
+            }
+
+            if (request.ResponseListener != null) {
+                request.ResponsePacket = response;
+                try {
+                    request.ResponseListener.handleResponse(response);
+                } catch (Exception e) {
+                }
+                logger.trace("Response handled");
             } else {
-                logger.error("Transmit queue overflow. Lost message: {}", request);
+                logger.trace("Response without listener");
             }
         }
 
-        private synchronized void sendNext() throws IOException {
-            queue.poll();
-            send();
+        private void responseTimedOut(Request request) {
+            synchronized (this) {
+                if (currentRequest != request) {
+                    return;
+                }
+                completeCurrentRequest();
+            }
+
+            logger.debug("No response received for request of type {}", request.RequestPacket.getPacketType());
+            if (request.ResponseListener != null) {
+                request.ResponseListener.responseTimeOut();
+            }
         }
 
-        private synchronized void send() throws IOException {
+        private synchronized void completeCurrentRequest() {
+            currentRequest = null;
+            if (timeOut != null) {
+                timeOut.cancel(false);
+                timeOut = null;
+            }
             if (!queue.isEmpty()) {
-
-                currentRequest = queue.peek();
-                try {
-                    if (currentRequest != null && currentRequest.RequestPacket != null) {
-                        synchronized (currentRequest) {
-
-                            logger.debug("Sending data, type {}, payload {}{}",
-                                    currentRequest.RequestPacket.getPacketType().name(),
-                                    HexUtils.bytesToHex(currentRequest.RequestPacket.getPayload()),
-                                    HexUtils.bytesToHex(currentRequest.RequestPacket.getOptionalPayload()));
-
-                            byte[] b = currentRequest.RequestPacket.serialize();
-                            outputStream.write(b);
-                            outputStream.flush();
-
-                            if (timeOut != null) {
-                                timeOut.cancel(true);
-                            }
-
-                            // slowdown sending of message to avoid hickups at receivers
-                            // Todo tweak sending intervall (250 ist just a first try)
-                            timeOut = scheduler.schedule(() -> {
-                                try {
-                                    sendNext();
-                                } catch (IOException e) {
-                                    errorListener.ErrorOccured(e);
-                                    return;
-                                }
-                            }, 250, TimeUnit.MILLISECONDS);
+                // send from the scheduler, so the reading thread never waits for the serial output
+                scheduler.execute(() -> {
+                    synchronized (this) {
+                        if (currentRequest == null) {
+                            sendNext();
                         }
-                    } else {
-                        sendNext();
                     }
-                } catch (EnOceanException e) {
-                    logger.error("exception while sending data", e);
+                });
+            }
+        }
+
+        private synchronized void sendNext() {
+            Request request = queue.poll();
+            while (request != null && request.RequestPacket == null) {
+                request = queue.poll();
+            }
+            if (request == null) {
+                return;
+            }
+
+            try {
+                logger.debug("Sending data, type {}, payload {}{}", request.RequestPacket.getPacketType().name(),
+                        HexUtils.bytesToHex(request.RequestPacket.getPayload()),
+                        HexUtils.bytesToHex(request.RequestPacket.getOptionalPayload()));
+
+                byte[] b = request.RequestPacket.serialize();
+                outputStream.write(b);
+                outputStream.flush();
+
+                currentRequest = request;
+                final Request sentRequest = request;
+                timeOut = scheduler.schedule(() -> responseTimedOut(sentRequest), RESPONSE_TIMEOUT_MS,
+                        TimeUnit.MILLISECONDS);
+            } catch (EnOceanException e) {
+                logger.error("exception while sending data", e);
+                failRequest(request);
+            } catch (IOException e) {
+                logger.debug("Sending data failed: {}", e.getMessage());
+                failRequest(request);
+                TransceiverErrorListener listener = errorListener;
+                if (listener != null) {
+                    listener.ErrorOccured(e);
                 }
             }
         }
+
+        /**
+         * A request that could not be sent never gets a response, so it is failed like a timed out one and the queue
+         * continues with the next request instead of waiting for the next enqueue.
+         */
+        private void failRequest(Request request) {
+            completeCurrentRequest();
+            ResponseListener<? extends Response> listener = request.ResponseListener;
+            if (listener != null) {
+                scheduler.execute(() -> listener.responseTimeOut());
+            }
+        }
+
+        private synchronized void clear() {
+            queue.clear();
+            currentRequest = null;
+        }
     }
 
     RequestQueue requestQueue;
     Request currentRequest = null;
 
-    protected Map<Long, HashSet<ESP3PacketListener>> listeners;
+    protected Map<Long, Set<ESP3PacketListener>> listeners;
     protected ESP3PacketListener teachInListener;
 
     // Input and output streams, must be created by transceiver implementations
@@ -136,16 +212,12 @@ public abstract class EnOceanTransceiver {
     private byte[] filteredDeviceId;
     TransceiverErrorListener errorListener;
 
-    enum ReadingState {
-        WaitingForSyncByte,
-        ReadingHeader,
-        ReadingData
-    }
+    private final ESP3PacketFramer framer = new ESP3PacketFramer(READ_CHUNK_SIZE);
 
     public EnOceanTransceiver(TransceiverErrorListener errorListener, ScheduledExecutorService scheduler) {
 
         requestQueue = new RequestQueue(scheduler);
-        listeners = new HashMap<>();
+        listeners = new ConcurrentHashMap<>();
         teachInListener = null;
         this.errorListener = errorListener;
     }
@@ -184,202 +256,72 @@ public abstract class EnOceanTransceiver {
 
         readingTask = null;
         timeOut = null;
+        requestQueue.clear();
         listeners.clear();
         teachInListener = null;
         errorListener = null;
     }
 
     private void receivePackets() {
-        byte[] buffer = new byte[1];
+        byte[] buffer = new byte[READ_CHUNK_SIZE];
+        framer.reset();
 
-        while (readingTask != null && !readingTask.isCancelled()) {
+        // the reading task may start before it is assigned, so its interruption by ShutDown ends the receiving
+        while (!Thread.currentThread().isInterrupted()) {
+
+            int bytesRead;
+            try {
+                bytesRead = read(buffer, buffer.length);
+            } catch (IOException e) {
+                // closing the input stream on shutdown ends a blocked read as well
+                if (!Thread.currentThread().isInterrupted()) {
+                    logger.debug("Reading from gateway failed: {}", e.getMessage());
+                    TransceiverErrorListener listener = errorListener;
+                    if (listener != null) {
+                        listener.ErrorOccured(e);
+                    }
+                }
+                return;
+            }
 
-            int bytesRead = read(buffer, 1);
-            if (bytesRead > 0) {
-                // if byte == sync byte => processMessage
-                processMessage(buffer[0]);
+            if (bytesRead > 0 && !Thread.currentThread().isInterrupted()) {
+                framer.write(buffer, 0, bytesRead, this::processPacket);
             }
         }
     }
 
-    protected abstract int read(byte[] buffer, int length);
-
-    byte[] dataBuffer = new byte[Helper.ENOCEAN_MAX_DATA];
-    ReadingState state = ReadingState.WaitingForSyncByte; // we already received sync byte when we get called
-    int currentPosition = 0;
-    int dataLength = -1;
-    int optionalLength = -1;
-    byte packetType = -1;
-
-    private void processMessage(byte firstByte) {
+    protected abstract int read(byte[] buffer, int length) throws IOException;
 
-        byte[] readingBuffer = new byte[Helper.ENOCEAN_MAX_DATA];
-        int bytesRead = -1;
-        byte _byte;
+    private void processPacket(ESP3Packet packet) {
+        switch (packet.getPacketType()) {
+            case RADIO_ERP1: {
+                ERP1Message msg = (ERP1Message) packet;
 
-        try {
-
-            readingBuffer[0] = firstByte;
-
-            bytesRead = this.inputStream.read(readingBuffer, 1, inputStream.available());
-            if (bytesRead == -1) {
-                throw new IOException("could not read from inputstream");
-            }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{} with RORG {} for {} payload {}{} received", packet.getPacketType().name(),
+                            msg.getRORG().name(), HexUtils.bytesToHex(msg.getSenderId()),
+                            HexUtils.bytesToHex(packet.getPayload()), HexUtils.bytesToHex(packet.getOptionalPayload()));
+                }
 
-            if (readingTask == null || readingTask.isCancelled()) {
-                return;
+                if (msg.getRORG() != RORG.Unknown) {
+                    informListeners(msg);
+                } else {
+                    logger.debug("Received unknown RORG, payload {}", HexUtils.bytesToHex(packet.getPayload()));
+                }
             }
-
-            bytesRead++;
-            for (int p = 0; p < bytesRead; p++) {
-                _byte = readingBuffer[p];
-
-                switch (state) {
-                    case WaitingForSyncByte:
-                        if (_byte == Helper.ENOCEAN_SYNC_BYTE) {
-                            state = ReadingState.ReadingHeader;
-                            logger.trace("Received Sync Byte");
-                        }
-                        break;
-                    case ReadingHeader:
-                        if (currentPosition == Helper.ENOCEAN_HEADER_LENGTH) {
-                            if (Helper.checkCRC8(dataBuffer, Helper.ENOCEAN_HEADER_LENGTH, _byte)
-                                    && ((dataBuffer[0] & 0xFF) << 8) + (dataBuffer[1] & 0xFF)
-                                            + (dataBuffer[2] & 0xFF) > 0) {
-
-                                state = ReadingState.ReadingData;
-
-                                dataLength = ((dataBuffer[0] & 0xFF << 8) | (dataBuffer[1] & 0xFF));
-                                optionalLength = dataBuffer[2] & 0xFF;
-                                packetType = dataBuffer[3];
-                                currentPosition = 0;
-
-                                if (packetType == 3) {
-                                    logger.trace("Received sub_msg");
-                                }
-
-                                logger.trace(">> Received header, data length {} optional length {} packet type {}",
-                                        dataLength, optionalLength, packetType);
-                            } else {
-                                // check if we find a sync byte in current buffer
-                                int copyFrom = -1;
-                                for (int i = 0; i < Helper.ENOCEAN_HEADER_LENGTH; i++) {
-                                    if (dataBuffer[i] == Helper.ENOCEAN_SYNC_BYTE) {
-                                        copyFrom = i + 1;
-                                        break;
-                                    }
-                                }
-
-                                if (copyFrom != -1) {
-                                    System.arraycopy(dataBuffer, copyFrom, dataBuffer, 0,
-                                            Helper.ENOCEAN_HEADER_LENGTH - copyFrom);
-                                    state = ReadingState.ReadingHeader;
-                                    currentPosition = Helper.ENOCEAN_HEADER_LENGTH - copyFrom;
-                                    dataBuffer[currentPosition++] = _byte;
-                                } else {
-                                    currentPosition = 0;
-                                    state = _byte == Helper.ENOCEAN_SYNC_BYTE ? ReadingState.ReadingHeader
-                                            : ReadingState.WaitingForSyncByte;
-                                }
-                                logger.trace("CrC8 header check not successful");
-                            }
-                        } else {
-                            dataBuffer[currentPosition++] = _byte;
-                        }
-                        break;
-                    case ReadingData:
-                        if (currentPosition == dataLength + optionalLength) {
-                            if (Helper.checkCRC8(dataBuffer, dataLength + optionalLength, _byte)) {
-                                state = ReadingState.WaitingForSyncByte;
-                                ESP3Packet packet = ESP3PacketFactory.BuildPacket(dataLength, optionalLength,
-                                        packetType, dataBuffer);
-
-                                if (packet != null) {
-                                    switch (packet.getPacketType()) {
-                                        case COMMON_COMMAND:
-                                            break;
-                                        case EVENT:
-                                            break;
-                                        case RADIO_ERP1: {
-                                            ERP1Message msg = (ERP1Message) packet;
-
-                                            byte[] d = new byte[dataLength + optionalLength];
-                                            System.arraycopy(dataBuffer, 0, d, 0, d.length);
-
-                                            logger.debug("{} with RORG {} for {} payload {} received",
-                                                    packet.getPacketType().name(), msg.getRORG().name(),
-                                                    HexUtils.bytesToHex(msg.getSenderId()), HexUtils.bytesToHex(d));
-                                            
-                                            if(msg.getRORG() != RORG.Unknown) {
-                                                informListeners(msg);
-                                            } else {
-                                                logger.debug("Received unknown RORG, payload {}", HexUtils.bytesToHex(d));
-                                            }
-                                        }
-                                            break;
-                                        case RADIO_ERP2:
-                                            break;
-                                        case RADIO_MESSAGE:
-                                            break;
-                                        case RADIO_SUB_TEL:
-                                            break;
-                                        case REMOTE_MAN_COMMAND:
-                                            break;
-                                        case RESPONSE: {
-                                            byte[] d = new byte[dataLength + optionalLength];
-                                            System.arraycopy(dataBuffer, 0, d, 0, d.length);
-
-                                            logger.debug("{} with code {} payload {} received",
-                                                    packet.getPacketType().name(),
-                                                    ((Response) packet).getResponseType().name(),
-                                                    HexUtils.bytesToHex(d));
-
-                                            if (currentRequest != null) {
-                                                if (currentRequest.ResponseListener != null) {
-                                                    currentRequest.ResponsePacket = (Response) packet;
-                                                    try {
-                                                        currentRequest.ResponseListener
-                                                                .handleResponse(currentRequest.ResponsePacket);
-                                                    } catch (Exception e) {
-                                                    }
-
-                                                    logger.trace("Response handled");
-                                                } else {
-                                                    logger.trace("Response without listener");
-                                                }
-                                            }
-                                        }
-                                            break;
-                                        case SMART_ACK_COMMAND:
-                                            break;
-                                        default:
-                                            break;
-                                    }
-                                } else {
-                                    logger.trace("Unknown ESP3Packet");
-                                    byte[] d = new byte[dataLength + optionalLength];
-                                    System.arraycopy(dataBuffer, 0, d, 0, d.length);
-                                    logger.trace("{}", HexUtils.bytesToHex(d));
-                                }
-                            } else {
-                                state = _byte == Helper.ENOCEAN_SYNC_BYTE ? ReadingState.ReadingHeader
-                                        : ReadingState.WaitingForSyncByte;
-                                logger.trace("esp packet malformed");
-                            }
-
-                            currentPosition = 0;
-                            dataLength = optionalLength = packetType = -1;
-                        } else {
-                            dataBuffer[currentPosition++] = _byte;
-                        }
-                        break;
-                    default:
-                        break;
+                break;
+            case RESPONSE: {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{} with code {} payload {}{} received", packet.getPacketType().name(),
+                            ((Response) packet).getResponseType().name(), HexUtils.bytesToHex(packet.getPayload()),
+                            HexUtils.bytesToHex(packet.getOptionalPayload()));
                 }
+
+                requestQueue.responseReceived((Response) packet);
             }
-        } catch (IOException ioexception) {
-            errorListener.ErrorOccured(ioexception);
-            return;
+                break;
+            default:
+                break;
         }
     }
 
@@ -424,8 +366,7 @@ public abstract class EnOceanTransceiver {
                     }
                 }
 
-                long s = Long.parseLong(HexUtils.bytesToHex(senderId), 16);
-                HashSet<ESP3PacketListener> pl = listeners.get(s);
+                Set<ESP3PacketListener> pl = listeners.get(toSenderId(senderId));
                 if (pl != null) {
                     pl.forEach(l -> l.espPacketReceived(msg));
                 }
@@ -435,21 +376,26 @@ public abstract class EnOceanTransceiver {
         }
     }
 
+    private static long toSenderId(byte[] senderId) {
+        long s = 0;
+        for (byte b : senderId) {
+            s = (s << 8) | (b & 0xFF);
+        }
+        return s;
+    }
+
     public void addPacketListener(ESP3PacketListener listener, long senderIdToListenTo) {
 
-        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new HashSet<>()).add(listener)) {
+        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new CopyOnWriteArraySet<>()).add(listener)) {
             logger.debug("Listener added: {}", senderIdToListenTo);
         }
     }
 
     public void removePacketListener(ESP3PacketListener listener, long senderIdToListenTo) {
-        HashSet<ESP3PacketListener> pl = listeners.get(senderIdToListenTo);
-        if (pl != null) {
+        listeners.computeIfPresent(senderIdToListenTo, (senderId, pl) -> {
             pl.remove(listener);
-            if (pl.isEmpty()) {
-                listeners.remove(senderIdToListenTo);
-            }
-        }
+            return pl.isEmpty() ? null : pl;
+        });
     }
 
     public void startDiscovery(ESP3PacketListener teachInListener) {
@@ -12,7 +12,7 @@
  */
 package org.openhab.binding.enocean.internal.transceiver;
 
-import java.lang.reflect.ParameterizedType;
+import java.util.function.Function;
 
 import org.openhab.binding.enocean.internal.EnOceanException;
 import org.openhab.binding.enocean.internal.messages.Response;
@@ -23,12 +23,13 @@ import org.openhab.binding.enocean.internal.messages.Response;
  */
 public abstract class ResponseListener<T extends Response> {
 
-    protected Class<T> persistentClass;
+    private final Function<Response, T> responseFactory;
 
-    @SuppressWarnings("unchecked")
-    public ResponseListener() {
-        this.persistentClass = (Class<T>) ((ParameterizedType) getClass().getGenericSuperclass())
-                .getActualTypeArguments()[0];
+    /**
+     * @param responseFactory creates the specific response from a received response, e.g. {@code BaseResponse::new}
+     */
+    public ResponseListener(Function<Response, T> responseFactory) {
+        this.responseFactory = responseFactory;
     }
 
     public abstract void responseReceived(T response);
@@ -37,7 +38,7 @@ public abstract class ResponseListener<T extends Response> {
 
     public void handleResponse(Response response) throws EnOceanException {
         try {
-            responseReceived(persistentClass.getConstructor(Response.class).newInstance(response));
+            responseReceived(responseFactory.apply(response));
         } catch (Exception e) {
             throw new EnOceanException(e.getMessage());
         }
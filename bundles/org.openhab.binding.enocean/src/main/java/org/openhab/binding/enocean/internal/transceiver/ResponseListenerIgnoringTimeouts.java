@@ -12,7 +12,7 @@
  */
 package org.openhab.binding.enocean.internal.transceiver;
 
-import java.lang.reflect.ParameterizedType;
+import java.util.function.Function;
 
 import org.openhab.binding.enocean.internal.messages.Response;
 
@@ -22,10 +22,8 @@ import org.openhab.binding.enocean.internal.messages.Response;
  */
 public abstract class ResponseListenerIgnoringTimeouts<T extends Response> extends ResponseListener<T> {
 
-    @SuppressWarnings("unchecked")
-    public ResponseListenerIgnoringTimeouts() {
-        this.persistentClass = (Class<T>) ((ParameterizedType) getClass().getGenericSuperclass())
-                .getActualTypeArguments()[0];
+    public ResponseListenerIgnoringTimeouts(Function<Response, T> responseFactory) {
+        super(responseFactory);
     }
 
     @Override
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.enocean.internal.transceiver;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.binding.enocean.internal.messages.ESP3Packet;
+import org.openhab.binding.enocean.internal.messages.Response;
+
+/**
+ * Tests {@link ESP3PacketFramer} with split, concatenated and corrupted frames.
+ *
+ * @author agent - Initial contribution
+ */
+public class ESP3PacketFramerTest {
+
+    private static final int CHUNK_SIZE = 64;
+    private static final byte PACKET_TYPE_RESPONSE = 0x02;
+
+    // RET_OK response
+    private static final byte[] RESPONSE_OK = frame(PACKET_TYPE_RESPONSE, new byte[] { 0x00 }, new byte[0]);
+    // RET_ERROR response with optional data
+    private static final byte[] RESPONSE_ERROR = frame(PACKET_TYPE_RESPONSE, new byte[] { 0x01 },
+            new byte[] { 0x12, 0x34 });
+
+    @Test
+    public void testSplitFrame() {
+        for (int chunkSize = 1; chunkSize < RESPONSE_OK.length; chunkSize++) {
+            List<ESP3Packet> packets = replay(RESPONSE_OK, chunkSize);
+
+            assertEquals(1, packets.size());
+            assertTrue(((Response) packets.get(0)).isOK());
+        }
+    }
+
+    @Test
+    public void testConcatenatedFrames() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < 10; i++) {
+            stream.write(RESPONSE_OK, 0, RESPONSE_OK.length);
+            stream.write(RESPONSE_ERROR, 0, RESPONSE_ERROR.length);
+        }
+
+        List<ESP3Packet> packets = replay(stream.toByteArray(), CHUNK_SIZE);
+
+        assertEquals(20, packets.size());
+        for (int i = 0; i < packets.size(); i += 2) {
+            assertTrue(((Response) packets.get(i)).isOK());
+            assertFalse(((Response) packets.get(i + 1)).isOK());
+            assertArrayEquals(new byte[] { 0x12, 0x34 }, packets.get(i + 1).getOptionalPayload());
+        }
+    }
+
+    @Test
+    public void testCorruptedFrames() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        // garbage containing a sync byte
+        stream.write(new byte[] { 0x12, Helper.ENOCEAN_SYNC_BYTE, 0x00 }, 0, 3);
+        // frame with wrong header crc
+        byte[] corruptedHeader = RESPONSE_ERROR.clone();
+        corruptedHeader[5]++;
+        stream.write(corruptedHeader, 0, corruptedHeader.length);
+        // frame with wrong data crc
+        byte[] corruptedData = RESPONSE_ERROR.clone();
+        corruptedData[corruptedData.length - 1]++;
+        stream.write(corruptedData, 0, corruptedData.length);
+        stream.write(RESPONSE_OK, 0, RESPONSE_OK.length);
+
+        for (int chunkSize : new int[] { 1, 5, CHUNK_SIZE }) {
+            List<ESP3Packet> packets = replay(stream.toByteArray(), chunkSize);
+
+            assertEquals(1, packets.size());
+            assertTrue(((Response) packets.get(0)).isOK());
+        }
+    }
+
+    @Test
+    public void testOversizedLength() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        // valid header announcing the maximum ESP3 data length
+        byte[] header = new byte[] { Helper.ENOCEAN_SYNC_BYTE, (byte) 0xFF, (byte) 0xFF, 0x00,
+                PACKET_TYPE_RESPONSE, 0 };
+        header[5] = Helper.calcCRC8(header, 1, Helper.ENOCEAN_HEADER_LENGTH);
+        stream.write(header, 0, header.length);
+        stream.write(RESPONSE_OK, 0, RESPONSE_OK.length);
+
+        // the valid frame must be received at once, not after 64 KB of further data
+        List<ESP3Packet> packets = replay(stream.toByteArray(), CHUNK_SIZE);
+
+        assertEquals(1, packets.size());
+        assertTrue(((Response) packets.get(0)).isOK());
+    }
+
+    @Test
+    public void testReset() {
+        ESP3PacketFramer framer = new ESP3PacketFramer(CHUNK_SIZE);
+        List<ESP3Packet> packets = new ArrayList<>();
+        framer.write(RESPONSE_ERROR, 0, 4, packets::add);
+        framer.reset();
+        framer.write(RESPONSE_OK, 0, RESPONSE_OK.length, packets::add);
+
+        assertEquals(1, packets.size());
+        assertTrue(((Response) packets.get(0)).isOK());
+    }
+
+    private static List<ESP3Packet> replay(byte[] stream, int chunkSize) {
+        ESP3PacketFramer framer = new ESP3PacketFramer(CHUNK_SIZE);
+        List<ESP3Packet> packets = new ArrayList<>();
+        for (int offset = 0; offset < stream.length; offset += chunkSize) {
+            framer.write(stream, offset, Math.min(chunkSize, stream.length - offset), packets::add);
+        }
+        return packets;
+    }
+
+    private static byte[] frame(byte packetType, byte[] data, byte[] optionalData) {
+        byte[] frame = new byte[7 + data.length + optionalData.length];
+        frame[0] = Helper.ENOCEAN_SYNC_BYTE;
+        frame[1] = (byte) (data.length >> 8);
+        frame[2] = (byte) data.length;
+        frame[3] = (byte) optionalData.length;
+        frame[4] = packetType;
+        frame[5] = Helper.calcCRC8(frame, 1, Helper.ENOCEAN_HEADER_LENGTH);
+        System.arraycopy(data, 0, frame, 6, data.length);
+        System.arraycopy(optionalData, 0, frame, 6 + data.length, optionalData.length);
+        frame[frame.length - 1] = Helper.calcCRC8(frame, 6, data.length + optionalData.length);
+        return frame;
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.enocean.internal.transceiver;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.enocean.internal.messages.BaseResponse;
+import org.openhab.binding.enocean.internal.messages.ERP1Message;
+import org.openhab.binding.enocean.internal.messages.ERP1Message.RORG;
+import org.openhab.binding.enocean.internal.messages.ESP3Packet;
+import org.openhab.binding.enocean.internal.messages.ESP3PacketFactory;
+import org.openhab.binding.enocean.internal.messages.RDVersionResponse;
+
+/**
+ * Tests the {@link EnOceanTransceiver} with a recorded gateway stream and a failing serial output.
+ *
+ * @author agent - Initial contribution
+ */
+public class EnOceanTransceiverTest {
+
+    private static final int TIMEOUT_SECONDS = 10;
+
+    // ESP3 stream recorded from a USB 300 gateway, the recording starts within a frame
+    private static final String RECORDED_STREAM = "4D00A7"
+            // response to CO_RD_VERSION
+            + "55002100022600020B010002060300018A3B4C45410103474154455741594354524C000000000091"
+            // RPS rocker switch 002EE1BD pressed
+            + "55000707017AF630002EE1BD3001FFFFFFFF3A00CD"
+            // 4BS temperature sensor 0180A1B2, the data contains a sync byte
+            + "55000A0701EBA5000055080180A1B20001FFFFFFFF4D00CD"
+            // 4BS teach-in telegram of 0180C3D4
+            + "55000A0701EBA5082846800180C3D40001FFFFFFFF520094"
+            // 1BS contact 018C3D4E closed
+            + "55000707017AD509018C3D4E0001FFFFFFFF440029"
+            // RPS rocker switch 002EE1BD released
+            + "55000707017AF600002EE1BD2001FFFFFFFF3B006E";
+
+    // serial ports return the received bytes in small chunks
+    private static final int READ_CHUNK_SIZE = 14;
+
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(2);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testReplayRecordedStream() throws Exception {
+        CountDownLatch replayed = new CountDownLatch(1);
+        TestTransceiver transceiver = new TestTransceiver(e -> replayed.countDown(), scheduler,
+                HexUtils.hexToBytes(RECORDED_STREAM), new ByteArrayOutputStream());
+
+        AtomicReference<RDVersionResponse> version = new AtomicReference<>();
+        transceiver.sendESP3Packet(ESP3PacketFactory.CO_RD_VERSION,
+                new ResponseListenerIgnoringTimeouts<RDVersionResponse>(RDVersionResponse::new) {
+                    @Override
+                    public void responseReceived(RDVersionResponse response) {
+                        version.set(response);
+                    }
+                });
+
+        List<ERP1Message> rocker = register(transceiver, 0x002EE1BDL);
+        List<ERP1Message> temperature = register(transceiver, 0x0180A1B2L);
+        List<ERP1Message> teachIn = register(transceiver, 0x0180C3D4L);
+        List<ERP1Message> contact = register(transceiver, 0x018C3D4EL);
+
+        transceiver.StartReceiving(scheduler);
+        assertTrue(replayed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        transceiver.ShutDown();
+
+        RDVersionResponse response = version.get();
+        assertNotNull(response);
+        assertTrue(response.isOK());
+        assertEquals("2.11.1.0", response.getAPPVersion());
+        assertEquals("2.6.3.0", response.getAPIVersion());
+        assertEquals("018A3B4C", response.getChipID());
+        assertTrue(response.getDescription().startsWith("GATEWAYCTRL"));
+
+        assertEquals(2, rocker.size());
+        assertEquals(RORG.RPS, rocker.get(0).getRORG());
+        assertEquals(0x30, rocker.get(0).getPayload()[1]);
+        assertEquals(0x00, rocker.get(1).getPayload()[1]);
+
+        assertEquals(1, temperature.size());
+        ERP1Message telegram = temperature.get(0);
+        assertEquals(RORG._4BS, telegram.getRORG());
+        assertFalse(telegram.getIsTeachIn());
+        assertArrayEquals(new byte[] { (byte) 0xA5, 0x00, 0x00, 0x55, 0x08, 0x01, (byte) 0x80, (byte) 0xA1,
+                (byte) 0xB2, 0x00 }, telegram.getPayload());
+        assertArrayEquals(new byte[] { 0x01, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x4D, 0x00 },
+                telegram.getOptionalPayload());
+
+        // teach-in telegrams are only passed on during discovery
+        assertTrue(teachIn.isEmpty());
+
+        assertEquals(1, contact.size());
+        assertEquals(RORG._1BS, contact.get(0).getRORG());
+        assertEquals(0x09, contact.get(0).getPayload()[1]);
+    }
+
+    @Test
+    public void testFailedSendContinuesQueue() throws Exception {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        FailingOutputStream output = new FailingOutputStream(2);
+        TestTransceiver transceiver = new TestTransceiver(error::set, scheduler, new byte[0], output);
+
+        CountDownLatch firstTimedOut = new CountDownLatch(1);
+        CountDownLatch failedTimedOut = new CountDownLatch(1);
+        CountDownLatch lastTimedOut = new CountDownLatch(1);
+        transceiver.sendESP3Packet(ESP3PacketFactory.CO_RD_VERSION, timeOutListener(firstTimedOut));
+        transceiver.sendESP3Packet(ESP3PacketFactory.CO_RD_IDBASE, timeOutListener(failedTimedOut));
+        transceiver.sendESP3Packet(ESP3PacketFactory.CO_RD_REPEATER, timeOutListener(lastTimedOut));
+
+        // the gateway does not answer, so the second request is sent after the timeout and fails
+        assertTrue(firstTimedOut.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(failedTimedOut.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // the failed request must not stall the queue
+        assertTrue(lastTimedOut.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(error.get() instanceof IOException);
+        assertEquals(2, output.packets.size());
+        assertArrayEquals(ESP3PacketFactory.CO_RD_VERSION.serialize(), output.packets.get(0));
+        assertArrayEquals(ESP3PacketFactory.CO_RD_REPEATER.serialize(), output.packets.get(1));
+    }
+
+    private static List<ERP1Message> register(EnOceanTransceiver transceiver, long senderId) {
+        List<ERP1Message> received = Collections.synchronizedList(new ArrayList<>());
+        transceiver.addPacketListener(new ESP3PacketListener() {
+            @Override
+            public void espPacketReceived(ESP3Packet packet) {
+                received.add((ERP1Message) packet);
+            }
+
+            @Override
+            public long getSenderIdToListenTo() {
+                return senderId;
+            }
+        }, senderId);
+        return received;
+    }
+
+    private static ResponseListener<BaseResponse> timeOutListener(CountDownLatch timedOut) {
+        return new ResponseListener<BaseResponse>(BaseResponse::new) {
+            @Override
+            public void responseReceived(BaseResponse response) {
+            }
+
+            @Override
+            public void responseTimeOut() {
+                timedOut.countDown();
+            }
+        };
+    }
+
+    private static class TestTransceiver extends EnOceanTransceiver {
+
+        public TestTransceiver(TransceiverErrorListener errorListener, ScheduledExecutorService scheduler,
+                byte[] recording, OutputStream output) {
+            super(errorListener, scheduler);
+            inputStream = new ByteArrayInputStream(recording);
+            outputStream = output;
+        }
+
+        @Override
+        public void Initialize() {
+        }
+
+        @Override
+        protected int read(byte[] buffer, int length) throws IOException {
+            int bytesRead = inputStream.read(buffer, 0, Math.min(length, READ_CHUNK_SIZE));
+            if (bytesRead < 0) {
+                throw new IOException("End of recording");
+            }
+            return bytesRead;
+        }
+    }
+
+    private static class FailingOutputStream extends OutputStream {
+
+        private final List<byte[]> packets = Collections.synchronizedList(new ArrayList<>());
+        private final int failingWrite;
+        private int writes;
+
+        FailingOutputStream(int failingWrite) {
+            this.failingWrite = failingWrite;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (++writes == failingWrite) {
+                throw new IOException("Serial port gone");
+            }
+            packets.add(Arrays.copyOfRange(b, off, off + len));
+        }
+    }
+}
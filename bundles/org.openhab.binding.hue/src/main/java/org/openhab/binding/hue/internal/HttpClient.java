@@ -24,6 +24,7 @@ import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -41,6 +42,7 @@ public class HttpClient {
     private final Logger logger = LoggerFactory.getLogger(HttpClient.class);
     private final LinkedList<AsyncPutParameters> commandsQueue = new LinkedList<>();
     private @Nullable Future<?> job;
+    private final AtomicLong receivedBytes = new AtomicLong();
 
     @SuppressWarnings({ "null", "unused" })
     private void executeCommands() {
@@ -74,6 +76,13 @@ public class HttpClient {
         this.timeout = timeout;
     }
 
+    /**
+     * Returns the number of response body bytes received since this client has been created.
+     */
+    public long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
     public Result get(String address) throws IOException {
         return doNetwork(address, "GET");
     }
@@ -133,6 +142,7 @@ public class HttpClient {
                 while ((length = in.read(buffer)) != -1) {
                     result.write(buffer, 0, length);
                 }
+                receivedBytes.addAndGet(result.size());
                 return new Result(result.toString(StandardCharsets.UTF_8.name()), conn.getResponseCode());
             }
         } finally {
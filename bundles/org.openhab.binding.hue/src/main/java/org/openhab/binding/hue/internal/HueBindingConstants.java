@@ -72,6 +72,11 @@ public class HueBindingConstants {
     public static final String CHANNEL_STATUS = "status";
     public static final String CHANNEL_FLAG = "flag";
 
+    // Bridge channels
+    public static final String CHANNEL_POLL_REQUESTS = "poll_requests";
+    public static final String CHANNEL_POLL_LATENCY = "poll_latency";
+    public static final String CHANNEL_POLL_BYTES = "poll_bytes";
+
     // List all triggers
     public static final String EVENT_DIMMER_SWITCH = "dimmer_switch_event";
     public static final String EVENT_TAP_SWITCH = "tap_switch_event";
@@ -70,6 +70,7 @@ public class HueBridge {
     private final Gson gson = new GsonBuilder().setDateFormat(DATE_FORMAT).create();
     private HttpClient http = new HttpClient();
     private final ScheduledExecutorService scheduler;
+    private volatile int lastSensorResponseSize;
 
     @Nullable
     private Config cachedConfig;
@@ -152,6 +153,25 @@ public class HueBridge {
         return Objects.requireNonNull(this.cachedConfig);
     }
 
+    /**
+     * Returns the length of the last response body of {@link #getSensors()} or {@link #getSensor(String)}. The
+     * responses are plain JSON, so the length is close to the number of received bytes.
+     *
+     * @return length of the last sensor response
+     */
+    public int getLastSensorResponseSize() {
+        return lastSensorResponseSize;
+    }
+
+    /**
+     * Returns the number of response bytes received from the bridge, see {@link HttpClient#getReceivedBytes()}.
+     *
+     * @return number of received bytes
+     */
+    public long getReceivedBytes() {
+        return http.getReceivedBytes();
+    }
+
     /**
      * Returns the username currently authenticated with or null if there isn't one.
      *
@@ -227,6 +247,7 @@ public class HueBridge {
         Result result = http.get(getRelativeURL("sensors"));
 
         handleErrors(result);
+        lastSensorResponseSize = result.getBody().length();
 
         Map<String, FullSensor> sensorMap = safeFromJson(result.getBody(), FullSensor.GSON_TYPE);
         ArrayList<FullSensor> sensorList = new ArrayList<>();
@@ -240,6 +261,28 @@ public class HueBridge {
         return sensorList;
     }
 
+    /**
+     * Returns detailed information for the given sensor. Fetching a single sensor is cheaper than fetching all of
+     * them, if only a few sensors have to be polled.
+     *
+     * @param id id of the sensor
+     * @return detailed sensor information
+     * @throws UnauthorizedException thrown if the user no longer exists
+     * @throws EntityNotAvailableException thrown if a sensor with the given id doesn't exist
+     */
+    public FullSensor getSensor(String id) throws IOException, ApiException {
+        requireAuthentication();
+
+        Result result = http.get(getRelativeURL("sensors/" + enc(id)));
+
+        handleErrors(result);
+        lastSensorResponseSize = result.getBody().length();
+
+        FullSensor sensor = safeFromJson(result.getBody(), FullSensor.class);
+        sensor.setId(id);
+        return sensor;
+    }
+
     /**
      * Returns the last time a search for new lights was started.
      * If a search is currently running, the current time will be
@@ -27,7 +27,6 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,7 +34,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.core.status.ConfigStatusMessage;
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.QuantityType;
+import org.eclipse.smarthome.core.library.unit.MetricPrefix;
+import org.eclipse.smarthome.core.library.unit.SmartHomeUnits;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.ThingStatus;
@@ -59,6 +62,8 @@ import org.openhab.binding.hue.internal.exceptions.DeviceOffException;
 import org.openhab.binding.hue.internal.exceptions.EntityNotAvailableException;
 import org.openhab.binding.hue.internal.exceptions.LinkButtonException;
 import org.openhab.binding.hue.internal.exceptions.UnauthorizedException;
+import org.openhab.io.refreshscheduler.RefreshJob;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,11 +90,32 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
     final ReentrantLock pollingLock = new ReentrantLock();
 
+    /**
+     * The light and sensor polling run concurrently. Only (re)connecting to the bridge and handling errors is guarded
+     * by the {@link #pollingLock}, so a slow light poll does not delay the polling of the sensors.
+     */
     abstract class PollingRunnable implements Runnable {
         @Override
         public void run() {
             try {
+                if (connect()) {
+                    doConnectedRun();
+                }
+            } catch (ApiException | IOException | RuntimeException e) {
                 pollingLock.lock();
+                try {
+                    handlePollingException(e);
+                } finally {
+                    pollingLock.unlock();
+                }
+            }
+        }
+
+        protected abstract void doConnectedRun() throws IOException, ApiException;
+
+        private boolean connect() throws IOException, ApiException {
+            pollingLock.lock();
+            try {
                 if (!lastBridgeConnectionState) {
                     // if user is not set in configuration try to create a new user on Hue bridge
                     if (hueBridgeConfig.getUserName() == null) {
@@ -97,10 +123,14 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     }
                     lastBridgeConnectionState = tryResumeBridgeConnection();
                 }
-                if (lastBridgeConnectionState) {
-                    doConnectedRun();
-                }
-            } catch (UnauthorizedException | IllegalStateException e) {
+                return lastBridgeConnectionState;
+            } finally {
+                pollingLock.unlock();
+            }
+        }
+
+        private void handlePollingException(Exception e) {
+            if (e instanceof UnauthorizedException || e instanceof IllegalStateException) {
                 if (isReachable(hueBridge.getIPAddress())) {
                     lastBridgeConnectionState = false;
                     onNotAuthenticated();
@@ -108,23 +138,19 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     lastBridgeConnectionState = false;
                     onConnectionLost();
                 }
-            } catch (ApiException | IOException e) {
+            } else if (e instanceof ApiException || e instanceof IOException) {
                 if (hueBridge != null && lastBridgeConnectionState) {
                     logger.debug("Connection to Hue Bridge {} lost.", hueBridge.getIPAddress());
                     lastBridgeConnectionState = false;
                     onConnectionLost();
                 }
-            } catch (RuntimeException e) {
+            } else {
                 logger.warn("An unexpected error occurred: {}", e.getMessage(), e);
                 lastBridgeConnectionState = false;
                 onConnectionLost();
-            } finally {
-                pollingLock.unlock();
             }
         }
 
-        protected abstract void doConnectedRun() throws IOException, ApiException;
-
         private boolean isReachable(String ipAddress) {
             try {
                 // note that InetAddress.isReachable is unreliable, see
@@ -157,36 +183,82 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
     private static final String DEVICE_TYPE = "EclipseSmartHome";
 
+    private static final long METRICS_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    // the light and the sensor polling of a bridge may run at the same time
+    private static final int MAX_CONCURRENT_POLLS = 2;
+
     private final Logger logger = LoggerFactory.getLogger(HueBridgeHandler.class);
 
     private final Map<String, FullLight> lastLightStates = new ConcurrentHashMap<>();
     private final Map<String, FullSensor> lastSensorStates = new ConcurrentHashMap<>();
 
-    private boolean lastBridgeConnectionState = false;
+    private volatile boolean lastBridgeConnectionState = false;
 
     private boolean propertiesInitializedSuccessfully = false;
 
     private final List<LightStatusListener> lightStatusListeners = new CopyOnWriteArrayList<>();
     private final List<SensorStatusListener> sensorStatusListeners = new CopyOnWriteArrayList<>();
 
-    private @Nullable ScheduledFuture<?> lightPollingJob;
-    private @Nullable ScheduledFuture<?> sensorPollingJob;
+    private final RefreshScheduler refreshScheduler;
+    private @Nullable RefreshJob lightPollingJob;
+    private @Nullable RefreshJob sensorPollingJob;
 
     private @NonNullByDefault({}) HueBridge hueBridge = null;
     private @NonNullByDefault({}) HueBridgeConfig hueBridgeConfig = null;
+    private @NonNullByDefault({}) PollingSchedule sensorPollingSchedule = null;
+
+    private final Object metricsLock = new Object();
+    private long metricsStartNanos;
+    private long metricsStartBytes;
+    private long pollRequests;
+    private long pollNanos;
 
     private final Runnable sensorPollingRunnable = new PollingRunnable() {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
+            final PollingSchedule schedule = sensorPollingSchedule;
+            final long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            final List<String> dueSensorIds = schedule.getDue(now);
+
+            if (schedule.isFullRefreshDue(dueSensorIds.size(), now)) {
+                long start = System.nanoTime();
+                List<FullSensor> sensors = hueBridge.getSensors();
+                recordPoll(start);
+                schedule.recordFullSize(hueBridge.getLastSensorResponseSize());
+                updateSensors(schedule, sensors, now);
+                schedule.fullRefreshDone(now);
+            } else {
+                // Only fetch the sensors which are due, instead of downloading all of them
+                for (String sensorId : dueSensorIds) {
+                    try {
+                        long start = System.nanoTime();
+                        FullSensor sensor = hueBridge.getSensor(sensorId);
+                        recordPoll(start);
+                        schedule.recordSingleSize(hueBridge.getLastSensorResponseSize());
+                        if (schedule.update(sensorId, getStateHash(sensor), isEventLike(sensor), now)) {
+                            lastSensorStates.put(sensorId, sensor);
+                            logger.debug("Status update for Hue sensor '{}' detected: {}", sensorId, sensor.getState());
+                            notifySensorStatusListeners(sensor, STATE_CHANGED);
+                        }
+                    } catch (EntityNotAvailableException e) {
+                        logger.debug("Hue sensor '{}' not available, fetching all sensors.", sensorId);
+                        schedule.requestFullRefresh();
+                    }
+                }
+            }
+        }
+
+        private void updateSensors(PollingSchedule schedule, List<FullSensor> sensors, long now) {
             Map<String, FullSensor> lastSensorStateCopy = new HashMap<>(lastSensorStates);
 
-            for (final FullSensor sensor : hueBridge.getSensors()) {
+            for (final FullSensor sensor : sensors) {
                 String sensorId = sensor.getId();
+                boolean changed = schedule.update(sensorId, getStateHash(sensor), isEventLike(sensor), now);
                 if (lastSensorStateCopy.containsKey(sensorId)) {
-                    final FullSensor lastFullSensor = lastSensorStateCopy.remove(sensorId);
-                    final Map<String, Object> lastFullSensorState = lastFullSensor.getState();
+                    lastSensorStateCopy.remove(sensorId);
                     lastSensorStates.put(sensorId, sensor);
-                    if (!lastFullSensorState.equals(sensor.getState())) {
+                    if (changed) {
                         logger.debug("Status update for Hue sensor '{}' detected: {}", sensorId, sensor.getState());
                         notifySensorStatusListeners(sensor, STATE_CHANGED);
                     }
@@ -201,6 +273,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             // Check for removed sensors
             for (Entry<String, FullSensor> fullSensorEntry : lastSensorStateCopy.entrySet()) {
                 lastSensorStates.remove(fullSensorEntry.getKey());
+                schedule.remove(fullSensorEntry.getKey());
                 logger.debug("Hue sensor '{}' removed.", fullSensorEntry.getKey());
                 for (SensorStatusListener sensorStatusListener : sensorStatusListeners) {
                     try {
@@ -219,11 +292,13 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
 
             List<FullLight> lights;
+            long start = System.nanoTime();
             if (ApiVersionUtils.supportsFullLights(hueBridge.getVersion())) {
                 lights = hueBridge.getFullLights();
             } else {
                 lights = hueBridge.getFullConfig().getLights();
             }
+            recordPoll(start);
 
             for (final FullLight fullLight : lights) {
                 final String lightId = fullLight.getId();
@@ -259,6 +334,8 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
     public HueBridgeHandler(Bridge bridge) {
         super(bridge);
+        this.refreshScheduler = new RefreshScheduler("hue bridge " + bridge.getUID(), scheduler,
+                MAX_CONCURRENT_POLLS);
     }
 
     @Override
@@ -379,14 +456,14 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             } else {
                 lightPollingInterval = hueBridgeConfig.getPollingInterval();
             }
-            lightPollingJob = scheduler.scheduleWithFixedDelay(lightPollingRunnable, 1, lightPollingInterval,
+            lightPollingJob = refreshScheduler.schedule(lightPollingRunnable, 1, lightPollingInterval,
                     TimeUnit.SECONDS);
         }
     }
 
     private void stopLightPolling() {
         if (lightPollingJob != null && !lightPollingJob.isCancelled()) {
-            lightPollingJob.cancel(true);
+            lightPollingJob.cancel();
             lightPollingJob = null;
         }
     }
@@ -399,14 +476,24 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             } else {
                 sensorPollingInterval = hueBridgeConfig.getSensorPollingInterval();
             }
-            sensorPollingJob = scheduler.scheduleWithFixedDelay(sensorPollingRunnable, 1, sensorPollingInterval,
+            // sensors which did not change for a while are polled at the light polling interval
+            int pollingInterval = hueBridgeConfig.getPollingInterval();
+            long slowPollingInterval = TimeUnit.SECONDS
+                    .toMillis(pollingInterval < 1 ? lightPollingInterval : pollingInterval);
+            PollingSchedule schedule = new PollingSchedule(sensorPollingInterval, slowPollingInterval);
+            // known sensors keep their state hash, so they are not reported as changed after a restart
+            for (FullSensor sensor : lastSensorStates.values()) {
+                schedule.update(sensor.getId(), getStateHash(sensor), isEventLike(sensor), 0);
+            }
+            sensorPollingSchedule = schedule;
+            sensorPollingJob = refreshScheduler.schedule(sensorPollingRunnable, 1, sensorPollingInterval,
                     TimeUnit.MILLISECONDS);
         }
     }
 
     private void stopSensorPolling() {
         if (sensorPollingJob != null && !sensorPollingJob.isCancelled()) {
-            sensorPollingJob.cancel(true);
+            sensorPollingJob.cancel();
             sensorPollingJob = null;
         }
     }
@@ -416,6 +503,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         logger.debug("Handler disposed.");
         stopLightPolling();
         stopSensorPolling();
+        refreshScheduler.dispose();
         if (hueBridge != null) {
             hueBridge = null;
         }
@@ -435,6 +523,12 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 hueBridge = new HueBridge(ip, hueBridgeConfig.getPort(), hueBridgeConfig.getProtocol(), scheduler);
                 hueBridge.setTimeout(5000);
             }
+            synchronized (metricsLock) {
+                metricsStartNanos = System.nanoTime();
+                metricsStartBytes = hueBridge.getReceivedBytes();
+                pollRequests = 0;
+                pollNanos = 0;
+            }
             onUpdate();
         }
     }
@@ -766,6 +860,59 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         }
     }
 
+    /**
+     * Returns a compact hash of the sensor state, used to detect state changes without comparing the whole state.
+     * The state contains the time of the last update, so an event with the same value is detected as well.
+     */
+    private static int getStateHash(FullSensor sensor) {
+        return Objects.hashCode(sensor.getState());
+    }
+
+    /**
+     * Returns true if the sensor reports events, like motion sensors and switches, which must be polled fast.
+     */
+    private static boolean isEventLike(FullSensor sensor) {
+        Map<String, Object> state = sensor.getState();
+        return state != null
+                && (state.containsKey(FullSensor.STATE_BUTTON_EVENT) || state.containsKey(FullSensor.STATE_PRESENCE));
+    }
+
+    /**
+     * Records a poll request for the poll metrics. The number of requests, their average latency and the number of
+     * received bytes are published on the advanced channels of the bridge Thing once per {@link #METRICS_INTERVAL}.
+     *
+     * @param startNanos start time of the request
+     */
+    private void recordPoll(long startNanos) {
+        final HueBridge bridge = hueBridge;
+        final long now = System.nanoTime();
+        long requestsPerMinute;
+        long latency;
+        long bytesPerMinute;
+        synchronized (metricsLock) {
+            pollRequests++;
+            pollNanos += now - startNanos;
+            long elapsed = now - metricsStartNanos;
+            if (bridge == null || elapsed < METRICS_INTERVAL) {
+                return;
+            }
+            long receivedBytes = bridge.getReceivedBytes();
+            long perMinute = TimeUnit.MINUTES.toNanos(1);
+            requestsPerMinute = pollRequests * perMinute / elapsed;
+            latency = TimeUnit.NANOSECONDS.toMillis(pollNanos / pollRequests);
+            bytesPerMinute = (receivedBytes - metricsStartBytes) * perMinute / elapsed;
+            metricsStartNanos = now;
+            metricsStartBytes = receivedBytes;
+            pollRequests = 0;
+            pollNanos = 0;
+        }
+        logger.debug("Poll metrics of Hue bridge {}: {} requests/min, {} ms average latency, {} bytes/min",
+                bridge.getIPAddress(), requestsPerMinute, latency, bytesPerMinute);
+        updateState(CHANNEL_POLL_REQUESTS, new DecimalType(requestsPerMinute));
+        updateState(CHANNEL_POLL_LATENCY, new QuantityType<>(latency, MetricPrefix.MILLI(SmartHomeUnits.SECOND)));
+        updateState(CHANNEL_POLL_BYTES, new DecimalType(bytesPerMinute));
+    }
+
     /**
      * Compare to states for equality.
      *
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link PollingSchedule} decides when the state of a single resource of the Hue bridge, like a sensor, is polled
+ * next.
+ * <p>
+ * Event-like resources, for example motion sensors and switches, are polled at the fast interval all the time. Any
+ * other resource is polled at the fast interval after its state has changed. The interval is doubled with every poll
+ * without a change until the slow interval is reached. The whole list of resources is fetched at the slow interval
+ * to detect added and removed resources. It is also fetched whenever the due resources would cost more bytes when
+ * fetched one by one, as every request adds its headers to the size of the response.
+ * <p>
+ * State changes are detected by comparing a compact hash of the state, so no copy of the last state is needed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PollingSchedule {
+    // approximate size in bytes of the HTTP headers of a request and its response
+    private static final int REQUEST_OVERHEAD = 300;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final long fastInterval;
+    private final long slowInterval;
+    private long nextFullRefresh;
+    private boolean fullRefreshRequested = true;
+    private int fullSize;
+    private int singleSize;
+
+    private static class Entry {
+        int stateHash;
+        long interval;
+        long nextPoll;
+    }
+
+    /**
+     * Creates a schedule.
+     *
+     * @param fastInterval interval in milliseconds for event-like and recently changed resources
+     * @param slowInterval interval in milliseconds for static resources and for fetching all resources
+     */
+    PollingSchedule(long fastInterval, long slowInterval) {
+        this.fastInterval = fastInterval;
+        this.slowInterval = Math.max(fastInterval, slowInterval);
+    }
+
+    /**
+     * Updates the state hash of a polled resource and schedules its next poll.
+     *
+     * @param id id of the resource
+     * @param stateHash hash of the polled state
+     * @param eventLike true if the resource reports events that must be polled fast all the time
+     * @param now current time in milliseconds
+     * @return true if the resource is new or its state has changed since the last poll
+     */
+    synchronized boolean update(String id, int stateHash, boolean eventLike, long now) {
+        Entry entry = entries.get(id);
+        boolean changed = entry == null || entry.stateHash != stateHash;
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(id, entry);
+        }
+        entry.stateHash = stateHash;
+        if (changed || eventLike) {
+            entry.interval = fastInterval;
+        } else {
+            entry.interval = Math.min(entry.interval * 2, slowInterval);
+        }
+        entry.nextPoll = now + entry.interval;
+        return changed;
+    }
+
+    /**
+     * Returns the ids of all resources which have to be polled.
+     *
+     * @param now current time in milliseconds
+     * @return ids of the due resources
+     */
+    synchronized List<String> getDue(long now) {
+        List<String> due = new ArrayList<>();
+        entries.forEach((id, entry) -> {
+            if (entry.nextPoll <= now) {
+                due.add(id);
+            }
+        });
+        return due;
+    }
+
+    /**
+     * Returns true if all resources should be fetched at once. This is the case if the slow interval has passed since
+     * the last full refresh or if fetching the due resources one by one costs more bytes than fetching all of them.
+     *
+     * @param due number of due resources
+     * @param now current time in milliseconds
+     */
+    synchronized boolean isFullRefreshDue(int due, long now) {
+        if (fullRefreshRequested || nextFullRefresh <= now) {
+            return true;
+        }
+        if (due == 0) {
+            return false;
+        }
+        // until a single resource has been fetched, its size is estimated from the whole list
+        int averageSize = singleSize > 0 ? singleSize : fullSize / Math.max(entries.size(), 1);
+        return (long) due * (averageSize + REQUEST_OVERHEAD) > fullSize + REQUEST_OVERHEAD;
+    }
+
+    /**
+     * Records the size of a response with all resources.
+     *
+     * @param size size of the response in bytes
+     */
+    synchronized void recordFullSize(int size) {
+        fullSize = size;
+    }
+
+    /**
+     * Records the size of a response with a single resource. The average size of a single resource is updated with
+     * it.
+     *
+     * @param size size of the response in bytes
+     */
+    synchronized void recordSingleSize(int size) {
+        singleSize = singleSize > 0 ? (singleSize * 7 + size) / 8 : size;
+    }
+
+    /**
+     * Marks a full refresh as done.
+     *
+     * @param now current time in milliseconds
+     */
+    synchronized void fullRefreshDone(long now) {
+        nextFullRefresh = now + slowInterval;
+        fullRefreshRequested = false;
+    }
+
+    /**
+     * Requests a full refresh with the next poll, for example because a resource has not been found.
+     */
+    synchronized void requestFullRefresh() {
+        fullRefreshRequested = true;
+    }
+
+    /**
+     * Removes a resource from the schedule.
+     *
+     * @param id id of the resource
+     */
+    synchronized void remove(String id) {
+        entries.remove(id);
+    }
+
+    /**
+     * Returns the current polling interval of a resource in milliseconds, or 0 if it is unknown.
+     */
+    synchronized long getInterval(String id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.interval : 0;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link PollingSchedule}.
+ *
+ * @author agent - Initial contribution
+ */
+public class PollingScheduleTest {
+
+    @Test
+    public void testBackOff() {
+        PollingSchedule schedule = new PollingSchedule(500, 4000);
+
+        assertTrue(schedule.update("1", 42, false, 0));
+        assertEquals(500, schedule.getInterval("1"));
+        // the interval is doubled with every unchanged poll up to the slow interval
+        assertFalse(schedule.update("1", 42, false, 500));
+        assertEquals(1000, schedule.getInterval("1"));
+        assertFalse(schedule.update("1", 42, false, 1500));
+        assertFalse(schedule.update("1", 42, false, 3500));
+        assertFalse(schedule.update("1", 42, false, 7500));
+        assertEquals(4000, schedule.getInterval("1"));
+
+        // a changed state is polled fast again
+        assertTrue(schedule.update("1", 43, false, 11500));
+        assertEquals(500, schedule.getInterval("1"));
+    }
+
+    @Test
+    public void testEventLike() {
+        PollingSchedule schedule = new PollingSchedule(500, 4000);
+
+        schedule.update("1", 42, true, 0);
+        schedule.update("1", 42, true, 500);
+        schedule.update("1", 42, true, 1000);
+        assertEquals(500, schedule.getInterval("1"));
+    }
+
+    @Test
+    public void testDue() {
+        PollingSchedule schedule = new PollingSchedule(500, 4000);
+        schedule.update("1", 1, true, 0);
+        schedule.update("2", 2, false, 0);
+        schedule.update("3", 3, false, 0);
+        schedule.update("2", 2, false, 500);
+        schedule.update("3", 3, false, 500);
+
+        assertEquals(Collections.emptyList(), schedule.getDue(400));
+        assertEquals(Arrays.asList("1"), schedule.getDue(500));
+        schedule.update("1", 1, true, 500);
+        assertEquals(Arrays.asList("1"), schedule.getDue(1000));
+
+        schedule.remove("1");
+        assertEquals(0, schedule.getInterval("1"));
+        assertTrue(schedule.getDue(1500).containsAll(Arrays.asList("2", "3")));
+    }
+
+    @Test
+    public void testFullRefresh() {
+        PollingSchedule schedule = new PollingSchedule(500, 4000);
+        // all resources are fetched at first
+        assertTrue(schedule.isFullRefreshDue(0, 0));
+        schedule.fullRefreshDone(0);
+        schedule.recordFullSize(2000);
+        for (int i = 1; i <= 10; i++) {
+            schedule.update(Integer.toString(i), i, false, 0);
+        }
+
+        assertFalse(schedule.isFullRefreshDue(0, 500));
+        assertFalse(schedule.isFullRefreshDue(1, 500));
+        // the size of a single resource is estimated from the whole list at first
+        assertFalse(schedule.isFullRefreshDue(4, 500));
+        assertTrue(schedule.isFullRefreshDue(5, 500));
+        // fetching all resources is cheaper than fetching many of them one by one
+        schedule.recordSingleSize(500);
+        assertFalse(schedule.isFullRefreshDue(2, 500));
+        assertTrue(schedule.isFullRefreshDue(3, 500));
+        assertTrue(schedule.isFullRefreshDue(0, 4000));
+
+        schedule.fullRefreshDone(4000);
+        schedule.requestFullRefresh();
+        assertTrue(schedule.isFullRefreshDue(0, 4500));
+    }
+
+    @Test
+    public void testEventLikeResourcesAreFetchedOneByOne() {
+        PollingSchedule schedule = new PollingSchedule(500, 10000);
+        schedule.fullRefreshDone(0);
+        schedule.recordFullSize(20000);
+        for (int i = 1; i <= 40; i++) {
+            // two motion sensors among many other sensors, which have not changed for a while
+            for (int j = 0; j < 6; j++) {
+                schedule.update(Integer.toString(i), i, i <= 2, 0);
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            schedule.recordSingleSize(i % 2 == 0 ? 480 : 520);
+        }
+
+        for (long now = 500; now < 10000; now += 500) {
+            List<String> due = schedule.getDue(now);
+            assertEquals(Arrays.asList("1", "2"), due);
+            assertFalse(schedule.isFullRefreshDue(due.size(), now));
+            for (String id : due) {
+                schedule.update(id, Integer.parseInt(id), "1".equals(id) || "2".equals(id), now);
+            }
+        }
+        assertTrue(schedule.isFullRefreshDue(2, 10000));
+    }
+}
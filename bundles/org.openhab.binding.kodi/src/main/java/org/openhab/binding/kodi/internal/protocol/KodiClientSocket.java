@@ -14,9 +14,19 @@ package org.openhab.binding.kodi.internal.protocol;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -30,6 +40,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -38,6 +49,9 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to Kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Requests are correlated with their responses by the JSON-RPC id, so several requests can be outstanding at the same
+ * time and a slow request does not delay the others.
+ *
  * @author Paul Frank - Initial contribution
  */
 public class KodiClientSocket {
@@ -46,10 +60,20 @@ public class KodiClientSocket {
 
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
+    // status requests are sent regularly, an answer which takes longer is outdated anyway
+    private static final int STATUS_REQUEST_TIMEOUT_MS = 10000;
+    private static final Map<String, Integer> METHOD_TIMEOUTS_MS = new HashMap<>();
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    static {
+        for (String method : Arrays.asList("JSONRPC.Ping", "JSONRPC.Version", "Player.GetActivePlayers",
+                "Player.GetProperties", "Player.GetItem", "Application.GetProperties", "System.GetProperties",
+                "Profiles.GetCurrentProfile")) {
+            METHOD_TIMEOUTS_MS.put(method, STATUS_REQUEST_TIMEOUT_MS);
+        }
+    }
+
+    private final Map<Integer, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
 
     private boolean connected = false;
 
@@ -124,13 +148,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.trace("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject()) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.trace("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -151,6 +181,10 @@ public class KodiClientSocket {
             logger.trace("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            // there won't be any responses to the outstanding requests anymore
+            for (Integer messageId : new ArrayList<>(pendingRequests.keySet())) {
+                complete(messageId, null);
+            }
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -183,40 +217,167 @@ public class KodiClientSocket {
         return callMethod(methodName, null);
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
-        try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+    /**
+     * Calls a method and waits for its result.
+     *
+     * @return the result or null if the call failed or timed out
+     */
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        return await(callMethodAsync(methodName, params), methodName, params);
+    }
+
+    /**
+     * Calls several methods with a single batch request and waits for their results.
+     *
+     * @return the results in the order of the given calls, null for a call which failed or timed out
+     */
+    public List<JsonElement> callMethods(List<MethodCall> calls) {
+        List<CompletableFuture<JsonElement>> futures = callMethodsAsync(calls);
+        List<JsonElement> results = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            results.add(await(futures.get(i), calls.get(i).methodName, calls.get(i).params));
+        }
+        return results;
+    }
 
-            if (params != null) {
-                payloadObject.add("params", params);
+    /**
+     * Calls a method without waiting for its result.
+     *
+     * @return a future which completes with the result, or with null if the call failed or timed out
+     */
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, JsonObject params) {
+        PendingRequest request = createRequest(methodName, params);
+        send(request.payload, Collections.singletonList(request));
+        return request.future;
+    }
+
+    /**
+     * Calls several methods with a single batch request without waiting for their results.
+     *
+     * @return futures in the order of the given calls, which complete with the result or with null if the call
+     *         failed or timed out
+     */
+    public List<CompletableFuture<JsonElement>> callMethodsAsync(List<MethodCall> calls) {
+        JsonArray batch = new JsonArray();
+        List<PendingRequest> requests = new ArrayList<>(calls.size());
+        List<CompletableFuture<JsonElement>> futures = new ArrayList<>(calls.size());
+        for (MethodCall call : calls) {
+            PendingRequest request = createRequest(call.methodName, call.params);
+            batch.add(request.payload);
+            requests.add(request);
+            futures.add(request.future);
+        }
+        if (!requests.isEmpty()) {
+            send(batch, requests);
+        }
+        return futures;
+    }
+
+    private PendingRequest createRequest(String methodName, JsonObject params) {
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", nextMessageId.getAndIncrement());
+        payloadObject.addProperty("method", methodName);
+
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
+        return new PendingRequest(methodName, params, payloadObject);
+    }
+
+    private void send(JsonElement payload, List<PendingRequest> requests) {
+        for (PendingRequest request : requests) {
+            int messageId = request.payload.get("id").getAsInt();
+            pendingRequests.put(messageId, request);
+            request.timeoutJob = scheduler.schedule(() -> timeout(messageId), getTimeout(request.methodName),
+                    TimeUnit.MILLISECONDS);
+        }
+        try {
+            sendMessage(mapper.toJson(payload));
+        } catch (IOException e) {
+            for (PendingRequest request : requests) {
+                logger.debug("Error during callMethod({}, {}): {}", request.methodName, request.params,
+                        e.getMessage(), e);
+                complete(request.payload.get("id").getAsInt(), null);
             }
+        }
+    }
 
-            String message = mapper.toJson(payloadObject);
-
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
-
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns: {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
-                }
-            } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
-                return null;
+    private void handleResponse(JsonObject response) {
+        JsonElement id = response.get("id");
+        if (id == null || !id.isJsonPrimitive()) {
+            logger.debug("Error received from server: {}", response.get("error"));
+            return;
+        }
+        logger.debug("callMethod returns: {}", response);
+        if (response.has("result")) {
+            complete(id.getAsInt(), response.get("result"));
+        } else {
+            logger.debug("Error received from server: {}", response.get("error"));
+            complete(id.getAsInt(), null);
+        }
+    }
+
+    private void timeout(int messageId) {
+        PendingRequest request = pendingRequests.get(messageId);
+        if (request != null) {
+            logger.debug("Timeout during callMethod({}, {})", request.methodName, request.params);
+            complete(messageId, null);
+        }
+    }
+
+    private void complete(int messageId, JsonElement result) {
+        PendingRequest request = pendingRequests.remove(messageId);
+        if (request != null) {
+            ScheduledFuture<?> timeoutJob = request.timeoutJob;
+            if (timeoutJob != null) {
+                timeoutJob.cancel(false);
             }
-        } catch (IOException | InterruptedException e) {
+            request.future.complete(result);
+        }
+    }
+
+    private JsonElement await(CompletableFuture<JsonElement> future, String methodName, JsonObject params) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted during callMethod({}, {})", methodName, params);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
             logger.debug("Error during callMethod({}, {}): {}", methodName, params, e.getMessage(), e);
             return null;
         }
     }
+
+    private static int getTimeout(String methodName) {
+        return METHOD_TIMEOUTS_MS.getOrDefault(methodName, REQUEST_TIMEOUT_MS);
+    }
+
+    /**
+     * A method call for a batch request.
+     */
+    public static class MethodCall {
+        private final String methodName;
+        private final JsonObject params;
+
+        public MethodCall(String methodName, JsonObject params) {
+            this.methodName = methodName;
+            this.params = params;
+        }
+    }
+
+    private static class PendingRequest {
+        private final String methodName;
+        private final JsonObject params;
+        private final JsonObject payload;
+        private final CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeoutJob;
+
+        private PendingRequest(String methodName, JsonObject params, JsonObject payload) {
+            this.methodName = methodName;
+            this.params = params;
+            this.payload = payload;
+        }
+    }
 }
@@ -44,6 +44,7 @@ import org.openhab.binding.kodi.internal.model.KodiSubtitle;
 import org.openhab.binding.kodi.internal.model.KodiSystemProperties;
 import org.openhab.binding.kodi.internal.model.KodiUniqueID;
 import org.openhab.binding.kodi.internal.model.KodiVideoStream;
+import org.openhab.binding.kodi.internal.protocol.KodiClientSocket.MethodCall;
 import org.openhab.binding.kodi.internal.utils.ByteArrayFileCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -182,7 +183,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return -1;
     }
 
-    private synchronized JsonArray getPlaylistsInternal() {
+    private JsonArray getPlaylistsInternal() {
         String method = "Playlist.GetPlaylists";
         String hash = hostname + '#' + method;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -196,7 +197,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    private synchronized JsonObject getPlaylistItemsInternal(int playlistID) {
+    private JsonObject getPlaylistItemsInternal(int playlistID) {
         JsonObject params = new JsonObject();
         params.addProperty("playlistid", playlistID);
         JsonElement response = socket.callMethod("Playlist.GetItems", params);
@@ -337,7 +338,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
      *
      * @return a list of {@link KodiFavorite}
      */
-    public synchronized List<KodiFavorite> getFavorites() {
+    public List<KodiFavorite> getFavorites() {
         String method = "Favourites.GetFavourites";
         String hash = hostname + '#' + method;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -474,13 +475,19 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private int getSpeed(int activePlayer) {
+        return getSpeed(socket.callMethod("Player.GetProperties", createSpeedParams(activePlayer)));
+    }
+
+    private JsonObject createSpeedParams(int activePlayer) {
         final String[] properties = { "speed" };
 
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return params;
+    }
 
+    private int getSpeed(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("speed")) {
@@ -494,7 +501,12 @@ public class KodiConnection implements KodiClientSocketEventListener {
         if (socket.isConnected()) {
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
+                // speed, properties and item of the player are requested in a single batch
+                List<JsonElement> responses = socket.callMethods(Arrays.asList(
+                        new MethodCall("Player.GetProperties", createSpeedParams(activePlayer)),
+                        new MethodCall("Player.GetProperties", createPlayerPropertiesParams(activePlayer)),
+                        new MethodCall("Player.GetItem", createPlayerItemParams(activePlayer))));
+                int speed = getSpeed(responses.get(0));
                 if (speed == 0) {
                     updateState(KodiState.STOP);
                 } else if (speed == 1) {
@@ -504,7 +516,8 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 } else {
                     updateState(KodiState.FASTFORWARD);
                 }
-                requestPlayerUpdate(activePlayer);
+                updatePlayerProperties(responses.get(1));
+                updatePlayerItem(responses.get(2));
             } else {
                 updateState(KodiState.STOP);
             }
@@ -512,11 +525,14 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private void requestPlayerUpdate(int activePlayer) {
-        requestPlayerPropertiesUpdate(activePlayer);
-        requestPlayerItemUpdate(activePlayer);
+        List<JsonElement> responses = socket.callMethods(
+                Arrays.asList(new MethodCall("Player.GetProperties", createPlayerPropertiesParams(activePlayer)),
+                        new MethodCall("Player.GetItem", createPlayerItemParams(activePlayer))));
+        updatePlayerProperties(responses.get(0));
+        updatePlayerItem(responses.get(1));
     }
 
-    private void requestPlayerItemUpdate(int activePlayer) {
+    private JsonObject createPlayerItemParams(int activePlayer) {
         final String[] properties = { PROPERTY_UNIQUEID, "title", "originaltitle", "album", "artist", "track",
                 "director", PROPERTY_THUMBNAIL, PROPERTY_FANART, "file", "showtitle", "season", "episode", "channel",
                 "channeltype", "genre", "mpaa", "rating", "votes", "userrating" };
@@ -524,8 +540,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+        return params;
+    }
 
+    private void updatePlayerItem(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("item")) {
@@ -679,7 +697,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    private void requestPlayerPropertiesUpdate(int activePlayer) {
+    private JsonObject createPlayerPropertiesParams(int activePlayer) {
         final String[] properties = { PROPERTY_SUBTITLEENABLED, PROPERTY_CURRENTSUBTITLE, PROPERTY_CURRENTAUDIOSTREAM,
                 PROPERTY_CURRENTVIDEOSTREAM, PROPERTY_PERCENTAGE, PROPERTY_TIME, PROPERTY_TOTALTIME,
                 PROPERTY_AUDIOSTREAMS, PROPERTY_SUBTITLES };
@@ -687,8 +705,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return params;
+    }
 
+    private void updatePlayerProperties(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
 
@@ -1143,7 +1163,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         playInternal(item, options);
     }
 
-    public synchronized List<KodiPVRChannelGroup> getPVRChannelGroups(final String pvrChannelType) {
+    public List<KodiPVRChannelGroup> getPVRChannelGroups(final String pvrChannelType) {
         String method = "PVR.GetChannelGroups";
         String hash = hostname + '#' + method + "#channeltype=" + pvrChannelType;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -1183,7 +1203,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return pvrChannelGroups.isEmpty() ? 0 : pvrChannelGroups.get(0).getId();
     }
 
-    public synchronized List<KodiPVRChannel> getPVRChannels(final int pvrChannelGroupId) {
+    public List<KodiPVRChannel> getPVRChannels(final int pvrChannelGroupId) {
         String method = "PVR.GetChannels";
         String hash = hostname + '#' + method + "#channelgroupid=" + pvrChannelGroupId;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
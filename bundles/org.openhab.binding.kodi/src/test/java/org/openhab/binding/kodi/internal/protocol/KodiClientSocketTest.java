@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.eclipse.jetty.websocket.server.WebSocketHandler;
+import org.eclipse.jetty.websocket.servlet.WebSocketServletFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.kodi.internal.protocol.KodiClientSocket.MethodCall;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Test class for the {@link KodiClientSocket} class, which talks to a local stub of the Kodi JSON-RPC websocket.
+ *
+ * The stub answers every request with the name of the called method, requests for {@link #SLOW_METHOD} are answered
+ * delayed and responses to batch requests are sent in reverse order.
+ *
+ * @author agent - Initial contribution
+ */
+public class KodiClientSocketTest {
+
+    private static final String SLOW_METHOD = "VideoLibrary.GetMovies";
+    private static final long SLOW_RESPONSE_MS = 2000;
+    private static final int CONCURRENT_CALLS = 500;
+
+    private static ScheduledExecutorService stubExecutor;
+
+    private Server server;
+    private WebSocketClient webSocketClient;
+    private ScheduledExecutorService scheduler;
+    private KodiClientSocket subject;
+
+    @Before
+    public void setUp() throws Exception {
+        stubExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        server = new Server();
+        ServerConnector connector = new ServerConnector(server);
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.setHandler(new WebSocketHandler() {
+            @Override
+            public void configure(WebSocketServletFactory factory) {
+                factory.register(StubKodiSocket.class);
+            }
+        });
+        server.start();
+
+        webSocketClient = new WebSocketClient();
+        webSocketClient.start();
+        scheduler = Executors.newScheduledThreadPool(2);
+
+        URI uri = new URI("ws://127.0.0.1:" + connector.getLocalPort() + "/jsonrpc");
+        subject = new KodiClientSocket(null, uri, scheduler, webSocketClient);
+        subject.open();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!subject.isConnected() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subject.isConnected(), is(true));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        subject.close();
+        webSocketClient.stop();
+        server.stop();
+        scheduler.shutdownNow();
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testCallMethod() {
+        JsonElement result = subject.callMethod("Player.GetActivePlayers");
+        assertThat(result.getAsString(), is("Player.GetActivePlayers"));
+    }
+
+    @Test
+    public void testErrorResponse() {
+        assertThat(subject.callMethod("Unknown.Method"), is(nullValue()));
+    }
+
+    @Test
+    public void testBatchResultsInOrderOfCalls() {
+        List<JsonElement> results = subject.callMethods(Arrays.asList(new MethodCall("Player.GetProperties", null),
+                new MethodCall("Unknown.Method", null), new MethodCall("Player.GetItem", null)));
+
+        assertThat(results.size(), is(3));
+        assertThat(results.get(0).getAsString(), is("Player.GetProperties"));
+        assertThat(results.get(1), is(nullValue()));
+        assertThat(results.get(2).getAsString(), is("Player.GetItem"));
+    }
+
+    @Test
+    public void testSlowCallDoesNotBlockOtherCalls() throws Exception {
+        CompletableFuture<JsonElement> slowCall = subject.callMethodAsync(SLOW_METHOD, null);
+
+        JsonElement result = subject.callMethod("Player.GetActivePlayers");
+        assertThat(result.getAsString(), is("Player.GetActivePlayers"));
+        assertThat(slowCall.isDone(), is(false));
+
+        assertThat(slowCall.get(SLOW_RESPONSE_MS * 5, TimeUnit.MILLISECONDS).getAsString(), is(SLOW_METHOD));
+    }
+
+    @Test
+    public void testConcurrentCallsGetTheirOwnResponses() throws Exception {
+        List<CompletableFuture<JsonElement>> calls = new ArrayList<>(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            calls.add(subject.callMethodAsync("Player.GetProperties" + i, null));
+        }
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            assertThat(calls.get(i).get().getAsString(), is("Player.GetProperties" + i));
+        }
+    }
+
+    /**
+     * Stub of the Kodi JSON-RPC websocket. Responses are sent by a single thread, as concurrent blocking sends are not
+     * allowed on a websocket session.
+     */
+    @WebSocket
+    public static class StubKodiSocket {
+
+        private final JsonParser parser = new JsonParser();
+
+        @OnWebSocketMessage
+        public void onMessage(Session session, String message) {
+            JsonElement request = parser.parse(message);
+            if (request.isJsonArray()) {
+                JsonArray responses = new JsonArray();
+                JsonArray requests = request.getAsJsonArray();
+                for (int i = requests.size() - 1; i >= 0; i--) {
+                    responses.add(createResponse(requests.get(i).getAsJsonObject()));
+                }
+                send(session, responses, 0);
+            } else {
+                JsonObject call = request.getAsJsonObject();
+                long delay = SLOW_METHOD.equals(call.get("method").getAsString()) ? SLOW_RESPONSE_MS : 0;
+                send(session, createResponse(call), delay);
+            }
+        }
+
+        private JsonObject createResponse(JsonObject call) {
+            JsonObject response = new JsonObject();
+            response.addProperty("jsonrpc", "2.0");
+            response.add("id", call.get("id"));
+            String method = call.get("method").getAsString();
+            if (method.startsWith("Unknown.")) {
+                JsonObject error = new JsonObject();
+                error.addProperty("code", -32601);
+                error.addProperty("message", "Method not found.");
+                response.add("error", error);
+            } else {
+                response.addProperty("result", method);
+            }
+            return response;
+        }
+
+        private void send(Session session, JsonElement response, long delay) {
+            stubExecutor.schedule(() -> {
+                try {
+                    session.getRemote().sendString(response.toString());
+                } catch (Exception e) {
+                    // the client closed the connection
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,7 +51,7 @@ import org.openhab.binding.loxone.internal.types.LxConfig;
 import org.openhab.binding.loxone.internal.types.LxConfig.LxServerInfo;
 import org.openhab.binding.loxone.internal.types.LxErrorCode;
 import org.openhab.binding.loxone.internal.types.LxResponse;
-import org.openhab.binding.loxone.internal.types.LxState;
+import org.openhab.binding.loxone.internal.types.LxStateMap;
 import org.openhab.binding.loxone.internal.types.LxUuid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,11 +78,11 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // initial delay to initiate connection
     private int reconnectDelay;
 
-    // Map of state UUID to a map of control UUID and state objects
+    // Map of state UUID to the state objects of all controls
     // State with a unique UUID can be configured in many controls and each control can even have a different name of
     // the state. It must be ensured that updates received for this state UUID are passed to all controls that have this
     // state UUID configured.
-    private Map<LxUuid, Map<LxUuid, LxState>> states = new HashMap<>();
+    private final LxStateMap states = new LxStateMap();
 
     private LxWebSocket socket;
     private WebSocketClient wsClient;
@@ -254,17 +255,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     public void removeControl(LxControl control) {
         logger.debug("[{}] Removing control: {}", debugId, control.getName());
         control.getSubControls().values().forEach(subControl -> removeControl(subControl));
-        LxUuid controlUuid = control.getUuid();
-        control.getStates().values().forEach(state -> {
-            LxUuid stateUuid = state.getUuid();
-            Map<LxUuid, LxState> perUuid = states.get(stateUuid);
-            if (perUuid != null) {
-                perUuid.remove(controlUuid);
-                if (perUuid.isEmpty()) {
-                    states.remove(stateUuid);
-                }
-            }
-        });
+        control.getStates().values().forEach(state -> states.remove(state));
 
         ThingBuilder builder = editThing();
         control.getChannels().forEach(channel -> {
@@ -399,20 +390,27 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     }
 
     /**
-     * Update to the new value of a state received from Miniserver. This method will go through all instances of this
-     * state UUID and update their value, which will trigger corresponding control state update method in each control
-     * that has this state.
+     * Update to the new values of states received from Miniserver in a table of value states. This method will go
+     * through all instances of each state UUID and update their value, which will trigger corresponding control state
+     * update method in each control that has this state and whose value changed.
      *
-     * @param uuid  Miniserver's state UUID
-     * @param value a new value for this state
+     * @param buffer little endian buffer with the received table
+     * @param offset offset of the table in the buffer
+     * @param length length of the table
      */
-    void updateStateValue(LxUuid uuid, Object value) {
-        Map<LxUuid, LxState> perStateUuid = states.get(uuid);
-        if (perStateUuid != null) {
-            perStateUuid.forEach((controlUuid, state) -> {
-                state.setStateValue(value);
-            });
-        }
+    void updateValueStates(ByteBuffer buffer, int offset, int length) {
+        states.updateValueStates(buffer, offset, length);
+    }
+
+    /**
+     * Update to the new values of states received from Miniserver in a table of text states.
+     *
+     * @param buffer little endian buffer with the received table
+     * @param offset offset of the table in the buffer
+     * @param length length of the table
+     */
+    void updateTextStates(ByteBuffer buffer, int offset, int length) {
+        states.updateTextStates(buffer, offset, length);
     }
 
     /**
@@ -486,12 +484,9 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         LxUuid uuid = control.getUuid();
         logger.debug("[{}] Adding control to handler: {}, {}", debugId, uuid, control.getName());
         control.getStates().values().forEach(state -> {
-            Map<LxUuid, LxState> perUuid = states.get(state.getUuid());
-            if (perUuid == null) {
-                perUuid = new HashMap<>();
-                states.put(state.getUuid(), perUuid);
+            if (!states.add(state)) {
+                logger.debug("[{}] State {} of control {} can't receive updates", debugId, state.getUuid(), uuid);
             }
-            perUuid.put(uuid, state);
         });
         controls.put(control.getUuid(), control);
         control.getChannels().forEach(channel -> channels.put(channel.getUID(), control));
@@ -206,9 +206,7 @@ public class LxWebSocket {
     }
 
     @OnWebSocketMessage
-    public void onBinaryMessage(byte data[], int msgOffset, int msgLength) {
-        int offset = msgOffset;
-        int length = msgLength;
+    public void onBinaryMessage(byte data[], int offset, int length) {
         if (logger.isTraceEnabled()) {
             String s = HexUtils.bytesToHex(data);
             logger.trace("[{}] Binary message: length {}: {}", debugId, length, s);
@@ -237,24 +235,12 @@ public class LxWebSocket {
                 switch (header.getType()) {
                     case EVENT_TABLE_OF_VALUE_STATES:
                         stopResponseTimeout();
-                        while (length > 0) {
-                            Double value = ByteBuffer.wrap(data, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN)
-                                    .getDouble();
-                            thingHandler.updateStateValue(new LxUuid(data, offset), value);
-                            offset += 24;
-                            length -= 24;
-                        }
+                        thingHandler.updateValueStates(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), offset,
+                                length);
                         break;
                     case EVENT_TABLE_OF_TEXT_STATES:
-                        while (length > 0) {
-                            // unused today at (offset + 16): iconUuid
-                            int textLen = ByteBuffer.wrap(data, offset + 32, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
-                            String value = new String(data, offset + 36, textLen);
-                            int size = 36 + (textLen % 4 > 0 ? textLen + 4 - (textLen % 4) : textLen);
-                            thingHandler.updateStateValue(new LxUuid(data, offset), value);
-                            offset += size;
-                            length -= size;
-                        }
+                        thingHandler.updateTextStates(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), offset,
+                                length);
                         break;
                     case KEEPALIVE_RESPONSE:
                     case TEXT_MESSAGE:
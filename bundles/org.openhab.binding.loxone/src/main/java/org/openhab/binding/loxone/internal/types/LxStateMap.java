@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A map of control states ({@link LxState}) by the binary value of their UUID.
+ * <p>
+ * Miniserver sends state updates in binary tables, where each entry starts with the 16 bytes of the state's UUID. The
+ * map stores the UUIDs as two long values in an open addressing hash table, so the entries of a table can be matched
+ * to the states without creating any {@link LxUuid} objects or strings.
+ * <p>
+ * A state with a unique UUID can be configured in many controls, so each UUID maps to an array of states, with at
+ * most one state per control. The map is not thread safe.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class LxStateMap {
+    private static final LxState[] NO_STATES = new LxState[0];
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] highBits = new long[INITIAL_CAPACITY];
+    private long[] lowBits = new long[INITIAL_CAPACITY];
+    private LxState[][] values = new LxState[INITIAL_CAPACITY][];
+    private int size;
+
+    /**
+     * Adds a state to the map. A state of the same control with the same UUID is replaced.
+     *
+     * @param state state to add
+     * @return true if the state was added, false if its UUID is not a binary UUID and can't receive updates
+     */
+    public boolean add(LxState state) {
+        long[] key = parseUuid(state.getUuid());
+        if (key == null) {
+            return false;
+        }
+        int index = indexOf(key[0], key[1]);
+        LxState[] states = values[index];
+        if (states == null) {
+            highBits[index] = key[0];
+            lowBits[index] = key[1];
+            values[index] = new LxState[] { state };
+            if (++size * 2 > values.length) {
+                resize(values.length * 2);
+            }
+            return true;
+        }
+        LxUuid controlUuid = state.getControl().getUuid();
+        for (int i = 0; i < states.length; i++) {
+            if (states[i].getControl().getUuid().equals(controlUuid)) {
+                states[i] = state;
+                return true;
+            }
+        }
+        states = Arrays.copyOf(states, states.length + 1);
+        states[states.length - 1] = state;
+        values[index] = states;
+        return true;
+    }
+
+    /**
+     * Removes the state of a control from the map.
+     *
+     * @param state state to remove, only its UUID and control are compared
+     */
+    public void remove(LxState state) {
+        long[] key = parseUuid(state.getUuid());
+        if (key == null) {
+            return;
+        }
+        int index = indexOf(key[0], key[1]);
+        LxState[] states = values[index];
+        if (states == null) {
+            return;
+        }
+        LxUuid controlUuid = state.getControl().getUuid();
+        for (int i = 0; i < states.length; i++) {
+            if (states[i].getControl().getUuid().equals(controlUuid)) {
+                if (states.length == 1) {
+                    delete(index);
+                } else {
+                    LxState[] remaining = new LxState[states.length - 1];
+                    System.arraycopy(states, 0, remaining, 0, i);
+                    System.arraycopy(states, i + 1, remaining, i, states.length - i - 1);
+                    values[index] = remaining;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets all states with the given UUID.
+     *
+     * @param high first 8 bytes of the UUID
+     * @param low  last 8 bytes of the UUID
+     * @return states with this UUID, an empty array if there are none
+     */
+    public LxState[] get(long high, long low) {
+        LxState[] states = values[indexOf(high, low)];
+        return states != null ? states : NO_STATES;
+    }
+
+    /**
+     * Gets the number of distinct UUIDs in the map.
+     *
+     * @return number of UUIDs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all states from the map.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Updates the states with the values of a table of value states received from the Miniserver. Each entry of the
+     * table consists of 16 bytes of UUID and a little endian double value.
+     *
+     * @param buffer buffer with the table, its order must be little endian
+     * @param offset offset of the table in the buffer
+     * @param length length of the table in bytes
+     * @throws IndexOutOfBoundsException when the table is malformed
+     */
+    public void updateValueStates(ByteBuffer buffer, int offset, int length) throws IndexOutOfBoundsException {
+        int end = offset + length;
+        for (int entry = offset; entry < end; entry += 24) {
+            LxState[] states = get(getHighBits(buffer, entry), getLowBits(buffer, entry));
+            if (states.length > 0) {
+                double value = buffer.getDouble(entry + 16);
+                for (LxState state : states) {
+                    state.setStateValue(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the states with the values of a table of text states received from the Miniserver. Each entry of the
+     * table consists of 16 bytes of UUID, 16 bytes of icon UUID, a little endian text length and the text, padded to
+     * multiple of 4 bytes.
+     *
+     * @param buffer buffer with the table, its order must be little endian and it must be backed by an array
+     * @param offset offset of the table in the buffer
+     * @param length length of the table in bytes
+     * @throws IndexOutOfBoundsException when the table is malformed
+     */
+    public void updateTextStates(ByteBuffer buffer, int offset, int length) throws IndexOutOfBoundsException {
+        int end = offset + length;
+        int entry = offset;
+        while (entry < end) {
+            // unused today at (entry + 16): iconUuid
+            int textLen = buffer.getInt(entry + 32);
+            if (textLen < 0) {
+                throw new IndexOutOfBoundsException("Negative text length " + textLen);
+            }
+            LxState[] states = get(getHighBits(buffer, entry), getLowBits(buffer, entry));
+            if (states.length > 0) {
+                String value = new String(buffer.array(), entry + 36, textLen);
+                for (LxState state : states) {
+                    state.setStateValue(value);
+                }
+            }
+            entry += 36 + (textLen % 4 > 0 ? textLen + 4 - (textLen % 4) : textLen);
+        }
+    }
+
+    /**
+     * Gets the first 8 bytes of a binary UUID, in the order of its string representation.
+     *
+     * @param buffer buffer with the UUID, its order must be little endian
+     * @param offset offset of the UUID
+     * @return first 8 bytes of the UUID
+     */
+    public static long getHighBits(ByteBuffer buffer, int offset) {
+        return ((buffer.getInt(offset) & 0xFFFFFFFFL) << 32) | ((buffer.getShort(offset + 4) & 0xFFFFL) << 16)
+                | (buffer.getShort(offset + 6) & 0xFFFFL);
+    }
+
+    /**
+     * Gets the last 8 bytes of a binary UUID, in the order of its string representation.
+     *
+     * @param buffer buffer with the UUID, its order must be little endian
+     * @param offset offset of the UUID
+     * @return last 8 bytes of the UUID
+     */
+    public static long getLowBits(ByteBuffer buffer, int offset) {
+        return Long.reverseBytes(buffer.getLong(offset + 8));
+    }
+
+    /**
+     * Converts an UUID received in the configuration to its binary representation.
+     *
+     * @param uuid UUID to convert
+     * @return first and last 8 bytes of the UUID or null if it does not consist of 32 hexadecimal digits
+     */
+    static long[] parseUuid(LxUuid uuid) {
+        String string = uuid.toString();
+        long[] key = new long[2];
+        int digits = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0 || digits == 32) {
+                return null;
+            }
+            key[digits / 16] = (key[digits / 16] << 4) | digit;
+            digits++;
+        }
+        return digits == 32 ? key : null;
+    }
+
+    private int indexOf(long high, long low) {
+        int mask = values.length - 1;
+        int index = hash(high, low) & mask;
+        while (values[index] != null && (highBits[index] != high || lowBits[index] != low)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void delete(int index) {
+        // shift the following entries of the probe sequence back, so no lookup stops at the deleted slot
+        int mask = values.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(highBits[next], lowBits[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                highBits[hole] = highBits[next];
+                lowBits[hole] = lowBits[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = null;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHighBits = highBits;
+        long[] oldLowBits = lowBits;
+        LxState[][] oldValues = values;
+        highBits = new long[capacity];
+        lowBits = new long[capacity];
+        values = new LxState[capacity][];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldHighBits[i], oldLowBits[i]);
+                highBits[index] = oldHighBits[i];
+                lowBits[index] = oldLowBits[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long high, long low) {
+        // many UUIDs of a Miniserver share the last 8 bytes, so both halves are mixed
+        long hash = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
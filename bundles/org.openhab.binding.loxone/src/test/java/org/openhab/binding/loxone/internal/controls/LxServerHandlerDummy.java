@@ -54,6 +54,7 @@ public class LxServerHandlerDummy implements LxServerHandlerApi {
     Map<LxUuid, LxControl> controls;
     Map<LxUuid, LxControl> extraControls = new HashMap<>();
     Map<ChannelUID, StateDescription> stateDescriptions = new HashMap<>();
+    int channelStateUpdates;
 
     public LxServerHandlerDummy() {
         GsonBuilder builder = new GsonBuilder();
@@ -96,8 +97,7 @@ public class LxServerHandlerDummy implements LxServerHandlerApi {
 
     @Override
     public void setChannelState(ChannelUID channelId, State state) {
-        // TODO Auto-generated method stub
-
+        channelStateUpdates++;
     }
 
     @Override
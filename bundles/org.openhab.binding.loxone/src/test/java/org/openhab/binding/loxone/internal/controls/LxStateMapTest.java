@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.controls;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.loxone.internal.types.LxState;
+import org.openhab.binding.loxone.internal.types.LxStateMap;
+import org.openhab.binding.loxone.internal.types.LxUuid;
+
+/**
+ * Test class for (@link LxStateMap}, using the states of the test Miniserver configuration and value tables as sent
+ * by the Miniserver
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class LxStateMapTest {
+    private static final int REPLAYS = 1000;
+
+    private LxServerHandlerDummy handler;
+    private LxStateMap map;
+    private final Map<String, List<LxState>> statesByUuid = new LinkedHashMap<>();
+
+    @Before
+    public void setup() {
+        handler = new LxServerHandlerDummy();
+        handler.loadConfiguration();
+        map = new LxStateMap();
+        addStates(handler.controls.values());
+    }
+
+    @Test
+    public void testBinaryUuids() {
+        assertEquals(statesByUuid.size(), map.size());
+        ByteBuffer table = createValueTable(0.0);
+        int offset = 0;
+        for (String uuid : statesByUuid.keySet()) {
+            // the same UUID as the one created from the binary message
+            assertEquals(new LxUuid(uuid), new LxUuid(table.array(), offset));
+            LxState[] states = map.get(LxStateMap.getHighBits(table, offset), LxStateMap.getLowBits(table, offset));
+            assertEquals(statesByUuid.get(uuid).size(), states.length);
+            offset += 24;
+        }
+    }
+
+    @Test
+    public void testValueStates() {
+        ByteBuffer table = createValueTable(1.0);
+        map.updateValueStates(table, 0, table.capacity());
+        statesByUuid.values()
+                .forEach(states -> states.forEach(state -> assertEquals(Double.valueOf(1.0), state.getStateValue())));
+        int updates = handler.channelStateUpdates;
+        assertTrue(updates > 0);
+
+        // unchanged values do not update channels
+        map.updateValueStates(table, 0, table.capacity());
+        assertEquals(updates, handler.channelStateUpdates);
+
+        map.updateValueStates(createValueTable(0.0), 0, table.capacity());
+        assertTrue(handler.channelStateUpdates > updates);
+    }
+
+    @Test
+    public void testTextStates() {
+        String uuid = statesByUuid.entrySet().stream()
+                .filter(entry -> entry.getValue().get(0).getControl() instanceof LxControlTextState).findFirst()
+                .get().getKey();
+        byte[] text = "Lights on".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer table = ByteBuffer.allocate(36 + 12).order(ByteOrder.LITTLE_ENDIAN);
+        putUuid(table, uuid);
+        table.position(32);
+        table.putInt(text.length);
+        table.put(text);
+
+        map.updateTextStates(table, 0, table.capacity());
+        statesByUuid.get(uuid).forEach(state -> assertEquals("Lights on", state.getStateValue()));
+    }
+
+    @Test
+    public void testAddRemove() {
+        int size = map.size();
+        for (List<LxState> states : statesByUuid.values()) {
+            states.forEach(state -> map.remove(state));
+        }
+        assertEquals(0, map.size());
+        ByteBuffer table = createValueTable(1.0);
+        for (int offset = 0; offset < table.capacity(); offset += 24) {
+            LxState[] states = map.get(LxStateMap.getHighBits(table, offset), LxStateMap.getLowBits(table, offset));
+            assertEquals(0, states.length);
+        }
+
+        statesByUuid.values().forEach(states -> states.forEach(state -> map.add(state)));
+        assertEquals(size, map.size());
+        // adding a state of the same control again replaces it
+        statesByUuid.values().forEach(states -> states.forEach(state -> map.add(state)));
+        assertEquals(size, map.size());
+        testBinaryUuids();
+    }
+
+    @Test
+    public void testReplay() {
+        // every state gets its own value, so a value routed to the wrong state is detected
+        ByteBuffer first = createValueTable(1.0, 1.0);
+        ByteBuffer second = createValueTable(-1.0, -1.0);
+        map.updateValueStates(first, 0, first.capacity());
+        assertValueStates(1.0, 1.0);
+        int updates = handler.channelStateUpdates;
+        map.updateValueStates(second, 0, second.capacity());
+        int secondUpdates = handler.channelStateUpdates - updates;
+        map.updateValueStates(first, 0, first.capacity());
+        int firstUpdates = handler.channelStateUpdates - updates - secondUpdates;
+        assertTrue(firstUpdates > 0);
+        assertTrue(secondUpdates > 0);
+        updates = handler.channelStateUpdates;
+
+        // mostly unchanged values, as in the steady stream of updates after the initial table
+        ByteBuffer[] stream = { first, first, second, second, second };
+        for (int i = 0; i < REPLAYS; i++) {
+            ByteBuffer table = stream[i % stream.length];
+            map.updateValueStates(table, 0, table.capacity());
+        }
+
+        // only the changes between the tables update channels
+        int cycles = REPLAYS / stream.length;
+        assertEquals(updates + cycles * secondUpdates + (cycles - 1) * firstUpdates, handler.channelStateUpdates);
+        assertValueStates(-1.0, -1.0);
+    }
+
+    private void assertValueStates(double first, double step) {
+        int index = 0;
+        for (List<LxState> states : statesByUuid.values()) {
+            Double value = first + index++ * step;
+            states.forEach(state -> assertEquals(value, state.getStateValue()));
+        }
+    }
+
+    private void addStates(Collection<LxControl> controls) {
+        for (LxControl control : controls) {
+            for (LxState state : control.getStates().values()) {
+                if (map.add(state)) {
+                    List<LxState> states = statesByUuid.computeIfAbsent(state.getUuid().toString(),
+                            uuid -> new ArrayList<>());
+                    if (!states.contains(state)) {
+                        states.add(state);
+                    }
+                }
+            }
+            addStates(control.getSubControls().values());
+        }
+    }
+
+    private ByteBuffer createValueTable(double value) {
+        return createValueTable(value, 0.0);
+    }
+
+    private ByteBuffer createValueTable(double first, double step) {
+        ByteBuffer table = ByteBuffer.allocate(statesByUuid.size() * 24).order(ByteOrder.LITTLE_ENDIAN);
+        int index = 0;
+        for (String uuid : statesByUuid.keySet()) {
+            putUuid(table, uuid);
+            table.putDouble(first + index++ * step);
+        }
+        return table;
+    }
+
+    private static void putUuid(ByteBuffer buffer, String uuid) {
+        String digits = uuid.replace("-", "");
+        long high = Long.parseUnsignedLong(digits.substring(0, 16), 16);
+        long low = Long.parseUnsignedLong(digits.substring(16), 16);
+        buffer.putInt((int) (high >>> 32));
+        buffer.putShort((short) (high >>> 16));
+        buffer.putShort((short) high);
+        buffer.putLong(Long.reverseBytes(low));
+    }
+}
@@ -24,9 +24,12 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
+import org.eclipse.smarthome.io.net.http.HttpClientFactory;
 import org.openhab.binding.meteoblue.internal.handler.MeteoBlueBridgeHandler;
 import org.openhab.binding.meteoblue.internal.handler.MeteoBlueHandler;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * The {@link MeteoBlueHandlerFactory} is responsible for creating things and thing
@@ -41,6 +44,17 @@ public class MeteoBlueHandlerFactory extends BaseThingHandlerFactory {
             .concat(BRIDGE_THING_TYPES_UIDS.stream(), MeteoBlueBindingConstants.SUPPORTED_THING_TYPES_UIDS.stream())
             .collect(Collectors.toSet());
 
+    private HttpFetcher httpFetcher;
+
+    @Reference
+    protected void setHttpClientFactory(HttpClientFactory httpClientFactory) {
+        this.httpFetcher = new HttpFetcher(httpClientFactory.getCommonHttpClient());
+    }
+
+    protected void unsetHttpClientFactory(HttpClientFactory httpClientFactory) {
+        this.httpFetcher = null;
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -51,7 +65,7 @@ public class MeteoBlueHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_TYPE_WEATHER)) {
-            return new MeteoBlueHandler(thing);
+            return new MeteoBlueHandler(thing, httpFetcher);
         }
 
         if (thingTypeUID.equals(THING_TYPE_BRIDGE)) {
@@ -46,10 +46,11 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.State;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.meteoblue.internal.Forecast;
 import org.openhab.binding.meteoblue.internal.MeteoBlueConfiguration;
 import org.openhab.binding.meteoblue.internal.json.JsonData;
+import org.openhab.io.httpfetcher.HttpFetchResult;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,13 +67,15 @@ public class MeteoBlueHandler extends BaseThingHandler {
 
     private Bridge bridge;
     private Forecast[] forecasts;
+    private HttpFetcher httpFetcher;
     private Gson gson;
     private JsonData weatherData;
     private ScheduledFuture<?> refreshJob;
     private boolean properlyConfigured;
 
-    public MeteoBlueHandler(Thing thing) {
+    public MeteoBlueHandler(Thing thing, HttpFetcher httpFetcher) {
         super(thing);
+        this.httpFetcher = httpFetcher;
         gson = new Gson();
         forecasts = new Forecast[7];
     }
@@ -85,6 +88,12 @@ public class MeteoBlueHandler extends BaseThingHandler {
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // unchanged data does not update the channels, so a newly linked channel is updated from the latest data
+        updateChannel(channelUID.getId());
+    }
+
     @Override
     public void initialize() {
         logger.debug("Initializing the meteoblue handler...");
@@ -160,9 +169,11 @@ public class MeteoBlueHandler extends BaseThingHandler {
 
             try {
                 // Request new weather data
+                JsonData previousWeatherData = weatherData;
                 updateSuccessful = updateWeatherData();
 
-                if (updateSuccessful) {
+                // an unchanged response is parsed only once, the channels are up to date then
+                if (updateSuccessful && weatherData != previousWeatherData) {
                     // build forecasts from the data
                     for (int i = 0; i < 7; i++) {
                         forecasts[i] = new Forecast(i, weatherData.getMetadata(), weatherData.getUnits(),
@@ -191,6 +202,7 @@ public class MeteoBlueHandler extends BaseThingHandler {
             refreshJob.cancel(true);
             refreshJob = null;
         }
+        weatherData = null;
     }
 
     /**
@@ -322,7 +334,7 @@ public class MeteoBlueHandler extends BaseThingHandler {
         logger.trace("Using URL '{}'", url);
 
         // Run the HTTP request and get the JSON response
-        String httpResponse = getWeatherData(url);
+        HttpFetchResult httpResponse = getWeatherData(url);
         if (httpResponse == null) {
             return false;
         }
@@ -354,10 +366,10 @@ public class MeteoBlueHandler extends BaseThingHandler {
     }
 
     // Run the HTTP request and get the JSON response
-    private String getWeatherData(String url) {
+    private HttpFetchResult getWeatherData(String url) {
         try {
-            String httpResponse = HttpUtil.executeUrl("GET", url, 30 * 1000);
-            logger.trace("http response: {}", httpResponse);
+            HttpFetchResult httpResponse = httpFetcher.fetch(url, 30 * 1000);
+            logger.trace("http response: {}", httpResponse.getContent());
             return httpResponse;
         } catch (IOException e) {
             logger.debug("I/O Exception occurred while retrieving weather data.", e);
@@ -367,8 +379,8 @@ public class MeteoBlueHandler extends BaseThingHandler {
         }
     }
 
-    // Convert a json string response into a json data object
-    private JsonData translateJson(String stringData, String serviceType) {
+    // Convert a json response into a json data object, an unchanged response is converted only once
+    private JsonData translateJson(HttpFetchResult response, String serviceType) {
         JsonData weatherData = null;
 
         // For now, no distinction is made between commercial and non-commercial data;
@@ -382,7 +394,7 @@ public class MeteoBlueHandler extends BaseThingHandler {
          * }
          */
 
-        return gson.fromJson(stringData, JsonData.class);
+        return response.getContentAs(JsonData.class, stringData -> gson.fromJson(stringData, JsonData.class));
     }
 
     private Forecast getForecast(String which) {
@@ -107,6 +107,7 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
     protected transient AttributeChanged attributeChangedListener = (b, c, d, e, f) -> {
     };
     private transient boolean complete = false;
+    private transient @Nullable BulkTopicSubscriber bulkSubscriber;
 
     /**
      * Implement this interface to be notified of an updated field.
@@ -145,12 +146,31 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
             return CompletableFuture.completedFuture(null);
         }
 
-        final CompletableFuture<?>[] futures = subscriptions.stream().map(m -> connection.unsubscribe(m.topic, m))
+        final CompletableFuture<?>[] futures = subscriptions.stream().map(m -> m.unsubscribe(connection))
                 .toArray(CompletableFuture[]::new);
         subscriptions.clear();
         return CompletableFuture.allOf(futures);
     }
 
+    /**
+     * Receive the field values from a {@link BulkTopicSubscriber}, instead of subscribing to every field topic on the
+     * broker. Takes effect with the next call of
+     * {@link #subscribeAndReceive(MqttBrokerConnection, ScheduledExecutorService, String, AttributeChanged, int)}.
+     *
+     * @param bulkSubscriber A subscriber for a topic tree that contains the field topics or null to subscribe on the
+     *            broker.
+     */
+    public void setBulkSubscriber(@Nullable BulkTopicSubscriber bulkSubscriber) {
+        this.bulkSubscriber = bulkSubscriber;
+    }
+
+    /**
+     * Return the {@link BulkTopicSubscriber} the field values are received from, if any.
+     */
+    public @Nullable BulkTopicSubscriber getBulkSubscriber() {
+        return bulkSubscriber;
+    }
+
     /**
      * Subscribe to all subtopics on a MQTT broker connection base topic that match field names of s java object.
      * The fields will be kept in sync with their respective topics. Optionally, you can register update-observers for
@@ -245,7 +265,12 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
 
         final String topic = basetopic + "/" + localPrefix + field.getName();
 
-        return createSubscriber(scheduler, field, topic, mandatory);
+        SubscribeFieldToMQTTtopic subscriber = createSubscriber(scheduler, field, topic, mandatory);
+        final BulkTopicSubscriber bulkSubscriber = this.bulkSubscriber;
+        if (bulkSubscriber != null && bulkSubscriber.covers(topic)) {
+            subscriber.setBulkSubscriber(bulkSubscriber);
+        }
+        return subscriber;
     }
 
     /**
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.mapping;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
+import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
+
+/**
+ * Subscribes to a whole topic tree with a single wildcard subscription ("base/topic/#") and passes the received
+ * messages on to the {@link MqttMessageSubscriber}s of single topics within this tree.
+ *
+ * <p>
+ * A broker sends all retained messages of a tree right after the subscription. The messages of attribute topics,
+ * which start with a "$", are kept, so a subscriber registered later, for example for the attributes of a Homie node
+ * which is only known after the device attributes have been parsed, receives the value immediately and without
+ * another round trip to the broker.
+ * </p>
+ *
+ * <p>
+ * The tree is considered settled if no message has been received for the settle time after the subscription. From
+ * then on all retained messages have been received and a field without a value will not get one from the broker, see
+ * {@link SubscribeFieldToMQTTtopic#subscribeAndReceive(MqttBrokerConnection, int)}.
+ * </p>
+ *
+ * <p>
+ * The wildcard subscription is kept until {@link #stop()}, so attribute changes are routed to the registered
+ * subscribers locally as well, without a subscription per topic. Messages of other topics, like the property values
+ * of a Homie device, are ignored unless a subscriber is registered for them.
+ * </p>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BulkTopicSubscriber implements MqttMessageSubscriber {
+    private final String baseTopic;
+    private final ScheduledExecutorService scheduler;
+    private final int settleTime;
+    private final Map<String, MqttMessageSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> retainedValues = new ConcurrentHashMap<>();
+    private final CompletableFuture<@Nullable Void> settled = new CompletableFuture<>();
+
+    private @Nullable MqttBrokerConnection connection;
+    private volatile long lastMessageNanos;
+
+    /**
+     * Creates a subscriber for a topic tree.
+     *
+     * @param baseTopic The base topic of the tree, without a trailing wildcard. E.g. "homie/device123".
+     * @param scheduler A scheduler to check if the tree has settled.
+     * @param settleTime The time in milliseconds without any received message after which the tree is considered
+     *            settled.
+     */
+    public BulkTopicSubscriber(String baseTopic, ScheduledExecutorService scheduler, int settleTime) {
+        this.baseTopic = baseTopic;
+        this.scheduler = scheduler;
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * Subscribes to the topic tree.
+     *
+     * @param connection A broker connection
+     * @return A future that completes with true if subscribing worked.
+     */
+    public CompletableFuture<Boolean> start(MqttBrokerConnection connection) {
+        this.connection = connection;
+        return connection.subscribe(baseTopic + "/#", this).whenComplete((result, e) -> {
+            if (e != null || !result) {
+                settled.complete(null);
+            } else {
+                lastMessageNanos = System.nanoTime();
+                scheduler.schedule(this::checkSettled, settleTime, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    /**
+     * Unsubscribes from the topic tree and forgets all subscribers and received values.
+     *
+     * @return A future that completes as soon as the unsubscription has been performed.
+     */
+    public CompletableFuture<Boolean> stop() {
+        final MqttBrokerConnection connection = this.connection;
+        this.connection = null;
+        subscribers.clear();
+        retainedValues.clear();
+        settled.complete(null);
+        if (connection == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return connection.unsubscribe(baseTopic + "/#", this);
+    }
+
+    /**
+     * Return true if the given topic is part of the topic tree.
+     */
+    public boolean covers(String topic) {
+        return topic.startsWith(baseTopic + "/");
+    }
+
+    /**
+     * Registers a subscriber for a single topic of the tree. If a value has been received for the topic already, it
+     * is passed on immediately.
+     *
+     * @param topic A topic without wildcards
+     * @param subscriber The subscriber
+     */
+    public void subscribe(String topic, MqttMessageSubscriber subscriber) {
+        subscribers.put(topic, subscriber);
+        final byte[] payload = retainedValues.get(topic);
+        if (payload != null) {
+            subscriber.processMessage(topic, payload);
+        }
+    }
+
+    /**
+     * Removes the subscriber of a single topic.
+     *
+     * @param topic The topic
+     * @param subscriber The subscriber
+     */
+    public void unsubscribe(String topic, MqttMessageSubscriber subscriber) {
+        subscribers.remove(topic, subscriber);
+    }
+
+    /**
+     * Returns a future that completes as soon as the topic tree has settled.
+     */
+    public CompletableFuture<@Nullable Void> settled() {
+        return settled;
+    }
+
+    @Override
+    public void processMessage(String topic, byte[] payload) {
+        lastMessageNanos = System.nanoTime();
+        if (isAttributeTopic(topic)) {
+            if (payload.length > 0) {
+                retainedValues.put(topic, payload);
+            } else {
+                retainedValues.remove(topic);
+            }
+        }
+        final MqttMessageSubscriber subscriber = subscribers.get(topic);
+        if (subscriber != null) {
+            subscriber.processMessage(topic, payload);
+        }
+    }
+
+    private static boolean isAttributeTopic(String topic) {
+        return topic.startsWith("$", topic.lastIndexOf('/') + 1);
+    }
+
+    private void checkSettled() {
+        if (settled.isDone()) {
+            return;
+        }
+        final long quietTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastMessageNanos);
+        if (quietTime >= settleTime) {
+            settled.complete(null);
+        } else {
+            scheduler.schedule(this::checkSettled, settleTime - quietTime, TimeUnit.MILLISECONDS);
+        }
+    }
+}
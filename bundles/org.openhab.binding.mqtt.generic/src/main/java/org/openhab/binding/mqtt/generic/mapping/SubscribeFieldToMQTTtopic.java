@@ -47,6 +47,7 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private final boolean mandatory;
     private boolean receivedValue = false;
+    private @Nullable BulkTopicSubscriber bulkSubscriber;
 
     /**
      * Implement this interface to be notified of an updated field.
@@ -169,10 +170,26 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
         }
     }
 
+    /**
+     * Receive the topic value from a {@link BulkTopicSubscriber} instead of subscribing to the topic on the broker.
+     *
+     * @param bulkSubscriber A subscriber for a topic tree that contains the topic of this field or null to subscribe
+     *            on the broker.
+     */
+    public void setBulkSubscriber(@Nullable BulkTopicSubscriber bulkSubscriber) {
+        this.bulkSubscriber = bulkSubscriber;
+    }
+
     /**
      * Subscribe to the MQTT topic. A {@link SubscribeFieldToMQTTtopic} cannot be stopped.
      * You need to manually unsubscribe from the {@link #topic} before disposing.
      *
+     * <p>
+     * If a {@link BulkTopicSubscriber} is set, no subscription is performed on the broker. A field that is not
+     * mandatory completes as soon as the topic tree of the bulk subscriber has settled, because the value will not be
+     * retained on the broker then.
+     * </p>
+     *
      * @param connection An MQTT connection.
      * @param timeout Timeout in milliseconds. The returned future completes after this time even if no message has
      *            been received for the MQTT topic.
@@ -180,6 +197,24 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
      * @throws MqttException If an MQTT IO exception happens this exception is thrown.
      */
     public CompletableFuture<@Nullable Void> subscribeAndReceive(MqttBrokerConnection connection, int timeout) {
+        final BulkTopicSubscriber bulkSubscriber = this.bulkSubscriber;
+        if (bulkSubscriber != null) {
+            bulkSubscriber.subscribe(topic, this);
+            if (!future.isDone()) {
+                this.scheduledFuture = scheduler.schedule(this::timeoutReached, timeout, TimeUnit.MILLISECONDS);
+                if (!mandatory) {
+                    bulkSubscriber.settled().thenRun(() -> {
+                        final ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
+                        if (scheduledFuture != null) { // Cancel timeout
+                            scheduledFuture.cancel(false);
+                            this.scheduledFuture = null;
+                        }
+                        future.complete(null);
+                    });
+                }
+            }
+            return future;
+        }
         connection.subscribe(topic, this).exceptionally(e -> {
             logger.debug("Failed to subscribe to topic {}", topic, e);
             final ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
@@ -197,6 +232,21 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
         return future;
     }
 
+    /**
+     * Unsubscribe from the MQTT topic or from the {@link BulkTopicSubscriber}.
+     *
+     * @param connection An MQTT connection.
+     * @return Returns a future that completes as soon as the unsubscription has been performed.
+     */
+    public CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection) {
+        final BulkTopicSubscriber bulkSubscriber = this.bulkSubscriber;
+        if (bulkSubscriber != null) {
+            bulkSubscriber.unsubscribe(topic, this);
+            return CompletableFuture.completedFuture(true);
+        }
+        return connection.unsubscribe(topic, this);
+    }
+
     /**
      * Return true if the corresponding field has received a value at least once.
      */
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.mapping;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
+import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Tests cases for {@link BulkTopicSubscriber}. The mocked connection sends the retained messages of a topic tree
+ * on a wildcard subscription, like a broker does.
+ *
+ * @author agent - Initial contribution
+ */
+public class BulkTopicSubscriberTests {
+    private static final int SETTLE_TIME = 50;
+    private static final int TIMEOUT = 10000;
+    private static final int DEVICES = 50;
+    private static final int PROPERTIES = 20;
+
+    @TopicPrefix
+    public static class Attributes extends AbstractMqttAttributeClass {
+        public @MandatoryField String name = "";
+        public String unit = "";
+        public String format = "";
+        public boolean settable = false;
+
+        @Override
+        public @NonNull Object getFieldsOf() {
+            return this;
+        }
+    }
+
+    @Mock
+    MqttBrokerConnection connection;
+
+    private final Map<String, byte[]> retained = new TreeMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        doAnswer(i -> {
+            final String topic = i.getArgument(0);
+            final MqttMessageSubscriber subscriber = i.getArgument(1);
+            if (topic.endsWith("/#")) {
+                final String baseTopic = topic.substring(0, topic.length() - 1);
+                retained.forEach((t, payload) -> {
+                    if (t.startsWith(baseTopic)) {
+                        subscriber.processMessage(t, payload);
+                    }
+                });
+            }
+            return CompletableFuture.completedFuture(true);
+        }).when(connection).subscribe(anyString(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).unsubscribe(any(), any());
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void retainedValuesForLateSubscribers() {
+        publish("homie/device/node/$name", "Node");
+        BulkTopicSubscriber bulkSubscriber = new BulkTopicSubscriber("homie/device", scheduler, SETTLE_TIME);
+        bulkSubscriber.start(connection);
+
+        MqttMessageSubscriber subscriber = mock(MqttMessageSubscriber.class);
+        bulkSubscriber.subscribe("homie/device/node/$name", subscriber);
+        verify(subscriber).processMessage(eq("homie/device/node/$name"), any());
+
+        // Live messages are passed on as well
+        bulkSubscriber.processMessage("homie/device/node/$name", "Renamed".getBytes(StandardCharsets.UTF_8));
+        verify(subscriber, times(2)).processMessage(eq("homie/device/node/$name"), any());
+
+        bulkSubscriber.unsubscribe("homie/device/node/$name", subscriber);
+        bulkSubscriber.processMessage("homie/device/node/$name", "Node".getBytes(StandardCharsets.UTF_8));
+        verify(subscriber, times(2)).processMessage(eq("homie/device/node/$name"), any());
+
+        assertTrue(bulkSubscriber.covers("homie/device/node/$name"));
+        assertFalse(bulkSubscriber.covers("homie/device2/$name"));
+        // Only the wildcard topic has been subscribed to
+        verify(connection).subscribe(eq("homie/device/#"), any());
+    }
+
+    @Test
+    public void onlyAttributeValuesAreKept() {
+        publish("homie/device/node/$name", "Node");
+        publish("homie/device/node/prop", "21.5");
+        BulkTopicSubscriber bulkSubscriber = new BulkTopicSubscriber("homie/device", scheduler, SETTLE_TIME);
+        bulkSubscriber.start(connection);
+
+        MqttMessageSubscriber attributeSubscriber = mock(MqttMessageSubscriber.class);
+        bulkSubscriber.subscribe("homie/device/node/$name", attributeSubscriber);
+        verify(attributeSubscriber).processMessage(eq("homie/device/node/$name"), any());
+
+        // The value of a property is not an attribute and is not kept
+        MqttMessageSubscriber valueSubscriber = mock(MqttMessageSubscriber.class);
+        bulkSubscriber.subscribe("homie/device/node/prop", valueSubscriber);
+        verify(valueSubscriber, never()).processMessage(any(), any());
+    }
+
+    @Test
+    public void optionalAttributesCompleteWhenSettled() throws Exception {
+        publish("homie/device/node/prop/$name", "Property");
+        BulkTopicSubscriber bulkSubscriber = new BulkTopicSubscriber("homie/device", scheduler, SETTLE_TIME);
+        bulkSubscriber.start(connection);
+
+        Attributes attributes = new Attributes();
+        attributes.setBulkSubscriber(bulkSubscriber);
+        // "unit", "format" and "settable" are not retained. They must not wait for the timeout.
+        attributes.subscribeAndReceive(connection, scheduler, "homie/device/node/prop", null, TIMEOUT).get(TIMEOUT / 2,
+                TimeUnit.MILLISECONDS);
+        assertThat(attributes.name, is("Property"));
+        verify(connection, times(1)).subscribe(any(), any());
+    }
+
+    @Test
+    public void oneSubscriptionPerDevice() throws Exception {
+        for (int d = 0; d < DEVICES; d++) {
+            for (int p = 0; p < PROPERTIES; p++) {
+                final String topic = "homie/device" + d + "/node/prop" + p;
+                publish(topic + "/$name", "Property " + p);
+                publish(topic + "/$unit", "°C");
+                publish(topic + "/$settable", "false");
+            }
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        List<Attributes> properties = new ArrayList<>();
+        for (int d = 0; d < DEVICES; d++) {
+            BulkTopicSubscriber bulkSubscriber = new BulkTopicSubscriber("homie/device" + d, scheduler, SETTLE_TIME);
+            bulkSubscriber.start(connection);
+            for (int p = 0; p < PROPERTIES; p++) {
+                Attributes attributes = new Attributes();
+                attributes.setBulkSubscriber(bulkSubscriber);
+                futures.add(attributes.subscribeAndReceive(connection, scheduler,
+                        "homie/device" + d + "/node/prop" + p, null, TIMEOUT));
+                properties.add(attributes);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(TIMEOUT / 2, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < properties.size(); i++) {
+            assertThat(properties.get(i).name, is("Property " + (i % PROPERTIES)));
+            assertThat(properties.get(i).unit, is("°C"));
+            assertThat(properties.get(i).format, is(""));
+        }
+        // One subscription per device instead of one per attribute
+        verify(connection, times(DEVICES)).subscribe(any(), any());
+    }
+
+    private void publish(String topic, String value) {
+        retained.put(topic, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
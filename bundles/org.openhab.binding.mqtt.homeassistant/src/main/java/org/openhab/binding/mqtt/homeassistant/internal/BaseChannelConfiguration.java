@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.mqtt.homeassistant.internal;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Map;
 
@@ -22,8 +24,11 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.util.UIDUtils;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Base class for home assistant configurations.
@@ -68,6 +73,86 @@ public abstract class BaseChannelConfiguration {
         return fromString(configJSON, gson, Config.class);
     }
 
+    /**
+     * Parse only the properties of the configJSON which are needed to discover a Thing: the name, the unique id and
+     * the device. All other properties are skipped while streaming through the configJSON, so no type adapters are
+     * involved and no topics are expanded.
+     *
+     * @param configJSON
+     * @return configuration object with the discovery properties
+     * @throws JsonParseException if the configJSON is malformed
+     */
+    public static BaseChannelConfiguration fromDiscoveryString(final String configJSON) {
+        try (JsonReader in = new JsonReader(new StringReader(configJSON))) {
+            in.setLenient(true);
+            Config config = new Config();
+            JsonReader reader = MappingJsonReader.getConfigMapper(in);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "name":
+                        String name = nextString(reader);
+                        if (name != null) {
+                            config.name = name;
+                        }
+                        break;
+                    case "unique_id":
+                        config.unique_id = nextString(reader);
+                        break;
+                    case "device":
+                        config.device = readDevice(MappingJsonReader.getDeviceMapper(in));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return config;
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private static @Nullable Device readDevice(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        Device device = new Device();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "identifiers":
+                    device.identifiers = new ListOrStringDeserializer().read(reader);
+                    break;
+                case "manufacturer":
+                    device.manufacturer = nextString(reader);
+                    break;
+                case "model":
+                    device.model = nextString(reader);
+                    break;
+                case "name":
+                    device.name = nextString(reader);
+                    break;
+                case "sw_version":
+                    device.sw_version = nextString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return device;
+    }
+
+    private static @Nullable String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
     public String name;
 
     protected String icon = "";
@@ -13,9 +13,12 @@
 package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +40,10 @@ import com.google.gson.Gson;
 /**
  * Responsible for subscribing to the HomeAssistant MQTT components wildcard topic, either
  * in a time limited discovery mode or as a background discovery.
+ * <p>
+ * The hash of every configuration that resulted in a component is kept, so a component is not created again if
+ * the same configuration is received again during a discovery. Every new discovery, e.g. after a reconnect, starts
+ * without hashes, so the listener is notified of all retained configurations again.
  *
  * @author David Graeff - Initial contribution
  */
@@ -56,6 +63,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @NonNullByDefault({}) ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    private final Map<String, Integer> configHashPerTopic = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -87,6 +95,12 @@ public class DiscoverComponents implements MqttMessageSubscriber {
             return;
         }
 
+        final Integer configHash = Arrays.hashCode(payload);
+        if (payload.length > 0 && configHash.equals(configHashPerTopic.get(topic))) {
+            logger.trace("Configuration on topic {} unchanged", topic);
+            return;
+        }
+
         HaID haID = new HaID(topic);
         String config = new String(payload);
 
@@ -102,8 +116,10 @@ public class DiscoverComponents implements MqttMessageSubscriber {
             logger.trace("Found HomeAssistant thing {} component {}", haID.objectID, haID.component);
             if (discoveredListener != null) {
                 discoveredListener.componentDiscovered(haID, component);
+                configHashPerTopic.put(topic, configHash);
             }
         } else {
+            configHashPerTopic.remove(topic);
             logger.debug("Configuration of HomeAssistant thing {} invalid: {}", haID.objectID, config);
         }
     }
@@ -133,6 +149,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.discoverTime = discoverTime;
         this.discoveredListener = componentsDiscoveredListener;
         this.connectionRef = new WeakReference<>(connection);
+        this.configHashPerTopic.clear();
 
         // Subscribe to the wildcard topic and start receive MQTT retained topics
         this.topics.parallelStream().map(t -> connection.subscribe(t, this)).collect(FutureCollector.allOf())
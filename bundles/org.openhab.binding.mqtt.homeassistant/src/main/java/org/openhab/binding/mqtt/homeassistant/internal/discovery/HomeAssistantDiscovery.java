@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -41,7 +42,6 @@ import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryService;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.binding.mqtt.homeassistant.generic.internal.MqttBindingConstants;
 import org.openhab.binding.mqtt.homeassistant.internal.BaseChannelConfiguration;
-import org.openhab.binding.mqtt.homeassistant.internal.ChannelConfigurationTypeAdapterFactory;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
 import org.osgi.service.component.annotations.Component;
@@ -49,26 +49,41 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 
 /**
  * The {@link HomeAssistantDiscovery} is responsible for discovering device nodes that follow the
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
+ * <p>
+ * Only the properties needed for a discovery result are parsed from the component configurations, the components
+ * themselves are created by the Thing handler. Parsed configurations are cached together with the hash of their
+ * payload, so the retained configurations received again on a reconnect are not parsed again.
  *
  * @author David Graeff - Initial contribution
  */
 @Component(immediate = true, service = DiscoveryService.class, configurationPid = "discovery.mqttha")
 @NonNullByDefault
 public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
-    @SuppressWarnings("unused")
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantDiscovery.class);
     protected final Map<String, Set<HaID>> componentsPerThingID = new TreeMap<>();
     protected final Map<String, ThingUID> thingIDPerTopic = new TreeMap<>();
     protected final Map<String, DiscoveryResult> results = new TreeMap<>();
+    protected final Map<String, CachedConfig> configPerTopic = new HashMap<>();
 
     private @Nullable ScheduledFuture<?> future;
-    private final Gson gson;
+
+    /**
+     * A parsed configuration and the hash of the payload it was parsed from.
+     */
+    protected static class CachedConfig {
+        final int payloadHash;
+        final BaseChannelConfiguration config;
+
+        CachedConfig(int payloadHash, BaseChannelConfiguration config) {
+            this.payloadHash = payloadHash;
+            this.config = config;
+        }
+    }
 
     public static final Map<String, String> HA_COMP_TO_NAME = new TreeMap<>();
     {
@@ -94,7 +109,6 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
     public HomeAssistantDiscovery() {
         super(null, 3, true, BASE_TOPIC + "/#");
-        this.gson = new GsonBuilder().registerTypeAdapterFactory(new ChannelConfigurationTypeAdapterFactory()).create();
     }
 
     @Reference
@@ -147,8 +161,20 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         }
         this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
 
-        BaseChannelConfiguration config = BaseChannelConfiguration
-                .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+        final BaseChannelConfiguration config;
+        final int payloadHash = Arrays.hashCode(payload);
+        final CachedConfig cachedConfig = configPerTopic.get(topic);
+        if (cachedConfig != null && cachedConfig.payloadHash == payloadHash) {
+            config = cachedConfig.config;
+        } else {
+            try {
+                config = BaseChannelConfiguration.fromDiscoveryString(new String(payload, StandardCharsets.UTF_8));
+            } catch (JsonParseException e) {
+                logger.debug("Configuration on topic {} invalid: {}", topic, e.getMessage());
+                return;
+            }
+            configPerTopic.put(topic, new CachedConfig(payloadHash, config));
+        }
 
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
@@ -209,6 +235,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        configPerTopic.remove(topic);
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             final String thingID = thingUID.getId();
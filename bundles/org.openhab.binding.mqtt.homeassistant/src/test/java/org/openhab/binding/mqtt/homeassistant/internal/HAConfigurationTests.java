@@ -20,6 +20,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -87,6 +88,29 @@ public class HAConfigurationTests {
         }
     }
 
+    @Test
+    public void testDiscoveryProperties() {
+        String json = readTestJson("configA.json");
+
+        BaseChannelConfiguration config = BaseChannelConfiguration.fromDiscoveryString(json);
+        BaseChannelConfiguration fullConfig = BaseChannelConfiguration.fromString(json, gson);
+
+        assertThat(config.name, is("A"));
+        assertThat(config.unique_id, is("C"));
+        assertThat(config.getThingId("default"), is(fullConfig.getThingId("default")));
+        assertThat(config.getThingName(), is(fullConfig.getThingName()));
+        assertThat(config.appendToProperties(new HashMap<>()), is(fullConfig.appendToProperties(new HashMap<>())));
+        // only the discovery properties are parsed
+        assertThat(config.availability_topic, is(nullValue()));
+
+        config = BaseChannelConfiguration.fromDiscoveryString(readTestJson("configDeviceSingleString.json"));
+        BaseChannelConfiguration.Device device = config.device;
+        assertThat(device, is(notNullValue()));
+        if (device != null) {
+            assertThat(device.identifiers, is(Arrays.asList("A")));
+        }
+    }
+
     @Test
     public void testTildeSubstritution() {
         String json = readTestJson("configB.json");
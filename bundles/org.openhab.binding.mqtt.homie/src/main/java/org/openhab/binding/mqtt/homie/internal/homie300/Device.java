@@ -28,6 +28,7 @@ import org.eclipse.smarthome.core.util.UIDUtils;
 import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.binding.mqtt.generic.ChannelConfig;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass;
+import org.openhab.binding.mqtt.generic.mapping.BulkTopicSubscriber;
 import org.openhab.binding.mqtt.generic.tools.ChildMap;
 import org.openhab.binding.mqtt.homie.internal.handler.HomieThingHandler;
 import org.slf4j.Logger;
@@ -47,10 +48,17 @@ import org.slf4j.LoggerFactory;
  * });
  * </pre>
  *
+ * The device, node and property attributes are received with a single wildcard subscription to the device topic.
+ * Retained attribute values are kept by the {@link BulkTopicSubscriber}, so nodes and properties, which are only
+ * created after the attributes of their parent have been parsed, get their attributes without another round trip to
+ * the broker. Optional attributes no longer wait for the timeout as soon as all retained values have been received.
+ *
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
 public class Device implements AbstractMqttAttributeClass.AttributeChanged {
+    // Time in milliseconds without any received attribute after which all retained attributes are considered received
+    static final int ATTRIBUTE_SETTLE_TIME = 200;
     private final Logger logger = LoggerFactory.getLogger(Device.class);
     // The device attributes, statistics and nodes of this device
     public final DeviceAttributes attributes;
@@ -64,6 +72,7 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     private String topic = "";
     public String deviceID = "";
     private boolean initialized = false;
+    private @Nullable BulkTopicSubscriber bulkSubscriber;
 
     /**
      * Creates a Homie Device structure. It consists of device attributes, device statistics and nodes.
@@ -113,7 +122,23 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
             throw new IllegalStateException("You must call initialize()!");
         }
 
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        final BulkTopicSubscriber oldBulkSubscriber = this.bulkSubscriber;
+        if (oldBulkSubscriber != null) {
+            oldBulkSubscriber.stop();
+        }
+        final BulkTopicSubscriber bulkSubscriber = new BulkTopicSubscriber(topic, scheduler, ATTRIBUTE_SETTLE_TIME);
+        this.bulkSubscriber = bulkSubscriber;
+
+        return bulkSubscriber.start(connection).handle((result, e) -> {
+            if (e != null || !result) {
+                // Fall back to a subscription per attribute
+                logger.debug("Could not subscribe to the topics of device {}", deviceID, e);
+                attributes.setBulkSubscriber(null);
+            } else {
+                attributes.setBulkSubscriber(bulkSubscriber);
+            }
+            return null;
+        }).thenCompose(b -> attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout))
                 // On success, create all nodes and tell the handler about the ready state
                 .thenCompose(b -> attributesReceived(connection, scheduler, timeout))
                 // No matter if values have been received or not -> the subscriptions have been performed
@@ -174,8 +199,12 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * Unsubscribe from everything.
      */
     public CompletableFuture<@Nullable Void> stop() {
+        final BulkTopicSubscriber bulkSubscriber = this.bulkSubscriber;
+        this.bulkSubscriber = null;
         return attributes.unsubscribe().thenCompose(
-                b -> CompletableFuture.allOf(nodes.stream().map(n -> n.stop()).toArray(CompletableFuture[]::new)));
+                b -> CompletableFuture.allOf(nodes.stream().map(n -> n.stop()).toArray(CompletableFuture[]::new)))
+                .thenCompose(b -> bulkSubscriber != null ? CompletableFuture.allOf(bulkSubscriber.stop())
+                        : CompletableFuture.completedFuture(null));
     }
 
     /**
@@ -275,11 +304,13 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
 
     CompletableFuture<@Nullable Void> applyNodes(MqttBrokerConnection connection, ScheduledExecutorService scheduler,
             int timeout) {
-        return nodes.apply(attributes.nodes, node -> node.subscribe(connection, scheduler, timeout), this::createNode,
-                this::notifyNodeRemoved).exceptionally(e -> {
-                    logger.warn("Could not subscribe", e);
-                    return null;
-                });
+        return nodes.apply(attributes.nodes, node -> {
+            node.attributes.setBulkSubscriber(attributes.getBulkSubscriber());
+            return node.subscribe(connection, scheduler, timeout);
+        }, this::createNode, this::notifyNodeRemoved).exceptionally(e -> {
+            logger.warn("Could not subscribe", e);
+            return null;
+        });
     }
 
     @Override
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homie.internal.homie300;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.mqtt.homie.internal.handler.ThingChannelConstants.TEST_HOMIE_THING;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
+import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openhab.binding.mqtt.homie.internal.homie300.DeviceAttributes.ReadyState;
+
+/**
+ * Tests cases for the subscriptions of a {@link Device}. The mocked connection sends the retained messages of the
+ * device tree on a wildcard subscription, like a broker does.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceTests {
+    private static final int TIMEOUT = 10000;
+    private static final int NODES = 5;
+    private static final int PROPERTIES = 10;
+
+    @Mock
+    private MqttBrokerConnection connection;
+
+    @Mock
+    private DeviceCallback callback;
+
+    private final Map<String, byte[]> retained = new TreeMap<>();
+    private final List<MqttMessageSubscriber> wildcardSubscribers = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        doAnswer(i -> {
+            final String topic = i.getArgument(0);
+            final MqttMessageSubscriber subscriber = i.getArgument(1);
+            if (topic.endsWith("/#")) {
+                wildcardSubscribers.add(subscriber);
+                final String baseTopic = topic.substring(0, topic.length() - 1);
+                retained.forEach((t, payload) -> {
+                    if (t.startsWith(baseTopic)) {
+                        subscriber.processMessage(t, payload);
+                    }
+                });
+            }
+            return CompletableFuture.completedFuture(true);
+        }).when(connection).subscribe(anyString(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connection).unsubscribe(any(), any());
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void oneSubscriptionPerDevice() throws Exception {
+        final String deviceTopic = "homie/device";
+        publish(deviceTopic + "/$homie", "3.0");
+        publish(deviceTopic + "/$name", "Device");
+        publish(deviceTopic + "/$state", "ready");
+        publish(deviceTopic + "/$nodes", ids("node", NODES));
+        for (int n = 0; n < NODES; n++) {
+            final String nodeTopic = deviceTopic + "/node" + n;
+            publish(nodeTopic + "/$name", "Node " + n);
+            publish(nodeTopic + "/$properties", ids("prop", PROPERTIES));
+            for (int p = 0; p < PROPERTIES; p++) {
+                final String propertyTopic = nodeTopic + "/prop" + p;
+                publish(propertyTopic + "/$name", "Property " + p);
+                publish(propertyTopic + "/$datatype", "float");
+                publish(propertyTopic + "/$unit", "°C");
+                publish(propertyTopic, "21.5");
+            }
+        }
+
+        Device device = new Device(TEST_HOMIE_THING, callback, new DeviceAttributes());
+        device.initialize("homie", "device", Collections.emptyList());
+        device.subscribe(connection, scheduler, TIMEOUT).get(TIMEOUT / 2, TimeUnit.MILLISECONDS);
+
+        assertTrue(device.isInitialized());
+        assertThat(device.nodes.size(), is(NODES));
+        for (int n = 0; n < NODES; n++) {
+            Node node = device.nodes.get("node" + n);
+            assertThat(node.attributes.name, is("Node " + n));
+            assertThat(node.properties.size(), is(PROPERTIES));
+            for (int p = 0; p < PROPERTIES; p++) {
+                Property property = node.properties.get("prop" + p);
+                assertThat(property.attributes.name, is("Property " + p));
+                assertThat(property.attributes.unit, is("°C"));
+            }
+        }
+        // The whole device tree has been received with a single subscription
+        verify(connection, times(1)).subscribe(any(), any());
+        verify(connection).subscribe(eq(deviceTopic + "/#"), any());
+
+        // Attribute changes are routed by the wildcard subscription, which is kept
+        assertThat(wildcardSubscribers.size(), is(1));
+        wildcardSubscribers.get(0).processMessage(deviceTopic + "/$state",
+                "lost".getBytes(StandardCharsets.UTF_8));
+        verify(callback, timeout(TIMEOUT)).readyStateChanged(ReadyState.lost);
+        verify(connection, times(1)).subscribe(any(), any());
+        verify(connection, never()).unsubscribe(any(), any());
+
+        device.stop().get(TIMEOUT / 2, TimeUnit.MILLISECONDS);
+        verify(connection).unsubscribe(eq(deviceTopic + "/#"), any());
+    }
+
+    private void publish(String topic, String value) {
+        retained.put(topic, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String ids(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.joining(","));
+    }
+}
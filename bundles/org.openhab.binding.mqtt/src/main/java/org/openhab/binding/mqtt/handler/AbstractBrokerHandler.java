@@ -21,18 +21,21 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
 import org.eclipse.smarthome.io.transport.mqtt.MqttConnectionObserver;
 import org.eclipse.smarthome.io.transport.mqtt.MqttConnectionState;
+import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
 import org.eclipse.smarthome.io.transport.mqtt.MqttService;
 import org.openhab.binding.mqtt.action.MQTTActions;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
-import org.openhab.binding.mqtt.discovery.TopicSubscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -45,10 +48,12 @@ import java.util.concurrent.TimeoutException;
 @NonNullByDefault
 public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements MqttConnectionObserver {
     public static final int TIMEOUT_DEFAULT = 1200; /* timeout in milliseconds */
+    private static final int DISCOVERY_METRICS_INTERVAL = 10000; /* routed messages between metric logs */
     private final Logger logger = LoggerFactory.getLogger(AbstractBrokerHandler.class);
 
     final Map<ChannelUID, PublishTriggerChannel> channelStateByChannelUID = new HashMap<>();
-    private final Map<String, @Nullable Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe>> discoveryTopics = new HashMap<>();
+    private final DiscoveryTopicTrie discoveryTopics = new DiscoveryTopicTrie();
+    private final Map<String, DiscoverySubscription> discoverySubscriptions = new HashMap<>();
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
@@ -116,22 +121,7 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         });
         connectionFuture.complete(connection);
 
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.replaceAll((listener, oldTopicSubscribe) -> {
-                TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-                topicSubscribe.start().handle((result, ex) -> {
-                    if (ex != null) {
-                        logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    } else {
-                        logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    }
-                    return null;
-                });
-                return topicSubscribe;
-            });
-        });
+        updateDiscoverySubscriptions(null);
     }
 
     @Override
@@ -163,11 +153,11 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         channelStateByChannelUID.clear();
 
         // keep topics, but stop subscriptions
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.forEach((listener, topicSubscribe) -> {
-                topicSubscribe.stop();
-            });
-        });
+        synchronized (discoverySubscriptions) {
+            discoverySubscriptions.values().forEach(DiscoverySubscription::stop);
+            discoverySubscriptions.clear();
+        }
+        logDiscoveryMetrics();
 
         if (connection != null) {
             connection.removeConnectionObserver(this);
@@ -187,27 +177,11 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (wildcards supported)
      */
     public final void registerDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics
-                .computeIfAbsent(topic, t -> new HashMap<>());
-        topicListeners.compute(listener, (k, v) -> {
-            if (v != null) {
-                logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
-                        listener, topic, thing.getUID());
-                v.stop();
-            }
-
-            TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-            topicSubscribe.start().handle((result, ex) -> {
-                if (ex != null) {
-                    logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                            thing.getUID());
-                } else {
-                    logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic, thing.getUID());
-                }
-                return null;
-            });
-            return topicSubscribe;
-        });
+        if (!discoveryTopics.add(topic, listener)) {
+            logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
+                    listener, topic, thing.getUID());
+        }
+        updateDiscoverySubscriptions(topic);
     }
 
     /**
@@ -217,27 +191,103 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (as specified during registration)
      */
     public final void unregisterDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics
-                .compute(topic, (k, v) -> {
-                    if (v == null) {
-                        logger.warn(
-                                "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered at all. Check discovery logic!",
-                                listener, topic, thing.getUID());
-                        return null;
-                    }
-                    v.compute(listener, (l, w) -> {
-                        if (w == null) {
-                            logger.warn(
-                                    "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
-                                    listener, topic, thing.getUID());
-                        } else {
-                            w.stop();
-                            logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        }
-                        return null;
-                    });
-                    return v.isEmpty() ? null : v;
+        if (!discoveryTopics.remove(topic, listener)) {
+            logger.warn(
+                    "Tried to unsubscribe {} from discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
+                    listener, topic, thing.getUID());
+            return;
+        }
+        logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic, thing.getUID());
+        updateDiscoverySubscriptions(null);
+    }
+
+    /**
+     * Subscribes to the minimal set of topics that covers all discovery topics and unsubscribes from topics that are
+     * no longer needed. Nothing is subscribed before the connection is available.
+     *
+     * @param addedTopic a topic that just got a new listener. Its subscription is renewed, so the broker sends the
+     *            retained messages to the new listener.
+     */
+    private void updateDiscoverySubscriptions(@Nullable String addedTopic) {
+        synchronized (discoverySubscriptions) {
+            Set<String> topics = discoveryTopics.updateSubscriptions();
+            final MqttBrokerConnection connection = this.connection;
+            if (connection == null) {
+                return;
+            }
+            String renewedTopic = addedTopic != null ? discoveryTopics.getSubscription(addedTopic) : null;
+
+            for (Iterator<DiscoverySubscription> it = discoverySubscriptions.values().iterator(); it.hasNext();) {
+                DiscoverySubscription subscription = it.next();
+                if (!topics.contains(subscription.topic)) {
+                    subscription.stop();
+                    it.remove();
+                } else if (subscription.topic.equals(renewedTopic)) {
+                    subscription.stop().whenComplete((result, ex) -> subscription.start());
+                }
+            }
+            for (String topic : topics) {
+                discoverySubscriptions.computeIfAbsent(topic, t -> {
+                    DiscoverySubscription subscription = new DiscoverySubscription(connection, t);
+                    subscription.start();
+                    return subscription;
                 });
+            }
+        }
+    }
+
+    private void logDiscoveryMetrics() {
+        long messages = discoveryTopics.getMessageCount();
+        if (messages > 0) {
+            long routingNanos = discoveryTopics.getRoutingNanos();
+            logger.debug("Routed {} discovery messages to {} listeners on broker {} in {} ms ({} messages/s)",
+                    messages, discoveryTopics.getDeliveryCount(), thing.getUID(),
+                    TimeUnit.NANOSECONDS.toMillis(routingNanos),
+                    messages * TimeUnit.SECONDS.toNanos(1) / Math.max(routingNanos, 1));
+        }
+    }
+
+    /**
+     * A subscription to one of the merged discovery topics. Received messages are routed to the listeners of all
+     * discovery topics that this subscription covers.
+     */
+    private class DiscoverySubscription implements MqttMessageSubscriber {
+        private final MqttBrokerConnection connection;
+        private final String topic;
+
+        DiscoverySubscription(MqttBrokerConnection connection, String topic) {
+            this.connection = connection;
+            this.topic = topic;
+        }
+
+        CompletableFuture<Boolean> start() {
+            return connection.subscribe(topic, this).handle((result, ex) -> {
+                if (ex != null) {
+                    logger.warn("Failed to subscribe to discovery topic {} on broker {}", topic, thing.getUID());
+                    return false;
+                }
+                logger.trace("Subscribed to discovery topic {} on broker {}", topic, thing.getUID());
+                return result;
+            });
+        }
+
+        CompletableFuture<Boolean> stop() {
+            return connection.unsubscribe(topic, this);
+        }
+
+        @Override
+        public void processMessage(String topic, byte[] payload) {
+            final ThingUID thingUID = thing.getUID();
+            for (MQTTTopicDiscoveryParticipant listener : discoveryTopics.match(topic, this.topic)) {
+                if (payload.length > 0) {
+                    listener.receivedMessage(thingUID, connection, topic, payload);
+                } else {
+                    listener.topicVanished(thingUID, connection, topic);
+                }
+            }
+            if (discoveryTopics.getMessageCount() % DISCOVERY_METRICS_INTERVAL == 0) {
+                logDiscoveryMetrics();
+            }
+        }
     }
 }
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.handler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
+
+/**
+ * A trie of the topic filters that discovery participants registered on a broker.
+ * <p>
+ * Each level of a filter is a node of the trie, including the wildcards "+" and "#". The trie merges overlapping
+ * filters into the minimal set of broker subscriptions: a filter that is covered by another filter, like "a/b" by
+ * "a/#", gets no subscription of its own. A received message is routed to all participants with a matching filter in
+ * one walk of the trie, instead of being matched against every filter.
+ * <p>
+ * The trie also counts the routed messages, so the discovery throughput of brokers with many retained topics can be
+ * observed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class DiscoveryTopicTrie {
+    private static final String SINGLE_LEVEL = "+";
+    private static final String MULTI_LEVEL = "#";
+
+    private final Node root = new Node();
+    private final Map<String, Node> filters = new HashMap<>();
+
+    private long messageCount;
+    private long deliveryCount;
+    private long routingNanos;
+
+    private static class Node {
+        final Map<String, Node> children = new HashMap<>(4);
+        final Set<MQTTTopicDiscoveryParticipant> participants = new LinkedHashSet<>();
+        @Nullable
+        String subscription;
+    }
+
+    /**
+     * Adds a participant for a topic filter.
+     *
+     * @param filter the topic filter, wildcards supported
+     * @param participant the participant
+     * @return false if the participant was already registered for this filter
+     */
+    synchronized boolean add(String filter, MQTTTopicDiscoveryParticipant participant) {
+        Node node = root;
+        for (String level : filter.split("/", -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node());
+        }
+        filters.put(filter, node);
+        return node.participants.add(participant);
+    }
+
+    /**
+     * Removes a participant from a topic filter. Nodes without participants are pruned.
+     *
+     * @param filter the topic filter as given to {@link #add(String, MQTTTopicDiscoveryParticipant)}
+     * @param participant the participant
+     * @return false if the participant was not registered for this filter
+     */
+    synchronized boolean remove(String filter, MQTTTopicDiscoveryParticipant participant) {
+        Node node = filters.get(filter);
+        if (node == null || !node.participants.remove(participant)) {
+            return false;
+        }
+        if (node.participants.isEmpty()) {
+            filters.remove(filter);
+            prune(root, filter.split("/", -1), 0);
+        }
+        return true;
+    }
+
+    /**
+     * Computes the minimal set of filters to subscribe to and assigns each registered filter to the subscription that
+     * covers it.
+     *
+     * @return the filters to subscribe to
+     */
+    synchronized Set<String> updateSubscriptions() {
+        Map<String, String[]> levels = new HashMap<>();
+        filters.keySet().forEach(filter -> levels.put(filter, filter.split("/", -1)));
+
+        Set<String> subscriptions = new TreeSet<>();
+        for (Map.Entry<String, String[]> candidate : levels.entrySet()) {
+            boolean covered = false;
+            for (Map.Entry<String, String[]> other : levels.entrySet()) {
+                // distinct filters never cover each other, so this keeps exactly one of overlapping filters
+                if (other != candidate && covers(other.getValue(), candidate.getValue())) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered) {
+                subscriptions.add(candidate.getKey());
+            }
+        }
+
+        filters.forEach((filter, node) -> {
+            node.subscription = filter;
+            if (!subscriptions.contains(filter)) {
+                for (String subscription : subscriptions) {
+                    if (covers(levels.get(subscription), levels.get(filter))) {
+                        node.subscription = subscription;
+                        break;
+                    }
+                }
+            }
+        });
+        return subscriptions;
+    }
+
+    /**
+     * Returns the subscription a registered filter is assigned to, or null if the filter is not registered.
+     */
+    synchronized @Nullable String getSubscription(String filter) {
+        Node node = filters.get(filter);
+        return node != null ? node.subscription : null;
+    }
+
+    /**
+     * Collects the participants of all filters matching a topic, which are assigned to the given subscription. Every
+     * participant is returned once, even if it registered more than one matching filter.
+     *
+     * @param topic the topic of a received message
+     * @param subscription the subscription the message was received on
+     * @return the participants to notify
+     */
+    synchronized Set<MQTTTopicDiscoveryParticipant> match(String topic, String subscription) {
+        long start = System.nanoTime();
+        Set<MQTTTopicDiscoveryParticipant> result = new LinkedHashSet<>();
+        // topics starting with "$" are not matched by wildcards on the first level
+        match(root, topic.split("/", -1), 0, subscription, !topic.startsWith("$"), result);
+        messageCount++;
+        deliveryCount += result.size();
+        routingNanos += System.nanoTime() - start;
+        return result.isEmpty() ? Collections.emptySet() : result;
+    }
+
+    /**
+     * Returns the number of messages routed so far.
+     */
+    synchronized long getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Returns the number of participant notifications of all routed messages.
+     */
+    synchronized long getDeliveryCount() {
+        return deliveryCount;
+    }
+
+    /**
+     * Returns the time spent routing messages in nanoseconds.
+     */
+    synchronized long getRoutingNanos() {
+        return routingNanos;
+    }
+
+    private void match(Node node, String[] levels, int index, String subscription, boolean wildcards,
+            Set<MQTTTopicDiscoveryParticipant> result) {
+        Node multiLevel = wildcards ? node.children.get(MULTI_LEVEL) : null;
+        if (multiLevel != null) {
+            // "a/#" matches "a" as well
+            collect(multiLevel, subscription, result);
+        }
+        if (index == levels.length) {
+            collect(node, subscription, result);
+            return;
+        }
+        Node singleLevel = wildcards ? node.children.get(SINGLE_LEVEL) : null;
+        if (singleLevel != null) {
+            match(singleLevel, levels, index + 1, subscription, true, result);
+        }
+        Node exact = node.children.get(levels[index]);
+        if (exact != null) {
+            match(exact, levels, index + 1, subscription, true, result);
+        }
+    }
+
+    private static void collect(Node node, String subscription, Set<MQTTTopicDiscoveryParticipant> result) {
+        if (subscription.equals(node.subscription)) {
+            result.addAll(node.participants);
+        }
+    }
+
+    private static boolean prune(Node node, String[] levels, int index) {
+        if (index < levels.length) {
+            Node child = node.children.get(levels[index]);
+            if (child != null && prune(child, levels, index + 1)) {
+                node.children.remove(levels[index]);
+            }
+        }
+        return node.children.isEmpty() && node.participants.isEmpty();
+    }
+
+    /**
+     * Checks whether every topic matched by a filter is matched by another filter as well.
+     *
+     * @param filter the levels of the covering filter
+     * @param other the levels of the covered filter
+     */
+    private static boolean covers(String[] filter, String[] other) {
+        for (int i = 0; i < filter.length; i++) {
+            if (MULTI_LEVEL.equals(filter[i])) {
+                return true;
+            }
+            if (i >= other.length || MULTI_LEVEL.equals(other[i])) {
+                return false;
+            }
+            if (!SINGLE_LEVEL.equals(filter[i]) && !filter[i].equals(other[i])) {
+                return false;
+            }
+        }
+        return filter.length == other.length;
+    }
+}
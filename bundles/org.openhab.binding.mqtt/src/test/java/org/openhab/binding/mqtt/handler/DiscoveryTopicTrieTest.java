@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
+
+/**
+ * Tests the {@link DiscoveryTopicTrie}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DiscoveryTopicTrieTest {
+    private static final int RETAINED_TOPICS = 10000;
+
+    private final MQTTTopicDiscoveryParticipant homie = mock(MQTTTopicDiscoveryParticipant.class);
+    private final MQTTTopicDiscoveryParticipant homeAssistant = mock(MQTTTopicDiscoveryParticipant.class);
+    private final MQTTTopicDiscoveryParticipant other = mock(MQTTTopicDiscoveryParticipant.class);
+
+    @Test
+    public void mergesCoveredTopics() {
+        DiscoveryTopicTrie trie = new DiscoveryTopicTrie();
+        trie.add("+/+/$homie", homie);
+        trie.add("homeassistant/#", homeAssistant);
+        trie.add("homeassistant/+/+/config", other);
+        trie.add("homeassistant/light/a/config", other);
+
+        assertThat(trie.updateSubscriptions(), is(new HashSet<>(Arrays.asList("+/+/$homie", "homeassistant/#"))));
+        assertThat(trie.getSubscription("homeassistant/+/+/config"), is("homeassistant/#"));
+        assertThat(trie.getSubscription("+/+/$homie"), is("+/+/$homie"));
+    }
+
+    @Test
+    public void routesToMatchingListenersOnce() {
+        DiscoveryTopicTrie trie = new DiscoveryTopicTrie();
+        trie.add("+/+/$homie", homie);
+        trie.add("homeassistant/#", homeAssistant);
+        trie.add("homeassistant/+/+/config", other);
+        trie.add("homeassistant/light/+/config", other);
+        trie.updateSubscriptions();
+
+        assertThat(trie.match("homeassistant/light/a/config", "homeassistant/#"),
+                is(new HashSet<>(Arrays.asList(homeAssistant, other))));
+        assertThat(trie.match("homeassistant/light/a/state", "homeassistant/#"),
+                is(Collections.singleton(homeAssistant)));
+        // "#" matches the parent level as well
+        assertThat(trie.match("homeassistant", "homeassistant/#"), is(Collections.singleton(homeAssistant)));
+        assertThat(trie.match("homie/device/$homie", "+/+/$homie"), is(Collections.singleton(homie)));
+        // messages are only routed for the subscription they were received on
+        assertTrue(trie.match("homie/device/$homie", "homeassistant/#").isEmpty());
+        assertThat(trie.getMessageCount(), is(5L));
+        assertThat(trie.getDeliveryCount(), is(5L));
+    }
+
+    @Test
+    public void wildcardsDoNotMatchSystemTopics() {
+        DiscoveryTopicTrie trie = new DiscoveryTopicTrie();
+        trie.add("#", other);
+        trie.add("+/broker/version", other);
+        trie.updateSubscriptions();
+
+        assertTrue(trie.match("$SYS/broker/version", "#").isEmpty());
+        assertThat(trie.match("a/broker/version", "#"), is(Collections.singleton(other)));
+    }
+
+    @Test
+    public void removeRestoresSubscriptions() {
+        DiscoveryTopicTrie trie = new DiscoveryTopicTrie();
+        trie.add("homeassistant/#", homeAssistant);
+        trie.add("homeassistant/+/+/config", other);
+        trie.updateSubscriptions();
+
+        assertTrue(trie.remove("homeassistant/#", homeAssistant));
+        assertFalse(trie.remove("homeassistant/#", homeAssistant));
+        assertThat(trie.updateSubscriptions(), is(Collections.singleton("homeassistant/+/+/config")));
+        assertThat(trie.match("homeassistant/light/a/config", "homeassistant/+/+/config"),
+                is(Collections.singleton(other)));
+        assertTrue(trie.match("homeassistant/light/a/state", "homeassistant/+/+/config").isEmpty());
+
+        assertTrue(trie.remove("homeassistant/+/+/config", other));
+        assertTrue(trie.updateSubscriptions().isEmpty());
+    }
+
+    @Test
+    public void routesManyRetainedTopics() {
+        DiscoveryTopicTrie trie = new DiscoveryTopicTrie();
+        trie.add("+/+/$homie", homie);
+        trie.add("homeassistant/+/+/config", homeAssistant);
+        trie.add("homeassistant/+/+/+/config", homeAssistant);
+        trie.updateSubscriptions();
+
+        for (int i = 0; i < RETAINED_TOPICS; i++) {
+            assertThat(trie.match("homeassistant/sensor/node" + (i % 100) + "/sensor" + i + "/config",
+                    "homeassistant/+/+/+/config"), is(Collections.singleton(homeAssistant)));
+            // state topics of the same tree are not of interest for the discovery
+            assertTrue(trie.match("homeassistant/sensor/node" + (i % 100) + "/sensor" + i + "/state",
+                    "homeassistant/+/+/+/config").isEmpty());
+        }
+
+        assertThat(trie.getMessageCount(), is(2L * RETAINED_TOPICS));
+        assertThat(trie.getDeliveryCount(), is((long) RETAINED_TOPICS));
+    }
+}
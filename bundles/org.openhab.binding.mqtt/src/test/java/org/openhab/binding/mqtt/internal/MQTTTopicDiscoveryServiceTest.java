@@ -18,6 +18,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -159,4 +160,30 @@ public class MQTTTopicDiscoveryServiceTest {
         verify(listener).topicVanished(eq(thing.getUID()), eq(connection), eq("topic"));
     }
 
+    @Test
+    public void coveredTopicsShareSubscription() {
+        MQTTTopicDiscoveryParticipant otherListener = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        subject.createdHandler(handler);
+        subject.subscribe(listener, "topic/#");
+        subject.subscribe(otherListener, "topic/+/config");
+        assertThat(connection.getSubscribers().keySet(), is(Collections.singleton("topic/#")));
+
+        // Simulate receiving
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("topic/#").forEach(s -> s.processMessage("topic/a/config", bytes));
+        verify(listener).receivedMessage(eq(thing.getUID()), eq(connection), eq("topic/a/config"), eq(bytes));
+        verify(otherListener).receivedMessage(eq(thing.getUID()), eq(connection), eq("topic/a/config"), eq(bytes));
+
+        connection.getSubscribers().get("topic/#").forEach(s -> s.processMessage("topic/a/state", bytes));
+        verify(otherListener, never()).receivedMessage(eq(thing.getUID()), eq(connection), eq("topic/a/state"),
+                eq(bytes));
+
+        // the remaining topic gets its own subscription
+        subject.unsubscribe(listener);
+        assertThat(connection.getSubscribers().keySet(), is(Collections.singleton("topic/+/config")));
+    }
+
 }
@@ -26,9 +26,11 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
+import org.eclipse.smarthome.io.net.http.HttpClientFactory;
 import org.openhab.binding.openuv.internal.discovery.OpenUVDiscoveryService;
 import org.openhab.binding.openuv.internal.handler.OpenUVBridgeHandler;
 import org.openhab.binding.openuv.internal.handler.OpenUVReportHandler;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -43,6 +45,7 @@ import org.osgi.service.component.annotations.Reference;
 public class OpenUVHandlerFactory extends BaseThingHandlerFactory {
 
     private @NonNullByDefault({}) LocationProvider locationProvider;
+    private @NonNullByDefault({}) HttpFetcher httpFetcher;
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -54,7 +57,7 @@ public class OpenUVHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (APIBRIDGE_THING_TYPE.equals(thingTypeUID)) {
-            OpenUVBridgeHandler handler = new OpenUVBridgeHandler((Bridge) thing);
+            OpenUVBridgeHandler handler = new OpenUVBridgeHandler((Bridge) thing, httpFetcher);
             registerOpenUVDiscoveryService(handler);
             return handler;
         } else if (LOCATION_REPORT_THING_TYPE.equals(thingTypeUID)) {
@@ -82,6 +85,15 @@ public class OpenUVHandlerFactory extends BaseThingHandlerFactory {
         this.locationProvider = null;
     }
 
+    @Reference
+    protected void setHttpClientFactory(HttpClientFactory httpClientFactory) {
+        this.httpFetcher = new HttpFetcher(httpClientFactory.getCommonHttpClient());
+    }
+
+    protected void unsetHttpClientFactory(HttpClientFactory httpClientFactory) {
+        this.httpFetcher = null;
+    }
+
     public LocationProvider getLocationProvider() {
         return locationProvider;
     }
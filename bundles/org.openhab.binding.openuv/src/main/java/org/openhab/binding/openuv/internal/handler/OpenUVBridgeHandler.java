@@ -21,7 +21,6 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
@@ -37,10 +36,11 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.openuv.internal.OpenUVBindingConstants;
 import org.openhab.binding.openuv.internal.json.OpenUVResponse;
 import org.openhab.binding.openuv.internal.json.OpenUVResult;
+import org.openhab.io.httpfetcher.HttpFetchResult;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,10 +75,12 @@ public class OpenUVBridgeHandler extends BaseBridgeHandler {
             .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).create();
 
     private Map<ThingUID, @Nullable ServiceRegistration<?>> discoveryServiceRegs = new HashMap<>();
-    private final Properties header = new Properties();
+    private final Map<String, String> header = new HashMap<>();
+    private final HttpFetcher httpFetcher;
 
-    public OpenUVBridgeHandler(Bridge bridge) {
+    public OpenUVBridgeHandler(Bridge bridge, HttpFetcher httpFetcher) {
         super(bridge);
+        this.httpFetcher = httpFetcher;
     }
 
     @Override
@@ -136,9 +138,13 @@ public class OpenUVBridgeHandler extends BaseBridgeHandler {
         }
         String errorMessage = null;
         try {
-            String jsonData = HttpUtil.executeUrl("GET", urlBuilder.toString(), header, null, null, REQUEST_TIMEOUT);
-            OpenUVResponse uvResponse = gson.fromJson(jsonData, OpenUVResponse.class);
-            if (uvResponse.getError() == null) {
+            HttpFetchResult response = httpFetcher.fetch(urlBuilder.toString(), header, REQUEST_TIMEOUT);
+            // an unchanged response is parsed only once, so the same result is returned
+            OpenUVResponse uvResponse = response.getContentAs(OpenUVResponse.class,
+                    jsonData -> gson.fromJson(jsonData, OpenUVResponse.class));
+            if (uvResponse == null) {
+                errorMessage = "Empty response from OpenUV API";
+            } else if (uvResponse.getError() == null) {
                 updateStatus(ThingStatus.ONLINE);
                 return uvResponse.getResult();
             } else {
@@ -21,6 +21,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.HSBType;
 import org.eclipse.smarthome.core.library.types.QuantityType;
@@ -59,6 +60,8 @@ public class OpenUVReportHandler extends BaseThingHandler {
     private @NonNullByDefault({}) OpenUVBridgeHandler bridgeHandler;
     private @NonNullByDefault({}) ScheduledFuture<?> refreshJob;
     private @NonNullByDefault({}) ScheduledFuture<?> uvMaxJob;
+    // keeps track of the data the channels have been updated with by the refresh job
+    private @Nullable OpenUVResult updatedData;
 
     public OpenUVReportHandler(Thing thing) {
         super(thing);
@@ -115,17 +118,22 @@ public class OpenUVReportHandler extends BaseThingHandler {
             ReportConfiguration config = getConfigAs(ReportConfiguration.class);
             int delay = (config.refresh != null) ? config.refresh.intValue() : DEFAULT_REFRESH_PERIOD;
             refreshJob = scheduler.scheduleWithFixedDelay(() -> {
-                updateChannels(config);
+                updateChannels(config, true);
             }, 0, delay, TimeUnit.MINUTES);
         }
     }
 
-    private void updateChannels(ReportConfiguration config) {
+    private void updateChannels(ReportConfiguration config, boolean skipUnchanged) {
         ThingStatusInfo bridgeStatusInfo = bridgeHandler.getThing().getStatusInfo();
         if (bridgeStatusInfo.getStatus() == ThingStatus.ONLINE) {
             OpenUVResult openUVData = bridgeHandler.getUVData(config.getLatitude(), config.getLongitude(),
                     config.getAltitude());
-            if (openUVData != null) {
+            if (openUVData != null && skipUnchanged && openUVData == updatedData) {
+                // an unchanged response is parsed only once, the channels are up to date
+                logger.debug("OpenUV data of thing '{}' has not changed.", getThing().getUID());
+                updateStatus(ThingStatus.ONLINE);
+            } else if (openUVData != null) {
+                updatedData = openUVData;
                 scheduleUVMaxEvent(openUVData);
                 getThing().getChannels().forEach(channel -> {
                     updateChannel(channel.getUID(), openUVData);
@@ -151,6 +159,7 @@ public class OpenUVReportHandler extends BaseThingHandler {
             uvMaxJob.cancel(true);
             uvMaxJob = null;
         }
+        updatedData = null;
     }
 
     @Override
@@ -158,13 +167,22 @@ public class OpenUVReportHandler extends BaseThingHandler {
         if (command instanceof RefreshType) {
             scheduler.execute(() -> {
                 ReportConfiguration config = getConfigAs(ReportConfiguration.class);
-                updateChannels(config);
+                updateChannels(config, false);
             });
         } else {
             logger.debug("The OpenUV Report Thing only handles Refresh command and not '{}'", command);
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // unchanged data does not update the channels, so a newly linked channel is updated from the latest data
+        OpenUVResult openUVData = updatedData;
+        if (openUVData != null) {
+            updateChannel(channelUID, openUVData);
+        }
+    }
+
     /**
      * Update the channel from the last OpenUV data retrieved
      *
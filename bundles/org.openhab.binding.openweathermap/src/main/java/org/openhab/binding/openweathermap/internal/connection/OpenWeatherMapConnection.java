@@ -13,9 +13,9 @@
 package org.openhab.binding.openweathermap.internal.connection;
 
 import static java.util.stream.Collectors.joining;
-import static org.eclipse.jetty.http.HttpMethod.GET;
 import static org.eclipse.jetty.http.HttpStatus.*;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -23,17 +23,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpResponseException;
-import org.eclipse.jetty.client.api.ContentResponse;
-import org.eclipse.smarthome.core.cache.ExpiringCacheMap;
 import org.eclipse.smarthome.core.library.types.PointType;
 import org.eclipse.smarthome.core.library.types.RawType;
 import org.eclipse.smarthome.io.net.http.HttpUtil;
@@ -44,6 +39,8 @@ import org.openhab.binding.openweathermap.internal.model.OpenWeatherMapJsonHourl
 import org.openhab.binding.openweathermap.internal.model.OpenWeatherMapJsonUVIndexData;
 import org.openhab.binding.openweathermap.internal.model.OpenWeatherMapJsonWeatherData;
 import org.openhab.binding.openweathermap.internal.utils.ByteArrayFileCache;
+import org.openhab.io.httpfetcher.HttpFetchResult;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -87,20 +84,16 @@ public class OpenWeatherMapConnection {
     private static final String ICON_URL = "https://openweathermap.org/img/w/%s.png";
 
     private final OpenWeatherMapAPIHandler handler;
-    private final HttpClient httpClient;
+    private final HttpFetcher httpFetcher;
 
     private static final ByteArrayFileCache IMAGE_CACHE = new ByteArrayFileCache("org.openhab.binding.openweathermap");
-    private final ExpiringCacheMap<String, String> cache;
 
     private final JsonParser parser = new JsonParser();
     private final Gson gson = new Gson();
 
-    public OpenWeatherMapConnection(OpenWeatherMapAPIHandler handler, HttpClient httpClient) {
+    public OpenWeatherMapConnection(OpenWeatherMapAPIHandler handler, HttpFetcher httpFetcher) {
         this.handler = handler;
-        this.httpClient = httpClient;
-
-        OpenWeatherMapAPIConfiguration config = handler.getOpenWeatherMapAPIConfig();
-        cache = new ExpiringCacheMap<>(TimeUnit.MINUTES.toMillis(config.getRefreshInterval()));
+        this.httpFetcher = httpFetcher;
     }
 
     /**
@@ -114,9 +107,7 @@ public class OpenWeatherMapConnection {
      */
     public synchronized @Nullable OpenWeatherMapJsonWeatherData getWeatherData(@Nullable PointType location)
             throws JsonSyntaxException, OpenWeatherMapCommunicationException, OpenWeatherMapConfigurationException {
-        return gson.fromJson(
-                getResponseFromCache(
-                        buildURL(WEATHER_URL, getRequestParams(handler.getOpenWeatherMapAPIConfig(), location))),
+        return getData(buildURL(WEATHER_URL, getRequestParams(handler.getOpenWeatherMapAPIConfig(), location)),
                 OpenWeatherMapJsonWeatherData.class);
     }
 
@@ -140,8 +131,7 @@ public class OpenWeatherMapConnection {
         Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
         params.put(PARAM_FORECAST_CNT, Integer.toString(count));
 
-        return gson.fromJson(getResponseFromCache(buildURL(THREE_HOUR_FORECAST_URL, params)),
-                OpenWeatherMapJsonHourlyForecastData.class);
+        return getData(buildURL(THREE_HOUR_FORECAST_URL, params), OpenWeatherMapJsonHourlyForecastData.class);
     }
 
     /**
@@ -164,8 +154,7 @@ public class OpenWeatherMapConnection {
         Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
         params.put(PARAM_FORECAST_CNT, Integer.toString(count));
 
-        return gson.fromJson(getResponseFromCache(buildURL(DAILY_FORECAST_URL, params)),
-                OpenWeatherMapJsonDailyForecastData.class);
+        return getData(buildURL(DAILY_FORECAST_URL, params), OpenWeatherMapJsonDailyForecastData.class);
     }
 
     /**
@@ -179,9 +168,7 @@ public class OpenWeatherMapConnection {
      */
     public synchronized @Nullable OpenWeatherMapJsonUVIndexData getUVIndexData(@Nullable PointType location)
             throws JsonSyntaxException, OpenWeatherMapCommunicationException, OpenWeatherMapConfigurationException {
-        return gson.fromJson(
-                getResponseFromCache(
-                        buildURL(UVINDEX_URL, getRequestParams(handler.getOpenWeatherMapAPIConfig(), location))),
+        return getData(buildURL(UVINDEX_URL, getRequestParams(handler.getOpenWeatherMapAPIConfig(), location)),
                 OpenWeatherMapJsonUVIndexData.class);
     }
 
@@ -205,8 +192,9 @@ public class OpenWeatherMapConnection {
         Map<String, String> params = getRequestParams(handler.getOpenWeatherMapAPIConfig(), location);
         params.put(PARAM_FORECAST_CNT, Integer.toString(count));
 
-        return Arrays.asList(gson.fromJson(getResponseFromCache(buildURL(UVINDEX_FORECAST_URL, params)),
-                OpenWeatherMapJsonUVIndexData[].class));
+        OpenWeatherMapJsonUVIndexData[] data = getData(buildURL(UVINDEX_FORECAST_URL, params),
+                OpenWeatherMapJsonUVIndexData[].class);
+        return data != null ? Arrays.asList(data) : null;
     }
 
     /**
@@ -278,24 +266,30 @@ public class OpenWeatherMapConnection {
         }
     }
 
-    private @Nullable String getResponseFromCache(String url) {
-        return cache.putIfAbsentAndGet(url, () -> getResponse(url));
+    /**
+     * Returns the data of the given URL. As long as the response does not change, the data parsed before is returned.
+     */
+    private <T> @Nullable T getData(String url, Class<T> type) {
+        return getResponse(url).getContentAs(type, content -> gson.fromJson(content, type));
     }
 
-    private String getResponse(String url) {
+    private HttpFetchResult getResponse(String url) {
         try {
             if (logger.isTraceEnabled()) {
                 logger.trace("OpenWeatherMap request: URL = '{}'", uglifyApikey(url));
             }
-            ContentResponse contentResponse = httpClient.newRequest(url).method(GET).timeout(10, TimeUnit.SECONDS)
-                    .send();
-            int httpStatus = contentResponse.getStatus();
-            String content = contentResponse.getContentAsString();
+            // the Things are polled one after the other, so they share one response per refresh interval
+            int refreshInterval = handler.getOpenWeatherMapAPIConfig().getRefreshInterval();
+            long minFreshness = TimeUnit.MINUTES.toMillis(refreshInterval) / 2;
+            HttpFetchResult result = httpFetcher.fetch(url, (int) TimeUnit.SECONDS.toMillis(10), minFreshness);
+            int httpStatus = result.getStatus();
+            String content = result.getContent();
             String errorMessage = StringUtils.EMPTY;
-            logger.trace("OpenWeatherMap response: status = {}, content = '{}'", httpStatus, content);
+            logger.trace("OpenWeatherMap response: status = {}, cached = {}, content = '{}'", httpStatus,
+                    result.isCached(), content);
             switch (httpStatus) {
                 case OK_200:
-                    return content;
+                    return result;
                 case BAD_REQUEST_400:
                 case UNAUTHORIZED_401:
                 case NOT_FOUND_404:
@@ -309,7 +303,7 @@ public class OpenWeatherMapConnection {
                     logger.debug("OpenWeatherMap server responded with status code {}: {}", httpStatus, errorMessage);
                     throw new OpenWeatherMapCommunicationException(errorMessage);
             }
-        } catch (ExecutionException e) {
+        } catch (IOException e) {
             String errorMessage = e.getLocalizedMessage();
             logger.trace("Exception occurred during execution: {}", errorMessage, e);
             if (e.getCause() instanceof HttpResponseException) {
@@ -318,9 +312,6 @@ public class OpenWeatherMapConnection {
             } else {
                 throw new OpenWeatherMapCommunicationException(errorMessage, e.getCause());
             }
-        } catch (InterruptedException | TimeoutException e) {
-            logger.debug("Exception occurred during execution: {}", e.getLocalizedMessage(), e);
-            throw new OpenWeatherMapCommunicationException(e.getLocalizedMessage(), e.getCause());
         }
     }
 
@@ -24,7 +24,6 @@ import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
 import org.eclipse.smarthome.core.i18n.LocaleProvider;
 import org.eclipse.smarthome.core.i18n.LocationProvider;
@@ -42,6 +41,7 @@ import org.openhab.binding.openweathermap.internal.handler.AbstractOpenWeatherMa
 import org.openhab.binding.openweathermap.internal.handler.OpenWeatherMapAPIHandler;
 import org.openhab.binding.openweathermap.internal.handler.OpenWeatherMapUVIndexHandler;
 import org.openhab.binding.openweathermap.internal.handler.OpenWeatherMapWeatherAndForecastHandler;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -60,7 +60,7 @@ public class OpenWeatherMapHandlerFactory extends BaseThingHandlerFactory {
                     AbstractOpenWeatherMapHandler.SUPPORTED_THING_TYPES.stream()).collect(Collectors.toSet()));
 
     private final Map<ThingUID, ServiceRegistration<?>> discoveryServiceRegs = new HashMap<>();
-    private @NonNullByDefault({}) HttpClient httpClient;
+    private @NonNullByDefault({}) HttpFetcher httpFetcher;
     private @NonNullByDefault({}) LocaleProvider localeProvider;
     private @NonNullByDefault({}) LocationProvider locationProvider;
     private @NonNullByDefault({}) TranslationProvider i18nProvider;
@@ -75,7 +75,8 @@ public class OpenWeatherMapHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (THING_TYPE_WEATHER_API.equals(thingTypeUID)) {
-            OpenWeatherMapAPIHandler handler = new OpenWeatherMapAPIHandler((Bridge) thing, httpClient, localeProvider);
+            OpenWeatherMapAPIHandler handler = new OpenWeatherMapAPIHandler((Bridge) thing, httpFetcher,
+                    localeProvider);
             // register discovery service
             OpenWeatherMapDiscoveryService discoveryService = new OpenWeatherMapDiscoveryService(handler,
                     locationProvider, localeProvider, i18nProvider);
@@ -109,11 +110,11 @@ public class OpenWeatherMapHandlerFactory extends BaseThingHandlerFactory {
 
     @Reference
     protected void setHttpClientFactory(HttpClientFactory httpClientFactory) {
-        this.httpClient = httpClientFactory.getCommonHttpClient();
+        this.httpFetcher = new HttpFetcher(httpClientFactory.getCommonHttpClient());
     }
 
     protected void unsetHttpClientFactory(HttpClientFactory httpClientFactory) {
-        this.httpClient = null;
+        this.httpFetcher = null;
     }
 
     @Reference
@@ -76,6 +76,9 @@ public abstract class AbstractOpenWeatherMapHandler extends BaseThingHandler {
     // keeps track of the parsed location
     protected @Nullable PointType location;
 
+    // keeps track of the data the channels have been updated with
+    private List<@Nullable Object> updatedData = Collections.emptyList();
+
     public AbstractOpenWeatherMapHandler(Thing thing) {
         super(thing);
     }
@@ -83,6 +86,7 @@ public abstract class AbstractOpenWeatherMapHandler extends BaseThingHandler {
     @Override
     public void initialize() {
         OpenWeatherMapLocationConfiguration config = getConfigAs(OpenWeatherMapLocationConfiguration.class);
+        updatedData = Collections.emptyList();
 
         boolean configValid = true;
         if (StringUtils.trimToNull(config.getLocation()) == null) {
@@ -114,6 +118,16 @@ public abstract class AbstractOpenWeatherMapHandler extends BaseThingHandler {
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // unchanged data does not update the channels, so a newly linked channel is updated from the latest data
+        Channel channel = getThing().getChannel(channelUID.getId());
+        if (channel != null && ChannelKind.STATE.equals(channel.getKind()) && channelUID.isInGroup()
+                && channelUID.getGroupId() != null) {
+            updateChannel(channelUID);
+        }
+    }
+
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         if (ThingStatus.ONLINE.equals(bridgeStatusInfo.getStatus())
@@ -133,7 +147,14 @@ public abstract class AbstractOpenWeatherMapHandler extends BaseThingHandler {
     public void updateData(OpenWeatherMapConnection connection) {
         try {
             if (requestData(connection)) {
-                updateChannels();
+                // unchanged responses are parsed only once, so the same data objects mean nothing has changed
+                List<@Nullable Object> data = getData();
+                if (data.equals(updatedData)) {
+                    logger.debug("OpenWeatherMap data of thing '{}' has not changed.", getThing().getUID());
+                } else {
+                    updateChannels();
+                    updatedData = data;
+                }
                 updateStatus(ThingStatus.ONLINE);
             }
         } catch (OpenWeatherMapCommunicationException e) {
@@ -154,6 +175,13 @@ public abstract class AbstractOpenWeatherMapHandler extends BaseThingHandler {
     protected abstract boolean requestData(OpenWeatherMapConnection connection)
             throws OpenWeatherMapCommunicationException, OpenWeatherMapConfigurationException;
 
+    /**
+     * Returns the latest OpenWeatherMap data retrieved.
+     *
+     * @return the data objects the channels are updated from
+     */
+    protected abstract List<@Nullable Object> getData();
+
     /**
      * Updates all channels of this handler from the latest OpenWeatherMap data retrieved.
      */
@@ -22,7 +22,6 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.i18n.LocaleProvider;
 import org.eclipse.smarthome.core.thing.Bridge;
@@ -37,6 +36,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.openweathermap.internal.config.OpenWeatherMapAPIConfiguration;
 import org.openhab.binding.openweathermap.internal.connection.OpenWeatherMapConnection;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,16 +56,16 @@ public class OpenWeatherMapAPIHandler extends BaseBridgeHandler {
 
     private @Nullable ScheduledFuture<?> refreshJob;
 
-    private final HttpClient httpClient;
+    private final HttpFetcher httpFetcher;
     private final LocaleProvider localeProvider;
     private @NonNullByDefault({}) OpenWeatherMapConnection connection;
 
     // keeps track of the parsed config
     private @NonNullByDefault({}) OpenWeatherMapAPIConfiguration config;
 
-    public OpenWeatherMapAPIHandler(Bridge bridge, HttpClient httpClient, LocaleProvider localeProvider) {
+    public OpenWeatherMapAPIHandler(Bridge bridge, HttpFetcher httpFetcher, LocaleProvider localeProvider) {
         super(bridge);
-        this.httpClient = httpClient;
+        this.httpFetcher = httpFetcher;
         this.localeProvider = localeProvider;
     }
 
@@ -105,7 +105,7 @@ public class OpenWeatherMapAPIHandler extends BaseBridgeHandler {
         }
 
         if (configValid) {
-            connection = new OpenWeatherMapConnection(this, httpClient);
+            connection = new OpenWeatherMapConnection(this, httpFetcher);
 
             updateStatus(ThingStatus.UNKNOWN);
 
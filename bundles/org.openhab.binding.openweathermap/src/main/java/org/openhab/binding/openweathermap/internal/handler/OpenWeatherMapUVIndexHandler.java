@@ -15,6 +15,7 @@ package org.openhab.binding.openweathermap.internal.handler;
 import static org.openhab.binding.openweathermap.internal.OpenWeatherMapBindingConstants.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -128,6 +129,11 @@ public class OpenWeatherMapUVIndexHandler extends AbstractOpenWeatherMapHandler
         }
     }
 
+    @Override
+    protected List<@Nullable Object> getData() {
+        return Arrays.asList(uvindexData, uvindexForecastData);
+    }
+
     @Override
     protected void updateChannel(ChannelUID channelUID) {
         switch (channelUID.getGroupId()) {
@@ -18,6 +18,7 @@ import static org.eclipse.smarthome.core.library.unit.SmartHomeUnits.*;
 import static org.openhab.binding.openweathermap.internal.OpenWeatherMapBindingConstants.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -196,6 +197,11 @@ public class OpenWeatherMapWeatherAndForecastHandler extends AbstractOpenWeather
         }
     }
 
+    @Override
+    protected List<@Nullable Object> getData() {
+        return Arrays.asList(weatherData, hourlyForecastData, dailyForecastData);
+    }
+
     @Override
     protected void updateChannel(ChannelUID channelUID) {
         String channelGroupId = channelUID.getGroupId();
@@ -21,6 +21,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import org.apache.commons.lang.Validate;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.net.HttpServiceUtil;
 import org.eclipse.smarthome.core.net.NetworkAddressService;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -35,6 +36,7 @@ import org.openhab.binding.shelly.internal.handler.ShellyDeviceListener;
 import org.openhab.binding.shelly.internal.handler.ShellyLightHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyProtectedHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyRelayHandler;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -55,6 +57,8 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
     private final Logger logger = LoggerFactory.getLogger(ShellyHandlerFactory.class);
     private final ShellyCoapServer coapServer;
     private final Set<ShellyDeviceListener> deviceListeners = new CopyOnWriteArraySet<>();
+    private final RefreshScheduler refreshScheduler = new RefreshScheduler("shelly",
+            ThreadPoolManager.getScheduledPool("thingHandler"), 4);
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = ShellyBindingConstants.SUPPORTED_THING_TYPES_UIDS;
     private ShellyBindingConfiguration bindingConfig = new ShellyBindingConfiguration();
@@ -90,6 +94,12 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
         localIP = lip != null ? lip : "";
     }
 
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        refreshScheduler.dispose();
+        super.deactivate(componentContext);
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -103,15 +113,16 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
 
         if (thingType.equals(THING_TYPE_SHELLYPROTECTED_STR)) {
             logger.debug("Create new thing of type {} using ShellyRelayHandler", thingTypeUID.getId());
-            handler = new ShellyProtectedHandler(thing, bindingConfig, coapServer, localIP, httpPort);
+            handler = new ShellyProtectedHandler(thing, bindingConfig, coapServer, localIP, httpPort,
+                    refreshScheduler);
         } else if (thingType.equals(THING_TYPE_SHELLYBULB.getId())
                 || thingType.equals(THING_TYPE_SHELLYRGBW2_COLOR.getId())
                 || thingType.equals(THING_TYPE_SHELLYRGBW2_WHITE.getId())) {
             logger.debug("Create new thing of type {} using ShellyLightHandler", thingTypeUID.getId());
-            handler = new ShellyLightHandler(thing, bindingConfig, coapServer, localIP, httpPort);
+            handler = new ShellyLightHandler(thing, bindingConfig, coapServer, localIP, httpPort, refreshScheduler);
         } else if (SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID)) {
             logger.debug("Create new thing of type {} using ShellyRelayHandler", thingTypeUID.getId());
-            handler = new ShellyRelayHandler(thing, bindingConfig, coapServer, localIP, httpPort);
+            handler = new ShellyRelayHandler(thing, bindingConfig, coapServer, localIP, httpPort, refreshScheduler);
         }
 
         if (handler != null) {
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.coap;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotDescrBlk;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotDescrSen;
+
+/**
+ * The {@link ShellyCoapDeviceDescriptor} is a precompiled form of the CoIoT device description. It is built once when
+ * the description is received and maps the numeric sensor ids of status updates to the (fixed) sensor definition,
+ * the lower case type/description and the linked block without any String conversion per update.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ShellyCoapDeviceDescriptor {
+    static final ShellyCoapDeviceDescriptor EMPTY = new ShellyCoapDeviceDescriptor(new TreeMap<>(), new TreeMap<>());
+
+    private final int[] ids;
+    private final CoIotDescrSen[] sensors;
+    private final String[] types;
+    private final String[] descs;
+    private final int[] links;
+    private final @Nullable CoIotDescrBlk[] blocks;
+
+    /**
+     * Build the descriptor
+     *
+     * @param sensors Fixed sensor definitions by numeric sensor id
+     * @param blockMap Block definitions by block id
+     */
+    private ShellyCoapDeviceDescriptor(TreeMap<Integer, CoIotDescrSen> sensors, Map<String, CoIotDescrBlk> blockMap) {
+        int size = sensors.size();
+        this.ids = new int[size];
+        this.sensors = new CoIotDescrSen[size];
+        this.types = new String[size];
+        this.descs = new String[size];
+        this.links = new int[size];
+        this.blocks = new CoIotDescrBlk[size];
+
+        int i = 0;
+        for (Map.Entry<Integer, CoIotDescrSen> e : sensors.entrySet()) {
+            CoIotDescrSen sen = e.getValue();
+            ids[i] = e.getKey();
+            this.sensors[i] = sen;
+            types[i] = sen.type != null ? sen.type.toLowerCase() : "";
+            descs[i] = sen.desc != null ? sen.desc.toLowerCase() : "";
+            links[i] = toInt(sen.links, 0);
+            blocks[i] = sen.links != null ? blockMap.get(sen.links) : null;
+            i++;
+        }
+    }
+
+    static ShellyCoapDeviceDescriptor build(Map<String, CoIotDescrBlk> blockMap, Map<String, CoIotDescrSen> sensorMap) {
+        TreeMap<Integer, CoIotDescrSen> sensors = new TreeMap<>();
+        for (CoIotDescrSen sen : sensorMap.values()) {
+            int id = toInt(sen.id, -1);
+            if (id >= 0) {
+                sensors.put(id, sen);
+            }
+        }
+        return new ShellyCoapDeviceDescriptor(sensors, blockMap);
+    }
+
+    /**
+     * @return number of sensor definitions
+     */
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Find a sensor definition
+     *
+     * @param sensorId The numeric id from the status update
+     * @return position of the definition or a negative value if the sensor is unknown
+     */
+    int indexOf(int sensorId) {
+        return Arrays.binarySearch(ids, sensorId);
+    }
+
+    CoIotDescrSen getSensor(int pos) {
+        return sensors[pos];
+    }
+
+    /**
+     * @return lower case sensor type
+     */
+    String getType(int pos) {
+        return types[pos];
+    }
+
+    /**
+     * @return lower case sensor description
+     */
+    String getDesc(int pos) {
+        return descs[pos];
+    }
+
+    /**
+     * @return the numeric link (block id) of the sensor
+     */
+    int getLink(int pos) {
+        return links[pos];
+    }
+
+    @Nullable
+    CoIotDescrBlk getBlock(int pos) {
+        return blocks[pos];
+    }
+
+    private static int toInt(@Nullable String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -43,9 +43,7 @@ import org.openhab.binding.shelly.internal.api.ShellyDeviceProfile;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotDescrBlk;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotDescrSen;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotDevDescription;
-import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotGenericSensorList;
-import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotSensor;
-import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotSensorTypeAdapter;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSon.CoIotSensorValues;
 import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
 import org.openhab.binding.shelly.internal.handler.ShellyBaseHandler;
 import org.slf4j.Logger;
@@ -78,6 +76,9 @@ public class ShellyCoapHandler implements ShellyCoapListener {
     private String lastPayload = "";
     private Map<String, CoIotDescrBlk> blockMap = new HashMap<String, CoIotDescrBlk>();
     private Map<String, CoIotDescrSen> sensorMap = new HashMap<String, CoIotDescrSen>();
+    private volatile ShellyCoapDeviceDescriptor descriptor = ShellyCoapDeviceDescriptor.EMPTY;
+    /** Reused for every status update, guarded by this like the other parser state */
+    private final CoIotSensorValues sensorValues = new CoIotSensorValues();
 
     public ShellyCoapHandler(ShellyThingConfiguration config, ShellyBaseHandler thingHandler,
             @Nullable ShellyCoapServer coapServer) {
@@ -88,7 +89,6 @@ public class ShellyCoapHandler implements ShellyCoapListener {
         this.thingName = thingHandler.thingName;
 
         gsonBuilder = new GsonBuilder();
-        gsonBuilder.registerTypeAdapter(CoIotGenericSensorList.class, new CoIotSensorTypeAdapter());
         gsonBuilder.setPrettyPrinting();
         gson = gsonBuilder.create();
     }
@@ -103,7 +103,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
 
             if (statusClient == null) {
                 coapServer.init(config.localIp);
-                coapServer.addListener(this);
+                coapServer.addListener(config.deviceIp, this);
 
                 statusClient = new CoapClient(completeUrl(config.deviceIp, COLOIT_URI_DEVSTATUS))
                         .setTimeout((long) SHELLY_API_TIMEOUT_MS).useNONs().setEndpoint(coapServer.getEndpoint());
@@ -122,10 +122,13 @@ public class ShellyCoapHandler implements ShellyCoapListener {
      * - decode Coap options
      * - handle discery result or status updates
      *
+     * Responses are received on the CoAP server thread as well as on the client thread of the status requests, so they
+     * are processed one at a time.
+     *
      * @param response The Response packet
      */
     @Override
-    public void processResponse(@Nullable Response response) {
+    public synchronized void processResponse(@Nullable Response response) {
         if (response == null) {
             return; // other device instance
         }
@@ -273,6 +276,8 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             }
         }
 
+        descriptor = ShellyCoapDeviceDescriptor.build(blockMap, sensorMap);
+
         // Save to thing properties
         thingHandler.updateProperties(PROPERTY_COAP_DESCR, payload);
     }
@@ -326,12 +331,11 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             logger.debug("{}: Device description for {} restored: {}", thingName, devId, savedDescr);
         }
 
-        // Parse Json,
-        CoIotGenericSensorList list = gson.fromJson(payload, CoIotGenericSensorList.class);
-        Validate.notNull(list, "sensor list must not be empty!");
+        // Parse Json into the primitive value arrays
+        CoIotSensorValues list = sensorValues;
         Map<String, State> updates = new HashMap<String, State>();
 
-        if (list.generic == null) {
+        if (!ShellyCoapJSon.parseSensorValues(payload, list)) {
             logger.debug("{}: Sensor list is empty! Payload: {}", devId, payload);
             return;
         }
@@ -344,51 +348,50 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             return;
         }
 
-        logger.debug("{}: {} status updates received", thingName, list.generic.size());
-        for (int i = 0; i < list.generic.size(); i++) {
-            CoIotSensor s = list.generic.get(i);
-            CoIotDescrSen sen = sensorMap.get(s.index);
-            if (sen != null) {
-                // find matching sensor definition from device description, use the Link ID as
-                // index
-                Validate.notNull(sen.links != null, "Coap: sen.L must not be null!");
-                sen = fixDescription(sen);
-                CoIotDescrBlk element = blockMap.get(sen.links);
-                logger.debug("{}:  Sensor value[{}]: Index={}, Value={} ({}, Type={}, Range={}, Link={}: {})",
-                        thingName, i, s.index, s.value, sen.desc, sen.type, sen.range, sen.links,
-                        element != null ? element.desc : "n/a");
-
-                // Process status information and convert into channel updates
-                String type = (element != null ? element.desc : "").toLowerCase();
-                Integer rIndex = Integer.parseInt(sen.links) + 1;
+        logger.debug("{}: {} status updates received", thingName, list.size);
+        for (int i = 0; i < list.size; i++) {
+            // find matching sensor definition from the precompiled device description
+            int pos = descriptor.indexOf(list.index[i]);
+            double value = list.value[i];
+            if (pos >= 0) {
+                CoIotDescrSen sen = descriptor.getSensor(pos);
+                if (logger.isDebugEnabled()) {
+                    CoIotDescrBlk element = descriptor.getBlock(pos);
+                    logger.debug("{}:  Sensor value[{}]: Index={}, Value={} ({}, Type={}, Range={}, Link={}: {})",
+                            thingName, i, list.index[i], value, sen.desc, sen.type, sen.range, sen.links,
+                            element != null ? element.desc : "n/a");
+                }
+
+                // Process status information and convert into channel updates, use the Link ID as index
+                int rIndex = descriptor.getLink(pos) + 1;
                 String rGroup = profile.numRelays <= 1 ? CHANNEL_GROUP_RELAY_CONTROL
                         : CHANNEL_GROUP_RELAY_CONTROL + rIndex;
 
-                switch (sen.type.toLowerCase()) /* CoIoT_STypes.valueOf(sen.T) */ {
+                switch (descriptor.getType(pos)) /* CoIoT_STypes.valueOf(sen.T) */ {
                     case "b" /* BatteryLevel */:
                         updateChannel(updates, CHANNEL_GROUP_BATTERY, CHANNEL_SENSOR_BAT_LEVEL,
-                                toQuantityType(s.value, DIGITS_PERCENT, SmartHomeUnits.PERCENT));
+                                toQuantityType(value, DIGITS_PERCENT, SmartHomeUnits.PERCENT));
                         break;
                     case "t" /* Temperature */:
                         updateChannel(updates, CHANNEL_GROUP_SENSOR, CHANNEL_SENSOR_TEMP,
-                                toQuantityType(s.value, DIGITS_TEMP, SIUnits.CELSIUS));
+                                toQuantityType(value, DIGITS_TEMP, SIUnits.CELSIUS));
                         break;
                     case "h" /* Humidity */:
                         updateChannel(updates, CHANNEL_GROUP_SENSOR, CHANNEL_SENSOR_HUM,
-                                toQuantityType(s.value, DIGITS_PERCENT, SmartHomeUnits.PERCENT));
+                                toQuantityType(value, DIGITS_PERCENT, SmartHomeUnits.PERCENT));
                         break;
                     case "m" /* Motion */:
                         updateChannel(updates, CHANNEL_GROUP_SENSOR, CHANNEL_SENSOR_MOTION,
-                                s.value == 1 ? OnOffType.ON : OnOffType.OFF);
+                                value == 1 ? OnOffType.ON : OnOffType.OFF);
                         break;
                     case "l" /* Luminosity */:
                         updateChannel(updates, CHANNEL_GROUP_SENSOR, CHANNEL_SENSOR_LUX,
-                                toQuantityType(s.value, DIGITS_LUX, SmartHomeUnits.LUX));
+                                toQuantityType(value, DIGITS_LUX, SmartHomeUnits.LUX));
                         break;
                     case "w" /* Watt */:
                         String mGroup = profile.numMeters == 1 ? CHANNEL_GROUP_METER : CHANNEL_GROUP_METER + rIndex;
                         updateChannel(updates, mGroup, CHANNEL_METER_CURRENTWATTS,
-                                toQuantityType(s.value, DIGITS_WATT, SmartHomeUnits.WATT));
+                                toQuantityType(value, DIGITS_WATT, SmartHomeUnits.WATT));
                         break;
                     case "o": // Overtemp
                         // will be handled by status update
@@ -402,18 +405,18 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                         break;
 
                     case "s" /* CatchAll */:
-                        switch (sen.desc.toLowerCase()) {
+                        switch (descriptor.getDesc(pos)) {
                             case "relay0": // Shelly1
                             case "state":
                             case "switch":
                             case "output":
                             case "vswitch": // ???
                                 updateChannel(updates, rGroup, CHANNEL_OUTPUT,
-                                        s.value == 1 ? OnOffType.ON : OnOffType.OFF);
+                                        value == 1 ? OnOffType.ON : OnOffType.OFF);
                                 break;
                             case "position":
                                 // work around: Roller reports 101% instead max 100
-                                double pos = Math.max(SHELLY_MIN_ROLLER_POS, Math.min(s.value, SHELLY_MAX_ROLLER_POS));
+                                double pos = Math.max(SHELLY_MIN_ROLLER_POS, Math.min(value, SHELLY_MAX_ROLLER_POS));
                                 updateChannel(updates, CHANNEL_GROUP_ROL_CONTROL, CHANNEL_ROL_CONTROL_CONTROL,
                                         toQuantityType(SHELLY_MAX_ROLLER_POS - pos, SmartHomeUnits.PERCENT));
                                 updateChannel(updates, CHANNEL_GROUP_ROL_CONTROL, CHANNEL_ROL_CONTROL_POS,
@@ -423,53 +426,53 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                                 if (!profile.isDimmer) {
                                     // Device has 1 input: 0=off, 1+2 depend on switch mode
                                     updateChannel(updates, rGroup, CHANNEL_INPUT,
-                                            s.value == 0 ? OnOffType.OFF : OnOffType.ON);
+                                            value == 0 ? OnOffType.OFF : OnOffType.ON);
                                 } else {
                                     // only Dimmer has 2 inputs
                                     Integer idx = getInputId(sen.id);
                                     if (idx != null) {
                                         updateChannel(updates, rGroup, CHANNEL_INPUT + idx.toString(),
-                                                s.value == 1 ? OnOffType.ON : OnOffType.OFF);
+                                                value == 1 ? OnOffType.ON : OnOffType.OFF);
                                     }
                                 }
                                 break;
                             case "flood":
                                 updateChannel(updates, CHANNEL_GROUP_SENSOR, CHANNEL_SENSOR_FLOOD,
-                                        s.value == 1 ? OnOffType.ON : OnOffType.OFF);
+                                        value == 1 ? OnOffType.ON : OnOffType.OFF);
                                 break;
                             case "brightness": // Dimmer
                                 updateChannel(updates, rGroup, CHANNEL_BRIGHTNESS,
-                                        toQuantityType(s.value, SmartHomeUnits.PERCENT));
+                                        toQuantityType(value, SmartHomeUnits.PERCENT));
                                 break;
                             case "charger": // Sense
                                 updateChannel(updates, CHANNEL_GROUP_SENSOR, CHANNEL_SENSOR_CHARGER,
-                                        s.value == 1 ? OnOffType.ON : OnOffType.OFF);
+                                        value == 1 ? OnOffType.ON : OnOffType.OFF);
                                 break;
 
                             // RGBW2/Bulb
                             case "red":
                                 updateChannel(updates, CHANNEL_GROUP_COLOR_CONTROL, CHANNEL_COLOR_RED,
-                                        new DecimalType(s.value));
+                                        new DecimalType(value));
                                 break;
                             case "green":
                                 updateChannel(updates, CHANNEL_GROUP_COLOR_CONTROL, CHANNEL_COLOR_GREEN,
-                                        new DecimalType(s.value));
+                                        new DecimalType(value));
                                 break;
                             case "blue":
                                 updateChannel(updates, CHANNEL_GROUP_COLOR_CONTROL, CHANNEL_COLOR_BLUE,
-                                        new DecimalType(s.value));
+                                        new DecimalType(value));
                                 break;
                             case "white":
                                 updateChannel(updates, CHANNEL_GROUP_COLOR_CONTROL, CHANNEL_COLOR_WHITE,
-                                        new DecimalType(s.value));
+                                        new DecimalType(value));
                                 break;
                             case "gain":
                                 updateChannel(updates, CHANNEL_GROUP_COLOR_CONTROL, CHANNEL_COLOR_GAIN,
-                                        new DecimalType(s.value));
+                                        new DecimalType(value));
                                 break;
                             case "temp":
                                 updateChannel(updates, CHANNEL_GROUP_COLOR_CONTROL, CHANNEL_COLOR_TEMP,
-                                        new DecimalType(s.value));
+                                        new DecimalType(value));
 
                                 break;
 
@@ -481,12 +484,12 @@ public class ShellyCoapHandler implements ShellyCoapListener {
 
                     default:
                         logger.debug("{}: Sensor data for type {} not processed, value={}", thingName, sen.type,
-                                s.value);
+                                value);
                         break;
                 }
             } else {
                 logger.debug("{}: Update for unknown sensor[{}]: Dev={}, Index={}, Value={}", thingName, i, devId,
-                        s.index, s.value);
+                        list.index[i], value);
             }
         }
 
@@ -679,7 +682,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
 
     }
 
-    private void resetSerial() {
+    private synchronized void resetSerial() {
         lastSerial = -1;
         lastPayload = "";
     }
@@ -13,14 +13,12 @@
 package org.openhab.binding.shelly.internal.coap;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 
-import org.apache.commons.lang.Validate;
-
-import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonWriter;
 
 /**
  * The {@link ShellyCoapJSon} helps the CoIoT Json into Java objects
@@ -88,64 +86,67 @@ public class ShellyCoapJSon {
         public ArrayList<CoIotDescrAct> act;
     }
 
-    public static class CoIotSensor {
-        public String index; // id
-        public double value; // value
-    }
-
-    public static class CoIotGenericSensorList {
-        @SerializedName("G")
-        public ArrayList<CoIotSensor> generic;
+    /**
+     * Sensor values of a status update (/cit/s) kept in primitive arrays. An instance is reused for all updates of a
+     * device.
+     */
+    public static class CoIotSensorValues {
+        public int size;
+        public int[] index = new int[16]; // sensor id
+        public double[] value = new double[16]; // value
+
+        public void clear() {
+            size = 0;
+        }
 
-        public CoIotGenericSensorList() {
-            generic = new ArrayList<CoIotSensor>();
+        public void add(int sensorIndex, double sensorValue) {
+            if (size == index.length) {
+                index = Arrays.copyOf(index, size * 2);
+                value = Arrays.copyOf(value, size * 2);
+            }
+            index[size] = sensorIndex;
+            value[size] = sensorValue;
+            size++;
         }
     }
 
-    protected static class CoIotSensorTypeAdapter extends TypeAdapter<CoIotGenericSensorList> {
-        @Override
-        public CoIotGenericSensorList read(final JsonReader in) throws IOException {
-            CoIotGenericSensorList list = new CoIotGenericSensorList();
-
+    /**
+     * Decode a status update payload, e.g. {"G":[[0,112,0]]} into the given value arrays
+     *
+     * @param payload The Json payload
+     * @param values Target for the decoded values, will be cleared before
+     * @return false if the payload doesn't contain a sensor list
+     * @throws IOException on invalid Json format
+     */
+    public static boolean parseSensorValues(String payload, CoIotSensorValues values) throws IOException {
+        values.clear();
+        boolean found = false;
+        try (JsonReader in = new JsonReader(new StringReader(payload))) {
             in.beginObject();
-            String generic = in.nextName();
-            Validate.notNull(generic, "Invalid JSon format for CoIotSensorList");
-            if (generic.equals(COIOT_TAG_GENERIC)) {
+            while (in.hasNext()) {
+                if (!in.nextName().equals(COIOT_TAG_GENERIC)) {
+                    in.skipValue();
+                    continue;
+                }
+                found = true;
                 in.beginArray();
                 while (in.hasNext()) {
                     in.beginArray();
-                    final CoIotSensor sensor = new CoIotSensor();
                     in.nextInt(); // alway 0
-                    sensor.index = new Integer(in.nextInt()).toString();
-                    sensor.value = in.nextDouble();
+                    int sensorIndex = in.nextInt();
+                    double sensorValue = in.nextDouble();
+                    while (in.hasNext()) {
+                        in.skipValue();
+                    }
                     in.endArray();
-                    list.generic.add(sensor);
+                    values.add(sensorIndex, sensorValue);
                 }
                 in.endArray();
             }
             in.endObject();
-
-            return list;
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("Invalid JSon format for CoIoT sensor list", e);
         }
-
-        @Override
-        public void write(final JsonWriter out, final CoIotGenericSensorList o) throws IOException {
-            CoIotGenericSensorList sensors = o;
-            out.beginObject();
-            if (sensors != null) {
-                out.name(COIOT_TAG_GENERIC).beginArray();
-                for (int i = 0; i < sensors.generic.size(); i++) {
-                    out.beginArray();
-                    out.value(0);
-                    out.value(sensors.generic.get(i).index);
-                    out.value(sensors.generic.get(i).value);
-                    out.endArray();
-                }
-                out.endArray();
-            }
-            out.endObject();
-        }
-
+        return found;
     }
-
 }
@@ -17,8 +17,8 @@ import static org.openhab.binding.shelly.internal.ShellyBindingConstants.COIOT_P
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.Validate;
 import org.eclipse.californium.core.CoapResource;
@@ -40,6 +40,9 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages)
  *
+ * Listeners are indexed by the device's IP address, each received packet is delivered only to the listener
+ * registered for its source address.
+ *
  * @author Markus Michels - Initial contribution
  */
 @NonNullByDefault
@@ -50,7 +53,7 @@ public class ShellyCoapServer {
     private @Nullable UdpMulticastConnector statusConnector;
     private @Nullable CoapServer server;
     boolean started = false;
-    private final Set<ShellyCoapListener> coapListeners = new CopyOnWriteArraySet<>();
+    private final Map<String, ShellyCoapListener> coapListeners = new ConcurrentHashMap<>();
 
     @SuppressWarnings("null")
     @NonNullByDefault
@@ -81,12 +84,26 @@ public class ShellyCoapServer {
 
     }
 
-    public void addListener(ShellyCoapListener listener) {
-        coapListeners.add(listener);
+    /**
+     * Register a listener for all packets received from the given device address
+     *
+     * @param deviceAddress IP address or host name of the device
+     * @param listener Listener to receive the packets
+     * @throws UnknownHostException if the device address could not be resolved
+     */
+    public void addListener(String deviceAddress, ShellyCoapListener listener) throws UnknownHostException {
+        ShellyCoapListener previous = coapListeners.put(toHostAddress(deviceAddress), listener);
+        if ((previous != null) && (previous != listener)) {
+            logger.debug("CoIoT listener for {} was replaced", deviceAddress);
+        }
     }
 
     public void removeListener(ShellyCoapListener listener) {
-        coapListeners.remove(listener);
+        coapListeners.values().removeIf(l -> l == listener);
+    }
+
+    private static String toHostAddress(String deviceAddress) throws UnknownHostException {
+        return InetAddress.getByName(deviceAddress).getHostAddress();
     }
 
     @SuppressWarnings("null")
@@ -119,7 +136,13 @@ public class ShellyCoapServer {
     }
 
     protected void processResponse(Response response) {
-        coapListeners.forEach(listener -> listener.processResponse(response));
+        InetSocketAddress peer = response.getSourceContext().getPeerAddress();
+        ShellyCoapListener listener = coapListeners.get(peer.getAddress().getHostAddress());
+        if (listener != null) {
+            listener.processResponse(response);
+        } else {
+            logger.trace("CoIoT packet from unregistered device {} ignored", peer);
+        }
     }
 
     public static Response createResponse(Request request) {
@@ -21,7 +21,6 @@ import static org.openhab.binding.shelly.internal.discovery.ShellyThingCreator.g
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
@@ -47,6 +46,8 @@ import org.openhab.binding.shelly.internal.coap.ShellyCoapHandler;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapServer;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
 import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
+import org.openhab.io.refreshscheduler.RefreshJob;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,7 +75,8 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
     private long lastUptime = 0;
     private long lastAlarmTs = 0;
 
-    private @Nullable ScheduledFuture<?> statusJob;
+    private final RefreshScheduler refreshScheduler;
+    private @Nullable RefreshJob statusJob;
     private int skipUpdate = 0;
     public int scheduledUpdates = 0;
     private int skipCount = UPDATE_SKIP_COUNT;
@@ -100,15 +102,17 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
      * @param coapServer coap server instance
      * @param localIP local IP address from networkAddressService
      * @param httpPort from httpService
+     * @param refreshScheduler scheduler of the status updates
      */
     public ShellyBaseHandler(Thing thing, ShellyBindingConfiguration bindingConfig,
-            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort) {
+            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort, RefreshScheduler refreshScheduler) {
         super(thing);
 
         this.bindingConfig = bindingConfig;
         this.coapServer = coapServer;
         this.localIP = localIP;
         this.httpPort = httpPort;
+        this.refreshScheduler = refreshScheduler;
     }
 
     /**
@@ -600,7 +604,7 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
     @SuppressWarnings("null")
     protected void startUpdateJob() {
         if ((statusJob == null) || statusJob.isCancelled()) {
-            statusJob = scheduler.scheduleWithFixedDelay(this::updateStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
+            statusJob = refreshScheduler.schedule(this::updateStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
                     TimeUnit.SECONDS);
             Validate.notNull(statusJob, "statusJob must not be null");
             logger.debug("{}: Update status job started, interval={}*{}={}sec.", thingName, skipCount,
@@ -826,7 +830,7 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
                 coap = null;
             }
             if (statusJob != null) {
-                statusJob.cancel(true);
+                statusJob.cancel();
                 statusJob = null;
             }
             logger.debug("{}: Shelly statusJob stopped", thingName);
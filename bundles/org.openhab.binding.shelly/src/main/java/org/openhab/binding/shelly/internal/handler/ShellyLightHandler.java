@@ -39,6 +39,7 @@ import org.openhab.binding.shelly.internal.api.ShellyApiJson.ShellyStatusLightCh
 import org.openhab.binding.shelly.internal.api.ShellyDeviceProfile;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapServer;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,10 +62,11 @@ public class ShellyLightHandler extends ShellyBaseHandler {
      * @param coapServer coap server instance
      * @param localIP local IP of the openHAB host
      * @param httpPort port of the openHAB HTTP API
+     * @param refreshScheduler scheduler of the status updates
      */
     public ShellyLightHandler(Thing thing, ShellyBindingConfiguration bindingConfig,
-            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort) {
-        super(thing, bindingConfig, coapServer, localIP, httpPort);
+            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort, RefreshScheduler refreshScheduler) {
+        super(thing, bindingConfig, coapServer, localIP, httpPort, refreshScheduler);
         channelColors = new HashMap<Integer, ShellyColorUtils>();
     }
 
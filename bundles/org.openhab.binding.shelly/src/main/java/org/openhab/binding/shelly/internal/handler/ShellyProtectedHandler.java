@@ -17,6 +17,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapServer;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,10 +38,11 @@ public class ShellyProtectedHandler extends ShellyBaseHandler {
      * @param coapServer coap server instance
      * @param localIP local IP of the openHAB host
      * @param httpPort port of the openHAB HTTP API
+     * @param refreshScheduler scheduler of the status updates
      */
     public ShellyProtectedHandler(Thing thing, ShellyBindingConfiguration bindingConfig,
-            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort) {
-        super(thing, bindingConfig, coapServer, localIP, httpPort);
+            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort, RefreshScheduler refreshScheduler) {
+        super(thing, bindingConfig, coapServer, localIP, httpPort, refreshScheduler);
     }
 
     @Override
@@ -45,6 +45,7 @@ import org.openhab.binding.shelly.internal.api.ShellyApiJson.ShellyStatusRelay;
 import org.openhab.binding.shelly.internal.api.ShellyDeviceProfile;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapServer;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,10 +69,11 @@ public class ShellyRelayHandler extends ShellyBaseHandler {
      * @param coapServer coap server instance
      * @param localIP local IP of the openHAB host
      * @param httpPort port of the openHAB HTTP API
+     * @param refreshScheduler scheduler of the status updates
      */
     public ShellyRelayHandler(Thing thing, ShellyBindingConfiguration bindingConfig,
-            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort) {
-        super(thing, bindingConfig, coapServer, localIP, httpPort);
+            @Nullable ShellyCoapServer coapServer, String localIP, int httpPort, RefreshScheduler refreshScheduler) {
+        super(thing, bindingConfig, coapServer, localIP, httpPort, refreshScheduler);
     }
 
     @Override
@@ -15,10 +15,14 @@ package org.openhab.binding.smartmeter.internal;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +41,7 @@ import org.slf4j.LoggerFactory;
 
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
 import io.reactivex.plugins.RxJavaPlugins;
 import io.reactivex.schedulers.Schedulers;
 
@@ -53,6 +58,10 @@ import io.reactivex.schedulers.Schedulers;
 public abstract class MeterDevice<T> {
 
     private final static int RETRY_DELAY = 2;
+    /**
+     * Interval in which all values are read, regardless of the registered OBIS interests.
+     */
+    private final static long FULL_READ_INTERVAL = TimeUnit.MINUTES.toMillis(5);
     private final Logger logger = LoggerFactory.getLogger(MeterDevice.class);
     /**
      * Controls wether the device info is logged to the OSGi console.
@@ -72,6 +81,31 @@ public abstract class MeterDevice<T> {
      */
     IMeterReaderConnector<T> connector;
     private List<MeterValueListener> valueChangeListeners;
+    /**
+     * The OBIS codes each listener is interested in. Listeners without an entry are not taken into account.
+     */
+    private final Map<MeterValueListener, Set<String>> obisInterests = new ConcurrentHashMap<>();
+    /**
+     * The listeners which need the values of all OBIS codes.
+     */
+    private final Set<MeterValueListener> allObisListeners = ConcurrentHashMap.newKeySet();
+    /**
+     * The union of all OBIS interests or null, if values for all OBIS codes are needed.
+     */
+    private volatile @Nullable Set<String> obisFilter;
+    /**
+     * The filter applied to the current read cycle, null during full reads.
+     */
+    private volatile @Nullable Set<String> activeObisFilter;
+    private volatile long nextFullRead;
+
+    private final Object readerLock = new Object();
+    /**
+     * The refresh periods requested by all callers of {@link #readValues(long, ScheduledExecutorService, Duration)}.
+     */
+    private final List<Duration> readerPeriods = new ArrayList<>();
+    private @Nullable Duration readerPeriod;
+    private @Nullable Disposable reader;
 
     public MeterDevice(Supplier<SerialPortManager> serialPortManagerSupplier, String deviceId, String serialPort,
             byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay, ProtocolMode protocolMode) {
@@ -157,10 +191,52 @@ public abstract class MeterDevice<T> {
      * by {@code period} seconds.
      * If its still failing, the connection will be closed and opened again.
      *
+     * The device is read only once, even if this method is called several times. It is read with the shortest period
+     * of all callers, the reading is restarted whenever the shortest period changes. The reading is stopped when all
+     * returned {@link Disposable}s are disposed.
+     *
      * @return The {@link Disposable} which needs to be disposed whenever not used anymore.
      *
      */
     public Disposable readValues(long timeout, ScheduledExecutorService executorService, Duration period) {
+        synchronized (readerLock) {
+            readerPeriods.add(period);
+            updateReader(timeout, executorService);
+        }
+        return Disposables.fromAction(() -> releaseReader(timeout, executorService, period));
+    }
+
+    private void releaseReader(long timeout, ScheduledExecutorService executorService, Duration period) {
+        synchronized (readerLock) {
+            readerPeriods.remove(period);
+            updateReader(timeout, executorService);
+        }
+    }
+
+    private void updateReader(long timeout, ScheduledExecutorService executorService) {
+        @Nullable
+        Duration period = readerPeriods.isEmpty() ? null : Collections.min(readerPeriods);
+        Duration previousPeriod = readerPeriod;
+        if (period != null && period.equals(previousPeriod)) {
+            return;
+        }
+        Disposable reader = this.reader;
+        if (reader != null) {
+            reader.dispose();
+            this.reader = null;
+        }
+        if (period != null) {
+            if (previousPeriod != null) {
+                logger.info("Reading {} every {} seconds instead of every {} seconds, the shortest refresh period of "
+                        + "its Things", getDeviceId(), period.getSeconds(), previousPeriod.getSeconds());
+            }
+            this.reader = startReading(timeout, executorService, period);
+        }
+        readerPeriod = period;
+    }
+
+    private Disposable startReading(long timeout, ScheduledExecutorService executorService, Duration period) {
+        nextFullRead = 0;
         return Flowable.fromPublisher(connector.getMeterValues(initMessage, period, executorService))
                 .timeout(timeout + period.toMillis(), TimeUnit.MILLISECONDS, Schedulers.from(executorService))
                 .doOnSubscribe(sub -> {
@@ -179,6 +255,17 @@ public abstract class MeterDevice<T> {
                 .retryWhen(
                         publisher -> publisher.delay(RETRY_DELAY, TimeUnit.SECONDS, Schedulers.from(executorService)))
                 .subscribeOn(Schedulers.from(executorService), true).subscribe((value) -> {
+                    Set<String> filter = obisFilter;
+                    long now = System.currentTimeMillis();
+                    if (filter != null && now < nextFullRead) {
+                        // only the values somebody is interested in are updated, the others are kept
+                        activeObisFilter = filter;
+                        populateValueCache(value);
+                        return;
+                    }
+                    // full read to detect new and removed OBIS codes
+                    nextFullRead = now + FULL_READ_INTERVAL;
+                    activeObisFilter = null;
                     Map<String, MeterValue<?>> obisCodes = new HashMap<>(valueCache);
                     clearValueCache();
                     populateValueCache(value);
@@ -190,6 +277,54 @@ public abstract class MeterDevice<T> {
                 });
     }
 
+    /**
+     * Sets the OBIS codes the given listener is interested in.
+     *
+     * As long as at least one listener registered its interest and no listener needs all codes, only the values for
+     * the union of all interests are extracted during a read. Nevertheless all values are read every five minutes to detect new and removed OBIS
+     * codes.
+     *
+     * @param listener The listener which registers its interest.
+     * @param obisCodes The OBIS codes the listener is interested in or null if all codes are needed.
+     */
+    public void setObisInterest(MeterValueListener listener, @Nullable Set<String> obisCodes) {
+        if (obisCodes == null) {
+            obisInterests.remove(listener);
+            allObisListeners.add(listener);
+        } else {
+            allObisListeners.remove(listener);
+            obisInterests.put(listener, new HashSet<>(obisCodes));
+        }
+        updateObisFilter();
+    }
+
+    private synchronized void updateObisFilter() {
+        Set<String> filter = null;
+        if (allObisListeners.isEmpty()) {
+            for (Set<String> interest : obisInterests.values()) {
+                if (filter == null) {
+                    filter = new HashSet<>();
+                }
+                filter.addAll(interest);
+            }
+        }
+        Set<String> oldFilter = obisFilter;
+        if (filter != null && (oldFilter == null || !oldFilter.containsAll(filter))) {
+            // values for newly requested codes could be outdated
+            nextFullRead = 0;
+        }
+        obisFilter = filter;
+    }
+
+    /**
+     * Gets the OBIS codes which have to be extracted in the current read cycle.
+     *
+     * @return The OBIS codes or null if all values have to be extracted.
+     */
+    protected @Nullable Set<String> getObisFilter() {
+        return activeObisFilter;
+    }
+
     /**
      * Deletes all cached values.
      *
@@ -213,6 +348,10 @@ public abstract class MeterDevice<T> {
      * @param value The value to add.
      */
     protected <Q extends Quantity<Q>> void addObisCache(MeterValue<Q> value) {
+        Set<String> filter = activeObisFilter;
+        if (filter != null && !filter.contains(value.getObisCode())) {
+            return;
+        }
         logger.debug("Value changed: {}", value);
         this.valueCache.put(value.getObisCode(), value);
         this.valueChangeListeners.forEach((listener) -> {
@@ -254,6 +393,10 @@ public abstract class MeterDevice<T> {
      */
     public void removeValueChangeListener(MeterValueListener valueChangeListener) {
         this.valueChangeListeners.remove(valueChangeListener);
+        boolean hadInterest = obisInterests.remove(valueChangeListener) != null;
+        if (allObisListeners.remove(valueChangeListener) || hadInterest) {
+            updateObisFilter();
+        }
     }
 
     private <Q extends Quantity<Q>> void notifyValuesRemoved(MeterValue<Q> value) {
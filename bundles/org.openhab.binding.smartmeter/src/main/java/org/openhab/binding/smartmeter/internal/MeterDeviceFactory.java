@@ -12,10 +12,13 @@
  */
 package org.openhab.binding.smartmeter.internal;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.util.HexUtils;
 import org.eclipse.smarthome.io.transport.serial.SerialPortManager;
 import org.openhab.binding.smartmeter.internal.helper.ProtocolMode;
 import org.openhab.binding.smartmeter.internal.iec62056.Iec62056_21MeterReader;
@@ -30,9 +33,27 @@ import org.openhab.binding.smartmeter.internal.sml.SmlMeterReader;
 @NonNullByDefault
 public class MeterDeviceFactory {
 
+    /**
+     * Devices which are in use, by their connection settings. A serial port can only be opened once, so every Thing
+     * connected to the same meter shares the device and with it the read values.
+     */
+    private static final Map<String, SharedDevice> SHARED_DEVICES = new HashMap<>();
+
+    private static class SharedDevice {
+        private final MeterDevice<?> device;
+        private int usages;
+
+        SharedDevice(MeterDevice<?> device) {
+            this.device = device;
+        }
+    }
+
     /**
      * Gets a concrete {@link MeterDevice} for given values.
-     * 
+     *
+     * If there is already a device in use with the same settings, this device is returned. Every device obtained
+     * needs to be released with {@link #releaseDevice(MeterDevice)} if not used anymore.
+     *
      * @param serialPortManagerSupplier The Supplier of a {@link SerialPortManager}
      * @param mode The {@link ProtocolMode}.
      * @param deviceId
@@ -41,11 +62,47 @@ public class MeterDeviceFactory {
      *            values).
      * @param baudrate The baudrate to set before communication.
      * @param baudrateChangeDelay The change delay before changing the baudrate (used only for specific protocols).
+     * @param deviceListener A listener which is added only once to a new device, as it serves all Things using it.
      * @return The new {@link MeterDevice} or null.
      */
     public static @Nullable MeterDevice<?> getDevice(Supplier<SerialPortManager> serialPortManagerSupplier, String mode,
-            String deviceId, String serialPort, byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay) {
+            String deviceId, String serialPort, byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay,
+            MeterValueListener deviceListener) {
         ProtocolMode protocolMode = ProtocolMode.valueOf(mode.toUpperCase());
+        String key = protocolMode + ":" + serialPort + ":" + baudrate + ":" + baudrateChangeDelay + ":"
+                + (initMessage != null ? HexUtils.bytesToHex(initMessage) : "");
+        synchronized (SHARED_DEVICES) {
+            SharedDevice shared = SHARED_DEVICES.get(key);
+            if (shared == null) {
+                MeterDevice<?> device = createDevice(serialPortManagerSupplier, protocolMode, deviceId, serialPort,
+                        initMessage, baudrate, baudrateChangeDelay);
+                if (device == null) {
+                    return null;
+                }
+                device.addValueChangeListener(deviceListener);
+                shared = new SharedDevice(device);
+                SHARED_DEVICES.put(key, shared);
+            }
+            shared.usages++;
+            return shared.device;
+        }
+    }
+
+    /**
+     * Releases a device obtained by
+     * {@link #getDevice(Supplier, String, String, String, byte[], int, int, MeterValueListener)}.
+     *
+     * @param device The device which is not used anymore.
+     */
+    public static void releaseDevice(MeterDevice<?> device) {
+        synchronized (SHARED_DEVICES) {
+            SHARED_DEVICES.values().removeIf(shared -> shared.device == device && --shared.usages <= 0);
+        }
+    }
+
+    private static @Nullable MeterDevice<?> createDevice(Supplier<SerialPortManager> serialPortManagerSupplier,
+            ProtocolMode protocolMode, String deviceId, String serialPort, byte @Nullable [] initMessage, int baudrate,
+            int baudrateChangeDelay) {
         switch (protocolMode) {
             case D:
             case ABC:
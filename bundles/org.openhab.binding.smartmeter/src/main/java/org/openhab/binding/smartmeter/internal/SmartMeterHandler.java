@@ -18,9 +18,11 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.measure.Quantity;
@@ -110,12 +112,11 @@ public class SmartMeterHandler extends BaseThingHandler {
                     : Baudrate.fromString(config.baudrate).getBaudrate();
             this.conformity = config.conformity == null ? Conformity.NONE : Conformity.valueOf(config.conformity);
             this.smlDevice = MeterDeviceFactory.getDevice(serialPortManagerSupplier, config.mode,
-                    this.thing.getUID().getAsString(), config.port, pullSequence, baudrate, config.baudrateChangeDelay);
+                    this.thing.getUID().getAsString(), config.port, pullSequence, baudrate, config.baudrateChangeDelay,
+                    channelTypeProvider);
             updateStatus(ThingStatus.UNKNOWN, ThingStatusDetail.HANDLER_CONFIGURATION_PENDING,
                     "Waiting for messages from device");
 
-            smlDevice.addValueChangeListener(channelTypeProvider);
-
             updateOBISValue();
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, errorMsg);
@@ -129,8 +130,9 @@ public class SmartMeterHandler extends BaseThingHandler {
         if (this.valueChangeListener != null) {
             this.smlDevice.removeValueChangeListener(valueChangeListener);
         }
-        if (this.channelTypeProvider != null) {
-            this.smlDevice.removeValueChangeListener(channelTypeProvider);
+        if (this.smlDevice != null) {
+            MeterDeviceFactory.releaseDevice(this.smlDevice);
+            this.smlDevice = null;
         }
     }
 
@@ -140,6 +142,18 @@ public class SmartMeterHandler extends BaseThingHandler {
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        updateObisInterest();
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        super.channelUnlinked(channelUID);
+        updateObisInterest();
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command instanceof RefreshType) {
@@ -241,12 +255,41 @@ public class SmartMeterHandler extends BaseThingHandler {
             }
         };
         this.smlDevice.addValueChangeListener(valueChangeListener);
+        updateObisInterest();
 
         SmartMeterConfiguration config = getConfigAs(SmartMeterConfiguration.class);
         int delay = config.refresh != null ? config.refresh : DEFAULT_REFRESH_PERIOD;
         valueReader = this.smlDevice.readValues(DEFAULT_TIMEOUT, this.scheduler, Duration.ofSeconds(delay));
     }
 
+    /**
+     * Tells the device which OBIS codes are needed for the linked channels, so that the other values don't have to be
+     * decoded.
+     */
+    private void updateObisInterest() {
+        MeterDevice<?> device = this.smlDevice;
+        MeterValueListener listener = this.valueChangeListener;
+        if (device == null || listener == null) {
+            return;
+        }
+        Set<String> obisCodes = new HashSet<>();
+        for (Channel channel : getThing().getChannels()) {
+            if (!isLinked(channel.getUID())) {
+                continue;
+            }
+            String obis = channel.getProperties().get(SmartMeterBindingConstants.CHANNEL_PROPERTY_OBIS);
+            Object negate = channel.getConfiguration().get(SmartMeterBindingConstants.CONFIGURATION_CHANNEL_NEGATE);
+            if (obis == null || (negate != null && !negate.toString().trim().isEmpty())) {
+                // the negation depends on other values, so all of them are needed
+                device.setObisInterest(listener, null);
+                return;
+            }
+            obisCodes.add(obis);
+        }
+        // conformity checks depend on other values as well
+        device.setObisInterest(listener, this.conformity == Conformity.NONE ? obisCodes : null);
+    }
+
     private void updateOBISChannel(ChannelUID channelId) {
         if (isLinked(channelId.getId())) {
             Channel channel = this.thing.getChannel(channelId.getId());
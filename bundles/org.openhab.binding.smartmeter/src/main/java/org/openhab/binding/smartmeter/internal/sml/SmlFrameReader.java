@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal.sml;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Reads SML transport (version 1) frames from a stream.
+ *
+ * The stream is read in chunks into a reusable buffer, escape sequences are resolved while copying the message bytes
+ * and the CRC16 of the frame is calculated on the fly. The message bytes of the last valid frame are kept in a second
+ * buffer, so reading several frames in a row does not allocate anything.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class SmlFrameReader {
+
+    private static final int ESCAPE = 0x1b;
+    private static final int START = 0x01;
+    private static final int END = 0x1a;
+    private static final int MAX_FRAME_LENGTH = 0x10000;
+
+    private static final int[] CRC16_TABLE = new int[256];
+
+    static {
+        // CRC-16/X-25 as used by SML
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+            }
+            CRC16_TABLE[i] = crc;
+        }
+    }
+
+    private final byte[] input = new byte[512];
+    private int inputPosition;
+    private int inputLength;
+
+    private byte[] work = new byte[1024];
+    private int workLength;
+    private byte[] frame = new byte[1024];
+    private int frameLength = -1;
+
+    private int crc;
+
+    /**
+     * Reads the next frame from the stream.
+     *
+     * @return true if a frame with a valid checksum was read, which is then available by {@link #copyFrame()}
+     * @throws IOException if the stream ended or failed
+     */
+    boolean readFrame(InputStream is) throws IOException {
+        readStartSequence(is);
+        workLength = 0;
+
+        byte[] word = new byte[4];
+        while (true) {
+            readWord(is, word);
+            if (!isEscape(word)) {
+                crc = updateCrc(crc, word, 4);
+                append(word);
+                continue;
+            }
+            crc = updateCrc(crc, word, 4);
+
+            readWord(is, word);
+            if (isEscape(word)) {
+                // escaped escape sequence within the message
+                crc = updateCrc(crc, word, 4);
+                append(word);
+            } else if (word[0] == START && word[1] == START && word[2] == START && word[3] == START) {
+                // a new frame started before the last one was finished
+                workLength = 0;
+                crc = updateCrc(updateCrc(0xffff, ESCAPE, 4), START, 4);
+            } else if ((word[0] & 0xFF) == END) {
+                crc = updateCrc(crc, word, 2) ^ 0xffff;
+                int expectedCrc = (word[2] & 0xFF) | ((word[3] & 0xFF) << 8);
+                int padding = word[1] & 0xFF;
+                if (padding > workLength || crc != expectedCrc) {
+                    return false;
+                }
+                workLength -= padding;
+                byte[] last = frame;
+                frame = work;
+                frameLength = workLength;
+                work = last;
+                return true;
+            } else {
+                // invalid escape sequence
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the message bytes of the last valid frame.
+     */
+    byte[] copyFrame() {
+        return frameLength < 0 ? new byte[0] : Arrays.copyOf(frame, frameLength);
+    }
+
+    /**
+     * Returns the number of bytes which can be read without blocking, including the ones already buffered.
+     */
+    int available(InputStream is) throws IOException {
+        return inputLength - inputPosition + is.available();
+    }
+
+    private void readStartSequence(InputStream is) throws IOException {
+        int escapes = 0;
+        int starts = 0;
+        while (starts < 4) {
+            int b = next(is);
+            if (b == ESCAPE) {
+                escapes = starts > 0 ? 1 : escapes + 1;
+                starts = 0;
+            } else if (b == START && escapes >= 4) {
+                starts++;
+            } else {
+                escapes = 0;
+                starts = 0;
+            }
+        }
+        crc = updateCrc(updateCrc(0xffff, ESCAPE, 4), START, 4);
+    }
+
+    private void append(byte[] word) throws IOException {
+        if (workLength + word.length > work.length) {
+            if (work.length >= MAX_FRAME_LENGTH) {
+                throw new IOException("SML frame exceeds " + MAX_FRAME_LENGTH + " bytes");
+            }
+            work = Arrays.copyOf(work, work.length * 2);
+        }
+        System.arraycopy(word, 0, work, workLength, word.length);
+        workLength += word.length;
+    }
+
+    private static boolean isEscape(byte[] word) {
+        return word[0] == ESCAPE && word[1] == ESCAPE && word[2] == ESCAPE && word[3] == ESCAPE;
+    }
+
+    private static int updateCrc(int crc, byte[] data, int length) {
+        int result = crc;
+        for (int i = 0; i < length; i++) {
+            result = (result >>> 8) ^ CRC16_TABLE[(result ^ data[i]) & 0xFF];
+        }
+        return result;
+    }
+
+    private static int updateCrc(int crc, int value, int count) {
+        int result = crc;
+        for (int i = 0; i < count; i++) {
+            result = (result >>> 8) ^ CRC16_TABLE[(result ^ value) & 0xFF];
+        }
+        return result;
+    }
+
+    private void readWord(InputStream is, byte[] word) throws IOException {
+        for (int i = 0; i < 4; i++) {
+            word[i] = (byte) next(is);
+        }
+    }
+
+    private int next(InputStream is) throws IOException {
+        while (inputPosition >= inputLength) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException();
+            }
+            int read = is.read(input, 0, input.length);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            inputPosition = 0;
+            inputLength = read;
+        }
+        return input[inputPosition++] & 0xFF;
+    }
+}
@@ -12,24 +12,18 @@
  */
 package org.openhab.binding.smartmeter.internal.sml;
 
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.util.HexUtils;
 import org.eclipse.smarthome.io.transport.serial.SerialPortManager;
 import org.openhab.binding.smartmeter.connectors.IMeterReaderConnector;
 import org.openhab.binding.smartmeter.internal.MeterDevice;
-import org.openhab.binding.smartmeter.internal.MeterValue;
+import org.openhab.binding.smartmeter.internal.ObisCode;
 import org.openhab.binding.smartmeter.internal.helper.ProtocolMode;
-import org.openmuc.jsml.structures.ASNObject;
-import org.openmuc.jsml.structures.EMessageBody;
-import org.openmuc.jsml.structures.SmlFile;
-import org.openmuc.jsml.structures.SmlList;
-import org.openmuc.jsml.structures.SmlListEntry;
-import org.openmuc.jsml.structures.SmlMessage;
-import org.openmuc.jsml.structures.SmlStatus;
-import org.openmuc.jsml.structures.responses.SmlGetListRes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +34,13 @@ import org.slf4j.LoggerFactory;
  * @author Mathias Gilhuber - Also-By
  */
 @NonNullByDefault
-public final class SmlMeterReader extends MeterDevice<SmlFile> {
+public final class SmlMeterReader extends MeterDevice<byte[]> {
 
     protected final Logger logger = LoggerFactory.getLogger(SmlMeterReader.class);
 
+    private @Nullable Set<String> obisFilter;
+    private @Nullable Set<Long> compiledObisFilter;
+
     /**
      * Static factory method to create a SmlDevice object with a serial connector member.
      *
@@ -83,74 +80,52 @@ public final class SmlMeterReader extends MeterDevice<SmlFile> {
     /**
      * Decodes native SML informations from the device and stores them locally until the next read request.
      *
-     * @param smlFile the native SML informations from the device
+     * Only the values for the currently requested OBIS codes are decoded.
+     *
+     * @param smlFile the message bytes of the SML file read from the device
      */
     @Override
-    protected void populateValueCache(SmlFile smlFile) {
+    protected void populateValueCache(byte[] smlFile) {
         if (logger.isTraceEnabled()) {
-            logger.trace("Read out following SML file: {}", System.lineSeparator());
-            SmlFileDebugOutput.printFile(smlFile, (msg) -> logger.trace(msg));
+            logger.trace("Read out following SML file: {}", HexUtils.bytesToHex(smlFile));
         }
-        List<SmlMessage> smlMessages = smlFile.getMessages();
-
-        if (smlMessages != null) {
-            int messageCount = smlMessages.size();
-
-            if (messageCount <= 0) {
-                logger.warn("{}: no valid SML messages list retrieved.", this.toString());
-            }
-
-            for (int i = 0; i < messageCount; i++) {
-                SmlMessage smlMessage = smlMessages.get(i);
-
-                int tag = smlMessage.getMessageBody().getTag().id();
-
-                if (tag != EMessageBody.GET_LIST_RESPONSE.id()) {
-                    continue;
-                }
-
-                SmlGetListRes listResponse = (SmlGetListRes) smlMessage.getMessageBody().getChoice();
-                SmlList smlValueList = listResponse.getValList();
-                SmlListEntry[] smlListEntries = smlValueList.getValListEntry();
-
-                for (SmlListEntry entry : smlListEntries) {
-                    SmlValueExtractor valueExtractor = new SmlValueExtractor(entry);
-                    String obis = valueExtractor.getObisCode();
-
-                    MeterValue<?> smlValue = getMeterValue(obis);
-
-                    if (smlValue == null) {
-                        smlValue = valueExtractor.getSmlValue();
-                    }
-
-                    SmlStatus status = entry.getStatus();
-                    if (status != null) {
-                        String statusValue = readStatus(status, obis);
-                        if (statusValue != null) {
-                            smlValue.setStatus(statusValue);
-                        }
-                    }
-
-                    addObisCache(smlValue);
-                }
-            }
-
-        } else {
-            logger.warn("{}: no valid SML messages list retrieved.", this.toString());
+        try {
+            SmlStreamParser.parse(smlFile, smlFile.length, compileObisFilter(getObisFilter()), this::addObisCache);
+        } catch (IllegalArgumentException e) {
+            logger.warn("{}: no valid SML messages list retrieved: {}", getDeviceId(), e.getMessage());
         }
     }
 
-    private @Nullable String readStatus(SmlStatus status, String obis) {
-        ASNObject choice = status.getChoice();
-        if (choice != null) {
-            String statusValue = choice.toString();
-            return statusValue;
+    /**
+     * Converts the OBIS codes into the packed form used by the {@link SmlStreamParser}. The last result is reused as
+     * long as the filter does not change.
+     */
+    private @Nullable Set<Long> compileObisFilter(@Nullable Set<String> filter) {
+        if (filter == null) {
+            return null;
+        }
+        if (filter == obisFilter) {
+            return compiledObisFilter;
+        }
+        Set<Long> compiled = new HashSet<>();
+        for (String obis : filter) {
+            try {
+                ObisCode obisCode = ObisCode.from(obis);
+                Byte a = obisCode.getAGroup();
+                Byte b = obisCode.getBGroup();
+                compiled.add(SmlStreamParser.packObis(a != null ? a : 0, b != null ? b : 0, obisCode.getCGroup(),
+                        obisCode.getDGroup(), obisCode.getEGroup()));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Ignoring invalid OBIS code {} in filter", obis);
+            }
         }
-        return null;
+        obisFilter = filter;
+        compiledObisFilter = compiled;
+        return compiled;
     }
 
     @Override
-    protected IMeterReaderConnector<SmlFile> createConnector(Supplier<SerialPortManager> serialPortManagerSupplier,
+    protected IMeterReaderConnector<byte[]> createConnector(Supplier<SerialPortManager> serialPortManagerSupplier,
             String serialPort, int baudrate, int baudrateChangeDelay, ProtocolMode protocolMode) {
         return new SmlSerialConnector(serialPortManagerSupplier, serialPort, baudrate, baudrateChangeDelay);
     }
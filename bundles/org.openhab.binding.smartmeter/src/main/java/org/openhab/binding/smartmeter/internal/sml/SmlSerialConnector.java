@@ -18,7 +18,6 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.Stack;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -32,19 +31,20 @@ import org.eclipse.smarthome.io.transport.serial.UnsupportedCommOperationExcepti
 import org.openhab.binding.smartmeter.connectors.ConnectorBase;
 import org.openhab.binding.smartmeter.internal.helper.Baudrate;
 import org.openhab.binding.smartmeter.internal.helper.SerialParameter;
-import org.openmuc.jsml.structures.SmlFile;
-import org.openmuc.jsml.transport.Transport;
 
 /**
  * Represents a serial SML device connector.
  *
+ * The connector only slices the SML transport frames out of the serial stream and emits the message bytes of the most
+ * recent frame, decoding is done by the {@link SmlStreamParser}.
+ *
  * @author Matthias Steigenberger - Initial contribution
  * @author Mathias Gilhuber - Also-By
  */
 @NonNullByDefault
-public final class SmlSerialConnector extends ConnectorBase<SmlFile> {
+public final class SmlSerialConnector extends ConnectorBase<byte[]> {
 
-    private static final Transport TRANSPORT = new Transport();
+    private final SmlFrameReader frameReader = new SmlFrameReader();
 
     private Supplier<SerialPortManager> serialManagerSupplier;
     @NonNullByDefault({})
@@ -79,7 +79,7 @@ public final class SmlSerialConnector extends ConnectorBase<SmlFile> {
     }
 
     @Override
-    protected SmlFile readNext(byte @Nullable [] initMessage) throws IOException {
+    protected byte[] readNext(byte @Nullable [] initMessage) throws IOException {
         if (initMessage != null) {
             logger.debug("Writing init message: {}", HexUtils.bytesToHex(initMessage, " "));
             if (os != null) {
@@ -88,17 +88,28 @@ public final class SmlSerialConnector extends ConnectorBase<SmlFile> {
             }
         }
 
+        DataInputStream is = this.is;
+        if (is == null) {
+            throw new IOException(getPortName() + " : Connection is not open.");
+        }
+
         // read out the whole buffer. We are only interested in the most recent SML file.
-        Stack<SmlFile> smlFiles = new Stack<>();
+        int frames = 0;
+        int validFrames = 0;
         do {
-            logger.trace("Reading {}. SML message", smlFiles.size() + 1);
-            smlFiles.push(TRANSPORT.getSMLFile(is));
-        } while (is != null && is.available() > 0);
-        if (smlFiles.isEmpty()) {
+            logger.trace("Reading {}. SML message", frames + 1);
+            frames++;
+            if (frameReader.readFrame(is)) {
+                validFrames++;
+            } else {
+                logger.debug("{} : Discarding SML file with invalid checksum or escape sequence", getPortName());
+            }
+        } while (frameReader.available(is) > 0);
+        if (validFrames == 0) {
             throw new IOException(getPortName() + " : There is no SML file in buffer. Try to increase Refresh rate.");
         }
-        logger.debug("{} : Read {} SML files from Buffer", this.getPortName(), smlFiles.size());
-        return smlFiles.pop();
+        logger.debug("{} : Read {} SML files from Buffer", this.getPortName(), frames);
+        return frameReader.copyFrame();
     }
 
     @Override
@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal.sml;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.openhab.binding.smartmeter.internal.MeterValue;
+import org.openmuc.jsml.EUnit;
+
+/**
+ * Decodes the list entries of SML GetList responses directly from the message bytes of a SML file.
+ *
+ * In contrast to the jSML object model, no structures are created for the messages and their elements. Elements which
+ * are not needed are skipped by their type-length field and list entries are only converted into {@link MeterValue}s
+ * if their OBIS code passes the given filter.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class SmlStreamParser {
+
+    private static final int GET_LIST_RESPONSE = 0x0701;
+
+    private static final int TYPE_OCTET_STRING = 0;
+    private static final int TYPE_BOOLEAN = 4;
+    private static final int TYPE_INTEGER = 5;
+    private static final int TYPE_UNSIGNED = 6;
+    private static final int TYPE_LIST = 7;
+
+    private final byte[] data;
+    private final int length;
+    private final @Nullable Set<Long> obisFilter;
+    private final Consumer<MeterValue<?>> consumer;
+
+    private int position;
+
+    // type-length field of the current element
+    private int type;
+    private int elementLength;
+    private int tlSize;
+
+    private SmlStreamParser(byte[] data, int length, @Nullable Set<Long> obisFilter,
+            Consumer<MeterValue<?>> consumer) {
+        this.data = data;
+        this.length = length;
+        this.obisFilter = obisFilter;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Parses the given SML file.
+     *
+     * @param data the message bytes of a SML transport frame
+     * @param length the number of valid bytes in <code>data</code>
+     * @param obisFilter the packed OBIS codes (see {@link #packObis(int, int, int, int, int)}) to extract, or null to
+     *            extract all values
+     * @param consumer receives the extracted values
+     * @throws IllegalArgumentException if the file is malformed
+     */
+    static void parse(byte[] data, int length, @Nullable Set<Long> obisFilter, Consumer<MeterValue<?>> consumer) {
+        new SmlStreamParser(data, length, obisFilter, consumer).parseFile();
+    }
+
+    /**
+     * Packs the value groups A to E of an OBIS code into a single long.
+     */
+    static long packObis(int a, int b, int c, int d, int e) {
+        return ((long) (a & 0xFF) << 32) | ((long) (b & 0xFF) << 24) | ((c & 0xFF) << 16) | ((d & 0xFF) << 8)
+                | (e & 0xFF);
+    }
+
+    private void parseFile() {
+        while (position < length) {
+            if (data[position] == 0) {
+                // end of message or padding
+                position++;
+                continue;
+            }
+            readTypeLength();
+            if (type == TYPE_LIST) {
+                parseMessage();
+            } else {
+                skip();
+            }
+        }
+    }
+
+    private void parseMessage() {
+        int fields = elementLength;
+        position += tlSize;
+        // transactionId, groupNo, abortOnError
+        skip(Math.min(fields, 3));
+        if (fields < 4) {
+            return;
+        }
+
+        readTypeLength();
+        if (type == TYPE_LIST && elementLength == 2) {
+            position += tlSize;
+            int tag = (int) readNumber();
+            if (tag == GET_LIST_RESPONSE) {
+                parseGetListResponse();
+            } else {
+                skip();
+            }
+        } else {
+            skip();
+        }
+        // crc16, endOfSmlMsg
+        skip(fields - 4);
+    }
+
+    private void parseGetListResponse() {
+        readTypeLength();
+        expect(TYPE_LIST);
+        int fields = elementLength;
+        position += tlSize;
+        // clientId, serverId, listName, actSensorTime
+        skip(Math.min(fields, 4));
+        if (fields < 5) {
+            return;
+        }
+
+        readTypeLength();
+        expect(TYPE_LIST);
+        int entries = elementLength;
+        position += tlSize;
+        for (int i = 0; i < entries; i++) {
+            parseListEntry();
+        }
+        // listSignature, actGatewayTime
+        skip(fields - 5);
+    }
+
+    private void parseListEntry() {
+        readTypeLength();
+        expect(TYPE_LIST);
+        int fields = elementLength;
+        position += tlSize;
+        if (fields < 6) {
+            skip(fields);
+            return;
+        }
+
+        // objName
+        readTypeLength();
+        expect(TYPE_OCTET_STRING);
+        int nameStart = position + tlSize;
+        int nameLength = elementLength - tlSize;
+        position += elementLength;
+        checkPosition(position - 1);
+        if (nameLength < 5) {
+            skip(fields - 1);
+            return;
+        }
+        long obis = packObis(data[nameStart], data[nameStart + 1], data[nameStart + 2], data[nameStart + 3],
+                data[nameStart + 4]);
+        Set<Long> filter = obisFilter;
+        if (filter != null && !filter.contains(obis)) {
+            skip(fields - 1);
+            return;
+        }
+
+        @Nullable
+        String status = isAbsent() ? skipAbsent() : readStatus();
+        skip(); // valTime
+        int unit = isAbsent() ? skipAbsentNumber() : (int) readNumber();
+        int scaler = isAbsent() ? skipAbsentNumber() : (int) readNumber();
+        String value = readValue(scaler);
+        skip(fields - 5);
+
+        consumer.accept(createValue(formatObis(obis), value, unit, status));
+    }
+
+    private static <Q extends Quantity<Q>> MeterValue<Q> createValue(String obis, String value, int unit,
+            @Nullable String status) {
+        EUnit eUnit = EUnit.from(unit);
+        @Nullable
+        Unit<Q> javaUnit = eUnit != null ? SmlUnitConversion.getUnit(eUnit) : null;
+        return new MeterValue<>(obis, value, javaUnit, status);
+    }
+
+    private boolean isAbsent() {
+        checkPosition(position);
+        return data[position] == 0x01;
+    }
+
+    private @Nullable String skipAbsent() {
+        position++;
+        return null;
+    }
+
+    private int skipAbsentNumber() {
+        position++;
+        return 0;
+    }
+
+    private @Nullable String readStatus() {
+        readTypeLength();
+        if (type == TYPE_INTEGER || type == TYPE_UNSIGNED) {
+            return Long.toUnsignedString(readNumber());
+        }
+        skip();
+        return null;
+    }
+
+    /**
+     * Reads a scalar value, numbers are scaled by 10^scaler and formatted like a double.
+     */
+    private String readValue(int scaler) {
+        readTypeLength();
+        int start = position + tlSize;
+        int size = elementLength - tlSize;
+        String value;
+        switch (type) {
+            case TYPE_INTEGER:
+            case TYPE_UNSIGNED:
+                long raw = readNumber();
+                double number = type == TYPE_UNSIGNED && raw < 0 ? Double.parseDouble(Long.toUnsignedString(raw))
+                        : raw;
+                return String.valueOf(scaler == 0 ? number : number * Math.pow(10, scaler));
+            case TYPE_BOOLEAN:
+                checkPosition(start + size - 1);
+                value = Boolean.toString(size > 0 && data[start] != 0);
+                break;
+            case TYPE_OCTET_STRING:
+                checkPosition(start + size - 1);
+                value = HexUtils.bytesToHex(Arrays.copyOfRange(data, start, start + size));
+                break;
+            default:
+                skip();
+                return "";
+        }
+        position += elementLength;
+        return value;
+    }
+
+    /**
+     * Reads an integer or unsigned element, which must not be longer than 8 bytes.
+     */
+    private long readNumber() {
+        readTypeLength();
+        if (type != TYPE_INTEGER && type != TYPE_UNSIGNED) {
+            throw new IllegalArgumentException("Expected a number at position " + position);
+        }
+        int start = position + tlSize;
+        int size = elementLength - tlSize;
+        if (size > 8) {
+            throw new IllegalArgumentException("Number too long at position " + position);
+        }
+        checkPosition(start + size - 1);
+        long value = type == TYPE_INTEGER && size > 0 && data[start] < 0 ? -1 : 0;
+        for (int i = 0; i < size; i++) {
+            value = (value << 8) | (data[start + i] & 0xFF);
+        }
+        position += elementLength;
+        return value;
+    }
+
+    private void readTypeLength() {
+        checkPosition(position);
+        int b = data[position] & 0xFF;
+        type = (b >> 4) & 0x07;
+        elementLength = b & 0x0F;
+        tlSize = 1;
+        while ((b & 0x80) != 0) {
+            checkPosition(position + tlSize);
+            b = data[position + tlSize] & 0xFF;
+            elementLength = (elementLength << 4) | (b & 0x0F);
+            tlSize++;
+        }
+    }
+
+    private void skip(int count) {
+        for (int i = 0; i < count; i++) {
+            skip();
+        }
+    }
+
+    private void skip() {
+        readTypeLength();
+        if (type == TYPE_LIST) {
+            int elements = elementLength;
+            position += tlSize;
+            skip(elements);
+        } else {
+            // the length of scalar elements includes the type-length field, endOfSmlMsg has a length of 0
+            position += Math.max(elementLength, 1);
+            checkPosition(position - 1);
+        }
+    }
+
+    private void expect(int expectedType) {
+        if (type != expectedType) {
+            throw new IllegalArgumentException(
+                    "Unexpected element type " + type + " at position " + position + ", expected " + expectedType);
+        }
+    }
+
+    private void checkPosition(int index) {
+        if (index >= length) {
+            throw new IllegalArgumentException("SML file truncated at position " + index);
+        }
+    }
+
+    private static String formatObis(long obis) {
+        return new StringBuilder(16).append((obis >> 32) & 0xFF).append('-').append((obis >> 24) & 0xFF).append(':')
+                .append((obis >> 16) & 0xFF).append('.').append((obis >> 8) & 0xFF).append('.').append(obis & 0xFF)
+                .toString();
+    }
+}
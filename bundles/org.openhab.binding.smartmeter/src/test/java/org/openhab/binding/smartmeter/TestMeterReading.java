@@ -12,11 +12,15 @@
  */
 package org.openhab.binding.smartmeter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -131,6 +135,46 @@ public class TestMeterReading {
         }
     }
 
+    @Test
+    public void testObisInterest() throws Exception {
+        final Duration period = Duration.ofSeconds(1);
+        final int executionCount = 3;
+        MeterDevice<Object> meter = getMeterDevice(getMockedConnector(false, () -> new Object()), "1", "2");
+        CountingListener filteredListener = new CountingListener();
+        meter.addValueChangeListener(filteredListener);
+        meter.setObisInterest(filteredListener, Collections.singleton("1"));
+        Disposable disposable = meter.readValues(5000, Executors.newScheduledThreadPool(1), period);
+        try {
+            Thread.sleep(executionCount * period.toMillis() + period.toMillis() / 2);
+        } finally {
+            disposable.dispose();
+        }
+        assertEquals(executionCount, filteredListener.getCount("1"));
+        // only the first full read extracts the values nobody is interested in
+        assertEquals(1, filteredListener.getCount("2"));
+    }
+
+    @Test
+    public void testObisInterestWithListenerNeedingAllCodes() throws Exception {
+        final Duration period = Duration.ofSeconds(1);
+        final int executionCount = 3;
+        MeterDevice<Object> meter = getMeterDevice(getMockedConnector(false, () -> new Object()), "1", "2");
+        CountingListener filteredListener = new CountingListener();
+        CountingListener allCodesListener = new CountingListener();
+        meter.addValueChangeListener(filteredListener);
+        meter.addValueChangeListener(allCodesListener);
+        meter.setObisInterest(filteredListener, Collections.singleton("1"));
+        meter.setObisInterest(allCodesListener, null);
+        Disposable disposable = meter.readValues(5000, Executors.newScheduledThreadPool(1), period);
+        try {
+            Thread.sleep(executionCount * period.toMillis() + period.toMillis() / 2);
+        } finally {
+            disposable.dispose();
+        }
+        assertEquals(executionCount, allCodesListener.getCount("1"));
+        assertEquals(executionCount, allCodesListener.getCount("2"));
+    }
+
     MockMeterReaderConnector getMockedConnector(boolean applyRetry, Supplier<Object> readNextSupplier) {
         return new MockMeterReaderConnector("Test port", applyRetry, readNextSupplier);
     }
@@ -153,4 +197,47 @@ public class TestMeterReading {
 
         };
     }
+
+    MeterDevice<Object> getMeterDevice(ConnectorBase<Object> connector, String... obisCodes) {
+        return new MeterDevice<Object>(() -> mock(SerialPortManager.class), "id", "port", null, 9600, 0,
+                ProtocolMode.SML) {
+
+            @Override
+            protected @NonNull IMeterReaderConnector<Object> createConnector(
+                    @NonNull Supplier<@NonNull SerialPortManager> serialPortManagerSupplier, @NonNull String serialPort,
+                    int baudrate, int baudrateChangeDelay, @NonNull ProtocolMode protocolMode) {
+                return connector;
+            }
+
+            @Override
+            protected <Q extends @NonNull Quantity<Q>> void populateValueCache(Object smlFile) {
+                for (String obisCode : obisCodes) {
+                    addObisCache(new MeterValue(obisCode, "333", null));
+                }
+            }
+
+        };
+    }
+
+    private static class CountingListener implements MeterValueListener {
+
+        private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+        int getCount(String obisCode) {
+            return counts.getOrDefault(obisCode, 0);
+        }
+
+        @Override
+        public void errorOccurred(Throwable e) {
+        }
+
+        @Override
+        public <Q extends @NonNull Quantity<Q>> void valueChanged(MeterValue<Q> value) {
+            counts.merge(value.getObisCode(), 1, Integer::sum);
+        }
+
+        @Override
+        public <Q extends @NonNull Quantity<Q>> void valueRemoved(MeterValue<Q> value) {
+        }
+    }
 }
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal.sml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.smarthome.core.library.unit.SmartHomeUnits;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openhab.binding.smartmeter.internal.MeterValue;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class TestSmlStreamParser {
+
+    private static final int[] MESSAGE = { 0x76, //
+            0x08, 0x00, 0x00, 0x1b, 0x1b, 0x1b, 0x1b, 0x00, // transactionId
+            0x62, 0x00, // groupNo
+            0x62, 0x00, // abortOnError
+            0x72, 0x63, 0x07, 0x01, // GetListResponse
+            0x77, 0x01, 0x03, 0xAA, 0xBB, 0x01, 0x01, //
+            0x72, //
+            0x77, 0x07, 0x01, 0x00, 0x01, 0x08, 0x00, 0xFF, 0x62, 0x82, 0x01, 0x62, 0x1E, 0x52, 0xFF, //
+            0x56, 0x00, 0x00, 0x00, 0x30, 0x39, 0x01, //
+            0x77, 0x07, 0x01, 0x00, 0x10, 0x07, 0x00, 0xFF, 0x01, 0x01, 0x62, 0x1B, 0x52, 0x00, //
+            0x55, 0xFF, 0xFF, 0xFF, 0x9C, 0x01, //
+            0x01, 0x01, //
+            0x63, 0x12, 0x34, // crc
+            0x00 // endOfSmlMsg
+    };
+
+    @Test
+    public void testParseAllValues() {
+        byte[] message = toBytes(MESSAGE);
+        List<MeterValue<?>> values = new ArrayList<>();
+        SmlStreamParser.parse(message, message.length, null, values::add);
+
+        Assert.assertEquals(2, values.size());
+        MeterValue<?> energy = values.get(0);
+        Assert.assertEquals("1-0:1.8.0", energy.getObisCode());
+        Assert.assertEquals(1234.5, Double.parseDouble(energy.getValue()), 0.0001);
+        Assert.assertEquals(SmartHomeUnits.WATT.multiply(SmartHomeUnits.HOUR), energy.getUnit());
+        Assert.assertEquals("130", energy.getStatus());
+
+        MeterValue<?> power = values.get(1);
+        Assert.assertEquals("1-0:16.7.0", power.getObisCode());
+        Assert.assertEquals("-100.0", power.getValue());
+        Assert.assertEquals(SmartHomeUnits.WATT, power.getUnit());
+        Assert.assertNull(power.getStatus());
+    }
+
+    @Test
+    public void testParseFilteredValues() {
+        byte[] message = toBytes(MESSAGE);
+        List<MeterValue<?>> values = new ArrayList<>();
+        SmlStreamParser.parse(message, message.length,
+                Collections.singleton(SmlStreamParser.packObis(1, 0, 16, 7, 0)), values::add);
+
+        Assert.assertEquals(1, values.size());
+        Assert.assertEquals("1-0:16.7.0", values.get(0).getObisCode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedMessage() {
+        byte[] message = toBytes(MESSAGE);
+        SmlStreamParser.parse(message, 40, null, value -> {
+        });
+    }
+
+    @Test
+    public void testReadFrame() throws Exception {
+        byte[] message = toBytes(MESSAGE);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        // garbage of a previous frame
+        stream.write(new byte[] { 0x12, 0x1b, 0x1b });
+        stream.write(createFrame(message, false));
+        stream.write(createFrame(message, true));
+
+        SmlFrameReader reader = new SmlFrameReader();
+        ByteArrayInputStream is = new ByteArrayInputStream(stream.toByteArray());
+        Assert.assertTrue(reader.readFrame(is));
+        Assert.assertArrayEquals(message, reader.copyFrame());
+        Assert.assertTrue(reader.available(is) > 0);
+        Assert.assertFalse(reader.readFrame(is));
+        // the last valid frame is kept
+        Assert.assertArrayEquals(message, reader.copyFrame());
+        Assert.assertEquals(0, reader.available(is));
+    }
+
+    private static byte[] createFrame(byte[] message, boolean corruptCrc) {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        frame.write(new byte[] { 0x1b, 0x1b, 0x1b, 0x1b, 0x01, 0x01, 0x01, 0x01 }, 0, 8);
+        int padding = (4 - message.length % 4) % 4;
+        byte[] padded = new byte[message.length + padding];
+        System.arraycopy(message, 0, padded, 0, message.length);
+        for (int i = 0; i < padded.length; i += 4) {
+            frame.write(padded, i, 4);
+            if (padded[i] == 0x1b && padded[i + 1] == 0x1b && padded[i + 2] == 0x1b && padded[i + 3] == 0x1b) {
+                // escape sequence
+                frame.write(padded, i, 4);
+            }
+        }
+        frame.write(new byte[] { 0x1b, 0x1b, 0x1b, 0x1b, 0x1a, (byte) padding }, 0, 6);
+        byte[] data = frame.toByteArray();
+        int crc = crc16(data) ^ (corruptCrc ? 1 : 0);
+        frame.write(crc & 0xFF);
+        frame.write(crc >> 8);
+        return frame.toByteArray();
+    }
+
+    private static int crc16(byte[] data) {
+        int crc = 0xFFFF;
+        for (byte b : data) {
+            crc ^= b & 0xFF;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x8408 : crc >>> 1;
+            }
+        }
+        return crc ^ 0xFFFF;
+    }
+
+    private static byte[] toBytes(int[] values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+/**
+ * The {@link SnmpCounterMode} enum defines how values of SNMP number channels are converted
+ *
+ * @author agent - Initial contribution
+ */
+
+public enum SnmpCounterMode {
+    ABSOLUTE,
+    DELTA,
+    RATE
+}
@@ -19,11 +19,14 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -40,6 +43,8 @@ public class SnmpHandlerFactory extends BaseThingHandlerFactory {
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_TARGET);
 
     private final SnmpService snmpService;
+    private final RefreshScheduler refreshScheduler = new RefreshScheduler("snmp",
+            ThreadPoolManager.getScheduledPool("thingHandler"), 4);
 
     @Activate
     public SnmpHandlerFactory(@Reference SnmpService snmpService) {
@@ -55,8 +60,14 @@ public class SnmpHandlerFactory extends BaseThingHandlerFactory {
     protected @Nullable ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (THING_TYPE_TARGET.equals(thingTypeUID)) {
-            return new SnmpTargetHandler(thing, snmpService);
+            return new SnmpTargetHandler(thing, snmpService, refreshScheduler);
         }
         return null;
     }
+
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        refreshScheduler.dispose();
+        super.deactivate(componentContext);
+    }
 }
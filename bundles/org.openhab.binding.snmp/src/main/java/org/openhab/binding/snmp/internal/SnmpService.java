@@ -31,9 +31,15 @@ import org.snmp4j.event.ResponseListener;
 @NonNullByDefault
 public interface SnmpService {
 
-    public void addCommandResponder(CommandResponder listener);
+    /**
+     * Adds a listener for the traps received from a single source address
+     *
+     * @param address the IP address of the trap source, in the format of {@link java.net.InetAddress#getHostAddress()}
+     * @param listener the listener
+     */
+    public void addCommandResponder(String address, CommandResponder listener);
 
-    public void removeCommandResponder(CommandResponder listener);
+    public void removeCommandResponder(String address, CommandResponder listener);
 
     public void send(PDU pdu, Target target, @Nullable Object userHandle, ResponseListener listener) throws IOException;
 }
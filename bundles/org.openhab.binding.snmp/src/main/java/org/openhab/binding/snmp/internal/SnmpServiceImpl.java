@@ -13,9 +13,10 @@
 package org.openhab.binding.snmp.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,7 +29,9 @@ import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
 import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
 import org.snmp4j.Snmp;
 import org.snmp4j.Target;
 import org.snmp4j.event.ResponseListener;
@@ -41,6 +44,9 @@ import org.snmp4j.transport.DefaultUdpTransportMapping;
  * The {@link SnmpServiceImpl} implements SnmpService
  * handlers.
  *
+ * Received traps are routed to the listeners registered for their source address, so a listener only receives the
+ * traps of its own target.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 
@@ -53,7 +59,8 @@ public class SnmpServiceImpl implements SnmpService {
     private @Nullable Snmp snmp;
     private @Nullable DefaultUdpTransportMapping transport;
 
-    private List<CommandResponder> listeners = new ArrayList<>();
+    private final Map<String, Set<CommandResponder>> addressListeners = new ConcurrentHashMap<>();
+    private final CommandResponder trapDispatcher = this::dispatchPdu;
 
     @Activate
     public SnmpServiceImpl(Map<String, Object> config) {
@@ -78,7 +85,7 @@ public class SnmpServiceImpl implements SnmpService {
             SecurityProtocols.getInstance().addPrivacyProtocol(new Priv3DES());
 
             final Snmp snmp = new Snmp(transport);
-            listeners.forEach(listener -> snmp.addCommandResponder(listener));
+            snmp.addCommandResponder(trapDispatcher);
             snmp.listen();
 
             this.snmp = snmp;
@@ -111,19 +118,16 @@ public class SnmpServiceImpl implements SnmpService {
     }
 
     @Override
-    public void addCommandResponder(CommandResponder listener) {
-        if (snmp != null) {
-            snmp.addCommandResponder(listener);
-        }
-        listeners.add(listener);
+    public void addCommandResponder(String address, CommandResponder listener) {
+        addressListeners.computeIfAbsent(address, a -> new CopyOnWriteArraySet<>()).add(listener);
     }
 
     @Override
-    public void removeCommandResponder(CommandResponder listener) {
-        if (snmp != null) {
-            snmp.removeCommandResponder(listener);
-        }
-        listeners.remove(listener);
+    public void removeCommandResponder(String address, CommandResponder listener) {
+        addressListeners.computeIfPresent(address, (a, addressListener) -> {
+            addressListener.remove(listener);
+            return addressListener.isEmpty() ? null : addressListener;
+        });
     }
 
     @Override
@@ -136,4 +140,26 @@ public class SnmpServiceImpl implements SnmpService {
             logger.warn("SNMP service not initialized, can't send {} to {}", pdu, target);
         }
     }
+
+    private void dispatchPdu(@Nullable CommandResponderEvent event) {
+        if (event == null) {
+            return;
+        }
+        final PDU pdu = event.getPDU();
+        if (pdu != null && event.getPeerAddress() instanceof UdpAddress) {
+            String address = ((UdpAddress) event.getPeerAddress()).getInetAddress().getHostAddress();
+            Set<CommandResponder> peerListeners = addressListeners.get(address);
+            if (peerListeners != null) {
+                peerListeners.forEach(listener -> listener.processPdu(event));
+            }
+            if (pdu instanceof PDUv1) {
+                // v1 traps may be relayed, they also carry the address of the agent which generated them
+                String agentAddress = ((PDUv1) pdu).getAgentAddress().getInetAddress().getHostAddress();
+                Set<CommandResponder> agentListeners = addressListeners.get(agentAddress);
+                if (agentListeners != null && !agentAddress.equals(address)) {
+                    agentListeners.forEach(listener -> listener.processPdu(event));
+                }
+            }
+        }
+    }
 }
@@ -15,12 +15,17 @@ package org.openhab.binding.snmp.internal;
 import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,6 +33,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
@@ -37,6 +43,8 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
+import org.eclipse.smarthome.core.thing.binding.builder.ChannelBuilder;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
@@ -44,6 +52,8 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.snmp.internal.config.SnmpChannelConfiguration;
 import org.openhab.binding.snmp.internal.config.SnmpInternalChannelConfiguration;
 import org.openhab.binding.snmp.internal.config.SnmpTargetConfiguration;
+import org.openhab.io.refreshscheduler.RefreshJob;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.snmp4j.AbstractTarget;
@@ -55,6 +65,7 @@ import org.snmp4j.PDUv1;
 import org.snmp4j.event.ResponseEvent;
 import org.snmp4j.event.ResponseListener;
 import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Counter32;
 import org.snmp4j.smi.Counter64;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.IpAddress;
@@ -69,6 +80,10 @@ import org.snmp4j.smi.VariableBinding;
  * The {@link SnmpTargetHandler} is responsible for handling commands, which are
  * sent to one of the channels or update remote channels
  *
+ * Readable channels are requested with GET requests of at most {@link SnmpTargetConfiguration#maxVarbinds}
+ * variables, which are sent without waiting for the previous response. Channels in {@link SnmpChannelMode#TABLE} mode
+ * walk the subtree of their OID with GETBULK requests and add a channel for each row of the table.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -80,19 +95,29 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
     private @NonNullByDefault({}) SnmpTargetConfiguration config;
     private final SnmpService snmpService;
-    private @Nullable ScheduledFuture<?> refresh;
+    private final RefreshScheduler refreshScheduler;
+    private @Nullable RefreshJob refresh;
     private int timeoutCounter = 0;
 
     private @NonNullByDefault({}) AbstractTarget target;
     private @NonNullByDefault({}) String targetAddressString;
 
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private volatile @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
+    private volatile @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
+    private volatile @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> tableChannelSet;
+    private volatile @NonNullByDefault({}) List<OID> readOids;
+    private volatile @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> readChannelMap;
+    private volatile @NonNullByDefault({}) Map<OID, List<SnmpInternalChannelConfiguration>> trapChannelMap;
+
+    private final Map<ChannelUID, TableWalk> tableWalks = new ConcurrentHashMap<>();
+    private final Map<ChannelUID, CounterSample> counterSamples = new ConcurrentHashMap<>();
+    private volatile int maxVarbinds;
+    private @Nullable String trapAddress;
 
-    public SnmpTargetHandler(Thing thing, SnmpService snmpService) {
+    public SnmpTargetHandler(Thing thing, SnmpService snmpService, RefreshScheduler refreshScheduler) {
         super(thing);
         this.snmpService = snmpService;
+        this.refreshScheduler = refreshScheduler;
     }
 
     @Override
@@ -104,9 +129,15 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         try {
             if (command instanceof RefreshType) {
-                SnmpInternalChannelConfiguration channel = readChannelSet.stream()
+                SnmpInternalChannelConfiguration table = tableChannelSet.stream()
+                        .filter(c -> channelUID.equals(c.channelUID)).findFirst().orElse(null);
+                if (table != null) {
+                    startTableWalk(table);
+                    return;
+                }
+                SnmpInternalChannelConfiguration channel = readChannelMap.values().stream().flatMap(List::stream)
                         .filter(c -> channelUID.equals(c.channelUID)).findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("no writable channel found"));
+                        .orElseThrow(() -> new IllegalArgumentException("no readable channel found"));
                 PDU pdu = new PDU(PDU.GET, Collections.singletonList(new VariableBinding(channel.oid)));
                 snmpService.send(pdu, target, null, this);
             } else if (command instanceof DecimalType || command instanceof StringType
@@ -149,25 +180,31 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             target.setVersion(config.protocol.toInteger());
             target.setAddress(null);
             this.target = target;
-            snmpService.addCommandResponder(this);
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "SNMP version not supported");
             return;
         }
 
         timeoutCounter = 0;
+        maxVarbinds = Math.max(1, config.maxVarbinds);
 
         updateStatus(ThingStatus.UNKNOWN);
-        refresh = scheduler.scheduleWithFixedDelay(this::refresh, 0, config.refresh, TimeUnit.SECONDS);
+        refresh = refreshScheduler.schedule(this::refresh, 0, config.refresh, TimeUnit.SECONDS);
     }
 
     @Override
     public void dispose() {
-        final ScheduledFuture<?> r = refresh;
+        final RefreshJob r = refresh;
         if (r != null && !r.isCancelled()) {
-            r.cancel(true);
+            r.cancel();
         }
-        snmpService.removeCommandResponder(this);
+        final String address = trapAddress;
+        if (address != null) {
+            snmpService.removeCommandResponder(address, this);
+            trapAddress = null;
+        }
+        tableWalks.clear();
+        counterSamples.clear();
     }
 
     @Override
@@ -175,8 +212,15 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         if (event == null) {
             return;
         }
+        @Nullable
+        Object userHandle = event.getUserHandle();
+        @Nullable
+        TableWalk tableWalk = userHandle instanceof TableWalk ? (TableWalk) userHandle : null;
         PDU response = event.getResponse();
         if (response == null) {
+            if (tableWalk != null) {
+                tableWalks.remove(tableWalk.table.channelUID, tableWalk);
+            }
             Exception e = event.getError();
             if (e == null) { // no response, no error -> request timed out
                 timeoutCounter++;
@@ -192,10 +236,23 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         timeoutCounter = 0;
         logger.trace("{} received {}", thing.getUID(), response);
 
+        if (response.getErrorStatus() == PDU.tooBig) {
+            if (tableWalk != null) {
+                tableWalk.reduceRepetitions();
+            } else {
+                splitRequest(event.getRequest());
+            }
+            return;
+        }
+        if (tableWalk != null) {
+            tableWalk.onResponse(response);
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             OID oid = variable.getOid();
             Variable value = variable.getVariable();
-            updateChannels(oid, value, readChannelSet);
+            updateChannels(oid, value, readChannelMap);
         });
     }
 
@@ -218,14 +275,14 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelMap);
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
                 && targetAddressString.equals(address)) {
             pdu.getVariableBindings().forEach(variable -> {
                 OID oid = variable.getOid();
                 Variable value = variable.getVariable();
-                updateChannels(oid, value, trapChannelSet);
+                updateChannels(oid, value, trapChannelMap);
             });
         }
     }
@@ -286,26 +343,36 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             return null;
         }
         return new SnmpInternalChannelConfiguration(channel.getUID(), new OID(config.oid), config.mode, datatype,
-                onValue, offValue, exceptionValue, config.doNotLogException);
+                config.counterMode, onValue, offValue, exceptionValue, config.doNotLogException);
     }
 
     private void generateChannelConfigs() {
         Set<SnmpInternalChannelConfiguration> channelConfigs = Collections
                 .unmodifiableSet(thing.getChannels().stream().map(channel -> getChannelConfigFromChannel(channel))
                         .filter(Objects::nonNull).collect(Collectors.toSet()));
-        this.readChannelSet = channelConfigs.stream()
+        Set<SnmpInternalChannelConfiguration> readableChannelSet = channelConfigs.stream()
                 .filter(c -> c.mode == SnmpChannelMode.READ || c.mode == SnmpChannelMode.READ_WRITE)
                 .collect(Collectors.toSet());
+        Set<SnmpInternalChannelConfiguration> tableChannelSet = channelConfigs.stream()
+                .filter(c -> c.mode == SnmpChannelMode.TABLE).collect(Collectors.toSet());
+        // the rows of a table are updated by walking the table and not requested separately
+        this.readChannelSet = readableChannelSet.stream()
+                .filter(c -> tableChannelSet.stream().noneMatch(table -> c.oid.startsWith(table.oid)))
+                .collect(Collectors.toSet());
+        this.readOids = readChannelSet.stream().map(c -> c.oid).distinct().collect(Collectors.toList());
+        this.readChannelMap = readableChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid));
+        this.tableChannelSet = tableChannelSet;
         this.writeChannelSet = channelConfigs.stream()
                 .filter(c -> c.mode == SnmpChannelMode.WRITE || c.mode == SnmpChannelMode.READ_WRITE)
                 .collect(Collectors.toSet());
-        this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
-                .collect(Collectors.toSet());
+        this.trapChannelMap = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
+                .collect(Collectors.groupingBy(c -> c.oid));
     }
 
-    private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
-        Set<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.stream()
-                .filter(c -> c.oid.equals(oid)).collect(Collectors.toSet());
+    private void updateChannels(OID oid, Variable value,
+            Map<OID, List<SnmpInternalChannelConfiguration>> channelConfigs) {
+        List<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.getOrDefault(oid,
+                Collections.emptyList());
         if (!updateChannelConfigs.isEmpty()) {
             updateChannelConfigs.forEach(channelConfig -> {
                 ChannelUID channelUID = channelConfig.channelUID;
@@ -322,7 +389,14 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                     state = channelConfig.exceptionValue;
                 } else if (CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID())) {
                     try {
-                        if (channelConfig.datatype == SnmpDatatype.FLOAT) {
+                        if (channelConfig.counterMode != SnmpCounterMode.ABSOLUTE) {
+                            @Nullable
+                            State counterState = convertCounter(channelConfig, value);
+                            if (counterState == null) {
+                                return;
+                            }
+                            state = counterState;
+                        } else if (channelConfig.datatype == SnmpDatatype.FLOAT) {
                             state = new DecimalType(value.toString());
                         } else {
                             state = new DecimalType(value.toLong());
@@ -413,6 +487,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         try {
             target.setAddress(new UdpAddress(InetAddress.getByName(config.hostname), config.port));
             targetAddressString = ((UdpAddress) target.getAddress()).getInetAddress().getHostAddress();
+            registerTrapAddress(targetAddressString);
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE);
             return true;
         } catch (UnknownHostException e) {
@@ -429,15 +504,213 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = new PDU(PDU.GET,
-                readChannelSet.stream().map(c -> new VariableBinding(c.oid)).collect(Collectors.toList()));
-        if (!pdu.getVariableBindings().isEmpty()) {
+        sendGetRequests(readOids);
+        tableChannelSet.forEach(this::startTableWalk);
+    }
+
+    private void sendGetRequests(List<OID> oids) {
+        int limit = maxVarbinds;
+        for (int i = 0; i < oids.size(); i += limit) {
+            List<VariableBinding> variables = oids.subList(i, Math.min(i + limit, oids.size())).stream()
+                    .map(VariableBinding::new).collect(Collectors.toList());
             try {
-                snmpService.send(pdu, target, null, this);
+                snmpService.send(new PDU(PDU.GET, variables), target, null, this);
             } catch (IOException e) {
                 logger.info("Could not send PDU", e);
             }
         }
     }
 
+    private void splitRequest(@Nullable PDU request) {
+        if (request == null || request.size() < 2) {
+            logger.info("{} response to {} exceeds the maximum message size of the target", thing.getUID(), request);
+            return;
+        }
+        maxVarbinds = Math.max(1, Math.min(maxVarbinds, request.size() / 2));
+        logger.debug("{} request too big, limiting requests to {} variables", thing.getUID(), maxVarbinds);
+        sendGetRequests(request.getVariableBindings().stream().map(VariableBinding::getOid)
+                .collect(Collectors.toList()));
+    }
+
+    private void registerTrapAddress(String address) {
+        final String oldAddress = trapAddress;
+        if (!address.equals(oldAddress)) {
+            if (oldAddress != null) {
+                snmpService.removeCommandResponder(oldAddress, this);
+            }
+            snmpService.addCommandResponder(address, this);
+            trapAddress = address;
+        }
+    }
+
+    private void startTableWalk(SnmpInternalChannelConfiguration table) {
+        TableWalk tableWalk = new TableWalk(table);
+        @Nullable
+        TableWalk runningWalk = tableWalks.putIfAbsent(table.channelUID, tableWalk);
+        if (runningWalk != null) {
+            if (System.currentTimeMillis() - runningWalk.started < TimeUnit.SECONDS.toMillis(config.refresh)) {
+                logger.debug("{} is still walking table {}, skipping refresh", thing.getUID(), table.oid);
+                return;
+            }
+            // the previous walk got lost, e.g. because the SNMP service was restarted
+            tableWalks.put(table.channelUID, tableWalk);
+        }
+        tableWalk.send();
+    }
+
+    private void updateTableRows(SnmpInternalChannelConfiguration table, List<VariableBinding> rows) {
+        Map<OID, List<SnmpInternalChannelConfiguration>> channelMap = readChannelMap;
+        List<Channel> newChannels = new ArrayList<>();
+        for (VariableBinding row : rows) {
+            if (!channelMap.containsKey(row.getOid())) {
+                Channel channel = createTableRowChannel(table, row.getOid());
+                if (channel != null) {
+                    newChannels.add(channel);
+                }
+            }
+        }
+        if (!newChannels.isEmpty()) {
+            addChannels(newChannels);
+        }
+        rows.forEach(row -> updateChannels(row.getOid(), row.getVariable(), readChannelMap));
+    }
+
+    private @Nullable Channel createTableRowChannel(SnmpInternalChannelConfiguration table, OID oid) {
+        @Nullable
+        Channel template = thing.getChannel(table.channelUID);
+        if (template == null) {
+            return null;
+        }
+        int[] value = oid.getValue();
+        String index = new OID(value, table.oid.size(), value.length - table.oid.size()).toDottedString();
+
+        Configuration configuration = new Configuration(template.getConfiguration().getProperties());
+        configuration.put("oid", oid.toDottedString());
+        configuration.put("mode", SnmpChannelMode.READ.name());
+        @Nullable
+        String label = template.getLabel();
+        ChannelUID channelUID = new ChannelUID(thing.getUID(),
+                table.channelUID.getId() + "_" + index.replace('.', '_'));
+        return ChannelBuilder.create(channelUID, template.getAcceptedItemType()).withType(template.getChannelTypeUID())
+                .withLabel((label != null ? label : table.channelUID.getId()) + " " + index)
+                .withConfiguration(configuration).build();
+    }
+
+    private synchronized void addChannels(List<Channel> channels) {
+        ThingBuilder thingBuilder = editThing();
+        channels.stream().filter(channel -> thing.getChannel(channel.getUID()) == null)
+                .forEach(thingBuilder::withChannel);
+        updateThing(thingBuilder.build());
+        generateChannelConfigs();
+        logger.debug("{} added {} table row channels", thing.getUID(), channels.size());
+    }
+
+    private @Nullable State convertCounter(SnmpInternalChannelConfiguration channelConfig, Variable value) {
+        long now = System.currentTimeMillis();
+        long current = value.toLong();
+        @Nullable
+        CounterSample last = counterSamples.put(channelConfig.channelUID, new CounterSample(current, now));
+        if (last == null) {
+            // the first value is only the base for the next one
+            return null;
+        }
+        long delta = current - last.value;
+        BigDecimal difference;
+        if (value instanceof Counter64) {
+            // counters wrap around, the unsigned difference is correct across one wrap
+            difference = new BigDecimal(Long.toUnsignedString(delta));
+        } else if (value instanceof Counter32) {
+            difference = BigDecimal.valueOf(delta & 0xFFFFFFFFL);
+        } else {
+            difference = BigDecimal.valueOf(delta);
+        }
+        if (channelConfig.counterMode == SnmpCounterMode.DELTA) {
+            return new DecimalType(difference);
+        }
+        long interval = now - last.timestamp;
+        if (interval <= 0) {
+            return null;
+        }
+        return new DecimalType(difference.multiply(BigDecimal.valueOf(1000)).divide(BigDecimal.valueOf(interval), 3,
+                RoundingMode.HALF_UP));
+    }
+
+    private static class CounterSample {
+        private final long value;
+        private final long timestamp;
+
+        public CounterSample(long value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Walks the subtree of a table channel with GETBULK requests (GETNEXT for SNMP v1). Each response is
+     * followed by the next request until the first OID outside of the subtree is returned.
+     */
+    private class TableWalk {
+        private final SnmpInternalChannelConfiguration table;
+        private final long started = System.currentTimeMillis();
+        private int maxRepetitions = Math.max(1, config.maxRepetitions);
+        private OID next;
+
+        public TableWalk(SnmpInternalChannelConfiguration table) {
+            this.table = table;
+            this.next = table.oid;
+        }
+
+        public void send() {
+            PDU pdu;
+            if (config.protocol.toInteger() == SnmpConstants.version1) {
+                pdu = new PDU(PDU.GETNEXT, Collections.singletonList(new VariableBinding(next)));
+            } else {
+                pdu = new PDU(PDU.GETBULK, Collections.singletonList(new VariableBinding(next)));
+                pdu.setNonRepeaters(0);
+                pdu.setMaxRepetitions(maxRepetitions);
+            }
+            try {
+                snmpService.send(pdu, target, this, SnmpTargetHandler.this);
+            } catch (IOException e) {
+                tableWalks.remove(table.channelUID, this);
+                logger.info("Could not send PDU", e);
+            }
+        }
+
+        public void onResponse(PDU response) {
+            List<VariableBinding> rows = new ArrayList<>();
+            boolean finished = response.getErrorStatus() != PDU.noError || response.size() == 0;
+            if (!finished) {
+                for (VariableBinding variable : response.getVariableBindings()) {
+                    OID oid = variable.getOid();
+                    if (variable.isException() || !oid.startsWith(table.oid) || oid.compareTo(next) <= 0) {
+                        finished = true;
+                        break;
+                    }
+                    rows.add(variable);
+                    next = oid;
+                }
+            }
+            updateTableRows(table, rows);
+            if (finished) {
+                tableWalks.remove(table.channelUID, this);
+                logger.trace("{} finished walking table {}", thing.getUID(), table.oid);
+            } else if (tableWalks.get(table.channelUID) == this) {
+                send();
+            }
+        }
+
+        public void reduceRepetitions() {
+            if (maxRepetitions > 1) {
+                maxRepetitions /= 2;
+                logger.debug("{} response too big, limiting table walk to {} repetitions", thing.getUID(),
+                        maxRepetitions);
+                send();
+            } else {
+                tableWalks.remove(table.channelUID, this);
+                logger.info("{} response to table walk {} exceeds the maximum message size of the target",
+                        thing.getUID(), table.oid);
+            }
+        }
+    }
 }
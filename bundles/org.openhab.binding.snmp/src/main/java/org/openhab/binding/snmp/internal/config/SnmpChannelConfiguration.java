@@ -13,6 +13,7 @@
 package org.openhab.binding.snmp.internal.config;
 
 import org.openhab.binding.snmp.internal.SnmpChannelMode;
+import org.openhab.binding.snmp.internal.SnmpCounterMode;
 import org.openhab.binding.snmp.internal.SnmpDatatype;
 
 /**
@@ -24,6 +25,7 @@ public class SnmpChannelConfiguration {
     public String oid;
     public SnmpChannelMode mode = SnmpChannelMode.READ;
     public SnmpDatatype datatype;
+    public SnmpCounterMode counterMode = SnmpCounterMode.ABSOLUTE;
 
     public String onvalue;
     public String offvalue;
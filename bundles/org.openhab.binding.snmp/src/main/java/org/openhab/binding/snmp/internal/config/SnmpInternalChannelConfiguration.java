@@ -17,6 +17,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.snmp.internal.SnmpChannelMode;
+import org.openhab.binding.snmp.internal.SnmpCounterMode;
 import org.openhab.binding.snmp.internal.SnmpDatatype;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.Variable;
@@ -33,6 +34,7 @@ public class SnmpInternalChannelConfiguration {
     public final OID oid;
     public final SnmpChannelMode mode;
     public final SnmpDatatype datatype;
+    public final SnmpCounterMode counterMode;
 
     public final @Nullable Variable onValue;
     public final @Nullable Variable offValue;
@@ -40,11 +42,13 @@ public class SnmpInternalChannelConfiguration {
     public final boolean doNotLogException;
 
     public SnmpInternalChannelConfiguration(ChannelUID channelUID, OID oid, SnmpChannelMode mode, SnmpDatatype datatype,
-            @Nullable Variable onValue, @Nullable Variable offValue, State exceptionValue, boolean doNotLogException) {
+            SnmpCounterMode counterMode, @Nullable Variable onValue, @Nullable Variable offValue, State exceptionValue,
+            boolean doNotLogException) {
         this.channelUID = channelUID;
         this.oid = oid;
         this.mode = mode;
         this.datatype = datatype;
+        this.counterMode = counterMode;
         this.onValue = onValue;
         this.offValue = offValue;
         this.exceptionValue = exceptionValue;
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Vector;
 
 import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -40,6 +41,7 @@ import org.eclipse.smarthome.test.java.JavaTest;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.snmp4j.PDU;
 import org.snmp4j.event.ResponseEvent;
 import org.snmp4j.smi.OID;
@@ -135,7 +137,7 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
         setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, channelMode);
 
         waitForAssert(() -> assertEquals(ThingStatus.ONLINE, thingHandler.getThing().getStatusInfo().getStatus()));
-        verify(snmpService).addCommandResponder(any());
+        verify(snmpService).addCommandResponder(anyString(), eq(thingHandler));
 
         if (refresh) {
             ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
@@ -163,6 +165,11 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
 
     protected void setup(ChannelTypeUID channelTypeUID, SnmpChannelMode channelMode, SnmpDatatype datatype,
             String onValue, String offValue, String exceptionValue) {
+        setup(channelTypeUID, channelMode, datatype, onValue, offValue, exceptionValue, null);
+    }
+
+    protected void setup(ChannelTypeUID channelTypeUID, SnmpChannelMode channelMode, SnmpDatatype datatype,
+            String onValue, String offValue, String exceptionValue, SnmpCounterMode counterMode) {
         Map<String, Object> channelConfig = new HashMap<>();
         Map<String, Object> thingConfig = new HashMap<>();
         MockitoAnnotations.initMocks(this);
@@ -188,13 +195,17 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
             if (exceptionValue != null) {
                 channelConfig.put("exceptionValue", exceptionValue);
             }
+            if (counterMode != null) {
+                channelConfig.put("counterMode", counterMode.name());
+            }
             Channel channel = ChannelBuilder.create(CHANNEL_UID, itemType).withType(channelTypeUID)
                     .withConfiguration(new Configuration(channelConfig)).build();
             thingBuilder.withChannel(channel);
         }
 
         thing = thingBuilder.build();
-        thingHandler = new SnmpTargetHandler(thing, snmpService);
+        thingHandler = new SnmpTargetHandler(thing, snmpService,
+                new RefreshScheduler("snmp", ThreadPoolManager.getScheduledPool("thingHandler"), 1));
 
         thingHandler.getThing().setHandler(thingHandler);
         thingHandler.setCallback(thingHandlerCallback);
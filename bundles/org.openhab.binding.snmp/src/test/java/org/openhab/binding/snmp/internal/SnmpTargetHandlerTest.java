@@ -13,18 +13,21 @@
 package org.openhab.binding.snmp.internal;
 
 import static org.junit.Assert.*;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.snmp4j.PDU;
 import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.Counter32;
 import org.snmp4j.smi.Counter64;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.OID;
@@ -106,4 +109,36 @@ public class SnmpTargetHandlerTest extends AbstractSnmpTargetHandlerTest {
         thingHandler.onResponse(event);
         verify(thingHandlerCallback, atLeast(1)).stateUpdated(eq(CHANNEL_UID), eq(new DecimalType("12.4")));
     }
+
+    @Test
+    public void testNumberChannelsProperlyUpdatingCounterDelta() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, SnmpChannelMode.READ, SnmpDatatype.UINT32, null, null,
+                null, SnmpCounterMode.DELTA);
+        thingHandler.onResponse(
+                createResponseEvent(new VariableBinding(new OID(TEST_OID), new Counter32(4294967290L))));
+        verify(thingHandlerCallback, never()).stateUpdated(eq(CHANNEL_UID), any());
+
+        // the counter wraps around
+        thingHandler.onResponse(createResponseEvent(new VariableBinding(new OID(TEST_OID), new Counter32(10))));
+        verify(thingHandlerCallback).stateUpdated(eq(CHANNEL_UID), eq(new DecimalType(16)));
+    }
+
+    @Test
+    public void testTooBigRequestsAreSplit() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, SnmpChannelMode.TRAP);
+        PDU requestPDU = new PDU(PDU.GET, Arrays.asList(new VariableBinding(new OID("1.2.3.4")),
+                new VariableBinding(new OID("1.2.3.5")), new VariableBinding(new OID("1.2.3.6"))));
+        PDU responsePDU = new PDU(PDU.RESPONSE, Collections.emptyList());
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(new ResponseEvent("test", null, requestPDU, responsePDU, null));
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, times(3)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        pduCaptor.getAllValues().forEach(pdu -> assertEquals(1, pdu.size()));
+    }
+
+    private ResponseEvent createResponseEvent(VariableBinding variable) {
+        PDU responsePDU = new PDU(PDU.RESPONSE, Collections.singletonList(variable));
+        return new ResponseEvent("test", null, null, responsePDU, null);
+    }
 }
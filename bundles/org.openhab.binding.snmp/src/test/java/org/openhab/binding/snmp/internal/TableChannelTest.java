@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.thing.Channel;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.snmp4j.PDU;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Tests cases for {@link SnmpTargetHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TableChannelTest extends AbstractSnmpTargetHandlerTest {
+
+    @Test
+    public void testTableWalkAddsRowChannels() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, SnmpChannelMode.TABLE);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> userHandleCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(1000)).send(pduCaptor.capture(), any(), userHandleCaptor.capture(),
+                eq(thingHandler));
+        assertEquals(PDU.GETNEXT, pduCaptor.getValue().getType());
+        assertEquals(new OID(TEST_OID), pduCaptor.getValue().get(0).getOid());
+
+        PDU responsePDU = new PDU(PDU.RESPONSE,
+                Arrays.asList(new VariableBinding(new OID(TEST_OID + ".1"), new Counter32(5))));
+        thingHandler.onResponse(
+                new ResponseEvent("test", null, pduCaptor.getValue(), responsePDU, userHandleCaptor.getValue()));
+
+        ArgumentCaptor<Thing> thingCaptor = ArgumentCaptor.forClass(Thing.class);
+        verify(thingHandlerCallback).thingUpdated(thingCaptor.capture());
+        ChannelUID rowChannelUID = new ChannelUID(THING_UID, CHANNEL_UID.getId() + "_1");
+        Channel rowChannel = thingCaptor.getValue().getChannel(rowChannelUID);
+        assertNotNull(rowChannel);
+        assertEquals(TEST_OID + ".1", rowChannel.getConfiguration().get("oid"));
+        verify(thingHandlerCallback).stateUpdated(eq(rowChannelUID), eq(new DecimalType(5)));
+
+        // the walk continues after the last row and ends with the first OID outside the table
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), eq(userHandleCaptor.getValue()),
+                eq(thingHandler));
+        assertEquals(new OID(TEST_OID + ".1"), pduCaptor.getValue().get(0).getOid());
+
+        responsePDU = new PDU(PDU.RESPONSE,
+                Arrays.asList(new VariableBinding(new OID("1.2.3.5.1"), new Counter32(7))));
+        thingHandler.onResponse(
+                new ResponseEvent("test", null, pduCaptor.getValue(), responsePDU, userHandleCaptor.getValue()));
+        verify(snmpService, times(2)).send(any(), any(), any(), eq(thingHandler));
+        verify(thingHandlerCallback, times(1)).thingUpdated(any());
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.squeezebox.internal.handler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tokenizer for the lines received from the SqueezeBox Server CLI.
+ *
+ * A line is scanned once and only the boundaries of its whitespace separated parts are recorded. Parts are compared
+ * in place and percent-decoded on demand, so the parts of a message which are not needed by a handler are neither
+ * copied nor decoded. An instance is reused for every line read by the listener thread.
+ *
+ * @author agent - Initial contribution
+ */
+final class SqueezeBoxCliMessage {
+
+    private String line = "";
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int size;
+
+    /**
+     * Tokenizes the given line. The parts are the same as those returned by <code>line.split("\\s")</code>.
+     */
+    void parse(String line) {
+        this.line = line;
+        size = 0;
+        int start = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (isWhitespace(line.charAt(i))) {
+                addPart(start, i);
+                start = i + 1;
+            }
+        }
+        addPart(start, line.length());
+
+        // like String.split, drop trailing empty parts unless the line itself is empty
+        if (!line.isEmpty()) {
+            while (size > 0 && starts[size - 1] == ends[size - 1]) {
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of parts of the current line.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the raw (not decoded) part at the given index.
+     */
+    String get(int index) {
+        return line.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * Returns the raw (not decoded) value of a part after the given prefix.
+     */
+    String getValue(int index, String prefix) {
+        return line.substring(starts[index] + prefix.length(), ends[index]);
+    }
+
+    /**
+     * Checks whether the raw part at the given index equals the given value.
+     */
+    boolean is(int index, String value) {
+        return ends[index] - starts[index] == value.length() && line.startsWith(value, starts[index]);
+    }
+
+    /**
+     * Checks whether the raw part at the given index starts with the given prefix.
+     */
+    boolean startsWith(int index, String prefix) {
+        return ends[index] - starts[index] >= prefix.length() && line.startsWith(prefix, starts[index]);
+    }
+
+    /**
+     * Checks whether the raw value of a part after the given prefix equals the given value.
+     */
+    boolean valueIs(int index, String prefix, String value) {
+        int start = starts[index] + prefix.length();
+        return ends[index] - start == value.length() && line.startsWith(value, start);
+    }
+
+    /**
+     * Returns the decoded part at the given index.
+     */
+    String decode(int index) {
+        return decode(line, starts[index], ends[index]);
+    }
+
+    /**
+     * Returns the decoded value of a part after the given prefix.
+     */
+    String decodeValue(int index, String prefix) {
+        return decode(line, starts[index] + prefix.length(), ends[index]);
+    }
+
+    @Override
+    public String toString() {
+        return line;
+    }
+
+    /**
+     * Decodes an URL encoded value like {@link java.net.URLDecoder} does for UTF-8. Invalid escape sequences are kept
+     * as they are instead of failing the whole message.
+     */
+    static String decode(String value) {
+        return decode(value, 0, value.length());
+    }
+
+    private static String decode(String value, int from, int to) {
+        int index = from;
+        while (index < to && value.charAt(index) != '%' && value.charAt(index) != '+') {
+            index++;
+        }
+        if (index == to) {
+            return value.substring(from, to);
+        }
+
+        StringBuilder decoded = new StringBuilder(to - from);
+        decoded.append(value, from, index);
+        byte[] bytes = null;
+        while (index < to) {
+            char c = value.charAt(index);
+            if (c == '+') {
+                decoded.append(' ');
+                index++;
+            } else if (c == '%') {
+                // consecutive escapes form one UTF-8 sequence
+                if (bytes == null) {
+                    bytes = new byte[(to - index) / 3];
+                }
+                int length = 0;
+                while (index + 2 < to && value.charAt(index) == '%') {
+                    int high = Character.digit(value.charAt(index + 1), 16);
+                    int low = Character.digit(value.charAt(index + 2), 16);
+                    if (high < 0 || low < 0) {
+                        break;
+                    }
+                    bytes[length++] = (byte) ((high << 4) | low);
+                    index += 3;
+                }
+                if (length == 0) {
+                    decoded.append(c);
+                    index++;
+                } else {
+                    decoded.append(new String(bytes, 0, length, StandardCharsets.UTF_8));
+                }
+            } else {
+                decoded.append(c);
+                index++;
+            }
+        }
+        return decoded.toString();
+    }
+
+    private void addPart(int start, int end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    private static boolean isWhitespace(char c) {
+        // the characters matched by the regular expression \s
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -21,16 +21,15 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
-import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -86,12 +85,18 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
     private static final String CHANNEL_CONFIG_QUOTE_LIST = "quoteList";
 
+    // the notifications handled by the listener; "listen 1" would send every notification of the server
+    private static final String SUBSCRIBE_NOTIFICATIONS = "subscribe playlist,mixer,prefset,ir,favorites";
+
     private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
             .synchronizedList(new ArrayList<SqueezeBoxPlayerEventListener>());
 
     private Map<String, SqueezeBoxPlayer> players = Collections
             .synchronizedMap(new HashMap<String, SqueezeBoxPlayer>());
 
+    // player handlers by mac address, so player updates are only passed to the handler of the player
+    private final Map<String, SqueezeBoxPlayerEventListener> playerHandlers = new ConcurrentHashMap<>();
+
     // client socket and listener thread
     private Socket clientSocket;
     private SqueezeServerListener listener;
@@ -128,6 +133,27 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        String mac = getPlayerMac(childThing);
+        if (mac != null && childHandler instanceof SqueezeBoxPlayerEventListener) {
+            playerHandlers.put(mac, (SqueezeBoxPlayerEventListener) childHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        String mac = getPlayerMac(childThing);
+        if (mac != null) {
+            playerHandlers.remove(mac, childHandler);
+        }
+    }
+
+    private String getPlayerMac(Thing childThing) {
+        Object mac = childThing.getConfiguration().get("mac");
+        return mac != null ? mac.toString() : null;
+    }
+
     /**
      * Checks if we have a connection to the Server
      *
@@ -407,6 +433,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     }
 
     private class SqueezeServerListener extends Thread {
+        private final SqueezeBoxCliMessage message = new SqueezeBoxCliMessage();
         private boolean terminate = false;
 
         public SqueezeServerListener() {
@@ -429,27 +456,28 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 updateStatus(ThingStatus.ONLINE);
                 requestPlayers();
                 requestFavorites();
-                sendCommand("listen 1");
+                sendCommand(SUBSCRIBE_NOTIFICATIONS);
 
-                String message = null;
-                while (!terminate && (message = reader.readLine()) != null) {
+                String line = null;
+                while (!terminate && (line = reader.readLine()) != null) {
                     // Message is very long and frequent; only show when running at trace level logging
-                    logger.trace("Message received: {}", message);
+                    logger.trace("Message received: {}", line);
 
                     // Fix for some third-party apps that are sending "subscribe playlist"
-                    if (message.startsWith("listen 1") || message.startsWith("subscribe playlist")) {
+                    if (line.startsWith("listen 1") || line.startsWith("subscribe playlist")) {
                         continue;
                     }
 
-                    if (message.startsWith("players 0")) {
-                        handlePlayersList(message);
-                    } else if (message.startsWith("favorites")) {
-                        handleFavorites(message);
+                    message.parse(line);
+                    if (line.startsWith("players 0")) {
+                        handlePlayersList();
+                    } else if (line.startsWith("favorites")) {
+                        handleFavorites();
                     } else {
-                        handlePlayerUpdate(message);
+                        handlePlayerUpdate();
                     }
                 }
-                if (message == null) {
+                if (line == null) {
                     endOfStream = true;
                 }
             } catch (IOException e) {
@@ -481,12 +509,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private String decode(String raw) {
-            try {
-                return URLDecoder.decode(raw, UTF8_NAME);
-            } catch (UnsupportedEncodingException e) {
-                logger.debug("Failed to decode '{}' ", raw, e);
-                return null;
-            }
+            return SqueezeBoxCliMessage.decode(raw);
         }
 
         private String encode(String raw) {
@@ -498,147 +521,136 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
-        private void handlePlayersList(String message) {
-            // Split out players
-            String[] playersList = message.split("playerindex\\S*\\s");
-            for (String playerParams : playersList) {
-
-                // For each player, split out parameters and decode parameter
-                String[] parameterList = playerParams.split("\\s");
-                for (int i = 0; i < parameterList.length; i++) {
-                    parameterList[i] = decode(parameterList[i]);
+        private void handlePlayersList() {
+            // Each player starts with its playerindex parameter
+            int first = 0;
+            for (int i = 0; i < message.size(); i++) {
+                if (message.startsWith(i, "playerindex")) {
+                    handlePlayerParameters(first, i);
+                    first = i + 1;
                 }
+            }
+            handlePlayerParameters(first, message.size());
+        }
 
-                // parse out the MAC address first
-                String macAddress = null;
-                for (String parameter : parameterList) {
-                    if (parameter.contains("playerid")) {
-                        macAddress = parameter.substring(parameter.indexOf(":") + 1);
-                        break;
-                    }
+        private void handlePlayerParameters(int first, int end) {
+            // parse out the MAC address first
+            String macAddress = null;
+            for (int i = first; i < end; i++) {
+                if (message.startsWith(i, "playerid%3A")) {
+                    macAddress = message.decodeValue(i, "playerid%3A");
+                    break;
                 }
+            }
 
-                // if none found then ignore this set of params
-                if (macAddress == null) {
-                    continue;
-                }
+            // if none found or already known then ignore this set of params
+            if (macAddress == null || players.containsKey(macAddress)) {
+                return;
+            }
 
-                final SqueezeBoxPlayer player = new SqueezeBoxPlayer();
-                player.setMacAddress(macAddress);
-                // populate the player state
-                for (String parameter : parameterList) {
-                    if (parameter.contains("ip")) {
-                        player.setIpAddr(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.contains("uuid")) {
-                        player.setUuid(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.contains("name")) {
-                        player.setName(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.contains("model")) {
-                        player.setModel(parameter.substring(parameter.indexOf(":") + 1));
-                    }
+            final SqueezeBoxPlayer player = new SqueezeBoxPlayer();
+            player.setMacAddress(macAddress);
+            // populate the player state
+            for (int i = first; i < end; i++) {
+                if (message.startsWith(i, "ip%3A")) {
+                    player.setIpAddr(message.decodeValue(i, "ip%3A"));
+                } else if (message.startsWith(i, "uuid%3A")) {
+                    player.setUuid(message.decodeValue(i, "uuid%3A"));
+                } else if (message.startsWith(i, "name%3A")) {
+                    player.setName(message.decodeValue(i, "name%3A"));
+                } else if (message.startsWith(i, "model%3A")) {
+                    player.setModel(message.decodeValue(i, "model%3A"));
                 }
+            }
 
-                // Save player if we haven't seen it yet
-                if (!players.containsKey(macAddress)) {
-                    players.put(macAddress, player);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.playerAdded(player);
-                        }
-                    });
-                    // tell the server we want to subscribe to player updates
-                    sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
+            // Save player as we haven't seen it yet
+            players.put(macAddress, player);
+            updatePlayer(new PlayerUpdateEvent() {
+                @Override
+                public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                    listener.playerAdded(player);
                 }
-            }
+            });
+            // tell the server we want to subscribe to player updates
+            sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
         }
 
-        private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
-            if (messageParts.length < 2) {
+        private void handlePlayerUpdate() {
+            if (message.size() < 2) {
                 logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
                 return;
             }
 
-            final String mac = decode(messageParts[0]);
+            final String mac = message.decode(0);
 
             // get the message type
-            String messageType = messageParts[1];
-            switch (messageType) {
-                case "status":
-                    handleStatusMessage(mac, messageParts);
-                    break;
-                case "playlist":
-                    handlePlaylistMessage(mac, messageParts);
-                    break;
-                case "prefset":
-                    handlePrefsetMessage(mac, messageParts);
-                    break;
-                case "mixer":
-                    handleMixerMessage(mac, messageParts);
-                    break;
-                case "ir":
-                    final String ircode = messageParts[2];
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.irCodeChangeEvent(mac, ircode);
-                        }
-                    });
-                    break;
-                default:
-                    logger.trace("Unhandled player update message type '{}'.", messageType);
-
+            if (message.is(1, "status")) {
+                handleStatusMessage(mac);
+            } else if (message.is(1, "playlist")) {
+                handlePlaylistMessage(mac);
+            } else if (message.is(1, "prefset")) {
+                handlePrefsetMessage(mac);
+            } else if (message.is(1, "mixer")) {
+                handleMixerMessage(mac);
+            } else if (message.is(1, "ir")) {
+                if (message.size() < 3) {
+                    return;
+                }
+                final String ircode = message.get(2);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.irCodeChangeEvent(mac, ircode);
+                    }
+                });
+            } else {
+                logger.trace("Unhandled player update message type '{}'.", message.get(1));
             }
         }
 
-        private void handleMixerMessage(String mac, String[] messageParts) {
-            if (messageParts.length < 4) {
+        private void handleMixerMessage(String mac) {
+            if (message.size() < 4) {
                 return;
             }
-            String action = messageParts[2];
 
-            switch (action) {
-                case "volume":
-                    String volumeStringValue = decode(messageParts[3]);
+            if (message.is(2, "volume")) {
+                String volumeStringValue = message.decode(3);
 
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            try {
-                                int volume = Integer.parseInt(volumeStringValue);
-
-                                // Check if we received a relative volume change, or an absolute
-                                // volume value.
-                                if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
-                                    listener.relativeVolumeChangeEvent(mac, volume);
-                                } else {
-                                    listener.absoluteVolumeChangeEvent(mac, volume);
-                                }
-                            } catch (NumberFormatException e) {
-                                logger.warn("Unable to parse volume [{}] received from mixer message.",
-                                        volumeStringValue, e);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        try {
+                            int volume = Integer.parseInt(volumeStringValue);
+
+                            // Check if we received a relative volume change, or an absolute
+                            // volume value.
+                            if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
+                                listener.relativeVolumeChangeEvent(mac, volume);
+                            } else {
+                                listener.absoluteVolumeChangeEvent(mac, volume);
                             }
+                        } catch (NumberFormatException e) {
+                            logger.warn("Unable to parse volume [{}] received from mixer message.",
+                                    volumeStringValue, e);
                         }
-                    });
-                    break;
-                default:
-                    logger.trace("Unhandled mixer message type '{}'", Arrays.toString(messageParts));
-
+                    }
+                });
+            } else {
+                logger.trace("Unhandled mixer message type '{}'", message);
             }
         }
 
-        private void handleStatusMessage(final String mac, String[] messageParts) {
-            String remoteTitle = "", artist = "", album = "", genre = "", year = "";
+        private void handleStatusMessage(final String mac) {
+            int remoteTitle = -1, artist = -1, album = -1, genre = -1, year = -1;
             boolean coverart = false;
             String coverid = null;
             String artworkUrl = null;
 
-            for (String messagePart : messageParts) {
+            for (int i = 0; i < message.size(); i++) {
                 // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    final boolean power = "1".matches(messagePart.substring("power%3A".length()));
-                    updatePlayer(new PlayerUpdateEvent() {
+                if (message.startsWith(i, "power%3A")) {
+                    final boolean power = message.valueIs(i, "power%3A", "1");
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
@@ -646,10 +658,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
+                else if (message.startsWith(i, "mixer%20volume%3A")) {
+                    String value = message.getValue(i, "mixer%20volume%3A");
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.absoluteVolumeChangeEvent(mac, volume);
@@ -657,9 +669,9 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                else if (message.startsWith(i, "mode%3A")) {
+                    final String mode = message.getValue(i, "mode%3A");
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.modeChangeEvent(mac, mode);
@@ -667,10 +679,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
+                else if (message.startsWith(i, "time%3A")) {
+                    String value = message.getValue(i, "time%3A");
                     final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlayingTimeEvent(mac, time);
@@ -678,10 +690,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
+                else if (message.startsWith(i, "duration%3A")) {
+                    String value = message.getValue(i, "duration%3A");
                     final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.durationEvent(mac, duration);
@@ -689,10 +701,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
+                else if (message.startsWith(i, "playlist_cur_index%3A")) {
+                    String value = message.getValue(i, "playlist_cur_index%3A");
                     final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistIndexEvent(mac, index);
@@ -700,10 +712,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
+                else if (message.startsWith(i, "playlist_tracks%3A")) {
+                    String value = message.getValue(i, "playlist_tracks%3A");
                     final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.numberPlaylistTracksEvent(mac, track);
@@ -711,10 +723,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
+                else if (message.startsWith(i, "playlist%20repeat%3A")) {
+                    String value = message.getValue(i, "playlist%20repeat%3A");
                     final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistRepeatEvent(mac, repeat);
@@ -722,10 +734,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
+                else if (message.startsWith(i, "playlist%20shuffle%3A")) {
+                    String value = message.getValue(i, "playlist%20shuffle%3A");
                     final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistShuffleEvent(mac, shuffle);
@@ -733,72 +745,79 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                else if (message.startsWith(i, "title%3A")) {
+                    final String value = message.decodeValue(i, "title%3A");
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
+                            listener.titleChangeEvent(mac, value);
                         }
                     });
                 }
                 // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    remoteTitle = messagePart.substring("remote_title%3A".length());
+                else if (message.startsWith(i, "remote_title%3A")) {
+                    remoteTitle = i;
                 }
                 // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    artist = messagePart.substring("artist%3A".length());
+                else if (message.startsWith(i, "artist%3A")) {
+                    artist = i;
                 }
                 // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    album = messagePart.substring("album%3A".length());
+                else if (message.startsWith(i, "album%3A")) {
+                    album = i;
                 }
                 // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    genre = messagePart.substring("genre%3A".length());
+                else if (message.startsWith(i, "genre%3A")) {
+                    genre = i;
                 }
                 // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    year = messagePart.substring("year%3A".length());
+                else if (message.startsWith(i, "year%3A")) {
+                    year = i;
                 }
                 // Parameter artwork_url contains url to cover art
-                else if (messagePart.startsWith("artwork_url%3A")) {
-                    artworkUrl = messagePart.substring("artwork_url%3A".length());
+                else if (message.startsWith(i, "artwork_url%3A")) {
+                    artworkUrl = message.getValue(i, "artwork_url%3A");
                 }
                 // When coverart is "1" coverid will contain a unique coverart id
-                else if (messagePart.startsWith("coverart%3A")) {
-                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
+                else if (message.startsWith(i, "coverart%3A")) {
+                    coverart = message.valueIs(i, "coverart%3A", "1");
                 }
                 // Id for covert art (only valid when coverart is "1")
-                else if (messagePart.startsWith("coverid%3A")) {
-                    coverid = messagePart.substring("coverid%3A".length());
-                } else {
+                else if (message.startsWith(i, "coverid%3A")) {
+                    coverid = message.getValue(i, "coverid%3A");
+                } else if (logger.isTraceEnabled()) {
                     // Added to be able to see additional status message types
-                    logger.trace("Unhandled status message type '{}'", messagePart);
+                    logger.trace("Unhandled status message type '{}'", message.get(i));
                 }
             }
 
             final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
-            final String finalRemoteTitle = remoteTitle;
-            final String finalArtist = artist;
-            final String finalAlbum = album;
-            final String finalGenre = genre;
-            final String finalYear = year;
+            final String finalRemoteTitle = decodeValue(remoteTitle, "remote_title%3A");
+            final String finalArtist = decodeValue(artist, "artist%3A");
+            final String finalAlbum = decodeValue(album, "album%3A");
+            final String finalGenre = decodeValue(genre, "genre%3A");
+            final String finalYear = decodeValue(year, "year%3A");
 
-            updatePlayer(new PlayerUpdateEvent() {
+            updatePlayer(mac, new PlayerUpdateEvent() {
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
                     listener.coverArtChangeEvent(mac, finalUrl);
-                    listener.remoteTitleChangeEvent(mac, decode(finalRemoteTitle));
-                    listener.artistChangeEvent(mac, decode(finalArtist));
-                    listener.albumChangeEvent(mac, decode(finalAlbum));
-                    listener.genreChangeEvent(mac, decode(finalGenre));
-                    listener.yearChangeEvent(mac, decode(finalYear));
+                    listener.remoteTitleChangeEvent(mac, finalRemoteTitle);
+                    listener.artistChangeEvent(mac, finalArtist);
+                    listener.albumChangeEvent(mac, finalAlbum);
+                    listener.genreChangeEvent(mac, finalGenre);
+                    listener.yearChangeEvent(mac, finalYear);
                 }
             });
         }
 
+        /**
+         * Decodes the value of a status parameter, returns an empty string if the parameter was not sent
+         */
+        private String decodeValue(int index, String prefix) {
+            return index < 0 ? "" : message.decodeValue(index, prefix);
+        }
+
         private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artwork_url) {
             String hostAndPort;
             if (StringUtils.isNotEmpty(userId)) {
@@ -831,35 +850,34 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             return url;
         }
 
-        private void handlePlaylistMessage(final String mac, String[] messageParts) {
-            if (messageParts.length < 3) {
+        private void handlePlaylistMessage(final String mac) {
+            if (message.size() < 3) {
                 return;
             }
-            String action = messageParts[2];
             String mode;
-            if (action.equals("newsong")) {
+            if (message.is(2, "newsong")) {
                 mode = "play";
                 // Set the track duration to 0
-                updatePlayer(new PlayerUpdateEvent() {
+                updatePlayer(mac, new PlayerUpdateEvent() {
                     @Override
                     public void updateListener(SqueezeBoxPlayerEventListener listener) {
                         listener.durationEvent(mac, 0);
                     }
                 });
-            } else if (action.equals("pause")) {
-                if (messageParts.length < 4) {
+            } else if (message.is(2, "pause")) {
+                if (message.size() < 4) {
                     return;
                 }
-                mode = messageParts[3].equals("0") ? "play" : "pause";
-            } else if (action.equals("stop")) {
+                mode = message.is(3, "0") ? "play" : "pause";
+            } else if (message.is(2, "stop")) {
                 mode = "stop";
             } else {
                 // Added so that actions (such as delete, index, jump, open) are not treated as "play"
-                logger.trace("Unhandled playlist message type '{}'", Arrays.toString(messageParts));
+                logger.trace("Unhandled playlist message type '{}'", message);
                 return;
             }
             final String value = mode;
-            updatePlayer(new PlayerUpdateEvent() {
+            updatePlayer(mac, new PlayerUpdateEvent() {
 
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -869,27 +887,24 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             });
         }
 
-        private void handlePrefsetMessage(final String mac, String[] messageParts) {
-            if (messageParts.length < 5) {
+        private void handlePrefsetMessage(final String mac) {
+            if (message.size() < 5) {
                 return;
             }
 
             // server prefsets
-            if (messageParts[2].equals("server")) {
-                String function = messageParts[3];
-                String value = messageParts[4];
-
-                if (function.equals("power")) {
-                    final boolean power = value.equals("1");
-                    updatePlayer(new PlayerUpdateEvent() {
+            if (message.is(2, "server")) {
+                if (message.is(3, "power")) {
+                    final boolean power = message.is(4, "1");
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
                         }
                     });
-                } else if (function.equals("volume")) {
-                    final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                } else if (message.is(3, "volume")) {
+                    final int volume = (int) Double.parseDouble(message.get(4));
+                    updatePlayer(mac, new PlayerUpdateEvent() {
 
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -901,39 +916,37 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
-        private void handleFavorites(String message) {
+        private void handleFavorites() {
             logger.trace("Handle favorites message: {}", message);
 
-            String[] messageParts = message.split("\\s");
-            if (messageParts.length == 2 && "changed".equals(messageParts[1])) {
+            if (message.size() == 2 && message.is(1, "changed")) {
                 // LMS informing us that favorites have changed; request an update to the favorites list
                 requestFavorites();
                 return;
             }
-            if (messageParts.length < 7) {
+            if (message.size() < 7) {
                 logger.trace("No favorites in message.");
                 return;
             }
 
             List<Favorite> favorites = new ArrayList<>();
             Favorite f = null;
-            for (String part : messageParts) {
+            for (int i = 0; i < message.size(); i++) {
                 // Favorite ID (in form xxxxxxxxx.n)
-                if (part.startsWith("id%3A")) {
-                    String id = part.substring("id%3A".length());
+                if (message.startsWith(i, "id%3A")) {
+                    String id = message.getValue(i, "id%3A");
                     f = new Favorite(id);
                     favorites.add(f);
                 }
                 // Favorite name
-                else if (part.startsWith("name%3A")) {
-                    String name = decode(part.substring("name%3A".length()));
+                else if (message.startsWith(i, "name%3A")) {
                     if (f != null) {
-                        f.name = name;
+                        f.name = message.decodeValue(i, "name%3A");
                     }
                 }
                 // When "1", favorite is a submenu with additional favorites
-                else if (part.startsWith("hasitems%3A")) {
-                    boolean hasitems = "1".matches(part.substring("hasitems%3A".length()));
+                else if (message.startsWith(i, "hasitems%3A")) {
+                    boolean hasitems = message.valueIs(i, "hasitems%3A", "1");
                     if (f != null) {
                         if (hasitems) {
                             // Skip subfolders
@@ -1023,6 +1036,26 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Update Listeners and the Squeeze Player Thing with the given mac address
+     *
+     * @param mac
+     * @param event
+     */
+    private void updatePlayer(String mac, PlayerUpdateEvent event) {
+        // update listeners like disco services
+        synchronized (squeezeBoxPlayerListeners) {
+            for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
+                event.updateListener(listener);
+            }
+        }
+        // update the child of this player; the other children would ignore the event
+        SqueezeBoxPlayerEventListener handler = playerHandlers.get(mac);
+        if (handler != null && !squeezeBoxPlayerListeners.contains(handler)) {
+            event.updateListener(handler);
+        }
+    }
+
     /**
      * Adds a listener for player events
      *
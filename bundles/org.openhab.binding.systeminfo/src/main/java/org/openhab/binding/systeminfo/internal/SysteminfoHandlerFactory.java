@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
@@ -26,6 +27,8 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.openhab.binding.systeminfo.internal.handler.SysteminfoHandler;
 import org.openhab.binding.systeminfo.internal.model.SysteminfoInterface;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -45,6 +48,9 @@ public class SysteminfoHandlerFactory extends BaseThingHandlerFactory {
 
     private @NonNullByDefault({}) SysteminfoInterface systeminfo;
 
+    private final RefreshScheduler refreshScheduler = new RefreshScheduler("systeminfo",
+            ThreadPoolManager.getScheduledPool("thingHandler"), 2);
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -55,12 +61,18 @@ public class SysteminfoHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_TYPE_COMPUTER)) {
-            return new SysteminfoHandler(thing, systeminfo);
+            return new SysteminfoHandler(thing, systeminfo, refreshScheduler);
         }
 
         return null;
     }
 
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        refreshScheduler.dispose();
+        super.deactivate(componentContext);
+    }
+
     @Reference
     public void bindSystemInfo(SysteminfoInterface systeminfo) {
         this.systeminfo = systeminfo;
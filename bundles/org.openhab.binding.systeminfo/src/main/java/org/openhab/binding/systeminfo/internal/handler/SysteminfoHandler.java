@@ -20,7 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -38,6 +37,8 @@ import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.systeminfo.internal.model.DeviceNotFoundException;
 import org.openhab.binding.systeminfo.internal.model.SysteminfoInterface;
+import org.openhab.io.refreshscheduler.RefreshJob;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,13 +91,17 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     private SysteminfoInterface systeminfo;
 
-    private @Nullable ScheduledFuture<?> highPriorityTasks;
-    private @Nullable ScheduledFuture<?> mediumPriorityTasks;
+    private final RefreshScheduler refreshScheduler;
+
+    private @Nullable RefreshJob highPriorityTasks;
+    private @Nullable RefreshJob mediumPriorityTasks;
 
     private Logger logger = LoggerFactory.getLogger(SysteminfoHandler.class);
 
-    public SysteminfoHandler(Thing thing, @Nullable SysteminfoInterface systeminfo) {
+    public SysteminfoHandler(Thing thing, @Nullable SysteminfoInterface systeminfo,
+            RefreshScheduler refreshScheduler) {
         super(thing);
+        this.refreshScheduler = refreshScheduler;
         if (systeminfo != null) {
             this.systeminfo = systeminfo;
         } else {
@@ -223,12 +228,12 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     private void scheduleUpdates() {
         logger.debug("Schedule high priority tasks at fixed rate {} s.", refreshIntervalHighPriority);
-        highPriorityTasks = scheduler.scheduleWithFixedDelay(() -> {
+        highPriorityTasks = refreshScheduler.schedule(() -> {
             publishData(highPriorityChannels);
         }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, refreshIntervalHighPriority.intValue(), TimeUnit.SECONDS);
 
         logger.debug("Schedule medium priority tasks at fixed rate {} s.", refreshIntervalMediumPriority);
-        mediumPriorityTasks = scheduler.scheduleWithFixedDelay(() -> {
+        mediumPriorityTasks = refreshScheduler.schedule(() -> {
             publishData(mediumPriorityChannels);
         }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, refreshIntervalMediumPriority.intValue(), TimeUnit.SECONDS);
 
@@ -586,16 +591,16 @@ public class SysteminfoHandler extends BaseThingHandler {
     }
 
     private void stopScheduledUpdates() {
-        ScheduledFuture<?> localHighPriorityTasks = highPriorityTasks;
+        RefreshJob localHighPriorityTasks = highPriorityTasks;
         if (localHighPriorityTasks != null) {
             logger.debug("High prioriy tasks will not be run anymore !");
-            localHighPriorityTasks.cancel(true);
+            localHighPriorityTasks.cancel();
         }
 
-        ScheduledFuture<?> localMediumPriorityTasks = mediumPriorityTasks;
+        RefreshJob localMediumPriorityTasks = mediumPriorityTasks;
         if (localMediumPriorityTasks != null) {
             logger.debug("Medium prioriy tasks will not be run anymore !");
-            localMediumPriorityTasks.cancel(true);
+            localMediumPriorityTasks.cancel();
         }
     }
 
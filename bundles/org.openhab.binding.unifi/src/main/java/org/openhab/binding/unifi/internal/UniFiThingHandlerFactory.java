@@ -14,6 +14,7 @@ package org.openhab.binding.unifi.internal;
 
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
@@ -24,6 +25,8 @@ import org.eclipse.smarthome.io.net.http.HttpClientFactory;
 import org.eclipse.smarthome.io.net.http.HttpClientInitializationException;
 import org.openhab.binding.unifi.internal.handler.UniFiClientThingHandler;
 import org.openhab.binding.unifi.internal.handler.UniFiControllerThingHandler;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 
@@ -38,6 +41,9 @@ public class UniFiThingHandlerFactory extends BaseThingHandlerFactory {
 
     private HttpClient httpClient;
 
+    private final RefreshScheduler refreshScheduler = new RefreshScheduler("unifi",
+            ThreadPoolManager.getScheduledPool("thingHandler"), 2);
+
     public UniFiThingHandlerFactory() {
         // [wip] mgb: temporary work around until ssl issues are sorted
         httpClient = new HttpClient(new SslContextFactory(true));
@@ -58,13 +64,19 @@ public class UniFiThingHandlerFactory extends BaseThingHandlerFactory {
     protected ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (UniFiControllerThingHandler.supportsThingType(thingTypeUID)) {
-            return new UniFiControllerThingHandler((Bridge) thing, httpClient);
+            return new UniFiControllerThingHandler((Bridge) thing, httpClient, refreshScheduler);
         } else if (UniFiClientThingHandler.supportsThingType(thingTypeUID)) {
             return new UniFiClientThingHandler(thing);
         }
         return null;
     }
 
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        refreshScheduler.dispose();
+        super.deactivate(componentContext);
+    }
+
     // @Reference // [wip] mgb: disabled due to missing common name attributes with certs
     public void setHttpClientFactory(HttpClientFactory httpClientFactory) {
         this.httpClient = httpClientFactory.getCommonHttpClient();
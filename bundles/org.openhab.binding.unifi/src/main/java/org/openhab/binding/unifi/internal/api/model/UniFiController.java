@@ -12,7 +12,13 @@
  */
 package org.openhab.binding.unifi.internal.api.model;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -31,6 +37,8 @@ import org.openhab.binding.unifi.internal.api.util.UniFiSiteInstanceCreator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -39,6 +47,10 @@ import com.google.gson.GsonBuilder;
  * The {@link UniFiController} is the main communication point with an external instance of the Ubiquiti Networks
  * Controller Software.
  *
+ * All data of a refresh cycle is kept in an immutable {@link Snapshot} that is replaced as a whole once the refresh
+ * has completed, so lookups never block on a running refresh. The snapshot also records which clients changed
+ * compared to the previous one.
+ *
  * @author Matthew Bowman - Initial contribution
  * @author Patrik Wimnell - Blocking / Unblocking client support
  */
@@ -47,13 +59,66 @@ public class UniFiController {
 
     private final Logger logger = LoggerFactory.getLogger(UniFiController.class);
 
-    private UniFiSiteCache sitesCache = new UniFiSiteCache();
+    /* client fields that change with every refresh and are therefore not part of a client's fingerprint */
+    private static final Set<String> VOLATILE_CLIENT_FIELDS = new HashSet<>(
+            Arrays.asList("uptime", "lastSeen", "rssi"));
+
+    private static final ExclusionStrategy VOLATILE_CLIENT_FIELDS_STRATEGY = new ExclusionStrategy() {
+        @Override
+        public boolean shouldSkipField(@Nullable FieldAttributes field) {
+            return field != null && UniFiClient.class.isAssignableFrom(field.getDeclaringClass())
+                    && VOLATILE_CLIENT_FIELDS.contains(field.getName());
+        }
+
+        @Override
+        public boolean shouldSkipClass(@Nullable Class<?> clazz) {
+            return false;
+        }
+    };
+
+    /**
+     * The result of a single refresh cycle. Instances are never modified after they have been published.
+     */
+    private static class Snapshot {
+
+        private final UniFiSiteCache sitesCache;
+
+        private final UniFiDeviceCache devicesCache;
+
+        private final UniFiClientCache clientsCache;
 
-    private UniFiDeviceCache devicesCache = new UniFiDeviceCache();
+        private final UniFiClientCache insightsCache;
+
+        /* content fingerprints of all known clients by MAC address */
+        private final Map<String, Integer> clientFingerprints;
+
+        /* MAC addresses of the clients that are new or changed compared to the previous snapshot */
+        private final Set<String> changedClients;
+
+        /* true if any site or device changed, which affects all clients */
+        private final boolean topologyChanged;
+
+        private Snapshot() {
+            this(new UniFiSiteCache(), new UniFiDeviceCache(), new UniFiClientCache(), new UniFiClientCache(),
+                    Collections.emptyMap(), Collections.emptySet(), true);
+        }
+
+        private Snapshot(UniFiSiteCache sitesCache, UniFiDeviceCache devicesCache, UniFiClientCache clientsCache,
+                UniFiClientCache insightsCache, Map<String, Integer> clientFingerprints, Set<String> changedClients,
+                boolean topologyChanged) {
+            this.sitesCache = sitesCache;
+            this.devicesCache = devicesCache;
+            this.clientsCache = clientsCache;
+            this.insightsCache = insightsCache;
+            this.clientFingerprints = clientFingerprints;
+            this.changedClients = changedClients;
+            this.topologyChanged = topologyChanged;
+        }
+    }
 
-    private UniFiClientCache clientsCache = new UniFiClientCache();
+    private volatile Snapshot snapshot = new Snapshot();
 
-    private UniFiClientCache insightsCache = new UniFiClientCache();
+    private int topologyFingerprint;
 
     private final HttpClient httpClient;
 
@@ -67,6 +132,8 @@ public class UniFiController {
 
     private final Gson gson;
 
+    private final Gson fingerprintGson;
+
     public UniFiController(HttpClient httpClient, String host, int port, String username, String password) {
         this.httpClient = httpClient;
         this.host = host;
@@ -76,13 +143,15 @@ public class UniFiController {
         UniFiSiteInstanceCreator siteInstanceCreator = new UniFiSiteInstanceCreator(this);
         UniFiDeviceInstanceCreator deviceInstanceCreator = new UniFiDeviceInstanceCreator(this);
         UniFiClientInstanceCreator clientInstanceCreator = new UniFiClientInstanceCreator(this);
-        this.gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        GsonBuilder gsonBuilder = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
                 .registerTypeAdapter(UniFiSite.class, siteInstanceCreator)
                 .registerTypeAdapter(UniFiDevice.class, deviceInstanceCreator)
                 .registerTypeAdapter(UniFiClient.class, new UniFiClientDeserializer())
                 .registerTypeAdapter(UniFiUnknownClient.class, clientInstanceCreator)
                 .registerTypeAdapter(UniFiWiredClient.class, clientInstanceCreator)
-                .registerTypeAdapter(UniFiWirelessClient.class, clientInstanceCreator).create();
+                .registerTypeAdapter(UniFiWirelessClient.class, clientInstanceCreator);
+        this.gson = gsonBuilder.create();
+        this.fingerprintGson = gsonBuilder.setExclusionStrategies(VOLATILE_CLIENT_FIELDS_STRATEGY).create();
     }
 
     // Public API
@@ -113,22 +182,54 @@ public class UniFiController {
     }
 
     public void refresh() throws UniFiException {
+        // readers don't lock and keep using the previous snapshot until the new one has been published
         synchronized (this) {
-            sitesCache = getSites();
-            devicesCache = getDevices();
-            clientsCache = getClients();
-            insightsCache = getInsights();
+            Snapshot previous = snapshot;
+            UniFiSiteCache sitesCache = getSites();
+            Collection<UniFiSite> sites = sitesCache.values();
+            UniFiDeviceCache devicesCache = getDevices(sites);
+            UniFiClientCache clientsCache = getClients(sites);
+            UniFiClientCache insightsCache = getInsights(sites);
+
+            Map<String, Integer> fingerprints = new HashMap<>();
+            addFingerprints(fingerprints, clientsCache);
+            addFingerprints(fingerprints, insightsCache);
+            Set<String> changed = new HashSet<>();
+            for (Map.Entry<String, Integer> entry : fingerprints.entrySet()) {
+                if (!entry.getValue().equals(previous.clientFingerprints.get(entry.getKey()))) {
+                    changed.add(entry.getKey());
+                }
+            }
+            int topology = 31 * fingerprint(sitesCache.values()) + fingerprint(devicesCache.values());
+            boolean topologyChanged = topology != topologyFingerprint;
+            topologyFingerprint = topology;
+            logger.debug("Refreshed UniFi Controller: {} client(s) changed, topology changed = {}", changed.size(),
+                    topologyChanged);
+
+            snapshot = new Snapshot(sitesCache, devicesCache, clientsCache, insightsCache,
+                    Collections.unmodifiableMap(fingerprints), Collections.unmodifiableSet(changed), topologyChanged);
         }
     }
 
+    /**
+     * Checks if a client may have changed during the last {@link #refresh()}. This is the case if the client itself
+     * is new or changed, or if any site or device changed. The uptime, last seen time and signal strength of a client
+     * change with every refresh and are not considered.
+     *
+     * @param client the client to check
+     * @return true if the client's channels need to be refreshed
+     */
+    public boolean hasChanged(UniFiClient client) {
+        Snapshot current = snapshot;
+        return current.topologyChanged || client.getMac() == null || current.changedClients.contains(client.getMac());
+    }
+
     // Site API
 
     public @Nullable UniFiSite getSite(@Nullable String id) {
         UniFiSite site = null;
         if (StringUtils.isNotBlank(id)) {
-            synchronized (this) {
-                site = sitesCache.get(id);
-            }
+            site = snapshot.sitesCache.get(id);
             if (site == null) {
                 logger.debug("Could not find a matching site for id = '{}'", id);
             }
@@ -141,9 +242,7 @@ public class UniFiController {
     public @Nullable UniFiDevice getDevice(@Nullable String id) {
         UniFiDevice device = null;
         if (StringUtils.isNotBlank(id)) {
-            synchronized (this) {
-                device = devicesCache.get(id);
-            }
+            device = snapshot.devicesCache.get(id);
             if (device == null) {
                 logger.debug("Could not find a matching device for id = '{}'", id);
             }
@@ -156,12 +255,11 @@ public class UniFiController {
     public @Nullable UniFiClient getClient(@Nullable String id) {
         UniFiClient client = null;
         if (StringUtils.isNotBlank(id)) {
-            synchronized (this) {
-                // mgb: first check active clients and fallback to insights if not found
-                client = clientsCache.get(id);
-                if (client == null) {
-                    client = insightsCache.get(id);
-                }
+            Snapshot current = snapshot;
+            // mgb: first check active clients and fallback to insights if not found
+            client = current.clientsCache.get(id);
+            if (client == null) {
+                client = current.insightsCache.get(id);
             }
             if (client == null) {
                 logger.debug("Could not find a matching client for id = {}", id);
@@ -220,9 +318,8 @@ public class UniFiController {
         return cache;
     }
 
-    private UniFiDeviceCache getDevices() throws UniFiException {
+    private UniFiDeviceCache getDevices(Collection<UniFiSite> sites) throws UniFiException {
         UniFiDeviceCache cache = new UniFiDeviceCache();
-        Collection<UniFiSite> sites = sitesCache.values();
         for (UniFiSite site : sites) {
             cache.putAll(getDevices(site));
         }
@@ -243,9 +340,8 @@ public class UniFiController {
         return cache;
     }
 
-    private UniFiClientCache getClients() throws UniFiException {
+    private UniFiClientCache getClients(Collection<UniFiSite> sites) throws UniFiException {
         UniFiClientCache cache = new UniFiClientCache();
-        Collection<UniFiSite> sites = sitesCache.values();
         for (UniFiSite site : sites) {
             cache.putAll(getClients(site));
         }
@@ -266,9 +362,8 @@ public class UniFiController {
         return cache;
     }
 
-    private UniFiClientCache getInsights() throws UniFiException {
+    private UniFiClientCache getInsights(Collection<UniFiSite> sites) throws UniFiException {
         UniFiClientCache cache = new UniFiClientCache();
-        Collection<UniFiSite> sites = sitesCache.values();
         for (UniFiSite site : sites) {
             cache.putAll(getInsights(site));
         }
@@ -290,6 +385,25 @@ public class UniFiController {
         return cache;
     }
 
+    private void addFingerprints(Map<String, Integer> fingerprints, UniFiClientCache cache) {
+        for (UniFiClient client : cache.values()) {
+            String mac = client.getMac();
+            // active clients take precedence over insights, same as in getClient()
+            if (mac != null && !fingerprints.containsKey(mac)) {
+                fingerprints.put(mac, fingerprintGson.toJson(client).hashCode());
+            }
+        }
+    }
+
+    private int fingerprint(Collection<?> entities) {
+        int result = 0;
+        for (Object entity : entities) {
+            // order independent, the caches don't guarantee any iteration order
+            result += fingerprintGson.toJson(entity).hashCode();
+        }
+        return result;
+    }
+
     private static Object lazyFormatAsList(Object[] arr) {
         return new Object() {
 
@@ -112,7 +112,7 @@ public abstract class UniFiBaseThingHandler<E, C> extends BaseThingHandler {
             UniFiController controller = getController();
             if (controller != null) {
                 E entity = getEntity(controller);
-                if (entity != null) {
+                if (entity != null && isRefreshRequired(controller, entity)) {
                     for (Channel channel : getThing().getChannels()) {
                         ChannelUID channelUID = channel.getUID();
                         refreshChannel(entity, channelUID);
@@ -122,6 +122,18 @@ public abstract class UniFiBaseThingHandler<E, C> extends BaseThingHandler {
         }
     }
 
+    /**
+     * Checks if the channels of this thing need to be refreshed after the controller has been refreshed. Things
+     * override this to skip the channel updates if their entity didn't change.
+     *
+     * @param controller the controller which was refreshed
+     * @param entity the entity of this thing
+     * @return true if all channels shall be refreshed
+     */
+    protected boolean isRefreshRequired(UniFiController controller, E entity) {
+        return true;
+    }
+
     protected abstract void initialize(@NonNull C config);
 
     protected abstract @Nullable E getEntity(UniFiController controller);
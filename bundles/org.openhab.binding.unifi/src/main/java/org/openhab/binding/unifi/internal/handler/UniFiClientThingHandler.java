@@ -61,6 +61,9 @@ public class UniFiClientThingHandler extends UniFiBaseThingHandler<UniFiClient,
 
     private UniFiClientThingConfig config = new UniFiClientThingConfig();
 
+    /* home state determined by the last channel refresh, null if the channels were never refreshed */
+    private volatile @Nullable Boolean lastClientHome;
+
     public UniFiClientThingHandler(Thing thing) {
         super(thing);
     }
@@ -76,6 +79,7 @@ public class UniFiClientThingHandler extends UniFiBaseThingHandler<UniFiClient,
                 return;
             }
             this.config = config;
+            lastClientHome = null;
             updateStatus(ONLINE);
         }
     }
@@ -103,6 +107,14 @@ public class UniFiClientThingHandler extends UniFiBaseThingHandler<UniFiClient,
         return client;
     }
 
+    @Override
+    protected boolean isRefreshRequired(UniFiController controller, UniFiClient client) {
+        // a client that was home last time must be re-evaluated even if unchanged, as it's considered away once its
+        // last seen time is older than the configured considerHome interval. The last seen time is not part of the
+        // change detection, so a client that was away is checked for coming home as well.
+        return controller.hasChanged(client) || !Boolean.FALSE.equals(lastClientHome) || isClientHome(client);
+    }
+
     private State getDefaultState(String channelID, boolean clientHome) {
         State state = UnDefType.NULL;
         switch (channelID) {
@@ -150,6 +162,7 @@ public class UniFiClientThingHandler extends UniFiBaseThingHandler<UniFiClient,
     @Override
     protected void refreshChannel(UniFiClient client, ChannelUID channelUID) {
         boolean clientHome = isClientHome(client);
+        lastClientHome = clientHome;
         UniFiDevice device = client.getDevice();
         UniFiSite site = (device == null ? null : device.getSite());
         String channelID = channelUID.getIdWithoutGroup();
@@ -16,7 +16,6 @@ import static org.eclipse.smarthome.core.thing.ThingStatus.OFFLINE;
 import static org.eclipse.smarthome.core.thing.ThingStatus.ONLINE;
 import static org.eclipse.smarthome.core.thing.ThingStatusDetail.*;
 
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -39,6 +38,8 @@ import org.openhab.binding.unifi.internal.api.UniFiInvalidCredentialsException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidHostException;
 import org.openhab.binding.unifi.internal.api.UniFiSSLException;
 import org.openhab.binding.unifi.internal.api.model.UniFiController;
+import org.openhab.io.refreshscheduler.RefreshJob;
+import org.openhab.io.refreshscheduler.RefreshScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,13 +70,16 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
 
     private @Nullable volatile UniFiController controller; /* mgb: volatile because accessed from multiple threads */
 
-    private @Nullable ScheduledFuture<?> refreshJob;
+    private @Nullable RefreshJob refreshJob;
 
     private final HttpClient httpClient;
 
-    public UniFiControllerThingHandler(Bridge bridge, HttpClient httpClient) {
+    private final RefreshScheduler refreshScheduler;
+
+    public UniFiControllerThingHandler(Bridge bridge, HttpClient httpClient, RefreshScheduler refreshScheduler) {
         super(bridge);
         this.httpClient = httpClient;
+        this.refreshScheduler = refreshScheduler;
     }
 
     // Public API
@@ -153,7 +157,7 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         synchronized (this) {
             if (refreshJob == null) {
                 logger.debug("Scheduling refresh job every {}s", config.getRefresh());
-                refreshJob = scheduler.scheduleWithFixedDelay(this::run, 0, config.getRefresh(), TimeUnit.SECONDS);
+                refreshJob = refreshScheduler.schedule(this::run, 0, config.getRefresh(), TimeUnit.SECONDS);
             }
         }
     }
@@ -162,7 +166,7 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         synchronized (this) {
             if (refreshJob != null) {
                 logger.debug("Cancelling refresh job");
-                refreshJob.cancel(true);
+                refreshJob.cancel();
                 refreshJob = null;
             }
         }
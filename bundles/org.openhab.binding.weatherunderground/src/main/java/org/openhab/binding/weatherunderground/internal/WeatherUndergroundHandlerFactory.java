@@ -32,9 +32,11 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
+import org.eclipse.smarthome.io.net.http.HttpClientFactory;
 import org.openhab.binding.weatherunderground.internal.discovery.WeatherUndergroundDiscoveryService;
 import org.openhab.binding.weatherunderground.internal.handler.WeatherUndergroundBridgeHandler;
 import org.openhab.binding.weatherunderground.internal.handler.WeatherUndergroundHandler;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -55,6 +57,7 @@ public class WeatherUndergroundHandlerFactory extends BaseThingHandlerFactory {
     private LocaleProvider localeProvider;
     private LocationProvider locationProvider;
     private UnitProvider unitProvider;
+    private HttpFetcher httpFetcher;
 
     @Reference
     protected void setLocaleProvider(final LocaleProvider localeProvider) {
@@ -83,6 +86,15 @@ public class WeatherUndergroundHandlerFactory extends BaseThingHandlerFactory {
         this.unitProvider = null;
     }
 
+    @Reference
+    protected void setHttpClientFactory(final HttpClientFactory httpClientFactory) {
+        this.httpFetcher = new HttpFetcher(httpClientFactory.getCommonHttpClient());
+    }
+
+    protected void unsetHttpClientFactory(final HttpClientFactory httpClientFactory) {
+        this.httpFetcher = null;
+    }
+
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
             .of(BRIDGE_THING_TYPES_UIDS, WeatherUndergroundBindingConstants.SUPPORTED_THING_TYPES_UIDS)
             .flatMap(x -> x.stream()).collect(Collectors.toSet());
@@ -97,7 +109,7 @@ public class WeatherUndergroundHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_TYPE_WEATHER)) {
-            return new WeatherUndergroundHandler(thing, localeProvider, unitProvider);
+            return new WeatherUndergroundHandler(thing, localeProvider, unitProvider, httpFetcher);
         }
 
         if (thingTypeUID.equals(THING_TYPE_BRIDGE)) {
@@ -59,6 +59,8 @@ import org.openhab.binding.weatherunderground.internal.json.WeatherUndergroundJs
 import org.openhab.binding.weatherunderground.internal.json.WeatherUndergroundJsonData;
 import org.openhab.binding.weatherunderground.internal.json.WeatherUndergroundJsonForecast;
 import org.openhab.binding.weatherunderground.internal.json.WeatherUndergroundJsonForecastDay;
+import org.openhab.io.httpfetcher.HttpFetchResult;
+import org.openhab.io.httpfetcher.HttpFetcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -178,6 +180,7 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
 
     private final LocaleProvider localeProvider;
     private final UnitProvider unitProvider;
+    private final HttpFetcher httpFetcher;
     private final Gson gson;
     private final Map<String, Integer> forecastMap;
     @Nullable
@@ -187,10 +190,12 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
     @Nullable
     private WeatherUndergroundBridgeHandler bridgeHandler;
 
-    public WeatherUndergroundHandler(Thing thing, LocaleProvider localeProvider, UnitProvider unitProvider) {
+    public WeatherUndergroundHandler(Thing thing, LocaleProvider localeProvider, UnitProvider unitProvider,
+            HttpFetcher httpFetcher) {
         super(thing);
         this.localeProvider = localeProvider;
         this.unitProvider = unitProvider;
+        this.httpFetcher = httpFetcher;
         gson = new Gson();
         forecastMap = initForecastDayMap();
     }
@@ -278,7 +283,12 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
                 public void run() {
                     try {
                         // Request new weather data to the Weather Underground service
-                        updateWeatherData(USUAL_FEATURES);
+                        WeatherUndergroundJsonData previousWeatherData = weatherData;
+                        if (updateWeatherData(USUAL_FEATURES) && weatherData == previousWeatherData) {
+                            // An unchanged response is mapped only once, the channels are up to date
+                            logger.debug("Weather data of thing {} has not changed", getThing().getUID());
+                            return;
+                        }
 
                         // Update all channels from the updated weather data
                         for (Channel channel : getThing().getChannels()) {
@@ -304,6 +314,7 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
             refreshJob.cancel(true);
             refreshJob = null;
         }
+        weatherData = null;
     }
 
     @Override
@@ -316,6 +327,12 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
         }
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // unchanged data does not update the channels, so a newly linked channel is updated from the latest data
+        updateChannel(channelUID.getId());
+    }
+
     /**
      * Update the channel from the last Weather Underground data retrieved
      *
@@ -556,10 +573,10 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
             logger.debug("URL = {}", urlStr);
 
             // Run the HTTP request and get the JSON response from Weather Underground
-            String response = null;
+            HttpFetchResult response = null;
             try {
-                response = HttpUtil.executeUrl("GET", urlStr, WeatherUndergroundBridgeHandler.FETCH_TIMEOUT_MS);
-                logger.debug("weatherData = {}", response);
+                response = httpFetcher.fetch(urlStr, WeatherUndergroundBridgeHandler.FETCH_TIMEOUT_MS);
+                logger.debug("weatherData = {}", response.getContent());
             } catch (IllegalArgumentException e) {
                 // catch Illegal character in path at index XX: http://api.wunderground.com/...
                 error = "Error creating URI with location parameter: '" + StringUtils.trimToEmpty(config.location)
@@ -568,8 +585,10 @@ public class WeatherUndergroundHandler extends BaseThingHandler {
                 statusDescr = "@text/offline.uri-error";
             }
 
-            // Map the JSON response to an object
-            result = gson.fromJson(response, WeatherUndergroundJsonData.class);
+            // Map the JSON response to an object, an unchanged response is mapped only once
+            result = response == null ? null
+                    : response.getContentAs(WeatherUndergroundJsonData.class,
+                            content -> gson.fromJson(content, WeatherUndergroundJsonData.class));
             if (result.getResponse() == null) {
                 errorDetail = "missing response sub-object";
             } else if (result.getResponse().getErrorDescription() != null) {
@@ -37,4 +37,12 @@ public interface Homekit {
      * @param allow boolean indicating whether or not to allow unauthenticated requests
      */
     void allowUnauthenticatedRequests(boolean allow);
+
+    /**
+     * Returns statistics about the characteristic change notifications sent to HomeKit clients, i.e. the number of
+     * item changes, the number of notifications and the delay introduced by coalescing them.
+     *
+     * @return human readable notification statistics
+     */
+    String getNotificationStatistics();
 }
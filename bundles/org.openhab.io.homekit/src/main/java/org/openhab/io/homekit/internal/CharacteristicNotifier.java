@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.hapjava.HomekitCharacteristicChangeCallback;
+
+/**
+ * Coalesces characteristic change notifications before they are sent to the Homekit clients.
+ *
+ * Changes are collected per accessory. An accessory which has not been notified within the notification interval is
+ * notified right away, otherwise its pending changes are delayed until the interval has passed. Multiple changes of
+ * the same characteristic are folded into one notification; as the callback reads the current item state, superseded
+ * intermediate values are never sent. All pending characteristics of an accessory are notified together.
+ *
+ * @author agent - Initial contribution
+ */
+class CharacteristicNotifier {
+
+    private final Logger logger = LoggerFactory.getLogger(CharacteristicNotifier.class);
+
+    private final ScheduledExecutorService scheduler;
+    private volatile long intervalMs;
+
+    /** Guarded by this */
+    private final Map<Object, PendingAccessory> accessories = new HashMap<>();
+
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong totalLatencyMs = new AtomicLong();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+
+    private static class PendingAccessory {
+        private final Map<Object, HomekitCharacteristicChangeCallback> pending = new LinkedHashMap<>();
+        private long firstChange;
+        private long lastFlush;
+        private boolean scheduled;
+    }
+
+    /**
+     * @param scheduler The scheduler used for delayed notifications
+     * @param interval The minimum time between two notifications of the same accessory; notifications are sent
+     *            synchronously if zero
+     */
+    CharacteristicNotifier(ScheduledExecutorService scheduler, Duration interval) {
+        this.scheduler = scheduler;
+        this.intervalMs = interval.toMillis();
+    }
+
+    void setInterval(Duration interval) {
+        this.intervalMs = interval.toMillis();
+    }
+
+    /**
+     * Registers a change of a characteristic
+     *
+     * @param accessoryKey identifies the accessory the characteristic belongs to
+     * @param characteristicKey identifies the characteristic
+     * @param callback the callback notifying the Homekit clients
+     */
+    void changed(Object accessoryKey, Object characteristicKey, HomekitCharacteristicChangeCallback callback) {
+        changes.incrementAndGet();
+        long interval = intervalMs;
+        if (interval <= 0) {
+            flushes.incrementAndGet();
+            notify(callback);
+            return;
+        }
+
+        long delay;
+        synchronized (this) {
+            PendingAccessory accessory = accessories.computeIfAbsent(accessoryKey, k -> new PendingAccessory());
+            accessory.pending.put(characteristicKey, callback);
+            if (accessory.scheduled) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            accessory.scheduled = true;
+            accessory.firstChange = now;
+            delay = Math.max(0, accessory.lastFlush + interval - now);
+        }
+        scheduler.schedule(() -> flush(accessoryKey), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops pending notifications of a characteristic which is no longer subscribed
+     *
+     * @param characteristicKey identifies the characteristic
+     */
+    synchronized void remove(Object characteristicKey) {
+        Iterator<PendingAccessory> iterator = accessories.values().iterator();
+        while (iterator.hasNext()) {
+            PendingAccessory accessory = iterator.next();
+            accessory.pending.remove(characteristicKey);
+            if (accessory.pending.isEmpty() && !accessory.scheduled) {
+                iterator.remove();
+            }
+        }
+    }
+
+    String getStatistics() {
+        long flushCount = flushes.get();
+        return String.format("%d changes, %d notifications in %d batches, latency avg %d ms, max %d ms",
+                changes.get(), notifications.get(), flushCount,
+                flushCount > 0 ? totalLatencyMs.get() / flushCount : 0, maxLatencyMs.get());
+    }
+
+    private void flush(Object accessoryKey) {
+        List<HomekitCharacteristicChangeCallback> callbacks;
+        long latency;
+        synchronized (this) {
+            PendingAccessory accessory = accessories.get(accessoryKey);
+            if (accessory == null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            callbacks = new ArrayList<>(accessory.pending.values());
+            accessory.pending.clear();
+            accessory.scheduled = false;
+            accessory.lastFlush = now;
+            latency = now - accessory.firstChange;
+        }
+        if (callbacks.isEmpty()) {
+            return;
+        }
+
+        flushes.incrementAndGet();
+        totalLatencyMs.addAndGet(latency);
+        maxLatencyMs.accumulateAndGet(latency, Math::max);
+        logger.trace("Notifying {} characteristics of accessory {} after {} ms", callbacks.size(), accessoryKey,
+                latency);
+        callbacks.forEach(this::notify);
+    }
+
+    private void notify(HomekitCharacteristicChangeCallback callback) {
+        notifications.incrementAndGet();
+        try {
+            callback.changed();
+        } catch (Exception e) {
+            logger.warn("Notifying Homekit clients failed: {}", e.getMessage());
+        }
+    }
+}
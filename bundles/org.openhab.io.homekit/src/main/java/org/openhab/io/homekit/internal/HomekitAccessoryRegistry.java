@@ -12,6 +12,7 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -37,6 +38,7 @@ class HomekitAccessoryRegistry {
     private @Nullable HomekitRoot bridge;
     private final Map<String, HomekitAccessory> createdAccessories = new HashMap<>();
     private final Set<Integer> createdIds = new HashSet<>();
+    private int configurationRevision = 1;
 
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryRegistry.class);
 
@@ -52,6 +54,46 @@ class HomekitAccessoryRegistry {
         }
     }
 
+    /**
+     * Swaps the accessory registered for the given item with a rebuilt one of the same shape. The accessory id is
+     * derived from the item name, so paired controllers keep referring to the same accessory.
+     */
+    public synchronized void replace(String itemName, HomekitAccessory accessory) {
+        HomekitAccessory oldAccessory = createdAccessories.put(itemName, accessory);
+        if (bridge != null) {
+            if (oldAccessory != null) {
+                bridge.removeAccessory(oldAccessory);
+            }
+            bridge.addAccessory(accessory);
+        }
+        createdIds.add(accessory.getId());
+        logger.debug("Replaced accessory {}", accessory.getId());
+    }
+
+    public synchronized int getConfigurationRevision() {
+        return configurationRevision;
+    }
+
+    /**
+     * Sets the configuration number advertised by the bridge. Controllers only reload the accessory database when
+     * this number changes.
+     */
+    public synchronized void setConfigurationRevision(int configurationRevision) {
+        this.configurationRevision = configurationRevision;
+        publishConfigurationRevision();
+    }
+
+    private void publishConfigurationRevision() {
+        final HomekitRoot bridge = this.bridge;
+        if (bridge != null) {
+            try {
+                bridge.setConfigurationIndex(configurationRevision);
+            } catch (IOException e) {
+                logger.warn("Could not update configuration revision: {}", e.getMessage());
+            }
+        }
+    }
+
     public synchronized void clear() {
         Iterator<Entry<String, HomekitAccessory>> iter = createdAccessories.entrySet().iterator();
         while (iter.hasNext()) {
@@ -69,6 +111,7 @@ class HomekitAccessoryRegistry {
     public synchronized void setBridge(HomekitRoot bridge) {
         this.bridge = bridge;
         createdAccessories.values().forEach(accessory -> bridge.addAccessory(accessory));
+        publishConfigurationRevision();
     }
 
     public synchronized void unsetBridge() {
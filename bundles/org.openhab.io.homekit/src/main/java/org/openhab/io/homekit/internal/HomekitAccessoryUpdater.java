@@ -12,9 +12,11 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.StateChangeListener;
@@ -30,11 +32,54 @@ import io.github.hapjava.HomekitCharacteristicChangeCallback;
  * Homekit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Changes are not forwarded to the Homekit clients directly, but coalesced per accessory by a
+ * {@link CharacteristicNotifier}. Accessories use their own view of the updater, see {@link #forAccessory(int)}, so
+ * that changes of all their characteristics are notified together.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
-    private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName;
+    private final CharacteristicNotifier notifier;
+    private final Integer accessoryId;
+
+    public HomekitAccessoryUpdater() {
+        this.subscriptionsByName = new ConcurrentHashMap<>();
+        this.notifier = new CharacteristicNotifier(
+                ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON),
+                Duration.ofMillis(new HomekitSettings().notificationInterval));
+        this.accessoryId = null;
+    }
+
+    private HomekitAccessoryUpdater(HomekitAccessoryUpdater parent, int accessoryId) {
+        this.subscriptionsByName = parent.subscriptionsByName;
+        this.notifier = parent.notifier;
+        this.accessoryId = accessoryId;
+    }
+
+    /**
+     * Returns a view of this updater which notifies the changes of all subscriptions as changes of the given accessory.
+     *
+     * @param accessoryId The id of the accessory
+     * @return The updater to be used by the accessory
+     */
+    public HomekitAccessoryUpdater forAccessory(int accessoryId) {
+        return new HomekitAccessoryUpdater(this, accessoryId);
+    }
+
+    /**
+     * Sets the minimum time between two notifications of the same accessory
+     *
+     * @param interval The notification interval, zero to notify every change immediately
+     */
+    public void setNotificationInterval(Duration interval) {
+        notifier.setInterval(interval);
+    }
+
+    public String getNotificationStatistics() {
+        return notifier.getStatistics();
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -56,7 +101,9 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.debug("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Object accessoryKey = accessoryId != null ? accessoryId : itemKey;
+            Subscription subscription = (changedItem, oldState, newState) -> notifier.changed(accessoryKey, itemKey,
+                    callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -70,11 +117,13 @@ public class HomekitAccessoryUpdater {
         if (item == null) {
             return;
         }
-        subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
+        ItemKey itemKey = new ItemKey(item, key);
+        subscriptionsByName.computeIfPresent(itemKey, (k, v) -> {
             logger.debug("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
             return null;
         });
+        notifier.remove(itemKey);
     }
 
     @FunctionalInterface
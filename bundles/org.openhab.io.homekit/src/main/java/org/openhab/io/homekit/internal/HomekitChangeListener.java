@@ -15,39 +15,60 @@ package org.openhab.io.homekit.internal;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.items.ItemRegistryChangeListener;
+import org.eclipse.smarthome.core.storage.Storage;
 import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
 import org.openhab.io.homekit.internal.accessories.IncompleteAccessoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.hapjava.HomekitAccessory;
 import io.github.hapjava.HomekitRoot;
 
 /**
  * Listens for changes to the item registry. When changes are detected, check
  * for Homekit tags and, if present, add the items to the HomekitAccessoryRegistry.
  *
+ * The listener keeps an index of the accessory groups and of the shape of every published accessory, so a change only
+ * rebuilds the accessories it touches and the bridge configuration number is only bumped when the shape of an
+ * accessory (its items, their types and tags) actually changed.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitChangeListener implements ItemRegistryChangeListener {
+    private static final String CONFIG_REVISION_KEY = "configurationRevision";
+    private static final String CONFIG_HASH_KEY = "configurationHash";
+
     private final Logger logger = LoggerFactory.getLogger(HomekitChangeListener.class);
     private final ItemRegistry itemRegistry;
+    private final Storage<String> storage;
     private final HomekitAccessoryRegistry accessoryRegistry = new HomekitAccessoryRegistry();
     private HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
     private HomekitSettings settings;
 
     private Set<String> pendingUpdates = new HashSet<String>();
 
+    /** Names of the group items tagged as an accessory, used to find the accessories affected by a member change */
+    private final Set<String> accessoryGroups = new HashSet<>();
+
+    /** Shape of every published root accessory, keyed by item name */
+    private final Map<String, String> accessoryShapes = new HashMap<>();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -61,21 +82,43 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      */
     private final Debouncer applyUpdatesDebouncer;
 
-    HomekitChangeListener(ItemRegistry itemRegistry, HomekitSettings settings) {
+    HomekitChangeListener(ItemRegistry itemRegistry, HomekitSettings settings, Storage<String> storage) {
         this.itemRegistry = itemRegistry;
         this.settings = settings;
+        this.storage = storage;
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices", scheduler, Duration.ofMillis(1000),
                 Clock.systemUTC(), this::applyUpdates);
+        this.updater.setNotificationInterval(Duration.ofMillis(settings.notificationInterval));
 
         itemRegistry.addRegistryChangeListener(this);
-        itemRegistry.getAll().stream().map(item -> new HomekitTaggedItem(item, itemRegistry))
+        initialize();
+    }
+
+    private synchronized void initialize() {
+        Collection<Item> items = itemRegistry.getAll();
+        items.forEach(this::index);
+        items.stream().map(item -> new HomekitTaggedItem(item, itemRegistry))
                 .filter(taggedItem -> taggedItem.isAccessory())
                 .filter(taggedItem -> !taggedItem.isMemberOfAccessoryGroup())
                 .forEach(rootTaggedItem -> createRootAccessory(rootTaggedItem));
+
+        /*
+         * Restore the configuration number of the last run, and only bump it if the set of accessories changed while
+         * we were not running.
+         */
+        int revision = parseRevision(storage.get(CONFIG_REVISION_KEY));
+        String hash = Integer.toHexString(new TreeMap<>(accessoryShapes).hashCode());
+        if (!hash.equals(storage.get(CONFIG_HASH_KEY))) {
+            revision = nextRevision(revision);
+            storage.put(CONFIG_REVISION_KEY, Integer.toString(revision));
+            storage.put(CONFIG_HASH_KEY, hash);
+        }
+        accessoryRegistry.setConfigurationRevision(revision);
     }
 
     @Override
     public synchronized void added(Item item) {
+        index(item);
         markDirty(item);
     }
 
@@ -93,11 +136,13 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private synchronized void markDirty(Item item) {
         pendingUpdates.add(item.getName());
         /*
-         * If findMyAccessoryGroups fails because the accessory group has already been deleted, then we can count on a
-         * later update telling us that the accessory group was removed.
+         * If the accessory group has already been deleted, then we can count on a later update telling us that the
+         * accessory group was removed.
          */
-        for (Item accessoryGroup : HomekitTaggedItem.findMyAccessoryGroups(item, itemRegistry)) {
-            pendingUpdates.add(accessoryGroup.getName());
+        for (String groupName : item.getGroupNames()) {
+            if (accessoryGroups.contains(groupName)) {
+                pendingUpdates.add(groupName);
+            }
         }
 
         applyUpdatesDebouncer.call();
@@ -105,9 +150,18 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     @Override
     public synchronized void removed(Item item) {
+        accessoryGroups.remove(item.getName());
         markDirty(item);
     }
 
+    private void index(Item item) {
+        if (item instanceof GroupItem && HomekitAccessoryType.fromItem(item) != null) {
+            accessoryGroups.add(item.getName());
+        } else {
+            accessoryGroups.remove(item.getName());
+        }
+    }
+
     private Optional<Item> getItemOptional(String name) {
         try {
             return Optional.of(itemRegistry.getItem(name));
@@ -117,26 +171,56 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     private synchronized void applyUpdates() {
-        Iterator<String> iter = pendingUpdates.iterator();
+        boolean shapeChanged = false;
+
+        for (String name : pendingUpdates) {
+            String oldShape = accessoryShapes.remove(name);
+            Optional<HomekitTaggedItem> rootItem = getItemOptional(name)
+                    .map(i -> new HomekitTaggedItem(i, itemRegistry))
+                    .filter(i -> i.isAccessory() && !i.isMemberOfAccessoryGroup());
+            HomekitAccessory accessory = rootItem.map(this::createAccessory).orElse(null);
 
-        while (iter.hasNext()) {
-            String name = iter.next();
-            accessoryRegistry.remove(name);
+            if (accessory == null) {
+                if (oldShape != null) {
+                    accessoryRegistry.remove(name);
+                    shapeChanged = true;
+                }
+                continue;
+            }
 
-            getItemOptional(name).map(i -> new HomekitTaggedItem(i, itemRegistry))
-                    .filter(i -> i.isAccessory() && !i.isMemberOfAccessoryGroup())
-                    .ifPresent(rootItem -> createRootAccessory(rootItem));
+            String shape = getShape(rootItem.get());
+            accessoryShapes.put(name, shape);
+            if (shape.equals(oldShape)) {
+                // same items, types and tags: swap the accessory without announcing a new configuration
+                accessoryRegistry.replace(name, accessory);
+            } else {
+                accessoryRegistry.remove(name);
+                accessoryRegistry.addRootAccessory(name, accessory);
+                shapeChanged = true;
+            }
+        }
+        pendingUpdates.clear();
+
+        if (shapeChanged) {
+            int revision = nextRevision(accessoryRegistry.getConfigurationRevision());
+            storage.put(CONFIG_REVISION_KEY, Integer.toString(revision));
+            storage.put(CONFIG_HASH_KEY, Integer.toHexString(new TreeMap<>(accessoryShapes).hashCode()));
+            accessoryRegistry.setConfigurationRevision(revision);
+            logger.debug("Accessory configuration changed, new configuration revision is {}", revision);
         }
     }
 
     @Override
-    public void updated(Item oldElement, Item element) {
+    public synchronized void updated(Item oldElement, Item element) {
+        accessoryGroups.remove(oldElement.getName());
+        index(element);
         markDirty(oldElement);
         markDirty(element);
     }
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        accessoryShapes.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -149,10 +233,16 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setNotificationInterval(Duration.ofMillis(settings.notificationInterval));
+    }
+
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
     }
 
     public void updateSettings(HomekitSettings settings) {
         this.settings = settings;
+        updater.setNotificationInterval(Duration.ofMillis(settings.notificationInterval));
     }
 
     public void stop() {
@@ -160,18 +250,60 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     private void createRootAccessory(HomekitTaggedItem taggedItem) {
+        HomekitAccessory accessory = createAccessory(taggedItem);
+        if (accessory != null) {
+            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            accessoryShapes.put(taggedItem.getName(), getShape(taggedItem));
+            logger.debug("Added homekit device {}", taggedItem.getItem().getUID());
+        }
+    }
+
+    private @Nullable HomekitAccessory createAccessory(HomekitTaggedItem taggedItem) {
         try {
             if (taggedItem.isMemberOfAccessoryGroup()) {
                 logger.warn("Bug! Cannot add {} as a root accessory if it is a member of a group! ",
                         taggedItem.getItem().getUID());
-                return;
+                return null;
             }
             logger.debug("Adding homekit device {}", taggedItem.getItem().getUID());
-            accessoryRegistry.addRootAccessory(taggedItem.getName(),
-                    HomekitAccessoryFactory.create(taggedItem, itemRegistry, updater, settings));
-            logger.debug("Added homekit device {}", taggedItem.getItem().getUID());
+            return HomekitAccessoryFactory.create(taggedItem, itemRegistry, updater, settings);
         } catch (HomekitException | IncompleteAccessoryException e) {
             logger.warn("Could not add device {}: {}", taggedItem.getItem().getUID(), e.getMessage());
+            return null;
         }
     }
+
+    /**
+     * Describes what a controller sees of an accessory: the root item and the members of an accessory group, with
+     * their item types and homekit tags. States and labels are not part of the shape.
+     */
+    private static String getShape(HomekitTaggedItem taggedItem) {
+        StringBuilder shape = new StringBuilder();
+        Item item = taggedItem.getItem();
+        appendShape(shape, item);
+        if (item instanceof GroupItem) {
+            ((GroupItem) item).getMembers().stream().sorted(Comparator.comparing(Item::getName))
+                    .forEach(member -> appendShape(shape.append(';'), member));
+        }
+        return shape.toString();
+    }
+
+    private static void appendShape(StringBuilder shape, Item item) {
+        shape.append(item.getName()).append('|').append(item.getType()).append('|')
+                .append(HomekitAccessoryType.fromItem(item)).append('|')
+                .append(HomekitCharacteristicType.fromItem(item));
+    }
+
+    private static int parseRevision(@Nullable String revision) {
+        try {
+            return revision == null ? 1 : Integer.parseInt(revision);
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private static int nextRevision(int revision) {
+        // the configuration number is an unsigned 32 bit value in HAP, but must never be 0
+        return revision >= Integer.MAX_VALUE ? 1 : revision + 1;
+    }
 }
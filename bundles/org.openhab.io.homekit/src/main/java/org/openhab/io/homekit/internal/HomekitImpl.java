@@ -68,7 +68,7 @@ public class HomekitImpl implements Homekit {
         this.storageService = storageService;
         this.networkAddressService = networkAddressService;
         this.settings = processConfig(config);
-        this.changeListener = new HomekitChangeListener(itemRegistry, settings);
+        this.changeListener = new HomekitChangeListener(itemRegistry, settings, storageService.getStorage("homekit"));
         startHomekitServer();
     }
 
@@ -166,4 +166,9 @@ public class HomekitImpl implements Homekit {
             bridge.allowUnauthenticatedRequests(allow);
         }
     }
+
+    @Override
+    public String getNotificationStatistics() {
+        return changeListener.getUpdater().getNotificationStatistics();
+    }
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.httpfetcher;
+
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpStatus;
+import org.openhab.io.httpfetcher.HttpFetcher.CacheEntry;
+
+/**
+ * The response of a {@link HttpFetcher}. A response revalidated with {@code 304 Not Modified} is returned with the
+ * status {@code 200 OK} and the cached content.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HttpFetchResult {
+    private final int status;
+    private final String content;
+    private final @Nullable CacheEntry entry;
+    private final boolean cached;
+
+    HttpFetchResult(int status, String content) {
+        this.status = status;
+        this.content = content;
+        this.entry = null;
+        this.cached = false;
+    }
+
+    HttpFetchResult(CacheEntry entry, boolean cached) {
+        this.status = HttpStatus.OK_200;
+        this.content = entry.content;
+        this.entry = entry;
+        this.cached = cached;
+    }
+
+    /**
+     * Returns the HTTP status of the response.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the body of the response.
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Returns true if the body has not been transferred, because the cached response was still fresh or the server
+     * answered with {@code 304 Not Modified}.
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * Parses the body of a successful response. The parsed object is kept, and as long as the body of the responses
+     * of the URL does not change, the same object is returned for the same type. The object is shared by all callers,
+     * so it must not be modified.
+     *
+     * @param type the type of the parsed object
+     * @param parser a parser for the body, always the same for a type, e.g. {@code json -> gson.fromJson(json, type)}
+     * @return the parsed object
+     */
+    public <T> @Nullable T getContentAs(Class<T> type, Function<String, @Nullable T> parser) {
+        CacheEntry entry = this.entry;
+        if (entry == null) {
+            return parser.apply(content);
+        }
+        Object parsedContent = entry.getParsedContent(type);
+        if (parsedContent == null) {
+            parsedContent = parser.apply(content);
+            if (parsedContent != null) {
+                entry.setParsedContent(type, parsedContent);
+            }
+        }
+        return type.cast(parsedContent);
+    }
+}
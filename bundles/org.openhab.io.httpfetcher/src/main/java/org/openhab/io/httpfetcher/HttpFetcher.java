@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.httpfetcher;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Fetches the resources of web APIs which are polled by bindings, like the data of weather services.
+ * <p>
+ * All requests are sent with the given Jetty client, so the connections to a server are kept open and reused. The
+ * last successful response of every URL is kept in memory:
+ * <ul>
+ * <li>A response is served from memory as long as it is fresh according to its {@code Cache-Control} header, or
+ * as long as it has been received or revalidated within the minimum freshness given by the caller.</li>
+ * <li>A stale response with an {@code ETag} or {@code Last-Modified} header is revalidated with a conditional
+ * request. If nothing has changed, the server answers with {@code 304 Not Modified} and without a body.</li>
+ * <li>Concurrent requests of the same URL, for example of several Things with the same location, share one
+ * request.</li>
+ * <li>Content parsed with {@link HttpFetchResult#getContentAs(Class, java.util.function.Function)} is parsed once
+ * per body. As long as the body does not change, the object parsed before is returned, so a handler can skip the
+ * update of its channels.</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HttpFetcher {
+    private static final int MAX_ENTRIES = 128;
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age\\s*=\\s*\"?(\\d+)");
+
+    private final HttpClient httpClient;
+    private final Map<String, CacheEntry> cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Map<String, CompletableFuture<HttpFetchResult>> pendingRequests = new HashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong sharedCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param httpClient the started client used for all requests, usually the common client of the
+     *            {@link org.eclipse.smarthome.io.net.http.HttpClientFactory}
+     */
+    public HttpFetcher(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Fetches a resource with a GET request.
+     *
+     * @param url the URL of the resource
+     * @param timeout timeout in milliseconds
+     * @return the response
+     * @throws IOException if the request failed or timed out
+     */
+    public HttpFetchResult fetch(String url, int timeout) throws IOException {
+        return fetch(url, Collections.emptyMap(), timeout, 0);
+    }
+
+    /**
+     * Fetches a resource with a GET request. A response received or revalidated within the given minimum freshness
+     * is served from memory, even if the server does not declare it fresh. This lets the Things of a binding, which
+     * are polled one after the other, share one request per refresh interval.
+     *
+     * @param url the URL of the resource
+     * @param timeout timeout in milliseconds
+     * @param minFreshness time in milliseconds a response is served from memory at least
+     * @return the response
+     * @throws IOException if the request failed or timed out
+     */
+    public HttpFetchResult fetch(String url, int timeout, long minFreshness) throws IOException {
+        return fetch(url, Collections.emptyMap(), timeout, minFreshness);
+    }
+
+    /**
+     * Fetches a resource with a GET request. Responses for different request headers are cached separately.
+     *
+     * @param url the URL of the resource
+     * @param headers additional request headers, for example an API key
+     * @param timeout timeout in milliseconds
+     * @return the response
+     * @throws IOException if the request failed or timed out
+     */
+    public HttpFetchResult fetch(String url, Map<String, String> headers, int timeout) throws IOException {
+        return fetch(url, headers, timeout, 0);
+    }
+
+    /**
+     * Fetches a resource with a GET request. Responses for different request headers are cached separately. A
+     * response received or revalidated within the given minimum freshness is served from memory.
+     *
+     * @param url the URL of the resource
+     * @param headers additional request headers, for example an API key
+     * @param timeout timeout in milliseconds
+     * @param minFreshness time in milliseconds a response is served from memory at least
+     * @return the response
+     * @throws IOException if the request failed or timed out
+     */
+    public HttpFetchResult fetch(String url, Map<String, String> headers, int timeout, long minFreshness)
+            throws IOException {
+        String key = headers.isEmpty() ? url : url + " " + new TreeMap<>(headers);
+        CompletableFuture<HttpFetchResult> pendingRequest;
+        boolean ownRequest = false;
+        synchronized (this) {
+            CacheEntry entry = cache.get(key);
+            if (entry != null && entry.isFresh(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(minFreshness))) {
+                cacheHitCount.incrementAndGet();
+                return new HttpFetchResult(entry, true);
+            }
+            pendingRequest = pendingRequests.get(key);
+            if (pendingRequest == null) {
+                pendingRequest = new CompletableFuture<>();
+                pendingRequests.put(key, pendingRequest);
+                ownRequest = true;
+            }
+        }
+
+        if (!ownRequest) {
+            sharedCount.incrementAndGet();
+            return await(pendingRequest);
+        }
+        try {
+            HttpFetchResult result = send(key, url, headers, timeout);
+            pendingRequest.complete(result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            pendingRequest.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (this) {
+                pendingRequests.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Forgets all cached responses.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of requests sent to servers.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of responses served from memory without a request.
+     */
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+    /**
+     * Returns the number of requests answered with {@code 304 Not Modified}.
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * Returns the number of fetches which shared the request of a concurrent fetch of the same URL.
+     */
+    public long getSharedCount() {
+        return sharedCount.get();
+    }
+
+    /**
+     * Returns the number of responses with the same body as the cached response.
+     */
+    public long getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    private HttpFetchResult await(CompletableFuture<HttpFetchResult> request) throws IOException {
+        try {
+            return request.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private HttpFetchResult send(String key, String url, Map<String, String> headers, int timeout)
+            throws IOException {
+        CacheEntry entry;
+        synchronized (this) {
+            entry = cache.get(key);
+        }
+        Request request = httpClient.newRequest(url).method(HttpMethod.GET).timeout(timeout, TimeUnit.MILLISECONDS);
+        headers.forEach(request::header);
+        if (entry != null) {
+            String eTag = entry.eTag;
+            if (eTag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, eTag);
+            }
+            String lastModified = entry.lastModified;
+            if (lastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+
+        ContentResponse response;
+        try {
+            requestCount.incrementAndGet();
+            response = request.send();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a response", e);
+        } catch (TimeoutException e) {
+            throw new IOException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new IOException(cause != null ? cause.getMessage() : e.getMessage(), cause != null ? cause : e);
+        }
+
+        long now = System.nanoTime();
+        int status = response.getStatus();
+        HttpFields responseHeaders = response.getHeaders();
+        String cacheControl = responseHeaders.get(HttpHeader.CACHE_CONTROL);
+        if (status == HttpStatus.NOT_MODIFIED_304 && entry != null) {
+            notModifiedCount.incrementAndGet();
+            entry.update(responseHeaders, getExpiry(cacheControl, now), now);
+            return new HttpFetchResult(entry, true);
+        }
+
+        String content = response.getContentAsString();
+        if (status != HttpStatus.OK_200) {
+            return new HttpFetchResult(status, content);
+        }
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            synchronized (this) {
+                cache.remove(key);
+            }
+            return new HttpFetchResult(status, content);
+        }
+        if (entry != null && entry.content.equals(content)) {
+            // the server does not support conditional requests, but the parsed content can still be reused
+            unchangedCount.incrementAndGet();
+            entry.update(responseHeaders, getExpiry(cacheControl, now), now);
+            return new HttpFetchResult(entry, false);
+        }
+        CacheEntry newEntry = new CacheEntry(content);
+        newEntry.update(responseHeaders, getExpiry(cacheControl, now), now);
+        synchronized (this) {
+            cache.put(key, newEntry);
+        }
+        return new HttpFetchResult(newEntry, false);
+    }
+
+    private static long getExpiry(@Nullable String cacheControl, long now) {
+        if (cacheControl == null || cacheControl.contains("no-cache")) {
+            return now;
+        }
+        Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+        if (matcher.find()) {
+            try {
+                return now + TimeUnit.SECONDS.toNanos(Long.parseLong(matcher.group(1)));
+            } catch (NumberFormatException e) {
+                return now;
+            }
+        }
+        return now;
+    }
+
+    /**
+     * The last successful response of a URL.
+     */
+    static class CacheEntry {
+        final String content;
+        private final Map<Class<?>, Object> parsedContent = new HashMap<>(2);
+
+        @Nullable
+        volatile String eTag;
+        @Nullable
+        volatile String lastModified;
+        private volatile long expiry;
+        private volatile long validated;
+
+        CacheEntry(String content) {
+            this.content = content;
+        }
+
+        void update(HttpFields headers, long expiry, long validated) {
+            String eTag = headers.get(HttpHeader.ETAG);
+            if (eTag != null) {
+                this.eTag = eTag;
+            }
+            String lastModified = headers.get(HttpHeader.LAST_MODIFIED);
+            if (lastModified != null) {
+                this.lastModified = lastModified;
+            }
+            this.expiry = expiry;
+            this.validated = validated;
+        }
+
+        boolean isFresh(long now, long minFreshness) {
+            return expiry - now > 0 || now - validated < minFreshness;
+        }
+
+        synchronized @Nullable Object getParsedContent(Class<?> type) {
+            return parsedContent.get(type);
+        }
+
+        synchronized void setParsedContent(Class<?> type, Object value) {
+            parsedContent.put(type, value);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.httpfetcher;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the {@link HttpFetcher} against a local stub server.
+ *
+ * @author agent - Initial contribution
+ */
+public class HttpFetcherTest {
+    private static final int TIMEOUT = 5000;
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private HttpFetcher fetcher;
+    private String baseUrl;
+
+    private final List<String> requestLog = Collections.synchronizedList(new ArrayList<>());
+    private volatile String body = "{\"temperature\":20}";
+    private volatile String eTag;
+    private volatile String cacheControl;
+    private volatile int status = 200;
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        httpClient = new HttpClient();
+        httpClient.start();
+        fetcher = new HttpFetcher(httpClient);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        httpClient.stop();
+        server.stop(0);
+    }
+
+    @Test
+    public void testConditionalRequest() throws IOException {
+        eTag = "\"v1\"";
+        HttpFetchResult first = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertEquals(200, first.getStatus());
+        assertFalse(first.isCached());
+
+        HttpFetchResult second = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertEquals(200, second.getStatus());
+        assertTrue(second.isCached());
+        assertEquals(body, second.getContent());
+        assertEquals(2, requestLog.size());
+        assertEquals("\"v1\"", requestLog.get(1));
+        assertEquals(1, fetcher.getNotModifiedCount());
+    }
+
+    @Test
+    public void testFreshResponseIsNotRequestedAgain() throws IOException {
+        cacheControl = "public, max-age=600";
+        fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        HttpFetchResult second = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertTrue(second.isCached());
+        assertEquals(1, requestLog.size());
+        assertEquals(1, fetcher.getCacheHitCount());
+
+        // other parameters are another resource
+        fetcher.fetch(baseUrl + "/weather?lat=1", TIMEOUT);
+        assertEquals(2, requestLog.size());
+    }
+
+    @Test
+    public void testSequentialRequestsWithinMinFreshnessAreNotSent() throws IOException {
+        eTag = "\"v1\"";
+        Object first = fetcher.fetch(baseUrl + "/weather", TIMEOUT, 60000).getContentAs(Object.class,
+                content -> new Object());
+        for (int i = 0; i < 4; i++) {
+            HttpFetchResult result = fetcher.fetch(baseUrl + "/weather", TIMEOUT, 60000);
+            assertTrue(result.isCached());
+            assertSame(first, result.getContentAs(Object.class, content -> new Object()));
+        }
+        assertEquals(1, requestLog.size());
+        assertEquals(4, fetcher.getCacheHitCount());
+
+        // without a minimum freshness the response is revalidated
+        HttpFetchResult revalidated = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertTrue(revalidated.isCached());
+        assertEquals(2, requestLog.size());
+        assertEquals(1, fetcher.getNotModifiedCount());
+    }
+
+    @Test
+    public void testMinFreshnessExpires() throws Exception {
+        fetcher.fetch(baseUrl + "/weather", TIMEOUT, 100);
+        fetcher.fetch(baseUrl + "/weather", TIMEOUT, 100);
+        assertEquals(1, requestLog.size());
+
+        Thread.sleep(200);
+        fetcher.fetch(baseUrl + "/weather", TIMEOUT, 100);
+        assertEquals(2, requestLog.size());
+        assertEquals(1, fetcher.getUnchangedCount());
+    }
+
+    @Test
+    public void testNoStoreIsNotCached() throws IOException {
+        eTag = "\"v1\"";
+        cacheControl = "no-store";
+        fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        HttpFetchResult second = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertFalse(second.isCached());
+        assertEquals(2, requestLog.size());
+        assertEquals("-", requestLog.get(1));
+    }
+
+    @Test
+    public void testUnchangedContentIsParsedOnce() throws IOException {
+        AtomicInteger parseCount = new AtomicInteger();
+        Object first = fetcher.fetch(baseUrl + "/weather", TIMEOUT).getContentAs(Object.class, content -> {
+            parseCount.incrementAndGet();
+            return new Object();
+        });
+        Object second = fetcher.fetch(baseUrl + "/weather", TIMEOUT).getContentAs(Object.class, content -> {
+            parseCount.incrementAndGet();
+            return new Object();
+        });
+        assertSame(first, second);
+        assertEquals(1, parseCount.get());
+        assertEquals(1, fetcher.getUnchangedCount());
+
+        body = "{\"temperature\":21}";
+        Object third = fetcher.fetch(baseUrl + "/weather", TIMEOUT).getContentAs(Object.class, content -> {
+            parseCount.incrementAndGet();
+            return new Object();
+        });
+        assertNotSame(first, third);
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsAreShared() throws Exception {
+        release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<HttpFetchResult>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> fetcher.fetch(baseUrl + "/weather", TIMEOUT)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (fetcher.getSharedCount() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (Future<HttpFetchResult> result : results) {
+                assertEquals(body, result.get(5, TimeUnit.SECONDS).getContent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, requestLog.size());
+        assertEquals(3, fetcher.getSharedCount());
+    }
+
+    @Test
+    public void testErrorsAreNotCached() throws IOException {
+        eTag = "\"v1\"";
+        status = 500;
+        HttpFetchResult error = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertEquals(500, error.getStatus());
+
+        status = 200;
+        HttpFetchResult result = fetcher.fetch(baseUrl + "/weather", TIMEOUT);
+        assertEquals(200, result.getStatus());
+        assertFalse(result.isCached());
+        assertEquals("-", requestLog.get(1));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        requestLog.add(ifNoneMatch != null ? ifNoneMatch : "-");
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (eTag != null) {
+            exchange.getResponseHeaders().add("ETag", eTag);
+        }
+        if (cacheControl != null) {
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        }
+        if (status == 200 && eTag != null && eTag.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.refreshscheduler;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A periodic job of a {@link RefreshScheduler}. The fields are guarded by the scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshJob {
+    private final RefreshScheduler scheduler;
+    final Runnable task;
+    final long intervalNanos;
+    final RefreshStatistics.Counter statistics = new RefreshStatistics.Counter();
+
+    long dueNanos;
+    long dueTick;
+    long waitingDueNanos;
+    boolean firstRun = true;
+    boolean running;
+    boolean waiting;
+    volatile boolean cancelled;
+
+    RefreshJob(RefreshScheduler scheduler, Runnable task, long intervalNanos) {
+        this.scheduler = scheduler;
+        this.task = task;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Cancels the job. A run which has already started is not interrupted.
+     */
+    public void cancel() {
+        scheduler.cancel(this);
+    }
+
+    /**
+     * Returns true if the job has been cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns the counters of this job.
+     */
+    public RefreshStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+}
@@ -0,0 +1,310 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.refreshscheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the periodic refresh jobs of a binding.
+ * <p>
+ * Instead of one timer per job, all jobs of a scheduler are kept in a hashed timing wheel with a resolution of
+ * {@link #TICK_MILLIS} milliseconds. A single one-shot timer is scheduled for the earliest slot with a due job, so the
+ * scheduler does not wake up between the runs. Due jobs are executed on the given executor service.
+ * <p>
+ * Jobs are spread over their interval: the first periodic run after the initial run is delayed by a random fraction
+ * of the interval, so Things initialized at the same time do not refresh at the same time afterwards. At most
+ * {@code maxConcurrency} jobs of a scheduler run at the same time, further due jobs wait until a run has finished.
+ * A run is skipped if the previous run of the same job has not finished yet, so slow devices do not pile up runs.
+ * Skipped runs (overruns), the lag between the due time and the start of a run and the run duration are counted in
+ * {@link RefreshStatistics}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshScheduler {
+    /** Resolution of the timing wheel */
+    public static final long TICK_MILLIS = 50;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    private static final int WHEEL_SIZE = 256;
+    private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toNanos(10);
+
+    private final Logger logger = LoggerFactory.getLogger(RefreshScheduler.class);
+
+    private final String name;
+    private final ScheduledExecutorService scheduler;
+    private final int maxConcurrency;
+    private final List<List<RefreshJob>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final Deque<RefreshJob> waitingJobs = new ArrayDeque<>();
+    private final RefreshStatistics.Counter statistics = new RefreshStatistics.Counter();
+    private final long startNanos = System.nanoTime();
+
+    private @Nullable ScheduledFuture<?> ticker;
+    private long tickerTick;
+    private long currentTick;
+    private long lastStatisticsLog = startNanos;
+    private int jobCount;
+    private int runningJobs;
+
+    /**
+     * Creates a refresh scheduler.
+     *
+     * @param name name of the scheduler used for logging, usually the binding id
+     * @param scheduler executor service the jobs and the timing wheel are run on
+     * @param maxConcurrency maximum number of jobs running at the same time
+     */
+    public RefreshScheduler(String name, ScheduledExecutorService scheduler, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("At least one job must be allowed to run");
+        }
+        this.name = name;
+        this.scheduler = scheduler;
+        this.maxConcurrency = maxConcurrency;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a periodic job. Like {@link ScheduledExecutorService#scheduleAtFixedRate}, the job is first run after
+     * the initial delay. The next run is spread randomly between half and one and a half intervals later, every
+     * further run follows one interval after the previous one.
+     *
+     * @param task the job
+     * @param initialDelay delay of the first run
+     * @param interval interval between runs
+     * @param unit time unit of the delay and interval
+     * @return the scheduled job, which has to be cancelled when it is no longer needed
+     */
+    public synchronized RefreshJob schedule(Runnable task, long initialDelay, long interval, TimeUnit unit) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The interval must be positive");
+        }
+        RefreshJob job = new RefreshJob(this, task, unit.toNanos(interval));
+        jobCount++;
+        if (ticker == null) {
+            currentTick = tickOf(System.nanoTime());
+        }
+        add(job, System.nanoTime() + unit.toNanos(Math.max(initialDelay, 0)));
+        startTicker(job.dueTick);
+        return job;
+    }
+
+    /**
+     * Returns the counters of all jobs of this scheduler.
+     */
+    public RefreshStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Returns the number of scheduled jobs.
+     */
+    public synchronized int getJobCount() {
+        return jobCount;
+    }
+
+    /**
+     * Cancels all jobs. The scheduler can still be used afterwards.
+     */
+    public synchronized void dispose() {
+        for (List<RefreshJob> slot : wheel) {
+            slot.forEach(job -> job.cancelled = true);
+            slot.clear();
+        }
+        waitingJobs.forEach(job -> job.cancelled = true);
+        waitingJobs.clear();
+        jobCount = 0;
+        stopTicker();
+    }
+
+    synchronized void cancel(RefreshJob job) {
+        if (job.cancelled) {
+            return;
+        }
+        job.cancelled = true;
+        wheel.get(slotOf(job.dueTick)).remove(job);
+        waitingJobs.remove(job);
+        if (--jobCount == 0) {
+            stopTicker();
+        }
+    }
+
+    /**
+     * Schedules the timer for the given tick, unless it is already scheduled for an earlier one.
+     */
+    private void startTicker(long tick) {
+        if (ticker != null && tickerTick <= tick) {
+            return;
+        }
+        stopTicker();
+        tickerTick = tick;
+        long delay = startNanos + tick * TICK_NANOS - System.nanoTime();
+        ticker = scheduler.schedule(() -> tick(tick), Math.max(delay, 0), TimeUnit.NANOSECONDS);
+    }
+
+    private void stopTicker() {
+        ScheduledFuture<?> ticker = this.ticker;
+        if (ticker != null) {
+            ticker.cancel(false);
+            this.ticker = null;
+        }
+    }
+
+    private void add(RefreshJob job, long dueNanos) {
+        job.dueNanos = dueNanos;
+        // a job is never added to the current tick, which might have been processed already
+        job.dueTick = Math.max((dueNanos - startNanos + TICK_NANOS - 1) / TICK_NANOS, currentTick + 1);
+        wheel.get(slotOf(job.dueTick)).add(job);
+    }
+
+    private synchronized void tick(long scheduledTick) {
+        if (ticker == null || tickerTick != scheduledTick) {
+            // the timer has been cancelled or rescheduled for an earlier tick
+            return;
+        }
+        ticker = null;
+        long now = System.nanoTime();
+        long targetTick = Math.max(tickOf(now), scheduledTick);
+        // catch up if the timer has been delayed, but visit every slot at most once
+        long firstTick = Math.max(currentTick + 1, targetTick - WHEEL_SIZE + 1);
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            List<RefreshJob> slot = wheel.get(slotOf(tick));
+            @Nullable
+            List<RefreshJob> dueJobs = null;
+            for (RefreshJob job : slot) {
+                if (job.dueTick <= targetTick) {
+                    if (dueJobs == null) {
+                        dueJobs = new ArrayList<>();
+                    }
+                    dueJobs.add(job);
+                }
+            }
+            if (dueJobs != null) {
+                slot.removeAll(dueJobs);
+                currentTick = tick;
+                for (RefreshJob job : dueJobs) {
+                    dispatch(job, now);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+
+        if (now - lastStatisticsLog >= STATISTICS_INTERVAL) {
+            lastStatisticsLog = now;
+            logger.debug("Refresh scheduler of {} with {} jobs: {}", name, jobCount, statistics.snapshot());
+        }
+        long nextTick = nextDueTick();
+        if (nextTick != Long.MAX_VALUE) {
+            startTicker(nextTick);
+        }
+    }
+
+    /**
+     * Returns the earliest tick with a due job, or {@link Long#MAX_VALUE} if there are no jobs. All jobs are due
+     * after the current tick, so the first slot holding a job of its own tick is the earliest one. Jobs due more than
+     * one turn of the wheel later are only found by visiting all slots.
+     */
+    private long nextDueTick() {
+        long next = Long.MAX_VALUE;
+        for (long tick = currentTick + 1; tick <= currentTick + WHEEL_SIZE; tick++) {
+            for (RefreshJob job : wheel.get(slotOf(tick))) {
+                if (job.dueTick == tick) {
+                    return tick;
+                }
+                next = Math.min(next, job.dueTick);
+            }
+        }
+        return next;
+    }
+
+    private void dispatch(RefreshJob job, long now) {
+        long due = job.dueNanos;
+        long next;
+        if (job.firstRun) {
+            // spread the job over the interval
+            job.firstRun = false;
+            next = due + job.intervalNanos / 2 + ThreadLocalRandom.current().nextLong(job.intervalNanos);
+        } else {
+            next = due + job.intervalNanos;
+        }
+        if (next <= now) {
+            // the timer has been delayed for more than an interval, do not run the missed runs
+            next += ((now - next) / job.intervalNanos + 1) * job.intervalNanos;
+        }
+        add(job, next);
+
+        if (job.running || job.waiting) {
+            statistics.recordOverrun();
+            job.statistics.recordOverrun();
+            logger.debug("Skipping a refresh of {}, the previous run has not finished yet", name);
+        } else if (runningJobs < maxConcurrency) {
+            start(job, due);
+        } else {
+            job.waiting = true;
+            job.waitingDueNanos = due;
+            waitingJobs.add(job);
+        }
+    }
+
+    private void start(RefreshJob job, long dueNanos) {
+        if (job.cancelled) {
+            return;
+        }
+        runningJobs++;
+        job.running = true;
+        scheduler.execute(() -> run(job, dueNanos));
+    }
+
+    private void run(RefreshJob job, long dueNanos) {
+        long start = System.nanoTime();
+        try {
+            job.task.run();
+        } catch (RuntimeException e) {
+            logger.warn("A refresh of {} failed: {}", name, e.getMessage(), e);
+        } finally {
+            long end = System.nanoTime();
+            statistics.recordRun(start - dueNanos, end - start);
+            job.statistics.recordRun(start - dueNanos, end - start);
+            synchronized (this) {
+                runningJobs--;
+                job.running = false;
+                @Nullable
+                RefreshJob next;
+                while (runningJobs < maxConcurrency && (next = waitingJobs.poll()) != null) {
+                    next.waiting = false;
+                    start(next, next.waitingDueNanos);
+                }
+            }
+        }
+    }
+
+    private long tickOf(long nanos) {
+        return (nanos - startNanos) / TICK_NANOS;
+    }
+
+    private static int slotOf(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.refreshscheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Immutable snapshot of the counters of a {@link RefreshScheduler} or a single {@link RefreshJob}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshStatistics {
+
+    private final long runs;
+    private final long overruns;
+    private final long totalLagNanos;
+    private final long maxLagNanos;
+    private final long totalDurationNanos;
+    private final long maxDurationNanos;
+
+    RefreshStatistics(long runs, long overruns, long totalLagNanos, long maxLagNanos, long totalDurationNanos,
+            long maxDurationNanos) {
+        this.runs = runs;
+        this.overruns = overruns;
+        this.totalLagNanos = totalLagNanos;
+        this.maxLagNanos = maxLagNanos;
+        this.totalDurationNanos = totalDurationNanos;
+        this.maxDurationNanos = maxDurationNanos;
+    }
+
+    /**
+     * @return number of finished runs
+     */
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * @return number of runs skipped because the previous run had not finished yet
+     */
+    public long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * @return average time in milliseconds between the due time and the start of a run
+     */
+    public long getAverageLagMillis() {
+        return runs > 0 ? TimeUnit.NANOSECONDS.toMillis(totalLagNanos / runs) : 0;
+    }
+
+    /**
+     * @return maximum time in milliseconds between the due time and the start of a run
+     */
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
+    }
+
+    /**
+     * @return average duration of a run in milliseconds
+     */
+    public long getAverageDurationMillis() {
+        return runs > 0 ? TimeUnit.NANOSECONDS.toMillis(totalDurationNanos / runs) : 0;
+    }
+
+    /**
+     * @return maximum duration of a run in milliseconds
+     */
+    public long getMaxDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxDurationNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "runs=" + runs + ", overruns=" + overruns + ", lag=" + getAverageLagMillis() + "/"
+                + getMaxLagMillis() + "ms, duration=" + getAverageDurationMillis() + "/" + getMaxDurationMillis()
+                + "ms (avg/max)";
+    }
+
+    /**
+     * The mutable counters, which are updated by the scheduler.
+     */
+    static class Counter {
+        private long runs;
+        private long overruns;
+        private long totalLagNanos;
+        private long maxLagNanos;
+        private long totalDurationNanos;
+        private long maxDurationNanos;
+
+        synchronized void recordRun(long lagNanos, long durationNanos) {
+            runs++;
+            totalLagNanos += lagNanos;
+            maxLagNanos = Math.max(maxLagNanos, lagNanos);
+            totalDurationNanos += durationNanos;
+            maxDurationNanos = Math.max(maxDurationNanos, durationNanos);
+        }
+
+        synchronized void recordOverrun() {
+            overruns++;
+        }
+
+        synchronized RefreshStatistics snapshot() {
+            return new RefreshStatistics(runs, overruns, totalLagNanos, maxLagNanos, totalDurationNanos,
+                    maxDurationNanos);
+        }
+    }
+}
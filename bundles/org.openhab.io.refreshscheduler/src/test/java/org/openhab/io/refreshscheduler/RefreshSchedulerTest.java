@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.refreshscheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RefreshScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class RefreshSchedulerTest {
+    private ScheduledThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ScheduledThreadPoolExecutor(8);
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPeriodicRuns() throws InterruptedException {
+        RefreshScheduler scheduler = new RefreshScheduler("test", executor, 2);
+        CountDownLatch runs = new CountDownLatch(4);
+        RefreshJob job = scheduler.schedule(runs::countDown, 0, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        job.cancel();
+        assertTrue(job.isCancelled());
+        assertEquals(0, scheduler.getJobCount());
+        assertTrue(job.getStatistics().getRuns() >= 4);
+    }
+
+    @Test
+    public void testTimerOnlyRunsForDueJobs() throws InterruptedException {
+        RefreshScheduler scheduler = new RefreshScheduler("test", executor, 2);
+        CountDownLatch runs = new CountDownLatch(1);
+        RefreshJob job = scheduler.schedule(runs::countDown, 0, 1, TimeUnit.MINUTES);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        Thread.sleep(500);
+        // the timer of the first run and the run itself, the timer of the next run is waiting
+        assertEquals(2, executor.getCompletedTaskCount());
+        assertEquals(1, executor.getQueue().size());
+
+        // a job due earlier reschedules the timer
+        CountDownLatch earlierRuns = new CountDownLatch(1);
+        scheduler.schedule(earlierRuns::countDown, 200, 60000, TimeUnit.MILLISECONDS);
+        assertTrue(earlierRuns.await(2, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertEquals(4, executor.getCompletedTaskCount());
+        assertEquals(1, executor.getQueue().size());
+
+        job.cancel();
+        scheduler.dispose();
+        assertEquals(0, executor.getQueue().size());
+    }
+
+    @Test
+    public void testOverrunsAreSkipped() throws InterruptedException {
+        RefreshScheduler scheduler = new RefreshScheduler("test", executor, 2);
+        AtomicInteger concurrentRuns = new AtomicInteger();
+        AtomicInteger maxConcurrentRuns = new AtomicInteger();
+        RefreshJob job = scheduler.schedule(() -> {
+            maxConcurrentRuns.accumulateAndGet(concurrentRuns.incrementAndGet(), Math::max);
+            sleep(400);
+            concurrentRuns.decrementAndGet();
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(1500);
+        job.cancel();
+        assertEquals(1, maxConcurrentRuns.get());
+        assertTrue(job.getStatistics().getOverruns() > 0);
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() throws InterruptedException {
+        RefreshScheduler scheduler = new RefreshScheduler("test", executor, 2);
+        AtomicInteger concurrentRuns = new AtomicInteger();
+        AtomicInteger maxConcurrentRuns = new AtomicInteger();
+        CountDownLatch runs = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(() -> {
+                maxConcurrentRuns.accumulateAndGet(concurrentRuns.incrementAndGet(), Math::max);
+                sleep(50);
+                concurrentRuns.decrementAndGet();
+                runs.countDown();
+            }, 0, 1, TimeUnit.MINUTES);
+        }
+
+        // all initial runs are done, but never more than two at the same time
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        assertEquals(2, maxConcurrentRuns.get());
+        // the waiting runs have been delayed
+        assertTrue(scheduler.getStatistics().getMaxLagMillis() >= 100);
+        scheduler.dispose();
+        assertEquals(0, scheduler.getJobCount());
+    }
+
+    @Test
+    public void testFailingJobIsRunAgain() throws InterruptedException {
+        RefreshScheduler scheduler = new RefreshScheduler("test", executor, 1);
+        CountDownLatch runs = new CountDownLatch(3);
+        RefreshJob job = scheduler.schedule(() -> {
+            runs.countDown();
+            throw new IllegalStateException("refresh failed");
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        job.cancel();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
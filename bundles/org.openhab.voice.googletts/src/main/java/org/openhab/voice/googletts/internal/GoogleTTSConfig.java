@@ -38,6 +38,11 @@ class GoogleTTSConfig {
      */
     private Boolean purgeCache;
 
+    /**
+     * Size limit of the cache in MB, 0 for no limit.
+     */
+    private Integer cacheMaxSize = 0;
+
     /**
      * Volume gain
      */
@@ -83,6 +88,14 @@ class GoogleTTSConfig {
         this.purgeCache = purgeCache;
     }
 
+    Integer getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    void setCacheMaxSize(Integer cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
     @Override
     public String toString() {
         return "GoogleTTSConfig{" +
@@ -91,6 +104,7 @@ class GoogleTTSConfig {
                 ", speakingRate=" + speakingRate +
                 ", volumeGainDb=" + volumeGainDb +
                 ", purgeCache=" + purgeCache +
+                ", cacheMaxSize=" + cacheMaxSize +
                 '}';
     }
 
@@ -24,11 +24,11 @@ import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.ConfigurableService;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
-import org.eclipse.smarthome.core.audio.ByteArrayAudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
 import org.openhab.voice.googletts.internal.protocol.AudioEncoding;
+import org.openhab.voice.ttscache.TTSCache;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -79,6 +79,7 @@ public class GoogleTTSService implements TTSService {
     private static final String PARAM_SPEAKING_RATE = "speakingRate";
     private static final String PARAM_VOLUME_GAIN_DB = "volumeGainDb";
     private static final String PARAM_PURGE_CACHE = "purgeCache";
+    private static final String PARAM_CACHE_MAX_SIZE = "cacheMaxSize";
 
     /**
      * Logger.
@@ -118,7 +119,7 @@ public class GoogleTTSService implements TTSService {
         }
         logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
 
-        apiImpl = new GoogleCloudAPI(cacheFolder);
+        apiImpl = new GoogleCloudAPI(new TTSCache(cacheFolder));
         updateConfig(config);
     }
 
@@ -209,6 +210,12 @@ public class GoogleTTSService implements TTSService {
             if (param != null) {
                 config.setPurgeCache(Boolean.parseBoolean(param));
             }
+
+            // cacheMaxSize
+            param = newConfig.containsKey(PARAM_CACHE_MAX_SIZE) ? newConfig.get(PARAM_CACHE_MAX_SIZE).toString() : null;
+            if (param != null) {
+                config.setCacheMaxSize((int) Double.parseDouble(param));
+            }
             logger.trace("New configuration: {}", config.toString());
 
             if (config.getServiceAccountKey() != null) {
@@ -306,11 +313,7 @@ public class GoogleTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
-        // create the audio byte array for given text, locale, format
-        byte[] audio = apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice, requestedFormat.getCodec());
-        if (audio == null) {
-            throw new TTSException("Could not read from Google Cloud TTS Service");
-        }
-        return new ByteArrayAudioStream(audio, requestedFormat);
+        // create the audio stream for given text, locale, format
+        return apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice, requestedFormat);
     }
 }
@@ -14,15 +14,17 @@ package org.openhab.voice.marytts.internal;
 
 import static javax.sound.sampled.AudioSystem.NOT_SPECIFIED;
 
-import java.io.IOException;
+import java.io.File;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
+import org.openhab.voice.ttscache.TTSCache;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +44,13 @@ import marytts.modules.synthesis.Voice;
 @Component
 public class MaryTTSService implements TTSService {
 
+    /**
+     * Cache folder under $userdata
+     */
+    private static final String CACHE_FOLDER_NAME = "cache";
+
+    private static final String CACHE_FILE_EXTENSION = "wav";
+
     private final Logger logger = LoggerFactory.getLogger(MaryTTSService.class);
 
     private MaryInterface marytts;
@@ -56,7 +65,11 @@ public class MaryTTSService implements TTSService {
      */
     private Set<AudioFormat> audioFormats;
 
+    private TTSCache cache;
+
     protected void activate() {
+        cache = new TTSCache(new File(new File(ConfigConstants.getUserDataFolder(), CACHE_FOLDER_NAME),
+                "org.openhab.voice.marytts"));
         try {
             marytts = new LocalMaryInterface();
             voices = initVoices();
@@ -114,18 +127,22 @@ public class MaryTTSService implements TTSService {
         Voice maryTTSVoice = Voice.getVoice(voice.getLabel());
         AudioFormat maryTTSVoiceAudioFormat = getAudioFormat(maryTTSVoice.dbAudioFormat());
 
-        // Synchronize on marytts
-        synchronized (marytts) {
-            // Set voice (Each voice supports only a single AudioFormat)
-            marytts.setLocale(voice.getLocale());
-            marytts.setVoice(voice.getLabel());
-
-            try {
-                return new MaryTTSAudioStream(marytts.generateAudio(text), maryTTSVoiceAudioFormat);
-            } catch (SynthesisException | IOException e) {
-                throw new TTSException("Error generating an AudioStream", e);
-            }
-        }
+        // Synthesizing is expensive, texts spoken before are played from the cache
+        return cache.get(TTSCache.getUniqueFilenameForText(voice.getLabel(), text), CACHE_FILE_EXTENSION, text,
+                maryTTSVoiceAudioFormat, () -> {
+                    // Synchronize on marytts
+                    synchronized (marytts) {
+                        // Set voice (Each voice supports only a single AudioFormat)
+                        marytts.setLocale(voice.getLocale());
+                        marytts.setVoice(voice.getLabel());
+
+                        try {
+                            return new MaryTTSAudioStream(marytts.generateAudio(text), maryTTSVoiceAudioFormat);
+                        } catch (SynthesisException e) {
+                            throw new TTSException("Error generating an AudioStream", e);
+                        }
+                    }
+                });
     }
 
     /**
@@ -12,18 +12,22 @@
  */
 package org.openhab.voice.picotts.internal;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.audio.AudioException;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
+import org.openhab.voice.ttscache.TTSCache;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -31,6 +35,13 @@ import org.osgi.service.component.annotations.Component;
  */
 @Component
 public class PicoTTSService implements TTSService {
+    /**
+     * Cache folder under $userdata
+     */
+    private static final String CACHE_FOLDER_NAME = "cache";
+
+    private static final String CACHE_FILE_EXTENSION = "wav";
+
     private final Set<Voice> voices = Stream
             .of(new PicoTTSVoice("de-DE"), new PicoTTSVoice("en-US"), new PicoTTSVoice("en-GB"),
                     new PicoTTSVoice("es-ES"), new PicoTTSVoice("fr-FR"), new PicoTTSVoice("it-IT"))
@@ -39,6 +50,14 @@ public class PicoTTSService implements TTSService {
     private final Set<AudioFormat> audioFormats = Collections.singleton(
             new AudioFormat(AudioFormat.CONTAINER_WAVE, AudioFormat.CODEC_PCM_SIGNED, false, 16, null, 16000L));
 
+    private TTSCache cache;
+
+    @Activate
+    protected void activate() {
+        cache = new TTSCache(new File(new File(ConfigConstants.getUserDataFolder(), CACHE_FOLDER_NAME),
+                "org.openhab.voice.picotts"));
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return this.voices;
@@ -67,11 +86,15 @@ public class PicoTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
-        try {
-            return new PicoTTSAudioStream(text, voice, requestedFormat);
-        } catch (AudioException e) {
-            throw new TTSException(e);
-        }
+        // pico2wave is started for uncached texts only
+        return cache.get(TTSCache.getUniqueFilenameForText(voice.getLabel(), text), CACHE_FILE_EXTENSION, text,
+                requestedFormat, () -> {
+                    try {
+                        return new PicoTTSAudioStream(text, voice, requestedFormat);
+                    } catch (AudioException e) {
+                        throw new TTSException(e);
+                    }
+                });
     }
 
     @Override
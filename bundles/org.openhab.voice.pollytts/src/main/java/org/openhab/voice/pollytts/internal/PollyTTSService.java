@@ -17,23 +17,23 @@ import static org.eclipse.smarthome.core.audio.AudioFormat.*;
 import static org.openhab.voice.pollytts.internal.PollyTTSService.*;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.ConfigurableService;
-import org.eclipse.smarthome.core.audio.AudioException;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
-import org.openhab.voice.pollytts.internal.cloudapi.CachedPollyTTSCloudImpl;
+import org.openhab.voice.pollytts.internal.cloudapi.PollyTTSCloudImpl;
 import org.openhab.voice.pollytts.internal.cloudapi.PollyTTSConfig;
+import org.openhab.voice.ttscache.TTSCache;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -79,10 +79,12 @@ public class PollyTTSService implements TTSService {
 
     private final Logger logger = LoggerFactory.getLogger(PollyTTSService.class);
 
+    private PollyTTSCloudImpl pollyTTSImpl;
+
     /**
-     * We need the cached implementation to allow for FixedLengthAudioStream.
+     * We need the cache to allow for FixedLengthAudioStream.
      */
-    private CachedPollyTTSCloudImpl pollyTTSImpl;
+    private TTSCache cache;
 
     /**
      * Set of supported voices
@@ -114,7 +116,9 @@ public class PollyTTSService implements TTSService {
             }
             logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
 
-            pollyTTSImpl = new CachedPollyTTSCloudImpl(pollyTTSConfig, cacheFolder);
+            pollyTTSImpl = new PollyTTSCloudImpl(pollyTTSConfig);
+            cache = new TTSCache(cacheFolder);
+            cache.setMaxSize(pollyTTSConfig.getCacheMaxSize() * 1024L * 1024);
 
             audioFormats.clear();
             audioFormats.addAll(initAudioFormats());
@@ -167,19 +171,28 @@ public class PollyTTSService implements TTSService {
 
         // now create the input stream for given text, locale, format. There is
         // only a default voice
-        try {
-            File cacheAudioFile = pollyTTSImpl.getTextToSpeechAsFile(text, voice.getLabel(),
-                    getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from PollyTTS service");
-            }
-            logger.debug("Audio Stream for '{}' in format {}", text, requestedFormat);
-            AudioStream audioStream = new PollyTTSAudioStream(cacheAudioFile, requestedFormat);
-            return audioStream;
-        } catch (AudioException ex) {
-            throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
-        } catch (IOException ex) {
-            throw new TTSException("Could not read from PollyTTS service: " + ex.getMessage(), ex);
+        purgeAgedFiles();
+        String label = voice.getLabel();
+        String apiAudioFormat = getApiAudioFormat(requestedFormat);
+        logger.debug("Audio Stream for '{}' in format {}", text, requestedFormat);
+        return cache.get(TTSCache.getUniqueFilenameForText(label, text), apiAudioFormat, text, requestedFormat,
+                () -> pollyTTSImpl.getTextToSpeech(text, label, apiAudioFormat));
+    }
+
+    private void purgeAgedFiles() {
+        // just exit if expiration set to 0/disabled
+        if (pollyTTSConfig.getExpireDate() == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long diff = now - pollyTTSConfig.getLastDelete();
+        // only execute ~ once every 2 days if cache called
+        long oneDayMillis = TimeUnit.DAYS.toMillis(1);
+        logger.debug("PollyTTS cache cleaner lastdelete {}", diff);
+        if (diff > (2 * oneDayMillis)) {
+            pollyTTSConfig.setLastDelete(now);
+            int filesDeleted = cache.purgeUnusedSince(pollyTTSConfig.getExpireDate() * oneDayMillis);
+            logger.debug("PollyTTS cache cleaner deleted '{}' aged files", filesDeleted);
         }
     }
 
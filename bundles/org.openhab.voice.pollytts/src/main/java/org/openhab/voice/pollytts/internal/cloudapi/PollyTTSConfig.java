@@ -29,11 +29,13 @@ public class PollyTTSConfig {
     private static final String SERVICE_REGION = "serviceRegion";
     private static final String AUDIO_FORMAT = "audioFormat";
     private static final String CACHE_EXPIRATION = "cacheExpiration";
+    private static final String CACHE_MAX_SIZE = "cacheMaxSize";
 
     private String accessKey = "";
     private String secretKey = "";
     private String serviceRegion = "eu-west-1";
     private int expireDate = 0;
+    private int cacheMaxSize = 0;
     private String audioFormat = "default";
     private long lastDelete;
 
@@ -46,6 +48,8 @@ public class PollyTTSConfig {
         audioFormat = config.getOrDefault(AUDIO_FORMAT, audioFormat).toString();
         expireDate = (int) Double
                 .parseDouble(config.getOrDefault(CACHE_EXPIRATION, Double.toString(expireDate)).toString());
+        cacheMaxSize = (int) Double
+                .parseDouble(config.getOrDefault(CACHE_MAX_SIZE, Double.toString(cacheMaxSize)).toString());
     }
 
     private void assertValidConfig(Map<String, Object> config) {
@@ -78,6 +82,13 @@ public class PollyTTSConfig {
         return expireDate;
     }
 
+    /**
+     * get the size limit of the cache in MB, 0 for no limit
+     */
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
     /**
      * returns audio format specified for audio
      */
@@ -104,6 +115,7 @@ public class PollyTTSConfig {
         StringBuilder builder = new StringBuilder();
         builder.append("PollyTTSConfig [accessKey=").append(accessKey).append(", secretKey=").append(secretKey)
                 .append(", serviceRegion=").append(serviceRegion).append(", expireDate=").append(expireDate)
+                .append(", cacheMaxSize=").append(cacheMaxSize)
                 .append(", audioFormat=").append(audioFormat).append(", lastDelete=").append(lastDelete).append("]");
         return builder.toString();
     }
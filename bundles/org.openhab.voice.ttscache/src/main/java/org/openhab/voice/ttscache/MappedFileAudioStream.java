@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.ttscache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.FixedLengthAudioStream;
+
+/**
+ * A {@link FixedLengthAudioStream} reading a cached audio file through a read-only memory mapping. Cloned streams
+ * share the mapping, so the file is opened only once.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class MappedFileAudioStream extends FixedLengthAudioStream {
+
+    private final ByteBuffer buffer;
+    private final AudioFormat format;
+
+    private MappedFileAudioStream(ByteBuffer buffer, AudioFormat format) {
+        this.buffer = buffer;
+        this.format = format;
+    }
+
+    /**
+     * Maps the given file into memory
+     *
+     * @param file the audio file
+     * @param format the format of the audio data
+     * @return a stream positioned at the beginning of the file
+     * @throws IOException if the file can't be mapped
+     */
+    static MappedFileAudioStream map(File file, AudioFormat format) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel has been closed
+            MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            return new MappedFileAudioStream(mapped, format);
+        }
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return buffer.remaining();
+    }
+
+    @Override
+    public long length() {
+        return buffer.limit();
+    }
+
+    /**
+     * @return a copy of the complete audio data, independent of the current stream position
+     */
+    byte[] toByteArray() {
+        ByteBuffer copy = buffer.duplicate();
+        copy.rewind();
+        byte[] data = new byte[copy.remaining()];
+        copy.get(data);
+        return data;
+    }
+
+    @Override
+    public InputStream getClonedStream() {
+        ByteBuffer clone = buffer.duplicate();
+        clone.rewind();
+        return new MappedFileAudioStream(clone, format);
+    }
+}
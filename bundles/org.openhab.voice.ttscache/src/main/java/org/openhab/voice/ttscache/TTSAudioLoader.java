@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.ttscache;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.voice.TTSException;
+
+/**
+ * A {@link TTSAudioLoader} synthesizes the audio data for a {@link TTSCache} miss.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@FunctionalInterface
+public interface TTSAudioLoader {
+
+    /**
+     * Synthesizes the audio data. The returned stream is read completely and closed by the cache.
+     *
+     * @return the synthesized audio data
+     * @throws IOException if the audio data could not be read
+     * @throws TTSException if the service failed to synthesize the text
+     */
+    InputStream load() throws IOException, TTSException;
+}
@@ -0,0 +1,431 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.ttscache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.audio.ByteArrayAudioStream;
+import org.eclipse.smarthome.core.voice.TTSException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TTSCache} stores synthesized audio data of a text-to-speech service in a folder, as audio files with an
+ * additional .txt file to indicate what content is in the audio file.
+ *
+ * An in-memory index of all files is kept in least recently used order. If a size limit is set, files are deleted as
+ * soon as the total size exceeds it. The audio data of the most recently used small files is kept in memory. All other
+ * files are served from memory-mapped files. New files are written to a temporary file and moved into place once they
+ * are complete, so a crash never leaves a truncated audio file in the cache. The modification time of a file is its
+ * last use, it is updated on cache hits at most once per {@link #TOUCH_INTERVAL_MILLIS}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TTSCache {
+
+    /** Size limit of a cache without limit, existing caches might have been filled in advance */
+    public static final long UNLIMITED_SIZE = 0;
+
+    /** Default limit of the audio data kept in memory in bytes */
+    public static final long DEFAULT_MAX_MEMORY_SIZE = 4L * 1024 * 1024;
+
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    /** Minimum time between two updates of the modification time of a cached file */
+    private static final long TOUCH_INTERVAL_MILLIS = 60 * 60 * 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(TTSCache.class);
+
+    private final File cacheFolder;
+    private final long maxMemorySize;
+    private long maxSize;
+
+    /** Guarded by this, iteration order is from the least to the most recently used entry */
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(64, 0.75f, true);
+
+    /** Locks of the files being synthesized, so the same text is synthesized and written only once at a time */
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+
+    private long size;
+    private long memorySize;
+    private long hits;
+    private long memoryHits;
+    private long misses;
+    private long evictions;
+    private long totalLoadMillis;
+
+    private static class Entry {
+        private final File file;
+        private final long size;
+        private long lastUsed;
+        private long lastModified;
+        private byte @Nullable [] data;
+
+        private Entry(File file, long size, long lastUsed) {
+            this.file = file;
+            this.size = size;
+            this.lastUsed = lastUsed;
+            this.lastModified = lastUsed;
+        }
+    }
+
+    /**
+     * Creates a cache without size limit and with the default memory limit.
+     *
+     * @param cacheFolder folder for the audio files, will be created if it doesn't exist
+     */
+    public TTSCache(File cacheFolder) {
+        this(cacheFolder, UNLIMITED_SIZE, DEFAULT_MAX_MEMORY_SIZE);
+    }
+
+    /**
+     * Creates a cache and indexes the audio files already present in the folder.
+     *
+     * @param cacheFolder folder for the audio files, will be created if it doesn't exist
+     * @param maxSize limit of the total size of the audio files in bytes, {@link #UNLIMITED_SIZE} for no limit
+     * @param maxMemorySize limit of the audio data kept in memory in bytes
+     */
+    public TTSCache(File cacheFolder, long maxSize, long maxMemorySize) {
+        this.cacheFolder = cacheFolder;
+        this.maxSize = maxSize;
+        this.maxMemorySize = maxMemorySize;
+        if (!cacheFolder.exists()) {
+            cacheFolder.mkdirs();
+        }
+        loadIndex();
+    }
+
+    /**
+     * Gets a unique filename for a given text, by creating a MD5 hash of it. It will be preceded by the prefix.
+     *
+     * Sample: "en-US_00a2653ac5f77063bc4ea2fee87318d3"
+     *
+     * @param prefix typically the locale or voice
+     * @param content the text, optionally including further parameters that influence the synthesized audio
+     * @return the file name without extension
+     */
+    public static String getUniqueFilenameForText(String prefix, String content) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] md5Hash = md.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hashText = new StringBuilder(new BigInteger(1, md5Hash).toString(16));
+            // zero pad to the full 32 chars
+            while (hashText.length() < 32) {
+                hashText.insert(0, '0');
+            }
+            return prefix + "_" + hashText;
+        } catch (NoSuchAlgorithmException ex) {
+            // should not happen, MD5 is mandatory for every JRE
+            throw new IllegalStateException("Could not create MD5 hash", ex);
+        }
+    }
+
+    /**
+     * Returns the audio for the given file name from the cache, or synthesizes and caches it if it is missing.
+     *
+     * @param baseName the file name without extension, see {@link #getUniqueFilenameForText(String, String)}
+     * @param extension the file extension of the audio format, e.g. "mp3"
+     * @param text the synthesized text, written to the accompanying .txt file
+     * @param format the format of the audio data
+     * @param loader synthesizes the audio on a cache miss
+     * @return the audio stream
+     * @throws TTSException if the audio data isn't cached and could not be synthesized
+     */
+    public AudioStream get(String baseName, String extension, String text, AudioFormat format, TTSAudioLoader loader)
+            throws TTSException {
+        String fileName = baseName + "." + extension.toLowerCase();
+
+        AudioStream cached = getCached(fileName, format);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object lock = loadLocks.computeIfAbsent(fileName, name -> new Object());
+        try {
+            synchronized (lock) {
+                // another thread might have synthesized the same text meanwhile
+                cached = getCached(fileName, format);
+                if (cached != null) {
+                    return cached;
+                }
+                return load(baseName, fileName, text, format, loader);
+            }
+        } finally {
+            loadLocks.remove(fileName, lock);
+        }
+    }
+
+    /**
+     * Sets the limit of the total size of the audio files. The least recently used files are deleted at once if the
+     * cache exceeds the new limit.
+     *
+     * @param maxSize limit of the total size of the audio files in bytes, {@link #UNLIMITED_SIZE} for no limit
+     */
+    public synchronized void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    private AudioStream load(String baseName, String fileName, String text, AudioFormat format, TTSAudioLoader loader)
+            throws TTSException {
+        long start = System.currentTimeMillis();
+        byte[] data;
+        try (InputStream is = loader.load()) {
+            data = IOUtils.toByteArray(is);
+        } catch (IOException e) {
+            throw new TTSException("Could not read synthesized audio: " + e.getMessage(), e);
+        }
+
+        File file = new File(cacheFolder, fileName);
+        try {
+            writeAtomically(file, data);
+            writeAtomically(new File(cacheFolder, baseName + TEXT_EXTENSION), text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Could not write {} to cache", file, e);
+            return new ByteArrayAudioStream(data, format);
+        }
+
+        synchronized (this) {
+            misses++;
+            totalLoadMillis += System.currentTimeMillis() - start;
+            Entry entry = new Entry(file, data.length, System.currentTimeMillis());
+            Entry previous = index.put(fileName, entry);
+            if (previous != null) {
+                // the file has been replaced, it must not be deleted
+                release(previous);
+            }
+            size += entry.size;
+            keepInMemory(entry, data);
+            evict();
+            logger.debug("Cached audio file {}, {}", fileName, getStatistics());
+        }
+        return new ByteArrayAudioStream(data, format);
+    }
+
+    /**
+     * Deletes all files from the cache folder.
+     */
+    public synchronized void clear() {
+        File[] files = cacheFolder.listFiles();
+        if (files != null) {
+            Arrays.stream(files).filter(File::isFile).forEach(File::delete);
+        }
+        index.clear();
+        size = 0;
+        memorySize = 0;
+        logger.debug("Cache {} purged.", cacheFolder);
+    }
+
+    /**
+     * Deletes all files which have not been used for the given time.
+     *
+     * @param maxAgeMillis maximum time since the last use in milliseconds
+     * @return the number of deleted audio files
+     */
+    public synchronized int purgeUnusedSince(long maxAgeMillis) {
+        long limit = System.currentTimeMillis() - maxAgeMillis;
+        int deleted = 0;
+        Iterator<Entry> it = index.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.lastUsed < limit) {
+                it.remove();
+                remove(entry);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * @return the current counters of this cache
+     */
+    public synchronized TTSCacheStatistics getStatistics() {
+        return new TTSCacheStatistics(hits, memoryHits, misses, evictions, index.size(), size, memorySize,
+                totalLoadMillis);
+    }
+
+    private @Nullable AudioStream getCached(String fileName, AudioFormat format) {
+        Entry entry;
+        byte[] data;
+        synchronized (this) {
+            entry = index.get(fileName);
+            if (entry == null) {
+                return null;
+            }
+            touch(entry);
+            data = entry.data;
+            if (data != null) {
+                hits++;
+                memoryHits++;
+                return new ByteArrayAudioStream(data, format);
+            }
+        }
+
+        MappedFileAudioStream stream;
+        try {
+            stream = MappedFileAudioStream.map(entry.file, format);
+        } catch (IOException e) {
+            logger.debug("Cached audio file {} is not readable, synthesize it again: {}", entry.file, e.getMessage());
+            synchronized (this) {
+                if (index.get(fileName) == entry) {
+                    index.remove(fileName);
+                    remove(entry);
+                }
+            }
+            return null;
+        }
+
+        synchronized (this) {
+            hits++;
+            if (index.get(fileName) == entry && isMemoryCandidate(entry)) {
+                keepInMemory(entry, stream.toByteArray());
+            }
+        }
+        return stream;
+    }
+
+    private void touch(Entry entry) {
+        long now = System.currentTimeMillis();
+        entry.lastUsed = now;
+        if (now - entry.lastModified >= TOUCH_INTERVAL_MILLIS) {
+            // the index is rebuilt from the modification times after a restart
+            entry.lastModified = now;
+            if (!entry.file.setLastModified(now)) {
+                logger.debug("Could not update the modification time of {}", entry.file);
+            }
+        }
+    }
+
+    private void loadIndex() {
+        File[] files = cacheFolder.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        synchronized (this) {
+            for (File file : files) {
+                String name = file.getName();
+                if (!file.isFile() || name.endsWith(TEXT_EXTENSION)) {
+                    continue;
+                }
+                if (name.endsWith(TEMP_EXTENSION)) {
+                    // left over from an interrupted write
+                    file.delete();
+                    continue;
+                }
+                Entry entry = new Entry(file, file.length(), file.lastModified());
+                index.put(name, entry);
+                size += entry.size;
+            }
+            evict();
+            logger.debug("Indexed {} audio files ({} bytes) in {}", index.size(), size, cacheFolder);
+        }
+    }
+
+    private boolean isMemoryCandidate(Entry entry) {
+        // a single large file must not displace the whole hot set
+        return entry.size <= maxMemorySize / 4;
+    }
+
+    private void keepInMemory(Entry entry, byte[] data) {
+        if (entry.data != null || !isMemoryCandidate(entry)) {
+            return;
+        }
+        entry.data = data;
+        memorySize += entry.size;
+        Iterator<Entry> it = index.values().iterator();
+        while (memorySize > maxMemorySize && it.hasNext()) {
+            Entry eldest = it.next();
+            if (eldest.data != null && eldest != entry) {
+                eldest.data = null;
+                memorySize -= eldest.size;
+            }
+        }
+    }
+
+    private void evict() {
+        if (maxSize <= UNLIMITED_SIZE) {
+            return;
+        }
+        Iterator<Map.Entry<String, Entry>> it = index.entrySet().iterator();
+        // always keep the most recently used entry
+        while (size > maxSize && index.size() > 1 && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            remove(eldest);
+            evictions++;
+        }
+    }
+
+    private void remove(Entry entry) {
+        release(entry);
+        String name = entry.file.getName();
+        int dot = name.lastIndexOf('.');
+        File textFile = new File(cacheFolder, (dot > 0 ? name.substring(0, dot) : name) + TEXT_EXTENSION);
+        if (!entry.file.delete() || !textFile.delete()) {
+            logger.debug("Could not delete cached audio file {}", entry.file);
+        }
+    }
+
+    private void release(Entry entry) {
+        size -= entry.size;
+        if (entry.data != null) {
+            memorySize -= entry.size;
+            entry.data = null;
+        }
+    }
+
+    private void writeAtomically(File target, byte[] data) throws IOException {
+        File tempFile = File.createTempFile(target.getName(), TEMP_EXTENSION, cacheFolder);
+        try {
+            try (OutputStream os = new FileOutputStream(tempFile)) {
+                os.write(data);
+            }
+            try {
+                Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            if (tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+}
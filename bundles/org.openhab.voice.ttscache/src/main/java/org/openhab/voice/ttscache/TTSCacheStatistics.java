@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.ttscache;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Immutable snapshot of the counters of a {@link TTSCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TTSCacheStatistics {
+
+    private final long hits;
+    private final long memoryHits;
+    private final long misses;
+    private final long evictions;
+    private final int entries;
+    private final long size;
+    private final long memorySize;
+    private final long totalLoadMillis;
+
+    TTSCacheStatistics(long hits, long memoryHits, long misses, long evictions, int entries, long size,
+            long memorySize, long totalLoadMillis) {
+        this.hits = hits;
+        this.memoryHits = memoryHits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.size = size;
+        this.memorySize = memorySize;
+        this.totalLoadMillis = totalLoadMillis;
+    }
+
+    /**
+     * @return number of requests served from the cache, including {@link #getMemoryHits()}
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of requests served from the in-memory hot set
+     */
+    public long getMemoryHits() {
+        return memoryHits;
+    }
+
+    /**
+     * @return number of requests that had to be synthesized
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of files deleted to keep the cache within its size limit
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return number of cached audio files
+     */
+    public int getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return total size of the cached audio files in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return size of the audio data kept in memory in bytes
+     */
+    public long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * @return average time in milliseconds to synthesize and store a missing entry
+     */
+    public long getAverageLoadMillis() {
+        return misses == 0 ? 0 : totalLoadMillis / misses;
+    }
+
+    @Override
+    public String toString() {
+        return "TTSCacheStatistics [hits=" + hits + ", memoryHits=" + memoryHits + ", misses=" + misses
+                + ", evictions=" + evictions + ", entries=" + entries + ", size=" + size + ", memorySize="
+                + memorySize + ", averageLoadMillis=" + getAverageLoadMillis() + "]";
+    }
+}
@@ -13,7 +13,6 @@
 package org.openhab.voice.voicerss.internal;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
@@ -22,13 +21,13 @@ import java.util.Set;
 
 import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.ConfigurableService;
-import org.eclipse.smarthome.core.audio.AudioException;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
-import org.openhab.voice.voicerss.internal.cloudapi.CachedVoiceRSSCloudImpl;
+import org.openhab.voice.ttscache.TTSCache;
+import org.openhab.voice.voicerss.internal.cloudapi.VoiceRSSCloudImpl;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
@@ -54,12 +53,18 @@ public class VoiceRSSTTSService implements TTSService {
     private static final String CONFIG_API_KEY = "apiKey";
     private String apiKey;
 
+    // Cache size limit in MB, 0 for no limit
+    private static final String CONFIG_CACHE_MAX_SIZE = "cacheMaxSize";
+    private long cacheMaxSize = TTSCache.UNLIMITED_SIZE;
+
     private final Logger logger = LoggerFactory.getLogger(VoiceRSSTTSService.class);
 
+    private VoiceRSSCloudImpl voiceRssImpl;
+
     /**
-     * We need the cached implementation to allow for FixedLengthAudioStream.
+     * We need the cache to allow for FixedLengthAudioStream.
      */
-    private CachedVoiceRSSCloudImpl voiceRssImpl;
+    private TTSCache cache;
 
     /**
      * Set of supported voices
@@ -77,7 +82,9 @@ public class VoiceRSSTTSService implements TTSService {
     protected void activate(Map<String, Object> config) {
         try {
             modified(config);
-            voiceRssImpl = initVoiceImplementation();
+            voiceRssImpl = new VoiceRSSCloudImpl();
+            cache = new TTSCache(new File(getCacheFolderName()));
+            cache.setMaxSize(cacheMaxSize);
             voices = initVoices();
             audioFormats = initAudioFormats();
 
@@ -91,6 +98,17 @@ public class VoiceRSSTTSService implements TTSService {
     protected void modified(Map<String, Object> config) {
         if (config != null) {
             apiKey = config.containsKey(CONFIG_API_KEY) ? config.get(CONFIG_API_KEY).toString() : null;
+            Object maxSize = config.get(CONFIG_CACHE_MAX_SIZE);
+            try {
+                cacheMaxSize = maxSize != null ? Long.parseLong(maxSize.toString()) * 1024 * 1024
+                        : TTSCache.UNLIMITED_SIZE;
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid cache size limit '{}', the cache is not limited", maxSize);
+                cacheMaxSize = TTSCache.UNLIMITED_SIZE;
+            }
+            if (cache != null) {
+                cache.setMaxSize(cacheMaxSize);
+            }
         }
     }
 
@@ -136,18 +154,10 @@ public class VoiceRSSTTSService implements TTSService {
 
         // now create the input stream for given text, locale, format. There is
         // only a default voice
-        try {
-            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(apiKey, trimmedText,
-                    voice.getLocale().toLanguageTag(), getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from VoiceRSS service");
-            }
-            return new VoiceRSSAudioStream(cacheAudioFile, requestedFormat);
-        } catch (AudioException ex) {
-            throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
-        } catch (IOException ex) {
-            throw new TTSException("Could not read from VoiceRSS service: " + ex.getMessage(), ex);
-        }
+        String locale = voice.getLocale().toLanguageTag();
+        String apiAudioFormat = getApiAudioFormat(requestedFormat);
+        return cache.get(TTSCache.getUniqueFilenameForText(locale, trimmedText), apiAudioFormat, trimmedText,
+                requestedFormat, () -> voiceRssImpl.getTextToSpeech(apiKey, trimmedText, locale, apiAudioFormat));
     }
 
     /**
@@ -214,10 +224,6 @@ public class VoiceRSSTTSService implements TTSService {
         }
     }
 
-    private CachedVoiceRSSCloudImpl initVoiceImplementation() {
-        return new CachedVoiceRSSCloudImpl(getCacheFolderName());
-    }
-
     private String getCacheFolderName() {
         // we assume that this folder does NOT have a trailing separator
         return ConfigConstants.getUserDataFolder() + File.separator + CACHE_FOLDER_NAME;
@@ -106,4 +106,36 @@ public class DiscoverComponentsTest extends JavaOSGiTest {
         discover.startDiscovery(connection, 50, discoveryIds, discovered).get(100, TimeUnit.MILLISECONDS);
 
     }
+
+    @Test
+    public void unchangedConfigAfterRestart() {
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ChannelConfigurationTypeAdapterFactory()).create();
+
+        DiscoverComponents discover = new DiscoverComponents(ThingChannelConstants.testHomeAssistantThing, scheduler,
+                mock(ChannelStateUpdateListener.class), gson, transformationServiceProvider);
+
+        HandlerConfiguration config = new HandlerConfiguration("homeassistant",
+                Collections.singletonList("switch/object"));
+        Set<HaID> discoveryIds = new HashSet<>(HaID.fromConfig(config));
+
+        final String topic = "homeassistant/switch/object/config";
+        final byte[] payload = ("{'name':'testname','state_topic':'homeassistant/switch/object/state',"
+                + "'command_topic':'homeassistant/switch/object/set'}").getBytes();
+
+        discover.startDiscovery(connection, 0, discoveryIds, discovered);
+        discover.processMessage(topic, payload);
+        // The same config during the same discovery is not reported again
+        discover.processMessage(topic, payload);
+        verify(discovered, times(1)).componentDiscovered(any(), any());
+
+        // A restarted discovery, e.g. after a reconnect, reports the unchanged retained config again
+        discover.stopDiscovery();
+        discover.startDiscovery(connection, 0, discoveryIds, discovered);
+        discover.processMessage(topic, payload);
+        verify(discovered, times(2)).componentDiscovered(any(), any());
+
+        scheduler.shutdownNow();
+    }
 }